@@ -0,0 +1,63 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceAccountApiResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneAccountApiResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneTickerApiResponse;
+import sungjun.bitcoin.algorithmtrading.support.BenchmarkFixtures;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 녹화된 거래소 응답을 DTO로 바인딩하는 Jackson 역직렬화 비용을 측정합니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseBindingBenchmark {
+
+    private ObjectReader coinoneTickerReader;
+    private ObjectReader coinoneAccountReader;
+    private ObjectReader binanceAccountReader;
+    private byte[] coinoneTicker;
+    private byte[] coinoneBalances;
+    private byte[] binanceAccount;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = BenchmarkFixtures.objectMapper();
+        coinoneTickerReader = mapper.readerFor(CoinoneTickerApiResponse.class);
+        coinoneAccountReader = mapper.readerFor(CoinoneAccountApiResponse.class);
+        binanceAccountReader = mapper.readerFor(BinanceAccountApiResponse.class);
+        coinoneTicker = BenchmarkFixtures.load("coinone-ticker.json");
+        coinoneBalances = BenchmarkFixtures.load("coinone-balance-all.json");
+        binanceAccount = BenchmarkFixtures.load("binance-account.json");
+    }
+
+    @Benchmark
+    public CoinoneTickerApiResponse coinoneTicker() throws IOException {
+        return coinoneTickerReader.readValue(coinoneTicker);
+    }
+
+    @Benchmark
+    public CoinoneAccountApiResponse coinoneBalances() throws IOException {
+        return coinoneAccountReader.readValue(coinoneBalances);
+    }
+
+    @Benchmark
+    public BinanceAccountApiResponse binanceAccount() throws IOException {
+        return binanceAccountReader.readValue(binanceAccount);
+    }
+}
@@ -0,0 +1,97 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderTemplate;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderWriter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.support.BenchmarkFixtures;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지정가 주문 요청의 본문 생성과 인증 헤더 생성까지의 로컬 비용을 기존 경로와 템플릿 경로로 비교합니다.
+ * <p>
+ * {@code requestDto}는 고정소수점 가격을 문자열로 바꾸고 {@link CoinoneOrderRequest} 빌더, Jackson 직렬화,
+ * 인증 인터셉터와 같은 nonce 삽입, Base64 인코딩, HMAC 서명을 차례로 수행하는 기존 경로이고, {@code template}은 {@link CoinoneOrderGateway}와 같이
+ * {@link CoinoneOrderTemplate}에 값을 채워 {@link CoinoneOrderWriter} 버퍼에서 인코딩과 서명을 수행합니다.
+ * 두 경로 모두 nonce 발급을 포함하며, 네트워크 전송은 포함하지 않습니다.
+ * </p>
+ * <p>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=CoinoneOrderRenderBenchmark}
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoinoneOrderRenderBenchmark {
+
+    private static final long PRICE = 14653000000000000L;
+    private static final long QTY = 1055689L;
+
+    private ObjectMapper objectMapper;
+    private HmacSigner signer;
+    private ExchangeClock clock;
+    private CoinoneOrderTemplate template;
+    private CoinoneOrderWriter writer;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        signer = new HmacSigner(BenchmarkFixtures.SECRET_KEY, "HmacSHA512");
+        clock = new ExchangeClock("coinone");
+        template = CoinoneOrderTemplate.limitOrder("access-token", "KRW", "BTC");
+        writer = new CoinoneOrderWriter();
+    }
+
+    @Benchmark
+    public void requestDto(Blackhole blackhole) throws JsonProcessingException {
+        CoinoneOrderRequest request = CoinoneOrderRequest.createLimitOrder(
+            "access-token",
+            OrderSide.BUY,
+            "KRW",
+            "BTC",
+            FixedPoint.toPlainString(PRICE, CoinoneTicker.PRICE_SCALE),
+            FixedPoint.toPlainString(QTY, CoinoneTicker.PRICE_SCALE),
+            false
+        );
+        // 인증 인터셉터가 직렬화된 본문에 nonce를 넣는 비용
+        byte[] body = withNonce(objectMapper.writeValueAsBytes(request), clock.nextNonce());
+        String payload = Base64.getEncoder().encodeToString(body);
+        blackhole.consume(payload);
+        blackhole.consume(signer.sign(payload));
+        blackhole.consume(body);
+    }
+
+    @Benchmark
+    public void template(Blackhole blackhole) {
+        writer.render(template, clock.nextNonce(), OrderSide.BUY, PRICE, QTY, CoinoneTicker.PRICE_SCALE, false)
+            .sign(signer);
+        blackhole.consume(writer.payloadHeader());
+        blackhole.consume(writer.signatureHeader());
+    }
+
+    private static byte[] withNonce(byte[] body, String nonce) {
+        byte[] field = ("{\"nonce\":\"" + nonce + "\",").getBytes(StandardCharsets.US_ASCII);
+        byte[] injected = Arrays.copyOf(field, field.length + body.length - 1);
+        System.arraycopy(body, 1, injected, field.length, body.length - 1);
+        return injected;
+    }
+}
@@ -0,0 +1,110 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request.BinanceFormWriter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request.BinancePrivateBaseRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.support.BenchmarkFixtures;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binance 서명 요청 생성 비용을 측정합니다.
+ * <p>
+ * POST는 요청 DTO를 서명된 form 본문으로 기록하는 과정 전체를, GET은 타임스탬프 주입, 쿼리 스트링 서명과 서명된 URI 생성을 측정합니다.
+ * 실제 네트워크 호출 대신 응답이 미리 지정된 mock 요청을 사용합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinanceSignedRequestBenchmark {
+
+    private static final URI ACCOUNT_URI = URI.create(
+        "https://api.binance.com/api/v3/account?omitZeroBalances=false");
+
+    private BinanceSignedClientHttpRequestFactory factory;
+    private BinanceSignedFormHttpMessageConverter converter;
+    private OrderRequest orderRequest;
+
+    @Setup
+    public void setUp() {
+        BinanceProperties properties = BenchmarkFixtures.binanceProperties();
+        HmacSigner signer = new HmacSigner(properties.getSecretKey(), properties.getSignatureAlgorithm());
+        ClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        ExchangeClock clock = new ExchangeClock("binance");
+        factory = new BinanceSignedClientHttpRequestFactory(signer, clock, properties.getRecvWindow(), (uri, method) -> {
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response);
+            return request;
+        });
+        converter = new BinanceSignedFormHttpMessageConverter(signer, clock, properties.getRecvWindow());
+        orderRequest = new OrderRequest("BTCUSDT", "BUY", "LIMIT", "GTC",
+            new BigDecimal("0.00100000"), new BigDecimal("43000.00"));
+    }
+
+    @Benchmark
+    public MockHttpOutputMessage signedPost() throws IOException {
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+        converter.write(orderRequest, MediaType.APPLICATION_FORM_URLENCODED, outputMessage);
+        return outputMessage;
+    }
+
+    @Benchmark
+    public ClientHttpResponse signedGet() throws IOException {
+        return factory.createRequest(ACCOUNT_URI, HttpMethod.GET).execute();
+    }
+
+    /**
+     * 주문 엔드포인트와 같은 형태의 서명 요청입니다.
+     */
+    private static final class OrderRequest extends BinancePrivateBaseRequest {
+
+        private final String symbol;
+        private final String side;
+        private final String type;
+        private final String timeInForce;
+        private final BigDecimal quantity;
+        private final BigDecimal price;
+
+        private OrderRequest(String symbol, String side, String type, String timeInForce,
+                             BigDecimal quantity, BigDecimal price) {
+            this.symbol = symbol;
+            this.side = side;
+            this.type = type;
+            this.timeInForce = timeInForce;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        @Override
+        protected void writeParameters(BinanceFormWriter writer) {
+            writer.param("symbol", symbol)
+                .param("side", side)
+                .param("type", type)
+                .param("timeInForce", timeInForce)
+                .param("quantity", quantity)
+                .param("price", price);
+        }
+    }
+}
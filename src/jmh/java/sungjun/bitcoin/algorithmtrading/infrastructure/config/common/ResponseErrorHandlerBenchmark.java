@@ -0,0 +1,71 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.binance.BinanceResponseErrorHandler;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneResponseErrorHandler;
+import sungjun.bitcoin.algorithmtrading.support.BenchmarkFixtures;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래소 응답 에러 핸들러의 {@code hasError} 스캔 비용을 측정합니다.
+ * <p>
+ * 스트림 응답(매 호출마다 새 스트림을 파싱)과 {@link BufferedClientHttpResponse}(이미 읽어 둔 배열을 파싱)를 비교합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseErrorHandlerBenchmark {
+
+    private CoinoneResponseErrorHandler coinoneHandler;
+    private BinanceResponseErrorHandler binanceHandler;
+    private byte[] coinoneBalances;
+    private byte[] binanceAccount;
+    private BufferedClientHttpResponse bufferedCoinoneBalances;
+    private BufferedClientHttpResponse bufferedBinanceAccount;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = BenchmarkFixtures.objectMapper();
+        coinoneHandler = new CoinoneResponseErrorHandler(mapper);
+        binanceHandler = new BinanceResponseErrorHandler(mapper);
+        coinoneBalances = BenchmarkFixtures.load("coinone-balance-all.json");
+        binanceAccount = BenchmarkFixtures.load("binance-account.json");
+        bufferedCoinoneBalances = BufferedClientHttpResponse.of(new MockClientHttpResponse(coinoneBalances, HttpStatus.OK));
+        bufferedBinanceAccount = BufferedClientHttpResponse.of(new MockClientHttpResponse(binanceAccount, HttpStatus.OK));
+    }
+
+    @Benchmark
+    public boolean coinoneStreaming() throws IOException {
+        return coinoneHandler.hasError(new MockClientHttpResponse(coinoneBalances, HttpStatus.OK));
+    }
+
+    @Benchmark
+    public boolean coinoneBuffered() throws IOException {
+        return coinoneHandler.hasError(bufferedCoinoneBalances);
+    }
+
+    @Benchmark
+    public boolean binanceStreaming() throws IOException {
+        return binanceHandler.hasError(new MockClientHttpResponse(binanceAccount, HttpStatus.OK));
+    }
+
+    @Benchmark
+    public boolean binanceBuffered() throws IOException {
+        return binanceHandler.hasError(bufferedBinanceAccount);
+    }
+}
@@ -0,0 +1,104 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceAccountApiResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.binance.BinanceResponseErrorHandler;
+import sungjun.bitcoin.algorithmtrading.support.BenchmarkFixtures;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 한 건이 전송 계층에서 DTO가 되기까지의 전체 비용(버퍼링, 로깅용 본문 읽기, 에러 판단, 바인딩)을 측정합니다.
+ * <p>
+ * {@code legacyBuffering}은 {@link BufferingClientHttpRequestFactory}와 줄 단위 로깅 읽기를 사용하던 이전 파이프라인을,
+ * {@code singlePass}는 {@link SinglePassClientHttpRequestFactory} 기반 현재 파이프라인을 재현합니다.
+ * gc 프로파일러의 {@code gc.alloc.rate.norm} 값으로 요청당 할당량을 비교합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponsePipelineBenchmark {
+
+    private static final URI ACCOUNT_URI = URI.create("https://api.binance.com/api/v3/account");
+
+    private ClientHttpRequestFactory legacyFactory;
+    private ClientHttpRequestFactory singlePassFactory;
+    private BinanceResponseErrorHandler errorHandler;
+    private ObjectReader accountReader;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = BenchmarkFixtures.objectMapper();
+        byte[] account = BenchmarkFixtures.load("binance-account.json");
+        ClientHttpRequestFactory transport = (uri, method) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(account, HttpStatus.OK);
+            response.getHeaders().setContentLength(account.length);
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response);
+            return request;
+        };
+        legacyFactory = new BufferingClientHttpRequestFactory(transport);
+        singlePassFactory = new SinglePassClientHttpRequestFactory(transport);
+        errorHandler = new BinanceResponseErrorHandler(mapper);
+        accountReader = mapper.readerFor(BinanceAccountApiResponse.class);
+    }
+
+    @Benchmark
+    public BinanceAccountApiResponse legacyBuffering() throws IOException {
+        ClientHttpResponse response = legacyFactory.createRequest(ACCOUNT_URI, HttpMethod.GET).execute();
+        readBodyForLogging(response);
+        if (errorHandler.hasError(response)) {
+            throw new IllegalStateException("Unexpected error response");
+        }
+        return accountReader.readValue(response.getBody());
+    }
+
+    @Benchmark
+    public BinanceAccountApiResponse singlePass() throws IOException {
+        ClientHttpResponse response = singlePassFactory.createRequest(ACCOUNT_URI, HttpMethod.GET).execute();
+        if (errorHandler.hasError(response)) {
+            throw new IllegalStateException("Unexpected error response");
+        }
+        return accountReader.readValue(response.getBody());
+    }
+
+    /**
+     * 이전 LoggingInterceptor가 로그 레벨과 무관하게 수행하던 본문 읽기를 재현합니다.
+     */
+    private static String readBodyForLogging(ClientHttpResponse response) throws IOException {
+        StringBuilder inputStringBuilder = new StringBuilder();
+        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+            String line = bufferedReader.readLine();
+            while (line != null) {
+                inputStringBuilder.append(line);
+                inputStringBuilder.append('\n');
+                line = bufferedReader.readLine();
+            }
+        }
+        return inputStringBuilder.toString();
+    }
+}
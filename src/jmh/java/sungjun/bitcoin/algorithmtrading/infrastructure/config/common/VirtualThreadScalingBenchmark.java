@@ -0,0 +1,136 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTickerApiClient;
+import sungjun.bitcoin.algorithmtrading.support.BenchmarkFixtures;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래소 호출을 동시에 {@code inFlight}개 보낼 때 플랫폼 스레드 풀과 가상 스레드의 처리 시간을 비교하는 부하 테스트입니다.
+ * <p>
+ * 로컬 스텁 서버({@link HttpServer})가 {@code latencyMillis}만큼 지연한 뒤 녹화된 Coinone ticker 응답을 반환하고,
+ * 애플리케이션과 같은 구성({@link ExchangeHttpTransport}, {@link SinglePassClientHttpRequestFactory},
+ * {@link HttpServiceProxyFactory} 기반 {@link CoinoneTickerApiClient})으로 호출합니다.
+ * {@code platform}은 Tomcat 기본 최대 스레드 수와 같은 {@value #PLATFORM_THREADS}개 고정 풀을,
+ * {@code virtual}은 호출마다 가상 스레드를 사용합니다. 커넥션 풀은 {@code inFlight}개까지 열 수 있도록 설정합니다.
+ * </p>
+ * <p>
+ * 한 번의 측정은 {@code inFlight}개 호출을 모두 끝내는 시간이므로, 초당 호출 수는 {@code inFlight / 측정값}입니다.
+ * 가상 스레드는 {@code inFlight}가 늘어도 지연 시간 근처를 유지해야 하며, 플랫폼 스레드는
+ * {@code inFlight}를 풀 크기로 나눈 횟수만큼 지연 시간이 누적됩니다.
+ * 포크된 JVM은 {@code -Djdk.tracePinnedThreads=short}로 실행되므로 호출 경로에서 캐리어 스레드 고정이 발생하면 표준 출력에 스택이 남습니다.
+ * </p>
+ * <p>
+ * 10,000개 동시 연결은 클라이언트와 서버 소켓을 합쳐 약 2만 개의 파일 디스크립터를 사용하므로 {@code ulimit -n}을 충분히 늘려야 합니다.
+ * </p>
+ * <p>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=VirtualThreadScalingBenchmark}
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class VirtualThreadScalingBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"100", "1000", "10000"})
+    public int inFlight;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"50"})
+    public long latencyMillis;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ExchangeHttpTransport transport;
+    private CoinoneTickerApiClient client;
+    private ExecutorService callers;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] ticker = BenchmarkFixtures.load("coinone-ticker.json");
+        serverExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), inFlight);
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, ticker.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(ticker);
+            }
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        HttpClientPoolProperties pool = new HttpClientPoolProperties(inFlight, inFlight, Duration.ofSeconds(30),
+            Duration.ofSeconds(30), Duration.ofSeconds(2), Duration.ofMinutes(5), Duration.ofSeconds(30), false, 0);
+        transport = ExchangeHttpTransport.create("stub", pool, Duration.ofSeconds(3), Duration.ofSeconds(30), List.of(baseUrl));
+        RestClient restClient = RestClient.builder()
+            .baseUrl(baseUrl)
+            .requestFactory(new SinglePassClientHttpRequestFactory(transport.getRequestFactory()))
+            .build();
+        client = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient))
+            .build()
+            .createClient(CoinoneTickerApiClient.class);
+
+        callers = "virtual".equals(threads)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        callers.shutdownNow();
+        transport.close();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public int fanOut() throws InterruptedException, ExecutionException {
+        List<Future<?>> calls = new ArrayList<>(inFlight);
+        for (int i = 0; i < inFlight; i++) {
+            calls.add(callers.submit(() -> client.getTicker("KRW", "BTC")));
+        }
+        for (Future<?> call : calls) {
+            call.get();
+        }
+        return calls.size();
+    }
+}
@@ -0,0 +1,63 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.coinone;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.support.BenchmarkFixtures;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coinone 비공개 API 요청의 nonce 삽입과 인증 헤더 생성(Base64 + HMAC) 비용을 측정합니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CoinoneAuthenticationInterceptorBenchmark {
+
+    private static final URI ORDER_URI = URI.create("https://api.coinone.co.kr/v2.1/order");
+
+    private CoinoneAuthenticationInterceptor interceptor;
+    private ClientHttpRequestExecution execution;
+    private byte[] orderBody;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        interceptor = new CoinoneAuthenticationInterceptor(BenchmarkFixtures.coinoneProperties(), new ExchangeClock("coinone"));
+        ClientHttpResponse response = new MockClientHttpResponse(new byte[0], HttpStatus.OK);
+        execution = (request, body) -> response;
+        orderBody = BenchmarkFixtures.objectMapper().writeValueAsBytes(CoinoneOrderRequest.createLimitOrder(
+            "access-token",
+            OrderSide.BUY,
+            "KRW",
+            "BTC",
+            "146530000",
+            "0.01055689",
+            true
+        ));
+    }
+
+    @Benchmark
+    public ClientHttpResponse intercept() throws IOException {
+        return interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, ORDER_URI), orderBody, execution);
+    }
+}
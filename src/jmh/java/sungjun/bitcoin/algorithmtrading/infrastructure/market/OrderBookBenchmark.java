@@ -0,0 +1,144 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.market;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderBook}의 갱신/조회 성능을 {@link TreeMap} 기반 호가창과 비교하는 벤치마크입니다.
+ * <p>
+ * 매수 호가를 {@code levels}개 채운 뒤, 최우선 호가 근처와 전체 구간에서 무작위로 고른 가격의 잔량을 바꾸는 갱신,
+ * 최우선 호가, 가격별 잔량, VWAP 조회와 전체 레벨 순회를 측정합니다. 갱신은 같은 가격 집합 안에서 잔량만 바꾸므로
+ * 반복 중에도 레벨 수가 유지됩니다.
+ * </p>
+ * <p>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=OrderBookBenchmark}
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderBookBenchmark {
+
+    private static final int OPERATIONS = 4096;
+    private static final long BASE_PRICE = 50_000_000L;
+    private static final int NEAR_TOP_LEVELS = 10;
+
+    @Param({"1000", "10000"})
+    public int levels;
+
+    private OrderBook book;
+    private TreeMap<Long, Long> treeBids;
+    private long[] nearTopPrices;
+    private long[] randomPrices;
+    private long[] updateQuantities;
+    private long vwapSize;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        book = new OrderBook(levels);
+        treeBids = new TreeMap<>();
+        long totalQuantity = 0L;
+        for (int i = 0; i < levels; i++) {
+            long price = BASE_PRICE - i;
+            long quantity = 1 + random.nextInt(1_000_000);
+            book.setBid(price, quantity);
+            treeBids.put(price, quantity);
+            totalQuantity += quantity;
+        }
+        nearTopPrices = new long[OPERATIONS];
+        randomPrices = new long[OPERATIONS];
+        updateQuantities = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            nearTopPrices[i] = BASE_PRICE - random.nextInt(NEAR_TOP_LEVELS);
+            randomPrices[i] = BASE_PRICE - random.nextInt(levels);
+            updateQuantities[i] = 1 + random.nextInt(1_000_000);
+        }
+        // 전체 잔량의 절반을 체결하는 크기로 레벨의 약 절반을 훑습니다.
+        vwapSize = totalQuantity / 2;
+    }
+
+    @Benchmark
+    public long updateNearTop() {
+        int i = next();
+        book.setBid(nearTopPrices[i], updateQuantities[i]);
+        return book.getBestBidPrice();
+    }
+
+    @Benchmark
+    public long updateRandom() {
+        int i = next();
+        book.setBid(randomPrices[i], updateQuantities[i]);
+        return book.getBestBidPrice();
+    }
+
+    @Benchmark
+    public long treeMapUpdateRandom() {
+        int i = next();
+        treeBids.put(randomPrices[i], updateQuantities[i]);
+        return treeBids.lastKey();
+    }
+
+    @Benchmark
+    public long bestBid() {
+        return book.getBestBidPrice() + book.getBids().bestQuantity();
+    }
+
+    @Benchmark
+    public long treeMapBestBid() {
+        Map.Entry<Long, Long> best = treeBids.lastEntry();
+        return best.getKey() + best.getValue();
+    }
+
+    @Benchmark
+    public long quantityAt() {
+        return book.getBids().quantityAt(randomPrices[next()]);
+    }
+
+    @Benchmark
+    public long treeMapQuantityAt() {
+        return treeBids.getOrDefault(randomPrices[next()], 0L);
+    }
+
+    @Benchmark
+    public long vwap() {
+        return book.getBids().vwap(vwapSize);
+    }
+
+    @Benchmark
+    public long forEachLevel() {
+        long[] checksum = new long[1];
+        book.getBids().forEach(Integer.MAX_VALUE, (price, quantity) -> checksum[0] += price ^ quantity);
+        return checksum[0];
+    }
+
+    @Benchmark
+    public long treeMapForEachLevel() {
+        long checksum = 0L;
+        for (Map.Entry<Long, Long> level : treeBids.descendingMap().entrySet()) {
+            checksum += level.getKey() ^ level.getValue();
+        }
+        return checksum;
+    }
+
+    private int next() {
+        int i = cursor;
+        cursor = (i + 1) & (OPERATIONS - 1);
+        return i;
+    }
+}
@@ -0,0 +1,96 @@
+package sungjun.bitcoin.algorithmtrading.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.binance.BinanceProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.HttpClientPoolProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RateLimitProperties;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 녹화된 응답 fixture와 설정 객체를 제공합니다.
+ * <p>
+ * fixture는 {@code src/jmh/resources/fixtures} 아래에 실제 거래소 응답 형태로 저장되어 있습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class BenchmarkFixtures {
+
+    public static final String SECRET_KEY = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJr-0123456789abcdef";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Loads a recorded payload fixture from the benchmark classpath.
+     *
+     * @param name the fixture file name (e.g., coinone-ticker.json)
+     * @return the fixture bytes
+     */
+    public static byte[] load(String name) {
+        try (InputStream inputStream = BenchmarkFixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Fixture not found: " + name);
+            }
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Creates an {@link ObjectMapper} configured the same way as the Spring Boot auto-configured one.
+     *
+     * @return a new object mapper
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    public static CoinoneProperties coinoneProperties() {
+        return new CoinoneProperties(
+            "https://api.coinone.co.kr/public/v2",
+            "https://api.coinone.co.kr/v2.1",
+            "access-token",
+            SECRET_KEY,
+            3000L,
+            5000L,
+            "HmacSHA512",
+            defaultPool(),
+            defaultRateLimit()
+        );
+    }
+
+    public static BinanceProperties binanceProperties() {
+        return new BinanceProperties(
+            "https://api.binance.com",
+            "access-token",
+            SECRET_KEY,
+            3000L,
+            5000L,
+            "HmacSHA256",
+            5000L,
+            defaultPool(),
+            defaultRateLimit()
+        );
+    }
+
+    private static HttpClientPoolProperties defaultPool() {
+        return new HttpClientPoolProperties(50, 20, Duration.ofSeconds(30), Duration.ofSeconds(30),
+            Duration.ofSeconds(2), Duration.ofMinutes(5), Duration.ofSeconds(1), false, 0);
+    }
+
+    private static RateLimitProperties defaultRateLimit() {
+        return new RateLimitProperties(false, 1200, Duration.ofMinutes(1), 1, Map.of(), List.of(), 0.2,
+            Duration.ofMillis(500), "");
+    }
+}
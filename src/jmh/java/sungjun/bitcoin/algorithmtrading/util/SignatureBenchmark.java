@@ -0,0 +1,65 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SignatureUtils}와 {@link HmacSigner}의 서명 성능을 비교하는 벤치마크입니다.
+ * <p>
+ * 실행: {@code ./gradlew jmh -PjmhIncludes=SignatureBenchmark}
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignatureBenchmark {
+
+    private static final String SECRET_KEY = "c2VjcmV0LWtleS1mb3ItYmVuY2htYXJr-0123456789abcdef";
+
+    @Param({"HmacSHA256", "HmacSHA512"})
+    public String algorithm;
+
+    private String payload;
+    private byte[] payloadBytes;
+    private byte[] signatureBuffer;
+    private HmacSigner signer;
+
+    @Setup
+    public void setUp() {
+        // Coinone 주문 요청 Base64 페이로드와 유사한 크기의 입력
+        payload = "eyJhY2Nlc3NfdG9rZW4iOiJhY2Nlc3MtdG9rZW4iLCJub25jZSI6IjE4ZjFkM2E0LTVmNmQtNGI3Yy05ZjAxLTFjMmQzZTRmNWE2YiIs"
+            + "InNpZGUiOiJCVVkiLCJxdW90ZV9jdXJyZW5jeSI6IktSVyIsInRhcmdldF9jdXJyZW5jeSI6IkJUQyIsInR5cGUiOiJMSU1JVCIs"
+            + "InByaWNlIjoiMTQ2NTMwMDAwIiwicXR5IjoiMC4wMTA1NTY4OSIsInBvc3Rfb25seSI6dHJ1ZX0=";
+        payloadBytes = payload.getBytes(StandardCharsets.US_ASCII);
+        signer = new HmacSigner(SECRET_KEY, algorithm);
+        signatureBuffer = new byte[signer.getHexLength()];
+    }
+
+    @Benchmark
+    public String signatureUtils() {
+        return SignatureUtils.makeSignature(SECRET_KEY, payload, algorithm);
+    }
+
+    @Benchmark
+    public String hmacSignerString() {
+        return signer.sign(payload);
+    }
+
+    @Benchmark
+    public byte[] hmacSignerIntoBuffer() {
+        signer.signTo(payloadBytes, 0, payloadBytes.length, signatureBuffer, 0);
+        return signatureBuffer;
+    }
+}
@@ -0,0 +1,271 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 최신 스냅샷을 짧은 시간 동안 보관하는 읽기 전용 캐시입니다.
+ * <p>
+ * 시세처럼 여러 전략과 조회 요청이 같은 값을 거의 동시에 요구하는 경우, 거래소 호출 수가 내부 호출 수와
+ * 무관하도록 다음 세 가지를 조합합니다.
+ * </p>
+ * <ul>
+ *   <li><b>TTL</b>: 키별 TTL 안의 스냅샷은 호출 없이 그대로 반환합니다.</li>
+ *   <li><b>요청 병합(coalescing)</b>: 같은 키에 대한 동시 조회는 진행 중인 하나의 조회 결과를 함께 기다립니다.</li>
+ *   <li><b>stale-while-revalidate</b>: TTL이 지났지만 {@code maxStale} 안인 스냅샷은 즉시 반환하고,
+ *       백그라운드 스레드에서 한 번만 갱신합니다.</li>
+ * </ul>
+ * <p>
+ * 키는 거래 쌍처럼 개수가 제한된 값을 가정하며 제거하지 않습니다.
+ * 조회 실패는 스냅샷을 덮어쓰지 않으므로, 백그라운드 갱신이 실패해도 {@code maxStale} 동안은 기존 값을 반환합니다.
+ * </p>
+ *
+ * <h2>메트릭 (태그: {@code cache})</h2>
+ * <ul>
+ *   <li>{@code cache.gets}: {@code result=hit|stale|miss|coalesced}</li>
+ *   <li>{@code cache.loads}: {@code result=success|failure}</li>
+ *   <li>{@code cache.size}: 보관 중인 키 수</li>
+ * </ul>
+ *
+ * @param <K> the key type
+ * @param <V> the snapshot type
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public final class SnapshotCache<K, V> implements MeterBinder, AutoCloseable {
+
+    private final String name;
+    private final Function<K, V> loader;
+    private final long defaultTtlNanos;
+    private final Map<K, Duration> ttls;
+    private final long maxStaleNanos;
+    private final LongSupplier nanoClock;
+    private final ExecutorService refreshExecutor;
+    private final Map<K, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+
+    /**
+     * Creates a snapshot cache.
+     *
+     * @param name           the cache name, used for metric tags and refresh thread names
+     * @param loader         fetches a fresh snapshot for a key; called at most once at a time per key
+     * @param ttl            how long a snapshot is served without fetching
+     * @param ttls           per-key TTL overrides
+     * @param maxStale       how long past its TTL a snapshot may still be served while it is refreshed
+     * @param refreshThreads the number of background refresh threads, ignored when {@code virtualThreads} is set
+     * @param virtualThreads whether to refresh each key on its own virtual thread instead of a fixed thread pool
+     * @param nanoClock      the monotonic clock in nanoseconds, {@link System#nanoTime()} by default
+     */
+    @Builder
+    private SnapshotCache(String name,
+                          Function<K, V> loader,
+                          Duration ttl,
+                          Map<K, Duration> ttls,
+                          Duration maxStale,
+                          int refreshThreads,
+                          boolean virtualThreads,
+                          LongSupplier nanoClock) {
+        this.name = name;
+        this.loader = loader;
+        this.defaultTtlNanos = ttl != null ? ttl.toNanos() : 0L;
+        this.ttls = ttls != null ? Map.copyOf(ttls) : Map.of();
+        this.maxStaleNanos = maxStale != null ? maxStale.toNanos() : 0L;
+        this.nanoClock = nanoClock != null ? nanoClock : System::nanoTime;
+        // 갱신은 키별로 병합되므로 가상 스레드를 사용해도 동시 갱신 수는 키 수를 넘지 않음
+        this.refreshExecutor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-refresh-", 0).factory())
+            : Executors.newFixedThreadPool(Math.max(refreshThreads, 1), Thread.ofPlatform()
+                .name(name + "-refresh-", 0)
+                .daemon(true)
+                .factory());
+    }
+
+    /**
+     * Returns the snapshot for the given key, fetching it only when no usable snapshot is cached.
+     * <p>
+     * A fresh snapshot is returned immediately. A stale one is returned immediately as well and refreshed in
+     * the background. Otherwise the caller fetches the snapshot itself, or waits for a fetch already in flight.
+     * </p>
+     *
+     * @param key the key
+     * @return the snapshot
+     * @throws RuntimeException the exception thrown by the loader if a synchronous fetch fails
+     */
+    public V get(K key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(key, Entry::new);
+        }
+
+        Snapshot<V> snapshot = entry.snapshot;
+        if (snapshot != null) {
+            long age = nanoClock.getAsLong() - snapshot.loadedAt();
+            if (age < entry.ttlNanos) {
+                hits.increment();
+                return snapshot.value();
+            }
+            if (age < entry.ttlNanos + maxStaleNanos) {
+                staleHits.increment();
+                refreshAsync(entry);
+                return snapshot.value();
+            }
+        }
+        return load(entry);
+    }
+
+    /**
+     * Drops the cached snapshot of the given key so the next call fetches a new one.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.snapshot = null;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindGets(registry, "hit", hits);
+        bindGets(registry, "stale", staleHits);
+        bindGets(registry, "miss", misses);
+        bindGets(registry, "coalesced", coalesced);
+        bindLoads(registry, "success", loadSuccesses);
+        bindLoads(registry, "failure", loadFailures);
+        Gauge.builder("cache.size", entries, Map::size)
+            .description("Number of keys held by the snapshot cache")
+            .tag("cache", name)
+            .register(registry);
+    }
+
+    @Override
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private V load(Entry entry) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = entry.inFlight.compareAndExchange(null, future);
+        if (inFlight != null) {
+            coalesced.increment();
+            return await(inFlight);
+        }
+
+        // 경쟁하던 조회가 방금 스냅샷을 갱신했다면 다시 조회하지 않음
+        Snapshot<V> snapshot = entry.snapshot;
+        if (snapshot != null && nanoClock.getAsLong() - snapshot.loadedAt() < entry.ttlNanos) {
+            entry.inFlight.compareAndSet(future, null);
+            future.complete(snapshot.value());
+            coalesced.increment();
+            return snapshot.value();
+        }
+
+        misses.increment();
+        fetch(entry, future);
+        return await(future);
+    }
+
+    private void refreshAsync(Entry entry) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        if (!entry.inFlight.compareAndSet(null, future)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> fetch(entry, future));
+        } catch (RejectedExecutionException e) {
+            entry.inFlight.compareAndSet(future, null);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void fetch(Entry entry, CompletableFuture<V> future) {
+        try {
+            V value = loader.apply(entry.key);
+            entry.snapshot = new Snapshot<>(value, nanoClock.getAsLong());
+            loadSuccesses.increment();
+            future.complete(value);
+        } catch (Throwable e) {
+            loadFailures.increment();
+            log.warn("[{}] Failed to load snapshot for {}", name, entry.key, e);
+            future.completeExceptionally(e);
+        } finally {
+            entry.inFlight.compareAndSet(future, null);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to load snapshot", cause);
+        }
+    }
+
+    private void bindGets(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("cache.gets", counter, LongAdder::sum)
+            .description("Snapshot cache lookups by result")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(registry);
+    }
+
+    private void bindLoads(MeterRegistry registry, String result, LongAdder counter) {
+        FunctionCounter.builder("cache.loads", counter, LongAdder::sum)
+            .description("Snapshot cache fetches by result")
+            .tag("cache", name)
+            .tag("result", result)
+            .register(registry);
+    }
+
+    /**
+     * 키별 스냅샷과 진행 중인 조회를 보관합니다.
+     */
+    private final class Entry {
+
+        private final K key;
+        private final long ttlNanos;
+        private final AtomicReference<CompletableFuture<V>> inFlight = new AtomicReference<>();
+        private volatile Snapshot<V> snapshot;
+
+        private Entry(K key) {
+            this.key = key;
+            Duration ttl = ttls.get(key);
+            this.ttlNanos = ttl != null ? ttl.toNanos() : defaultTtlNanos;
+        }
+    }
+
+    private record Snapshot<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,341 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 끊기면 스스로 다시 연결하는 WebSocket 텍스트 스트림 연결입니다.
+ * <p>
+ * 거래소 시세 스트림 클라이언트가 공통으로 사용하는 연결 관리를 담당하고,
+ * 접속 주소, 연결 직후의 구독 요청, 메시지 처리처럼 거래소마다 다른 부분은 {@link Handler}에 맡깁니다.
+ * JDK {@link HttpClient}의 WebSocket 구현을 사용하므로 별도 의존성이 필요하지 않습니다.
+ * </p>
+ *
+ * <h2>연결 관리</h2>
+ * <ul>
+ *   <li>연결이 끊기거나 오류가 발생하면 지수 백오프로 재연결하고, 연결될 때마다 {@link Handler#connected(ReconnectingWebSocket)}를 호출합니다.</li>
+ *   <li>{@code heartbeatInterval}마다 마지막 프레임 이후 경과 시간을 확인하여 {@code idleTimeout}을 넘으면 재연결하고,
+ *       그렇지 않으면 설정된 heartbeat 메시지를 보냅니다.</li>
+ *   <li>여러 프레임으로 나뉜 메시지는 하나로 모은 뒤 수신 스레드에서 {@link Handler#handle(char[], int)}로 전달합니다.</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class ReconnectingWebSocket {
+
+    private final String name;
+    private final Handler handler;
+    private final Duration connectTimeout;
+    private final Duration idleTimeout;
+    private final Duration heartbeatInterval;
+    private final String heartbeat;
+    private final Duration reconnectInitialDelay;
+    private final Duration reconnectMaxDelay;
+    private final HttpClient httpClient;
+    private final LongAdder reconnects = new LongAdder();
+
+    private ScheduledExecutorService scheduler;
+    private volatile Session session;
+    private volatile boolean running;
+    private int attempts;
+
+    /**
+     * Constructs a stopped connection.
+     *
+     * @param name the exchange name used for log prefixes and the thread name (e.g., coinone)
+     * @param handler the exchange-specific handler
+     * @param connectTimeout the timeout of each connection attempt
+     * @param idleTimeout how long the connection may stay silent before it is considered dead
+     * @param heartbeatInterval how often the idle timeout is checked and the heartbeat is sent
+     * @param heartbeat the text message sent every heartbeat interval, or {@code null} to send nothing
+     * @param reconnectInitialDelay the delay before the first reconnect attempt
+     * @param reconnectMaxDelay the upper bound of the reconnect delay
+     */
+    public ReconnectingWebSocket(String name, Handler handler, Duration connectTimeout, Duration idleTimeout,
+                                 Duration heartbeatInterval, String heartbeat,
+                                 Duration reconnectInitialDelay, Duration reconnectMaxDelay) {
+        this.name = name;
+        this.handler = handler;
+        this.connectTimeout = connectTimeout;
+        this.idleTimeout = idleTimeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.heartbeat = heartbeat;
+        this.reconnectInitialDelay = reconnectInitialDelay;
+        this.reconnectMaxDelay = reconnectMaxDelay;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .build();
+    }
+
+    /**
+     * Starts connecting in the background. Does nothing if already started.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        attempts = 0;
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name(name + "-stream")
+            .daemon(true)
+            .factory());
+        long heartbeatMillis = Math.max(heartbeatInterval.toMillis(), 1L);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        scheduler.execute(this::connect);
+    }
+
+    /**
+     * Closes the current connection and stops reconnecting. Does nothing if not started.
+     * {@link Handler#disconnected()} is not called.
+     */
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Session current = session;
+        session = null;
+        if (current != null) {
+            current.webSocket.abort();
+        }
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    /**
+     * Returns whether the connection has been started and not stopped.
+     *
+     * @return {@code true} if started
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns whether a WebSocket connection is currently open.
+     *
+     * @return {@code true} if connected
+     */
+    public boolean isConnected() {
+        return session != null;
+    }
+
+    /**
+     * Returns the number of reconnect attempts scheduled so far.
+     *
+     * @return the reconnect count
+     */
+    public long getReconnectCount() {
+        return reconnects.sum();
+    }
+
+    /**
+     * Sends a text message on the current connection after the previously sent ones.
+     * The message is dropped if no connection is open.
+     *
+     * @param text the message
+     */
+    public void send(String text) {
+        Session current = session;
+        if (current != null) {
+            current.send(text);
+        }
+    }
+
+    private void connect() {
+        if (!running) {
+            return;
+        }
+        URI uri = handler.uri();
+        Session next = new Session();
+        httpClient.newWebSocketBuilder()
+            .connectTimeout(connectTimeout)
+            .buildAsync(uri, next)
+            .whenComplete((webSocket, error) -> {
+                if (error != null) {
+                    log.warn("[{}] Failed to connect stream {}: {}", name, uri, error.getMessage());
+                    scheduleReconnect(null);
+                }
+            });
+    }
+
+    private void opened(Session opened) {
+        synchronized (this) {
+            if (!running) {
+                opened.webSocket.abort();
+                return;
+            }
+            session = opened;
+            attempts = 0;
+        }
+        log.info("[{}] Stream connected", name);
+        handler.connected(this);
+    }
+
+    /**
+     * 현재 세션을 정리하고 백오프 후 재연결을 예약합니다. 이미 교체된 세션의 이벤트는 무시합니다.
+     */
+    private void scheduleReconnect(Session closed) {
+        long delayMillis;
+        synchronized (this) {
+            if (closed != null) {
+                if (closed != session) {
+                    return;
+                }
+                session = null;
+            }
+            if (!running) {
+                return;
+            }
+            long initial = reconnectInitialDelay.toMillis();
+            delayMillis = Math.min(initial << Math.min(attempts, 20), reconnectMaxDelay.toMillis());
+            attempts++;
+            reconnects.increment();
+            scheduler.schedule(this::connect, delayMillis, TimeUnit.MILLISECONDS);
+        }
+        if (closed != null) {
+            handler.disconnected();
+        }
+        log.info("[{}] Stream reconnecting in {}ms", name, delayMillis);
+    }
+
+    private void heartbeat() {
+        Session current = session;
+        if (current == null) {
+            return;
+        }
+        long idleNanos = System.nanoTime() - current.lastFrameNanos;
+        if (idleNanos > idleTimeout.toNanos()) {
+            log.warn("[{}] No stream frame for {}ms, reconnecting", name, TimeUnit.NANOSECONDS.toMillis(idleNanos));
+            current.webSocket.abort();
+            scheduleReconnect(current);
+            return;
+        }
+        if (heartbeat != null) {
+            current.send(heartbeat);
+        }
+    }
+
+    /**
+     * 거래소마다 다른 스트림 처리를 담당합니다. 모든 콜백은 연결 관리 스레드나 수신 스레드에서 호출됩니다.
+     */
+    public interface Handler {
+
+        /**
+         * Returns the URI to connect to. Called before every connection attempt.
+         *
+         * @return the stream URI
+         */
+        URI uri();
+
+        /**
+         * Called after every successful connect, e.g., to send subscription requests.
+         *
+         * @param socket the connection to send requests on
+         */
+        void connected(ReconnectingWebSocket socket);
+
+        /**
+         * Handles a complete text message. The buffer is reused after this method returns.
+         *
+         * @param chars the buffer holding the message
+         * @param length the message length
+         */
+        void handle(char[] chars, int length);
+
+        /**
+         * Called when an open connection is lost, before reconnecting.
+         */
+        void disconnected();
+    }
+
+    /**
+     * 하나의 WebSocket 연결에 대한 수신 상태입니다.
+     */
+    private final class Session implements WebSocket.Listener {
+
+        private final StringBuilder message = new StringBuilder(4096);
+        private char[] chars = new char[4096];
+        private WebSocket webSocket;
+        private CompletableFuture<?> sending = CompletableFuture.completedFuture(null);
+        private volatile long lastFrameNanos = System.nanoTime();
+
+        /**
+         * WebSocket은 이전 전송이 끝나기 전에 다시 보낼 수 없으므로 전송을 순서대로 이어 붙입니다.
+         * 콜백 처리 중에 TCP 연결이 끊기면 JDK 클라이언트가 onClose를 전달하지 않을 수 있으므로,
+         * 전송 실패(주기적인 heartbeat 포함)도 연결 끊김으로 처리합니다.
+         */
+        private synchronized void send(String text) {
+            sending = sending
+                .exceptionally(error -> null)
+                .thenCompose(ignored -> webSocket.sendText(text, true))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.warn("[{}] Failed to send stream message: {}", name, error.getMessage());
+                        webSocket.abort();
+                        scheduleReconnect(this);
+                    }
+                });
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket) {
+            this.webSocket = webSocket;
+            lastFrameNanos = System.nanoTime();
+            opened(this);
+            // 메시지는 콜백 안에서 동기적으로 처리하므로 수요를 한 번에 요청합니다.
+            // 수요가 0인 순간 연결이 끊기면 onClose가 전달되지 않는 경우가 있어 메시지마다 request(1)을 호출하지 않습니다.
+            webSocket.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            lastFrameNanos = System.nanoTime();
+            message.append(data);
+            if (last) {
+                int length = message.length();
+                if (chars.length < length) {
+                    chars = new char[Math.max(length, chars.length * 2)];
+                }
+                message.getChars(0, length, chars, 0);
+                message.setLength(0);
+                handler.handle(chars, length);
+            }
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onPing(WebSocket webSocket, ByteBuffer message) {
+            // pong 응답은 JDK 클라이언트가 자동으로 보냅니다.
+            lastFrameNanos = System.nanoTime();
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            log.warn("[{}] Stream closed: {} {}", name, statusCode, reason);
+            scheduleReconnect(this);
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            log.warn("[{}] Stream error: {}", name, error.getMessage());
+            scheduleReconnect(this);
+        }
+    }
+}
@@ -21,52 +21,26 @@ import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.B
 @HttpExchange
 public interface BinanceAccountApiClient {
 
-    /****
-                       * Retrieves detailed account information from Binance, including balances and trading fee details.
-                       *
-                       * @param omitZeroBalances whether to exclude assets with zero balance from the response
-                       * @param recvWindow the validity window for the request in milliseconds (maximum 60000)
-                       * @param timestamp the Unix timestamp in milliseconds representing the request time
-                       * @return the account information response from Binance
-                       * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException if the API call fails
-                       */
-    @GetExchange("/api/v3/account")
-    BinanceAccountApiResponse getAccount(@RequestParam(value = "omitZeroBalances", required = false) boolean omitZeroBalances,
-                      @RequestParam(value = "recvWindow", required = false) long recvWindow,
-                      @RequestParam("timestamp") long timestamp);
-
     /**
-     * Retrieves account information from Binance with an option to omit zero balances, using a default request validity window of 5000 milliseconds.
+     * Retrieves detailed account information from Binance, including balances and trading fee details.
+     * <p>
+     * {@code recvWindow}, {@code timestamp} and {@code signature} are added by the signed request factory.
+     * </p>
      *
      * @param omitZeroBalances whether to exclude assets with zero balance from the response
-     * @param timestamp the Unix timestamp (in milliseconds) representing the request time
      * @return the account information response from Binance
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException if the API call fails
      */
-    default BinanceAccountApiResponse getAccount(boolean omitZeroBalances, long timestamp) {
-        return getAccount(omitZeroBalances, 5000L, timestamp); // recvWindow 기본값 5000L
-    }
+    @GetExchange("/api/v3/account")
+    BinanceAccountApiResponse getAccount(@RequestParam(value = "omitZeroBalances", required = false) boolean omitZeroBalances);
 
     /**
      * Retrieves account information from Binance with all asset balances included.
      *
-     * The request uses the specified validity window and timestamp. All assets are included, even those with zero balances.
-     *
-     * @param recvWindow The request validity window in milliseconds (maximum 60000).
-     * @param timestamp The Unix timestamp in milliseconds representing the request time.
-     * @return The account information response from Binance.
-     */
-    default BinanceAccountApiResponse getAccount(long recvWindow, long timestamp) {
-        return getAccount(false, recvWindow, timestamp); // omitZeroBalances false
-    }
-
-    /**
-     * Retrieves account information using the specified timestamp, including all assets and a default request window of 5000 ms.
-     *
-     * @param timestamp Unix timestamp in milliseconds representing the request time.
      * @return BinanceAccountApiResponse containing account details.
      */
-    default BinanceAccountApiResponse getAccount(long timestamp) {
-        return getAccount(false, 5000L, timestamp); // 기본값 설정
+    default BinanceAccountApiResponse getAccount() {
+        return getAccount(false); // omitZeroBalances false
     }
 
 }
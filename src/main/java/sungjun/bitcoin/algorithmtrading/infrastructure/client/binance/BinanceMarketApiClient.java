@@ -0,0 +1,57 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceOrderBookResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceServerTimeResponse;
+
+/**
+ * Binance 거래소의 공개 시장 정보 API 클라이언트입니다.
+ * <p>
+ * 인증이 필요 없는 엔드포인트만 제공하며, 요청에 서명을 추가하지 않습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Component
+@HttpExchange
+public interface BinanceMarketApiClient {
+
+    /**
+     * Retrieves the current Binance server time.
+     *
+     * @return the server time response
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException if the API call fails
+     */
+    @GetExchange("/api/v3/time")
+    BinanceServerTimeResponse getServerTime();
+
+    /**
+     * Retrieves an order book snapshot of a symbol.
+     *
+     * @param symbol the symbol (e.g., BTCUSDT)
+     * @param limit the number of levels per side (maximum 5000)
+     * @return the order book snapshot
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException if the API call fails
+     */
+    @GetExchange("/api/v3/depth")
+    BinanceOrderBookResponse getOrderBook(@RequestParam("symbol") String symbol, @RequestParam("limit") int limit);
+
+    /**
+     * Retrieves the raw response body of an order book snapshot without binding it to objects.
+     * <p>
+     * Intended for streaming parsers such as {@code BinanceStreamClient} that rebuild a local depth book
+     * from thousands of levels.
+     * </p>
+     *
+     * @param symbol the symbol (e.g., BTCUSDT)
+     * @param limit the number of levels per side (maximum 5000)
+     * @return the JSON response body
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException if the API call fails
+     */
+    @GetExchange("/api/v3/depth")
+    byte[] getOrderBookBody(@RequestParam("symbol") String symbol, @RequestParam("limit") int limit);
+}
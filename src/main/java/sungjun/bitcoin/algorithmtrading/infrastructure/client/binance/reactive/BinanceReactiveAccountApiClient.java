@@ -0,0 +1,36 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.reactive;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.BinanceAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceAccountApiResponse;
+
+/**
+ * Binance 거래소의 계정 정보 조회 API 논블로킹 클라이언트입니다.
+ * <p>
+ * {@link BinanceAccountApiClient}와 같은 엔드포인트를 WebClient 기반으로 호출합니다.
+ * {@code recvWindow}, {@code timestamp}, {@code signature}와 API 키 헤더는 {@code BinanceSigningFilter}가
+ * 구독 시점에 추가하므로 재시도할 때마다 새로 서명됩니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Component
+@HttpExchange
+public interface BinanceReactiveAccountApiClient {
+
+    /**
+     * Retrieves detailed account information from Binance without blocking.
+     *
+     * @param omitZeroBalances whether to exclude assets with zero balance from the response
+     * @return a mono emitting the account information, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException} error
+     */
+    @GetExchange("/api/v3/account")
+    Mono<BinanceAccountApiResponse> getAccount(@RequestParam(value = "omitZeroBalances", required = false) boolean omitZeroBalances);
+
+}
@@ -0,0 +1,44 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.reactive;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.BinanceMarketApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceOrderBookResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceServerTimeResponse;
+
+/**
+ * Binance 거래소의 공개 시장 정보 API 논블로킹 클라이언트입니다.
+ * <p>
+ * {@link BinanceMarketApiClient}와 같은 엔드포인트를 WebClient 기반으로 호출하며, 요청에 서명을 추가하지 않습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Component
+@HttpExchange
+public interface BinanceReactiveMarketApiClient {
+
+    /**
+     * Retrieves the current Binance server time without blocking.
+     *
+     * @return a mono emitting the server time, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException} error
+     */
+    @GetExchange("/api/v3/time")
+    Mono<BinanceServerTimeResponse> getServerTime();
+
+    /**
+     * Retrieves an order book snapshot of a symbol without blocking.
+     *
+     * @param symbol the symbol (e.g., BTCUSDT)
+     * @param limit the number of levels per side (maximum 5000)
+     * @return a mono emitting the order book snapshot, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException} error
+     */
+    @GetExchange("/api/v3/depth")
+    Mono<BinanceOrderBookResponse> getOrderBook(@RequestParam("symbol") String symbol, @RequestParam("limit") int limit);
+}
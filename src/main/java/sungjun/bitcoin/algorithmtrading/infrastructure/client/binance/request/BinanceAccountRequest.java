@@ -7,9 +7,13 @@ public class BinanceAccountRequest extends BinancePrivateBaseRequest{
     private boolean omitZeroBalances;
 
     @Builder
-    private BinanceAccountRequest(boolean omitZeroBalances, long recvWindow, long timestamp) {
-        super(recvWindow, timestamp);
+    private BinanceAccountRequest(boolean omitZeroBalances) {
         this.omitZeroBalances = omitZeroBalances;
     }
 
+    @Override
+    protected void writeParameters(BinanceFormWriter writer) {
+        writer.param("omitZeroBalances", omitZeroBalances);
+    }
+
 }
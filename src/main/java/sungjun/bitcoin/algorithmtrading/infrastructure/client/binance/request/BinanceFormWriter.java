@@ -0,0 +1,294 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request;
+
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Binance 서명 요청 파라미터를 {@code application/x-www-form-urlencoded} 형식으로 기록하는 버퍼입니다.
+ * <p>
+ * 요청 DTO의 필드를 선언 순서대로 재사용 바이트 버퍼에 직접 기록하고, 기록된 바이트에 대해
+ * HMAC 서명을 계산하여 {@code &signature=...}를 같은 버퍼 끝에 덧붙입니다.
+ * 중간 {@code Map}이나 {@code String}을 만들지 않으며, 서명 대상 바이트와 전송되는 바이트가 항상 같습니다.
+ * </p>
+ * <p>
+ * GET 요청은 {@link #appendRaw(String)}로 요청 대상(scheme, authority, path)을 먼저 기록하고
+ * {@link #beginPayload()} 이후의 쿼리 부분만 서명하여, 최종 URI 문자열을 한 버퍼에서 완성합니다.
+ * </p>
+ * <p>
+ * 인스턴스는 스레드 간 공유하지 않고 {@link #reset()} 후 재사용합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class BinanceFormWriter {
+
+    private static final byte[] SIGNATURE_PARAMETER = "signature=".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] buffer;
+    private int length;
+    private int payloadStart;
+
+    public BinanceFormWriter() {
+        this(512);
+    }
+
+    public BinanceFormWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    /**
+     * Clears the buffer so the writer can be reused for the next request.
+     *
+     * @return this writer
+     */
+    public BinanceFormWriter reset() {
+        length = 0;
+        payloadStart = 0;
+        return this;
+    }
+
+    /**
+     * Appends already-encoded ASCII text that is not part of the signed payload, such as the request target
+     * written before a query string.
+     *
+     * @param text the text to append
+     * @return this writer
+     */
+    public BinanceFormWriter appendRaw(String text) {
+        writeAscii(text);
+        return this;
+    }
+
+    /**
+     * Marks the current position as the start of the signed payload.
+     *
+     * @return this writer
+     */
+    public BinanceFormWriter beginPayload() {
+        payloadStart = length;
+        return this;
+    }
+
+    /**
+     * Appends an already percent-encoded query string (without the leading {@code ?}) to the payload.
+     * {@code null} or empty queries are skipped.
+     *
+     * @param rawQuery the raw query string
+     * @return this writer
+     */
+    public BinanceFormWriter appendQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return this;
+        }
+        writeSeparator(rawQuery.length());
+        writeAscii(rawQuery);
+        return this;
+    }
+
+    /**
+     * Appends a string parameter, percent-encoding the value when needed. {@code null} values are skipped.
+     *
+     * @param name the parameter name (ASCII, written as-is)
+     * @param value the parameter value
+     * @return this writer
+     */
+    public BinanceFormWriter param(String name, String value) {
+        if (value == null) {
+            return this;
+        }
+        writeName(name);
+        if (isUnreserved(value)) {
+            writeAscii(value);
+        } else {
+            writeAscii(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        }
+        return this;
+    }
+
+    /**
+     * Appends a numeric parameter without creating an intermediate string.
+     *
+     * @param name the parameter name
+     * @param value the parameter value
+     * @return this writer
+     */
+    public BinanceFormWriter param(String name, long value) {
+        writeName(name);
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * Appends a boolean parameter as {@code true} or {@code false}.
+     *
+     * @param name the parameter name
+     * @param value the parameter value
+     * @return this writer
+     */
+    public BinanceFormWriter param(String name, boolean value) {
+        writeName(name);
+        writeBytes(value ? TRUE : FALSE);
+        return this;
+    }
+
+    /**
+     * Appends a decimal parameter in plain (non-scientific) notation. {@code null} values are skipped.
+     *
+     * @param name the parameter name
+     * @param value the parameter value
+     * @return this writer
+     */
+    public BinanceFormWriter param(String name, BigDecimal value) {
+        return value == null ? this : param(name, value.toPlainString());
+    }
+
+    /**
+     * Appends an enum parameter using its name. {@code null} values are skipped.
+     *
+     * @param name the parameter name
+     * @param value the parameter value
+     * @return this writer
+     */
+    public BinanceFormWriter param(String name, Enum<?> value) {
+        return value == null ? this : param(name, value.name());
+    }
+
+    /**
+     * Signs every payload byte written so far and appends {@code signature=<hex>} to the same buffer.
+     *
+     * @param signer the signer holding the Binance secret key
+     * @return this writer
+     */
+    public BinanceFormWriter sign(HmacSigner signer) {
+        int signedLength = length - payloadStart;
+        writeSeparator(SIGNATURE_PARAMETER.length + signer.getHexLength());
+        System.arraycopy(SIGNATURE_PARAMETER, 0, buffer, length, SIGNATURE_PARAMETER.length);
+        length += SIGNATURE_PARAMETER.length;
+        length += signer.signTo(buffer, payloadStart, signedLength, buffer, length);
+        return this;
+    }
+
+    /**
+     * Writes the buffered bytes to the given stream in a single call.
+     *
+     * @param outputStream the target stream
+     * @throws IOException if writing fails
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer, 0, length);
+    }
+
+    /**
+     * Returns the buffered bytes as a string in a single copy. Intended for ASCII content such as encoded URIs.
+     *
+     * @return the buffered text
+     */
+    public String toAsciiString() {
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the number of bytes written so far.
+     *
+     * @return the buffered length
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns a copy of the buffered bytes. Intended for tests and logging only.
+     *
+     * @return the buffered bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private void writeName(String name) {
+        writeSeparator(name.length() + 1);
+        writeAscii(name);
+        buffer[length++] = '=';
+    }
+
+    /**
+     * 페이로드에 이미 파라미터가 있으면 구분자를 기록하고, 이어서 기록할 크기만큼 공간을 확보합니다.
+     */
+    private void writeSeparator(int following) {
+        ensureCapacity(following + 1);
+        if (length > payloadStart) {
+            buffer[length++] = '&';
+        }
+    }
+
+    private void writeAscii(String value) {
+        int size = value.length();
+        ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                // 인코딩되지 않은 문자가 섞인 경우 UTF-8로 기록
+                writeBytes(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            buffer[length++] = (byte) c;
+        }
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void writeLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            writeAscii(Long.toString(value));
+            return;
+        }
+        ensureCapacity(20);
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+        int start = length;
+        do {
+            buffer[length++] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value > 0);
+        // 역순으로 기록된 자릿수를 뒤집음
+        for (int i = start, j = length - 1; i < j; i++, j--) {
+            byte digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    private static boolean isUnreserved(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean unreserved = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+            if (!unreserved) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,18 +1,36 @@
 package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import lombok.Getter;
 
-@Getter
+/**
+ * Binance 서명(SIGNED) 요청 DTO의 공통 상위 클래스입니다.
+ * <p>
+ * 하위 클래스는 {@link #writeParameters(BinanceFormWriter)}에서 자신의 필드를 선언 순서대로 기록합니다.
+ * 이 순서가 곧 서명 대상 바이트의 순서이므로 같은 요청은 항상 같은 본문과 서명을 만듭니다.
+ * 공통 필드인 {@code recvWindow}, {@code timestamp}는 DTO에 두지 않고, 본문을 서명하는 컨버터가
+ * 서버 시각으로 보정된 시계에서 가져와 마지막에 기록합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public abstract class BinancePrivateBaseRequest {
 
-    protected long recvWindow;
-
-    protected long timestamp;
-
-    protected BinancePrivateBaseRequest(long recvWindow, long timestamp) {
-        this.recvWindow = recvWindow;
-        this.timestamp = timestamp;
+    /**
+     * Writes every request parameter in canonical order. {@code recvWindow} and {@code timestamp} are appended
+     * by the caller.
+     *
+     * @param writer the form writer receiving the parameters
+     */
+    public final void writeTo(BinanceFormWriter writer) {
+        writeParameters(writer);
     }
+
+    /**
+     * Writes the endpoint-specific parameters of this request in declaration order.
+     *
+     * @param writer the form writer receiving the parameters
+     */
+    protected abstract void writeParameters(BinanceFormWriter writer);
 }
@@ -0,0 +1,21 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BinanceOrderBookResponse {
+
+    private long lastUpdateId;
+    private List<List<String>> bids;
+    private List<List<String>> asks;
+
+    @Builder
+    private BinanceOrderBookResponse(long lastUpdateId, List<List<String>> bids, List<List<String>> asks) {
+        this.lastUpdateId = lastUpdateId;
+        this.bids = bids;
+        this.asks = asks;
+    }
+}
@@ -0,0 +1,15 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class BinanceServerTimeResponse {
+
+    private long serverTime;
+
+    @Builder
+    private BinanceServerTimeResponse(long serverTime) {
+        this.serverTime = serverTime;
+    }
+}
@@ -0,0 +1,26 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+/**
+ * Binance {@code bookTicker} 스트림의 최우선 호가입니다.
+ * <p>
+ * 가격과 수량은 {@link BinanceDepthBook#SCALE} 고정소수점 값입니다.
+ * </p>
+ *
+ * @param symbol the symbol (e.g., BTCUSDT)
+ * @param updateId the order book update id
+ * @param bestBidPrice the best bid price
+ * @param bestBidQuantity the best bid quantity
+ * @param bestAskPrice the best ask price
+ * @param bestAskQuantity the best ask quantity
+ * @author sungjun
+ * @since 1.0
+ */
+public record BinanceBookTicker(
+    String symbol,
+    long updateId,
+    long bestBidPrice,
+    long bestBidQuantity,
+    long bestAskPrice,
+    long bestAskQuantity
+) {
+}
@@ -0,0 +1,152 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.market.OrderBook;
+
+/**
+ * Binance {@code depth} 스트림과 REST 스냅샷으로 재구성한 심볼별 로컬 호가창입니다.
+ * <p>
+ * 가격별 잔량을 {@link OrderBook}에 보관하며, 변경 이벤트의 잔량이 0이면 해당 가격을 제거하고 아니면 덮어씁니다.
+ * 가격과 수량은 {@link #SCALE} 고정소수점 값입니다.
+ * </p>
+ * <p>
+ * 스냅샷 이후의 변경 이벤트가 빠짐없이 적용된 동안에만 {@link #isSynced()}가 {@code true}입니다.
+ * 호가창은 수신 스레드와 스냅샷 스레드에서 잠금을 잡고 갱신되므로
+ * {@link BinanceStreamListener#onDepth(BinanceDepthBook)} 안에서 읽어야 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class BinanceDepthBook {
+
+    /**
+     * Binance 가격/수량 고정소수점 자릿수
+     */
+    public static final int SCALE = 8;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final String symbol;
+    private final OrderBook orderBook = new OrderBook(INITIAL_CAPACITY);
+    private long lastUpdateId;
+    private long eventTime;
+    private boolean synced;
+
+    BinanceDepthBook(String symbol) {
+        this.symbol = symbol;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Returns the final update id of the last applied snapshot or event.
+     *
+     * @return the last update id
+     */
+    public long getLastUpdateId() {
+        return lastUpdateId;
+    }
+
+    /**
+     * Returns the event time of the last applied event in epoch milliseconds, or {@code 0} right after a snapshot.
+     *
+     * @return the event time
+     */
+    public long getEventTime() {
+        return eventTime;
+    }
+
+    /**
+     * Returns whether every event since the snapshot has been applied without a gap.
+     *
+     * @return {@code true} if the book is in sync with the exchange
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Returns the underlying order book for depth and VWAP queries.
+     *
+     * @return the order book
+     */
+    public OrderBook getOrderBook() {
+        return orderBook;
+    }
+
+    public int getBidLevels() {
+        return orderBook.getBids().size();
+    }
+
+    public int getAskLevels() {
+        return orderBook.getAsks().size();
+    }
+
+    /**
+     * Returns the best bid price, or {@code 0} if there are no bids.
+     *
+     * @return the best bid price
+     */
+    public long getBestBidPrice() {
+        return orderBook.getBestBidPrice();
+    }
+
+    /**
+     * Returns the best ask price, or {@code 0} if there are no asks.
+     *
+     * @return the best ask price
+     */
+    public long getBestAskPrice() {
+        return orderBook.getBestAskPrice();
+    }
+
+    /**
+     * Returns the bid quantity at a price, or {@code 0} if there is no such level.
+     *
+     * @param price the price
+     * @return the quantity
+     */
+    public long getBidQuantity(long price) {
+        return orderBook.getBids().quantityAt(price);
+    }
+
+    /**
+     * Returns the ask quantity at a price, or {@code 0} if there is no such level.
+     *
+     * @param price the price
+     * @return the quantity
+     */
+    public long getAskQuantity(long price) {
+        return orderBook.getAsks().quantityAt(price);
+    }
+
+    /**
+     * 스냅샷으로 호가창 전체를 교체합니다.
+     */
+    void reset(BinanceDepthUpdate snapshot) {
+        orderBook.getBids().load(snapshot.bidPrices, snapshot.bidQuantities, snapshot.bidLevels);
+        orderBook.getAsks().load(snapshot.askPrices, snapshot.askQuantities, snapshot.askLevels);
+        lastUpdateId = snapshot.finalUpdateId;
+        eventTime = 0L;
+    }
+
+    /**
+     * 변경분을 적용합니다. 순서 검증은 호출자가 합니다.
+     */
+    void apply(BinanceDepthUpdate update) {
+        for (int i = 0; i < update.bidLevels; i++) {
+            orderBook.setBid(update.bidPrices[i], update.bidQuantities[i]);
+        }
+        for (int i = 0; i < update.askLevels; i++) {
+            orderBook.setAsk(update.askPrices[i], update.askQuantities[i]);
+        }
+        lastUpdateId = update.finalUpdateId;
+        eventTime = update.eventTime;
+    }
+
+    void setSynced(boolean synced) {
+        this.synced = synced;
+    }
+}
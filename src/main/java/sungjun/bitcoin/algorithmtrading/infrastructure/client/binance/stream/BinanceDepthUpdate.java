@@ -0,0 +1,78 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+import java.util.Arrays;
+
+/**
+ * 호가 변경 이벤트({@code depthUpdate}) 또는 REST 스냅샷 하나의 호가 목록입니다.
+ * <p>
+ * 수신 스레드는 하나의 인스턴스를 재사용하여 메시지를 읽고, 재동기화 중 버퍼에 보관해야 할 때만 {@link #copy()}로 복사합니다.
+ * 스냅샷은 {@code firstUpdateId}와 {@code finalUpdateId}가 모두 {@code lastUpdateId}입니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+final class BinanceDepthUpdate {
+
+    String symbol;
+    long firstUpdateId;
+    long finalUpdateId;
+    long eventTime;
+    long[] bidPrices;
+    long[] bidQuantities;
+    int bidLevels;
+    long[] askPrices;
+    long[] askQuantities;
+    int askLevels;
+
+    BinanceDepthUpdate(int initialDepth) {
+        this.bidPrices = new long[initialDepth];
+        this.bidQuantities = new long[initialDepth];
+        this.askPrices = new long[initialDepth];
+        this.askQuantities = new long[initialDepth];
+    }
+
+    void clear() {
+        symbol = null;
+        firstUpdateId = 0L;
+        finalUpdateId = 0L;
+        eventTime = 0L;
+        bidLevels = 0;
+        askLevels = 0;
+    }
+
+    void addBid(long price, long quantity) {
+        if (bidLevels == bidPrices.length) {
+            bidPrices = Arrays.copyOf(bidPrices, bidLevels * 2);
+            bidQuantities = Arrays.copyOf(bidQuantities, bidLevels * 2);
+        }
+        bidPrices[bidLevels] = price;
+        bidQuantities[bidLevels] = quantity;
+        bidLevels++;
+    }
+
+    void addAsk(long price, long quantity) {
+        if (askLevels == askPrices.length) {
+            askPrices = Arrays.copyOf(askPrices, askLevels * 2);
+            askQuantities = Arrays.copyOf(askQuantities, askLevels * 2);
+        }
+        askPrices[askLevels] = price;
+        askQuantities[askLevels] = quantity;
+        askLevels++;
+    }
+
+    BinanceDepthUpdate copy() {
+        BinanceDepthUpdate copy = new BinanceDepthUpdate(0);
+        copy.symbol = symbol;
+        copy.firstUpdateId = firstUpdateId;
+        copy.finalUpdateId = finalUpdateId;
+        copy.eventTime = eventTime;
+        copy.bidPrices = Arrays.copyOf(bidPrices, bidLevels);
+        copy.bidQuantities = Arrays.copyOf(bidQuantities, bidLevels);
+        copy.bidLevels = bidLevels;
+        copy.askPrices = Arrays.copyOf(askPrices, askLevels);
+        copy.askQuantities = Arrays.copyOf(askQuantities, askLevels);
+        copy.askLevels = askLevels;
+        return copy;
+    }
+}
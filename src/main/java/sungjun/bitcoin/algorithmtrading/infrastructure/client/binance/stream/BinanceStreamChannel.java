@@ -0,0 +1,43 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+import java.util.Locale;
+
+/**
+ * Binance WebSocket 시세 스트림 종류입니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public enum BinanceStreamChannel {
+
+    /**
+     * 최우선 매수/매도 호가 (변경 즉시 전송)
+     */
+    BOOK_TICKER("bookTicker"),
+
+    /**
+     * 호가 변경분 (100ms 단위 전송)
+     */
+    DEPTH("depth@100ms"),
+
+    /**
+     * 체결
+     */
+    TRADE("trade");
+
+    private final String suffix;
+
+    BinanceStreamChannel(String suffix) {
+        this.suffix = suffix;
+    }
+
+    /**
+     * Returns the stream name of this channel for a symbol (e.g., {@code btcusdt@depth@100ms}).
+     *
+     * @param symbol the symbol
+     * @return the stream name
+     */
+    public String streamName(String symbol) {
+        return symbol.toLowerCase(Locale.ROOT) + "@" + suffix;
+    }
+}
@@ -0,0 +1,209 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.ReconnectingWebSocket;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.binance.BinanceStreamProperties;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Binance combined stream 시세 클라이언트입니다.
+ * <p>
+ * {@code bookTicker}, {@code depth@100ms}, {@code trade} 스트림을 하나의 연결로 수신하여 심볼별 로컬 호가창을 재구성하고,
+ * 수신한 시세를 등록된 {@link BinanceStreamListener}에 수신 스레드에서 바로 전달합니다.
+ * 호가창은 REST 스냅샷과 변경 이벤트의 update id({@code U}/{@code u})로 동기화하며,
+ * 이벤트 누락을 감지하면 스냅샷부터 자동으로 다시 동기화합니다.
+ * 연결과 재연결은 {@link ReconnectingWebSocket}이 담당하고, 이 클래스는 구독과 메시지 처리만 맡습니다.
+ * </p>
+ *
+ * <h2>연결 관리</h2>
+ * <ul>
+ *   <li>구독할 스트림은 연결 URL({@code /stream?streams=...})에 모두 포함하므로 재연결 시 별도 구독 요청이 필요 없습니다.
+ *       연결 중 추가한 구독은 {@code SUBSCRIBE} 요청으로 보냅니다.</li>
+ *   <li>연결이 끊기거나 오류가 발생하면 지수 백오프로 재연결합니다.</li>
+ *   <li>서버는 주기적으로 ping 프레임을 보내므로 {@code idleTimeout} 동안 아무 프레임도 받지 못하면
+ *       연결이 끊긴 것으로 보고 재연결합니다.</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class BinanceStreamClient implements SmartLifecycle, MeterBinder {
+
+    private final String url;
+    private final boolean autoStartup;
+    private final BinanceStreamMessageHandler handler;
+    private final Set<String> streams = ConcurrentHashMap.newKeySet();
+    private final AtomicLong requestIds = new AtomicLong();
+    private final ReconnectingWebSocket socket;
+
+    private volatile ExecutorService snapshotExecutor;
+
+    public BinanceStreamClient(BinanceStreamProperties properties, JsonFactory jsonFactory,
+                               Function<String, byte[]> snapshotSource) {
+        this.url = properties.getUrl();
+        this.autoStartup = properties.isEnabled();
+        this.handler = new BinanceStreamMessageHandler(jsonFactory, snapshotSource, this::executeSnapshot,
+            properties.getSnapshotRetryDelay());
+        for (String symbol : properties.getSymbols()) {
+            for (BinanceStreamChannel channel : properties.getChannels()) {
+                streams.add(channel.streamName(symbol));
+            }
+        }
+        // 서버가 ping 프레임을 보내므로 직접 보낼 heartbeat는 없고, idleTimeout의 1/3마다 수신 여부만 확인합니다.
+        this.socket = new ReconnectingWebSocket("binance", new StreamHandler(), properties.getConnectTimeout(),
+            properties.getIdleTimeout(), properties.getIdleTimeout().dividedBy(3), null,
+            properties.getReconnectInitialDelay(), properties.getReconnectMaxDelay());
+    }
+
+    /**
+     * Registers an in-process consumer of stream updates.
+     *
+     * @param listener the listener
+     */
+    public void addListener(BinanceStreamListener listener) {
+        handler.addListener(listener);
+    }
+
+    /**
+     * Subscribes to a stream of a symbol. The stream is subscribed immediately when connected
+     * and included in the connection URL of every reconnect.
+     *
+     * @param channel the stream channel
+     * @param symbol the symbol (e.g., BTCUSDT)
+     */
+    public void subscribe(BinanceStreamChannel channel, String symbol) {
+        String stream = channel.streamName(symbol);
+        if (streams.add(stream) && socket.isConnected()) {
+            socket.send("{\"method\":\"SUBSCRIBE\",\"params\":[\"" + stream + "\"],\"id\":"
+                + requestIds.incrementAndGet() + "}");
+        }
+    }
+
+    /**
+     * Returns the local depth book of a symbol, or {@code null} if no depth event has been received yet.
+     * Check {@link BinanceDepthBook#isSynced()} before trusting its levels.
+     *
+     * @param symbol the symbol (e.g., BTCUSDT)
+     * @return the depth book
+     */
+    public BinanceDepthBook getDepthBook(String symbol) {
+        return handler.getDepthBook(symbol.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns whether a WebSocket connection is currently open.
+     *
+     * @return {@code true} if connected
+     */
+    public boolean isConnected() {
+        return socket.isConnected();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (socket.isRunning()) {
+            return;
+        }
+        snapshotExecutor = Executors.newSingleThreadExecutor(Thread.ofPlatform()
+            .name("binance-depth-snapshot")
+            .daemon(true)
+            .factory());
+        socket.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!socket.isRunning()) {
+            return;
+        }
+        socket.stop();
+        snapshotExecutor.shutdownNow();
+        snapshotExecutor = null;
+        handler.disconnected();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return socket.isRunning();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("binance.stream.messages", handler, BinanceStreamMessageHandler::getMessageCount)
+            .description("Messages received from the Binance stream")
+            .register(registry);
+        FunctionCounter.builder("binance.stream.errors", handler, BinanceStreamMessageHandler::getErrorCount)
+            .description("Binance stream messages that could not be handled")
+            .register(registry);
+        FunctionCounter.builder("binance.stream.reconnects", socket, ReconnectingWebSocket::getReconnectCount)
+            .description("Binance stream reconnect attempts")
+            .register(registry);
+        FunctionCounter.builder("binance.stream.depth.gaps", handler, BinanceStreamMessageHandler::getGapCount)
+            .description("Depth update sequence gaps that forced a resync")
+            .register(registry);
+        FunctionCounter.builder("binance.stream.depth.snapshots", handler, BinanceStreamMessageHandler::getSnapshotCount)
+            .description("Depth snapshots applied to local depth books")
+            .register(registry);
+        FunctionCounter.builder("binance.stream.depth.snapshot.failures", handler,
+                BinanceStreamMessageHandler::getSnapshotFailureCount)
+            .description("Depth snapshot requests that failed")
+            .register(registry);
+        Gauge.builder("binance.stream.connected", this, client -> client.isConnected() ? 1 : 0)
+            .description("Whether the Binance stream is connected")
+            .register(registry);
+    }
+
+    private void executeSnapshot(Runnable task) {
+        ExecutorService executor = snapshotExecutor;
+        if (executor == null) {
+            throw new RejectedExecutionException("Binance stream is not running");
+        }
+        executor.execute(task);
+    }
+
+    /**
+     * 구독할 스트림을 모두 연결 URL에 담고, 수신한 메시지를 호가창과 리스너에 반영합니다.
+     */
+    private final class StreamHandler implements ReconnectingWebSocket.Handler {
+
+        @Override
+        public URI uri() {
+            return URI.create(url + "/stream?streams=" + streams.stream().sorted().collect(Collectors.joining("/")));
+        }
+
+        @Override
+        public void connected(ReconnectingWebSocket socket) {
+            // 구독은 연결 URL에 모두 포함되어 있습니다.
+        }
+
+        @Override
+        public void handle(char[] chars, int length) {
+            handler.handle(chars, length);
+        }
+
+        @Override
+        public void disconnected() {
+            handler.disconnected();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+/**
+ * Binance 시세 스트림을 수신하는 소비자입니다.
+ * <p>
+ * 콜백은 수신 스레드(호가창 재동기화 시에는 스냅샷 스레드)에서 호출되므로 오래 걸리는 작업을 하면 안 됩니다.
+ * 필요한 메서드만 구현할 수 있도록 모든 메서드에 빈 기본 구현을 제공합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public interface BinanceStreamListener {
+
+    /**
+     * Called for each best bid/ask update.
+     *
+     * @param ticker the best bid/ask
+     */
+    default void onBookTicker(BinanceBookTicker ticker) {
+    }
+
+    /**
+     * Called after a depth book has been updated while in sync with the exchange. The book may only be read
+     * inside this callback; copy the values needed elsewhere.
+     *
+     * @param depthBook the updated depth book
+     */
+    default void onDepth(BinanceDepthBook depthBook) {
+    }
+
+    /**
+     * Called for each trade.
+     *
+     * @param trade the trade
+     */
+    default void onTrade(BinanceTrade trade) {
+    }
+
+    /**
+     * Called when the connection is lost. Every depth book is out of sync until it is rebuilt from a new snapshot.
+     */
+    default void onDisconnected() {
+    }
+}
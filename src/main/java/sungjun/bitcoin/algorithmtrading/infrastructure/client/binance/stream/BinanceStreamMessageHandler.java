@@ -0,0 +1,444 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Binance combined stream 메시지를 해석하여 로컬 호가창을 재구성하고 소비자에게 전달합니다.
+ * <p>
+ * 메시지는 Jackson 스트리밍 파서로 읽으며, combined stream 형식대로 {@code stream}이 {@code data}보다 먼저 온다고 가정합니다.
+ * </p>
+ *
+ * <h2>호가창 동기화</h2>
+ * <p>
+ * Binance 문서의 스냅샷 + 변경분 절차를 따릅니다.
+ * </p>
+ * <ol>
+ *   <li>동기화되지 않은 심볼의 변경 이벤트는 버퍼에 보관하고, REST 스냅샷을 비동기로 요청합니다.</li>
+ *   <li>스냅샷을 받으면 {@code u <= lastUpdateId}인 버퍼 이벤트를 버립니다. 남은 첫 이벤트의 {@code U}가
+ *       {@code lastUpdateId + 1}보다 크면 스냅샷이 오래된 것이므로 다시 요청합니다.</li>
+ *   <li>이후 이벤트는 {@code U <= lastUpdateId + 1 <= u}를 만족할 때만 적용합니다.
+ *       {@code U}가 더 크면 이벤트가 누락된 것이므로 동기화를 해제하고 1번부터 다시 시작합니다.</li>
+ * </ol>
+ * <p>
+ * 하나의 수신 스레드에서만 {@link #handle(char[], int)}를 호출해야 합니다.
+ * 호가창은 심볼별 잠금 안에서 수신 스레드와 스냅샷 스레드가 갱신합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+class BinanceStreamMessageHandler {
+
+    private static final int INITIAL_DEPTH = 64;
+    private static final int MAX_BUFFERED_EVENTS = 1024;
+
+    private final JsonFactory jsonFactory;
+    private final Function<String, byte[]> snapshotSource;
+    private final Executor snapshotExecutor;
+    private final long snapshotRetryDelayNanos;
+    private final List<BinanceStreamListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, DepthState> depthStates = new ConcurrentHashMap<>();
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder gaps = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+    private final LongAdder snapshotFailures = new LongAdder();
+
+    // 수신 스레드 전용 임시 변경 이벤트
+    private final BinanceDepthUpdate update = new BinanceDepthUpdate(INITIAL_DEPTH);
+
+    BinanceStreamMessageHandler(JsonFactory jsonFactory, Function<String, byte[]> snapshotSource,
+                                Executor snapshotExecutor, Duration snapshotRetryDelay) {
+        this.jsonFactory = jsonFactory;
+        this.snapshotSource = snapshotSource;
+        this.snapshotExecutor = snapshotExecutor;
+        this.snapshotRetryDelayNanos = snapshotRetryDelay.toNanos();
+    }
+
+    void addListener(BinanceStreamListener listener) {
+        listeners.add(listener);
+    }
+
+    BinanceDepthBook getDepthBook(String symbol) {
+        DepthState state = depthStates.get(symbol);
+        return state != null ? state.book : null;
+    }
+
+    long getMessageCount() {
+        return messages.sum();
+    }
+
+    long getErrorCount() {
+        return errors.sum();
+    }
+
+    long getGapCount() {
+        return gaps.sum();
+    }
+
+    long getSnapshotCount() {
+        return snapshots.sum();
+    }
+
+    long getSnapshotFailureCount() {
+        return snapshotFailures.sum();
+    }
+
+    /**
+     * Parses one complete text message and dispatches it.
+     *
+     * @param chars the buffer holding the message
+     * @param length the message length
+     */
+    void handle(char[] chars, int length) {
+        messages.increment();
+        try (JsonParser parser = jsonFactory.createParser(chars, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected message object");
+            }
+            String stream = null;
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "stream" -> stream = parser.getText();
+                    case "data" -> {
+                        if (stream != null && token == JsonToken.START_OBJECT) {
+                            handleData(parser, stream);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    case "error" -> {
+                        errors.increment();
+                        log.warn("[binance] Stream error response: {}", new String(chars, 0, length));
+                        parser.skipChildren();
+                    }
+                    default -> {
+                        if (token.isStructStart()) {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            errors.increment();
+            log.warn("[binance] Failed to handle stream message: {}", new String(chars, 0, length), e);
+        }
+    }
+
+    /**
+     * Marks every depth book out of sync and notifies listeners that the connection was lost.
+     * Snapshots requested before the disconnect are discarded when they arrive.
+     */
+    void disconnected() {
+        for (DepthState state : depthStates.values()) {
+            synchronized (state) {
+                state.generation++;
+                state.buffer.clear();
+                state.book.setSynced(false);
+            }
+        }
+        for (BinanceStreamListener listener : listeners) {
+            try {
+                listener.onDisconnected();
+            } catch (RuntimeException e) {
+                log.warn("[binance] Stream listener failed", e);
+            }
+        }
+    }
+
+    private void handleData(JsonParser parser, String stream) throws IOException {
+        if (stream.endsWith("@bookTicker")) {
+            handleBookTicker(parser);
+        } else if (stream.contains("@depth")) {
+            handleDepth(parser);
+        } else if (stream.endsWith("@trade")) {
+            handleTrade(parser);
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    private void handleBookTicker(JsonParser parser) throws IOException {
+        String symbol = null;
+        long updateId = 0L;
+        long bidPrice = 0L;
+        long bidQuantity = 0L;
+        long askPrice = 0L;
+        long askQuantity = 0L;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "s" -> symbol = parser.getText();
+                case "u" -> updateId = parser.getValueAsLong();
+                case "b" -> bidPrice = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+                case "B" -> bidQuantity = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+                case "a" -> askPrice = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+                case "A" -> askQuantity = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (symbol == null) {
+            throw new JsonParseException(parser, "Book ticker message without symbol");
+        }
+
+        BinanceBookTicker ticker = new BinanceBookTicker(symbol, updateId, bidPrice, bidQuantity, askPrice, askQuantity);
+        for (BinanceStreamListener listener : listeners) {
+            try {
+                listener.onBookTicker(ticker);
+            } catch (RuntimeException e) {
+                log.warn("[binance] Stream listener failed", e);
+            }
+        }
+    }
+
+    private void handleTrade(JsonParser parser) throws IOException {
+        String symbol = null;
+        long id = 0L;
+        long tradeTime = 0L;
+        long price = 0L;
+        long quantity = 0L;
+        boolean buyerMaker = false;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "s" -> symbol = parser.getText();
+                case "t" -> id = parser.getValueAsLong();
+                case "T" -> tradeTime = parser.getValueAsLong();
+                case "p" -> price = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+                case "q" -> quantity = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+                case "m" -> buyerMaker = parser.getValueAsBoolean();
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (symbol == null) {
+            throw new JsonParseException(parser, "Trade message without symbol");
+        }
+
+        BinanceTrade trade = new BinanceTrade(symbol, id, tradeTime, price, quantity, buyerMaker);
+        for (BinanceStreamListener listener : listeners) {
+            try {
+                listener.onTrade(trade);
+            } catch (RuntimeException e) {
+                log.warn("[binance] Stream listener failed", e);
+            }
+        }
+    }
+
+    private void handleDepth(JsonParser parser) throws IOException {
+        update.clear();
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "s" -> update.symbol = parser.getText();
+                case "E" -> update.eventTime = parser.getValueAsLong();
+                case "U" -> update.firstUpdateId = parser.getValueAsLong();
+                case "u" -> update.finalUpdateId = parser.getValueAsLong();
+                case "b" -> readLevels(parser, update, true);
+                case "a" -> readLevels(parser, update, false);
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (update.symbol == null || update.finalUpdateId == 0L) {
+            throw new JsonParseException(parser, "Depth message without symbol or update id");
+        }
+
+        DepthState state = depthStates.computeIfAbsent(update.symbol, DepthState::new);
+        synchronized (state) {
+            BinanceDepthBook book = state.book;
+            if (book.isSynced()) {
+                long expected = book.getLastUpdateId() + 1;
+                if (update.finalUpdateId < expected) {
+                    return;
+                }
+                if (update.firstUpdateId <= expected) {
+                    book.apply(update);
+                    notifyDepth(book);
+                    return;
+                }
+                gaps.increment();
+                book.setSynced(false);
+                log.warn("[binance] Depth gap on {}: expected {} but received {}-{}, resyncing",
+                    update.symbol, expected, update.firstUpdateId, update.finalUpdateId);
+            }
+            if (state.buffer.size() == MAX_BUFFERED_EVENTS) {
+                state.buffer.pollFirst();
+            }
+            state.buffer.addLast(update.copy());
+            requestSnapshot(state);
+        }
+    }
+
+    /**
+     * 진행 중인 요청이 없고 재시도 대기 시간이 지났으면 스냅샷을 요청합니다. 심볼 잠금 안에서 호출합니다.
+     */
+    private void requestSnapshot(DepthState state) {
+        if (state.snapshotPending || System.nanoTime() - state.retryAt < 0) {
+            return;
+        }
+        state.snapshotPending = true;
+        long generation = state.generation;
+        try {
+            snapshotExecutor.execute(() -> loadSnapshot(state, generation));
+        } catch (RejectedExecutionException e) {
+            state.snapshotPending = false;
+        }
+    }
+
+    private void loadSnapshot(DepthState state, long generation) {
+        BinanceDepthUpdate snapshot;
+        try {
+            snapshot = parseSnapshot(snapshotSource.apply(state.book.getSymbol()));
+        } catch (IOException | RuntimeException e) {
+            snapshotFailures.increment();
+            log.warn("[binance] Failed to load depth snapshot of {}: {}", state.book.getSymbol(), e.getMessage());
+            synchronized (state) {
+                state.snapshotPending = false;
+                state.retryAt = System.nanoTime() + snapshotRetryDelayNanos;
+            }
+            return;
+        }
+
+        synchronized (state) {
+            state.snapshotPending = false;
+            if (generation != state.generation) {
+                return;
+            }
+            ArrayDeque<BinanceDepthUpdate> buffer = state.buffer;
+            long lastUpdateId = snapshot.finalUpdateId;
+            while (!buffer.isEmpty() && buffer.peekFirst().finalUpdateId <= lastUpdateId) {
+                buffer.pollFirst();
+            }
+            if (!buffer.isEmpty() && buffer.peekFirst().firstUpdateId > lastUpdateId + 1) {
+                // 버퍼의 첫 이벤트보다 오래된 스냅샷이므로 다시 요청합니다.
+                requestSnapshot(state);
+                return;
+            }
+
+            BinanceDepthBook book = state.book;
+            book.reset(snapshot);
+            snapshots.increment();
+            for (BinanceDepthUpdate buffered = buffer.pollFirst(); buffered != null; buffered = buffer.pollFirst()) {
+                if (buffered.firstUpdateId > book.getLastUpdateId() + 1) {
+                    gaps.increment();
+                    buffer.clear();
+                    buffer.addLast(buffered);
+                    requestSnapshot(state);
+                    return;
+                }
+                book.apply(buffered);
+            }
+            book.setSynced(true);
+            log.info("[binance] Depth book of {} synced at update {}", book.getSymbol(), book.getLastUpdateId());
+            notifyDepth(book);
+        }
+    }
+
+    private BinanceDepthUpdate parseSnapshot(byte[] body) throws IOException {
+        BinanceDepthUpdate snapshot = new BinanceDepthUpdate(INITIAL_DEPTH);
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected snapshot object");
+            }
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "lastUpdateId" -> snapshot.finalUpdateId = parser.getValueAsLong();
+                    case "bids" -> readLevels(parser, snapshot, true);
+                    case "asks" -> readLevels(parser, snapshot, false);
+                    default -> {
+                        if (token.isStructStart()) {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+            if (snapshot.finalUpdateId == 0L) {
+                throw new JsonParseException(parser, "Snapshot without lastUpdateId");
+            }
+        }
+        snapshot.firstUpdateId = snapshot.finalUpdateId;
+        return snapshot;
+    }
+
+    private void notifyDepth(BinanceDepthBook book) {
+        for (BinanceStreamListener listener : listeners) {
+            try {
+                listener.onDepth(book);
+            } catch (RuntimeException e) {
+                log.warn("[binance] Stream listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * {@code [["price","qty"], ...]} 형식의 호가 목록을 읽습니다.
+     */
+    private static void readLevels(JsonParser parser, BinanceDepthUpdate target, boolean bids) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+            parser.nextToken();
+            long price = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+            parser.nextToken();
+            long quantity = FixedPoint.read(parser, BinanceDepthBook.SCALE);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+            }
+            if (bids) {
+                target.addBid(price, quantity);
+            } else {
+                target.addAsk(price, quantity);
+            }
+        }
+    }
+
+    /**
+     * 심볼별 호가창과 재동기화 상태입니다. 모든 필드는 인스턴스 잠금 안에서 접근합니다.
+     */
+    private static final class DepthState {
+
+        private final BinanceDepthBook book;
+        private final ArrayDeque<BinanceDepthUpdate> buffer = new ArrayDeque<>();
+        private boolean snapshotPending;
+        private long retryAt = System.nanoTime();
+        private long generation;
+
+        private DepthState(String symbol) {
+            this.book = new BinanceDepthBook(symbol);
+        }
+    }
+}
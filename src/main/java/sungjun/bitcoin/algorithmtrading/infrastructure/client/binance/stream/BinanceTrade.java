@@ -0,0 +1,26 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+/**
+ * Binance {@code trade} 스트림의 체결입니다.
+ * <p>
+ * 가격과 수량은 {@link BinanceDepthBook#SCALE} 고정소수점 값입니다.
+ * </p>
+ *
+ * @param symbol the symbol (e.g., BTCUSDT)
+ * @param id the trade id
+ * @param tradeTime the trade time in epoch milliseconds
+ * @param price the trade price
+ * @param quantity the trade quantity
+ * @param buyerMaker whether the buyer was the maker
+ * @author sungjun
+ * @since 1.0
+ */
+public record BinanceTrade(
+    String symbol,
+    long id,
+    long tradeTime,
+    long price,
+    long quantity,
+    boolean buyerMaker
+) {
+}
@@ -5,8 +5,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.service.annotation.HttpExchange;
 import org.springframework.web.service.annotation.PostExchange;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderCancelRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderInfoRequest;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneActiveOrdersApiResponse;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneOrderApiResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneOrderCancelApiResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneOrderDetailApiResponse;
 
 import java.util.Map;
 
@@ -14,7 +18,7 @@ import java.util.Map;
  * Coinone 거래소의 주문 관리 API 클라이언트입니다.
  * <p>
  * 이 클라이언트는 Coinone API의 order 엔드포인트와 통신하여
- * 매수/매도 주문 생성, 주문 취소 등의 거래 기능을 제공합니다.
+ * 매수/매도 주문 생성, 주문 취소, 미체결 주문 및 주문 상세 조회 등의 거래 기능을 제공합니다.
  * 모든 API 호출은 인증이 필요합니다.
  * </p>
  *
@@ -38,6 +42,16 @@ public interface CoinoneOrderApiClient {
     @PostExchange("/order")
     CoinoneOrderApiResponse order(@RequestBody CoinoneOrderRequest request);
 
+    /**
+     * Cancels the remaining quantity of a single order.
+     *
+     * @param request the cancellation request containing the order id and its currency pair
+     * @return the cancelled order including the quantity executed before cancellation
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if the API call fails
+     */
+    @PostExchange("/order/cancel")
+    CoinoneOrderCancelApiResponse cancel(@RequestBody CoinoneOrderCancelRequest request);
+
     /**
      * Cancels all pending (unfilled) orders for the user on the Coinone exchange.
      * <p>
@@ -51,4 +65,24 @@ public interface CoinoneOrderApiClient {
     @PostExchange("/order/cancel/all")
     Map<String, String> cancelAll(@RequestBody CoinoneOrderCancelRequest request);
 
+    /**
+     * Retrieves the orders of a currency pair that are still resting on the order book.
+     *
+     * @param request the query request containing the currency pair; the order id must be {@code null}
+     * @return the active orders of the currency pair
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if the API call fails
+     */
+    @PostExchange("/order/active_orders")
+    CoinoneActiveOrdersApiResponse getActiveOrders(@RequestBody CoinoneOrderInfoRequest request);
+
+    /**
+     * Retrieves a single order, including filled and cancelled ones.
+     *
+     * @param request the query request containing the order id and its currency pair
+     * @return the order details
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if the API call fails
+     */
+    @PostExchange("/order/detail")
+    CoinoneOrderDetailApiResponse getOrderDetail(@RequestBody CoinoneOrderInfoRequest request);
+
 }
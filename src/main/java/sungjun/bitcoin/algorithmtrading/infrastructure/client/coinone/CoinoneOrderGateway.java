@@ -0,0 +1,296 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.ResponseErrorHandler;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderTemplate;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderWriter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneOrderApiResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.BufferedClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.TradingHaltedException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.halt.TradingHalt;
+import sungjun.bitcoin.algorithmtrading.infrastructure.metrics.ExchangeClientMetrics;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+import sungjun.bitcoin.algorithmtrading.util.ThreadStatePool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties.X_COINONE_PAYLOAD;
+import static sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties.X_COINONE_SIGNATURE;
+
+/**
+ * 지연 시간이 중요한 Coinone 지정가 주문 전용 게이트웨이입니다.
+ * <p>
+ * {@link CoinoneOrderApiClient#order}와 같은 {@code POST /order} 요청을 보내지만, 요청 DTO 생성, Jackson 직렬화,
+ * 인터셉터의 본문 복사와 Base64/HMAC 처리를 거치지 않습니다. 거래 쌍별 {@link CoinoneOrderTemplate}에 nonce, 주문 방향,
+ * 가격, 수량만 채워 재사용 버퍼에서 본문을 만들고, 같은 버퍼에서 payload를 인코딩해 서명한 뒤
+ * 거래소 공용 커넥션 풀(시작 시 pre-warm된 {@code coinoneHttpTransport})로 바로 전송합니다.
+ * 응답은 블로킹 클라이언트와 같은 {@link ResponseErrorHandler}로 에러를 판단합니다.
+ * </p>
+ * <p>
+ * 긴급 상황에서 거래 쌍의 전체 주문을 취소하는 {@code POST /order/cancel/all}도 같은 템플릿과 경로로 보냅니다.
+ * Coinone은 요청마다 새 nonce를 요구하므로 서명까지 미리 해 둘 수는 없지만, 요청당 작업은 nonce 기록과 서명뿐입니다.
+ * </p>
+ * <p>
+ * 주문 관리자와 같은 {@link TradingHalt}를 공유하므로, 긴급 거래 중단 중에는 주문 관리자를 거치지 않고 이 게이트웨이를
+ * 직접 호출해도 새 주문을 보내지 않습니다. 전체 취소는 거래 중단 중에도 보냅니다.
+ * </p>
+ * <p>
+ * 가격과 수량은 시세 경로와 같은 {@link CoinoneTicker#PRICE_SCALE} 고정소수점 값으로 받으므로, 시세에서 주문까지
+ * {@link java.math.BigDecimal}이나 문자열 변환이 없습니다.
+ * </p>
+ *
+ * <h2>메트릭 (태그: {@code exchange})</h2>
+ * <ul>
+ *   <li>{@code exchange.client.requests}, {@code exchange.client.errors} 등: HTTP Interface 클라이언트와 같은
+ *       {@link ExchangeClientMetrics}에 {@code CoinoneOrderGateway.placeLimitOrder}, {@code CoinoneOrderGateway.cancelAll}
+ *       엔드포인트로 기록</li>
+ *   <li>{@code exchange.order.tick_to_wire}: 호출자가 넘긴 시세 수신 시각부터 요청을 커넥션에 넘기기 직전까지의 시간 (히스토그램)</li>
+ *   <li>{@code exchange.order.local_overhead}: 주문 호출부터 전송 직전까지 게이트웨이 내부에서 사용한 시간 (히스토그램)</li>
+ * </ul>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * CoinoneOrderTemplate btc = gateway.template("KRW", "BTC");
+ * CoinoneOrderApiResponse response = gateway.placeLimitOrder(btc, OrderSide.BUY, price, qty, false, tickReceivedNanos);
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class CoinoneOrderGateway implements MeterBinder {
+
+    private static final String EXCHANGE = "coinone";
+
+    private final String accessToken;
+    private final URI orderUri;
+    private final URI cancelAllUri;
+    private final ClientHttpRequestFactory requestFactory;
+    private final HmacSigner signer;
+    private final ExchangeClock clock;
+    private final TradingHalt halt;
+    private final ResponseErrorHandler errorHandler;
+    private final ObjectReader responseReader;
+    private final ExchangeClientMetrics.Endpoint placeEndpoint;
+    private final ExchangeClientMetrics.Endpoint cancelAllEndpoint;
+    private final ConcurrentMap<String, CoinoneOrderTemplate> templates = new ConcurrentHashMap<>();
+    private final ThreadStatePool<CoinoneOrderWriter> writers = new ThreadStatePool<>(CoinoneOrderWriter::new);
+
+    private volatile Timer tickToWire;
+    private volatile Timer localOverhead;
+
+    /**
+     * Creates an order gateway.
+     *
+     * @param accessToken the Coinone access token rendered into every template
+     * @param privateUrl the base URL of the private API
+     * @param requestFactory the request factory of the shared Coinone connection pool
+     * @param signer the signer holding the Coinone secret key
+     * @param clock the clock issuing request nonces
+     * @param halt the trading halt shared with the order manager
+     * @param errorHandler the Coinone response error handler
+     * @param metrics the Coinone client metrics the gateway calls are recorded in
+     * @param objectMapper the mapper used to read order responses
+     */
+    public CoinoneOrderGateway(String accessToken,
+                               String privateUrl,
+                               ClientHttpRequestFactory requestFactory,
+                               HmacSigner signer,
+                               ExchangeClock clock,
+                               TradingHalt halt,
+                               ResponseErrorHandler errorHandler,
+                               ExchangeClientMetrics metrics,
+                               ObjectMapper objectMapper) {
+        this.accessToken = accessToken;
+        this.orderUri = URI.create(privateUrl + "/order");
+        this.cancelAllUri = URI.create(privateUrl + "/order/cancel/all");
+        this.requestFactory = requestFactory;
+        this.signer = signer;
+        this.clock = clock;
+        this.halt = halt;
+        this.errorHandler = errorHandler;
+        this.responseReader = objectMapper.readerFor(CoinoneOrderApiResponse.class);
+        this.placeEndpoint = metrics.endpoint("CoinoneOrderGateway.placeLimitOrder");
+        this.cancelAllEndpoint = metrics.endpoint("CoinoneOrderGateway.cancelAll");
+    }
+
+    /**
+     * Returns the pre-rendered template of a currency pair, creating it on first use.
+     * Callers on the hot path should obtain the template once and keep it.
+     *
+     * @param quoteCurrency the quote currency (e.g., KRW)
+     * @param targetCurrency the target currency (e.g., BTC)
+     * @return the template
+     */
+    public CoinoneOrderTemplate template(String quoteCurrency, String targetCurrency) {
+        return templates.computeIfAbsent(quoteCurrency + "/" + targetCurrency,
+            key -> CoinoneOrderTemplate.limitOrder(accessToken, quoteCurrency, targetCurrency));
+    }
+
+    /**
+     * Places a limit order.
+     *
+     * @param template the template of the currency pair
+     * @param side the order side
+     * @param price the limit price as a fixed-point value at {@link CoinoneTicker#PRICE_SCALE}
+     * @param qty the order quantity as a fixed-point value at {@link CoinoneTicker#PRICE_SCALE}
+     * @param postOnly whether the order must only add liquidity
+     * @param tickNanos the {@link System#nanoTime()} at which the market data that triggered the order was received
+     * @return the order creation result
+     * @throws TradingHaltedException if trading is halted
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if Coinone rejects the order
+     * @throws UncheckedIOException if the request fails
+     */
+    public CoinoneOrderApiResponse placeLimitOrder(CoinoneOrderTemplate template, OrderSide side, long price, long qty,
+                                                   boolean postOnly, long tickNanos) {
+        return placeLimitOrder(template, null, side, price, qty, postOnly, tickNanos);
+    }
+
+    /**
+     * Places a limit order carrying a user order id. Coinone accepts at most one order per user order id,
+     * so the same order can be resent after a timeout without risking a duplicate.
+     *
+     * @param template the template of the currency pair
+     * @param userOrderId the user order id, or {@code null} to omit it
+     * @param side the order side
+     * @param price the limit price as a fixed-point value at {@link CoinoneTicker#PRICE_SCALE}
+     * @param qty the order quantity as a fixed-point value at {@link CoinoneTicker#PRICE_SCALE}
+     * @param postOnly whether the order must only add liquidity
+     * @param tickNanos the {@link System#nanoTime()} at which the market data that triggered the order was received
+     * @return the order creation result
+     * @throws TradingHaltedException if trading is halted
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if Coinone rejects the order
+     * @throws UncheckedIOException if the request fails
+     */
+    public CoinoneOrderApiResponse placeLimitOrder(CoinoneOrderTemplate template, String userOrderId, OrderSide side,
+                                                   long price, long qty, boolean postOnly, long tickNanos) {
+        halt.check();
+        long startedAt = placeEndpoint.start();
+        try {
+            CoinoneOrderApiResponse response = sendLimitOrder(template, userOrderId, side, price, qty, postOnly,
+                startedAt, tickNanos);
+            placeEndpoint.success(startedAt);
+            return response;
+        } catch (RuntimeException e) {
+            placeEndpoint.failure(startedAt, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Cancels every open order of a currency pair.
+     *
+     * @param template the template of the currency pair
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if Coinone rejects the request
+     * @throws UncheckedIOException if the request fails
+     */
+    public void cancelAll(CoinoneOrderTemplate template) {
+        long startedAt = cancelAllEndpoint.start();
+        try {
+            sendCancelAll(template);
+            cancelAllEndpoint.success(startedAt);
+        } catch (RuntimeException e) {
+            cancelAllEndpoint.failure(startedAt, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        tickToWire = timer(registry, "exchange.order.tick_to_wire", "Time from market data receipt to order hand-off to the connection");
+        localOverhead = timer(registry, "exchange.order.local_overhead", "Time spent rendering, signing and preparing an order request");
+    }
+
+    private CoinoneOrderApiResponse sendLimitOrder(CoinoneOrderTemplate template, String userOrderId, OrderSide side,
+                                                   long price, long qty, boolean postOnly, long startedAt,
+                                                   long tickNanos) {
+        try {
+            ClientHttpRequest request = requestFactory.createRequest(orderUri, HttpMethod.POST);
+            CoinoneOrderWriter writer = writers.acquire();
+            try {
+                writer.render(template, clock.nextNonce(), userOrderId, side, price, qty, CoinoneTicker.PRICE_SCALE, postOnly)
+                    .sign(signer);
+                HttpHeaders headers = request.getHeaders();
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                headers.set(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+                headers.setContentLength(writer.bodyLength());
+                headers.set(X_COINONE_PAYLOAD, writer.payloadHeader());
+                headers.set(X_COINONE_SIGNATURE, writer.signatureHeader());
+                writer.writeBodyTo(request.getBody());
+            } finally {
+                writers.release(writer);
+            }
+            record(startedAt, tickNanos);
+
+            try (BufferedClientHttpResponse response = BufferedClientHttpResponse.of(request.execute())) {
+                if (errorHandler.hasError(response)) {
+                    errorHandler.handleError(orderUri, HttpMethod.POST, response);
+                }
+                return responseReader.readValue(response.getBodyBytes());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to place Coinone order", e);
+        }
+    }
+
+    private void sendCancelAll(CoinoneOrderTemplate template) {
+        try {
+            ClientHttpRequest request = requestFactory.createRequest(cancelAllUri, HttpMethod.POST);
+            CoinoneOrderWriter writer = writers.acquire();
+            try {
+                writer.renderCancelAll(template, clock.nextNonce()).sign(signer);
+                HttpHeaders headers = request.getHeaders();
+                headers.setContentType(MediaType.APPLICATION_JSON);
+                headers.set(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+                headers.setContentLength(writer.bodyLength());
+                headers.set(X_COINONE_PAYLOAD, writer.payloadHeader());
+                headers.set(X_COINONE_SIGNATURE, writer.signatureHeader());
+                writer.writeBodyTo(request.getBody());
+            } finally {
+                writers.release(writer);
+            }
+
+            try (BufferedClientHttpResponse response = BufferedClientHttpResponse.of(request.execute())) {
+                if (errorHandler.hasError(response)) {
+                    errorHandler.handleError(cancelAllUri, HttpMethod.POST, response);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to cancel Coinone orders of " + template.getQuoteCurrency()
+                + "/" + template.getTargetCurrency(), e);
+        }
+    }
+
+    private void record(long startedAt, long tickNanos) {
+        long handedOffAt = System.nanoTime();
+        Timer overhead = localOverhead;
+        Timer wire = tickToWire;
+        if (overhead != null && wire != null) {
+            overhead.record(handedOffAt - startedAt, TimeUnit.NANOSECONDS);
+            wire.record(handedOffAt - tickNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String name, String description) {
+        return Timer.builder(name)
+            .description(description)
+            .tag("exchange", EXCHANGE)
+            .publishPercentiles(0.5, 0.99, 0.999)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+}
@@ -0,0 +1,106 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Coinone 거래소의 주문 한 건의 정보를 나타내는 데이터 클래스입니다.
+ * <p>
+ * 미체결 주문 목록과 주문 상세 조회 응답에서 공통으로 사용합니다. 가격과 수량은 거래소가 보낸 문자열 그대로 보관하며,
+ * 미체결 주문 목록 응답에는 {@code status}가 없습니다.
+ * </p>
+ *
+ * <h2>주문 상태 ({@code status})</h2>
+ * <ul>
+ *   <li>{@code LIVE}: 미체결</li>
+ *   <li>{@code PARTIALLY_FILLED}: 일부 체결</li>
+ *   <li>{@code PARTIALLY_CANCELED}: 일부 체결 후 잔량 취소</li>
+ *   <li>{@code FILLED}: 전량 체결</li>
+ *   <li>{@code CANCELED}: 취소</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public class CoinoneOrderInfo {
+
+    private String orderId;
+
+    /**
+     * 주문할 때 붙인 사용자 지정 주문 ID (붙이지 않았으면 null)
+     */
+    private String userOrderId;
+
+    private String type;
+
+    private String quoteCurrency;
+
+    private String targetCurrency;
+
+    private OrderSide side;
+
+    /**
+     * 주문 상태 (미체결 주문 목록 응답에서는 null)
+     */
+    private String status;
+
+    private String price;
+
+    /**
+     * 최초 주문 수량
+     */
+    private String originalQty;
+
+    /**
+     * 체결된 수량
+     */
+    private String executedQty;
+
+    /**
+     * 체결되지 않고 남은 수량
+     */
+    private String remainQty;
+
+    /**
+     * 주문 시각 (epoch milliseconds)
+     */
+    private Long orderedAt;
+
+    /**
+     * Constructs a CoinoneOrderInfo with the given order fields.
+     *
+     * @param orderId the order id
+     * @param userOrderId the user order id the order was placed with, or {@code null} if none
+     * @param type the order type
+     * @param quoteCurrency the quote currency
+     * @param targetCurrency the target currency
+     * @param side the order side
+     * @param status the order status, or {@code null} in active order listings
+     * @param price the limit price
+     * @param originalQty the original order quantity
+     * @param executedQty the executed quantity
+     * @param remainQty the remaining quantity
+     * @param orderedAt the order time in epoch milliseconds
+     */
+    @Builder
+    private CoinoneOrderInfo(String orderId, String userOrderId, String type, String quoteCurrency, String targetCurrency, OrderSide side,
+                             String status, String price, String originalQty, String executedQty, String remainQty,
+                             Long orderedAt) {
+        this.orderId = orderId;
+        this.userOrderId = userOrderId;
+        this.type = type;
+        this.quoteCurrency = quoteCurrency;
+        this.targetCurrency = targetCurrency;
+        this.side = side;
+        this.status = status;
+        this.price = price;
+        this.originalQty = originalQty;
+        this.executedQty = executedQty;
+        this.remainQty = remainQty;
+        this.orderedAt = orderedAt;
+    }
+}
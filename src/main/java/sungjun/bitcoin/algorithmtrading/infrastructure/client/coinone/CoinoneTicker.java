@@ -1,114 +1,245 @@
 package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
 
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
 
-import java.util.List;
+import java.math.BigDecimal;
 
 /**
  * Coinone 거래소의 시세 정보를 나타내는 데이터 클래스입니다.
  * <p>
  * 특정 통화쌍에 대한 실시간 시세 정보와 호가 정보를 포함합니다.
- * JSON 응답에서 snake_case 형태의 필드명을 camelCase로 매핑합니다.
+ * 가격과 수량은 {@link CoinoneTickerDeserializer}가 JSON 문자열에서 직접 {@link FixedPoint} 고정소수점
+ * {@code long} 값으로 파싱하므로, 소비자는 매번 10진수 문자열을 다시 파싱하지 않고 바로 비교/연산할 수 있습니다.
+ * </p>
+ *
+ * <h2>고정소수점 scale</h2>
+ * <ul>
+ *   <li>가격({@code high}, {@code low}, {@code first}, {@code last}, 호가 가격)과 호가 수량: {@link #PRICE_SCALE}</li>
+ *   <li>거래량({@code quoteVolume}, {@code targetVolume}): {@link #VOLUME_SCALE}</li>
+ * </ul>
+ * <p>
+ * 최우선 호가는 가격/수량별 기본형 배열로 보관하며, 화면 표시 등에는 {@code get...Decimal()} 메서드로 변환합니다.
+ * 응답에 없던 값은 {@link FixedPoint#MISSING}이며, {@code get...Decimal()} 메서드는 이 경우 {@code null}을 반환합니다.
  * </p>
  *
  * @author sungjun
  * @since 1.0
  */
 @Getter
-@NoArgsConstructor
-@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonDeserialize(using = CoinoneTickerDeserializer.class)
 public final class CoinoneTicker {
-    private String quoteCurrency;
-    private String targetCurrency;
-    private int timeStamp;
-    private String high;
-    private String low;
-    private String first;
-    private String last;
-    private String quoteVolume;
-    private String targetVolume;
-    private List<BestOrderBook> bestAsks;
-    private List<BestOrderBook> bestBids;
-    private String id;
+
+    /**
+     * 가격과 호가 수량의 소수 자릿수입니다.
+     */
+    public static final int PRICE_SCALE = 8;
+
+    /**
+     * 24시간 거래량의 소수 자릿수입니다. 소액 코인의 누적 거래량이 {@code long} 범위를 넘지 않도록 가격보다 작게 둡니다.
+     */
+    public static final int VOLUME_SCALE = 4;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final String quoteCurrency;
+    private final String targetCurrency;
+    private final long timestamp;
+    private final long high;
+    private final long low;
+    private final long first;
+    private final long last;
+    private final long quoteVolume;
+    private final long targetVolume;
+    @Getter(AccessLevel.NONE)
+    private final long[] bestAskPrices;
+    @Getter(AccessLevel.NONE)
+    private final long[] bestAskQuantities;
+    @Getter(AccessLevel.NONE)
+    private final long[] bestBidPrices;
+    @Getter(AccessLevel.NONE)
+    private final long[] bestBidQuantities;
+    private final String id;
 
     /**
      * Constructs a CoinoneTicker instance with the specified ticker and order book data for a currency pair.
+     * Price and quantity values are fixed-point numbers at {@link #PRICE_SCALE}; volumes are at {@link #VOLUME_SCALE}.
+     * The level arrays are owned by the ticker and must not be modified afterwards.
      *
-     * @param quoteCurrency   the quote currency symbol
-     * @param targetCurrency  the target currency symbol
-     * @param timeStamp       the timestamp of the ticker data
-     * @param high            the highest price in the period
-     * @param low             the lowest price in the period
-     * @param first           the first traded price in the period
-     * @param last            the last traded price in the period
-     * @param quoteVolume     the traded volume in quote currency
-     * @param targetVolume    the traded volume in target currency
-     * @param bestAsks        the list of best ask order book entries
-     * @param bestBids        the list of best bid order book entries
-     * @param id              the unique identifier for this ticker data
+     * @param quoteCurrency     the quote currency symbol
+     * @param targetCurrency    the target currency symbol
+     * @param timestamp         the timestamp of the ticker data in epoch milliseconds
+     * @param high              the highest price in the period
+     * @param low               the lowest price in the period
+     * @param first             the first traded price in the period
+     * @param last              the last traded price in the period
+     * @param quoteVolume       the traded volume in quote currency
+     * @param targetVolume      the traded volume in target currency
+     * @param bestAskPrices     the best ask prices, best first
+     * @param bestAskQuantities the best ask quantities, aligned with {@code bestAskPrices}
+     * @param bestBidPrices     the best bid prices, best first
+     * @param bestBidQuantities the best bid quantities, aligned with {@code bestBidPrices}
+     * @param id                the unique identifier for this ticker data
      */
     @Builder
     private CoinoneTicker(
         String quoteCurrency,
         String targetCurrency,
-        int timeStamp,
-        String high,
-        String low,
-        String first,
-        String last,
-        String quoteVolume,
-        String targetVolume,
-        List<BestOrderBook> bestAsks,
-        List<BestOrderBook> bestBids,
+        long timestamp,
+        long high,
+        long low,
+        long first,
+        long last,
+        long quoteVolume,
+        long targetVolume,
+        long[] bestAskPrices,
+        long[] bestAskQuantities,
+        long[] bestBidPrices,
+        long[] bestBidQuantities,
         String id
     ) {
         this.quoteCurrency = quoteCurrency;
         this.targetCurrency = targetCurrency;
-        this.timeStamp = timeStamp;
+        this.timestamp = timestamp;
         this.high = high;
         this.low = low;
         this.first = first;
         this.last = last;
         this.quoteVolume = quoteVolume;
         this.targetVolume = targetVolume;
-        this.bestAsks = bestAsks;
-        this.bestBids = bestBids;
+        this.bestAskPrices = bestAskPrices != null ? bestAskPrices : EMPTY;
+        this.bestAskQuantities = bestAskQuantities != null ? bestAskQuantities : EMPTY;
+        this.bestBidPrices = bestBidPrices != null ? bestBidPrices : EMPTY;
+        this.bestBidQuantities = bestBidQuantities != null ? bestBidQuantities : EMPTY;
         this.id = id;
     }
 
     /**
-     * 최적 호가 정보를 나타내는 내부 클래스입니다.
-     * <p>
-     * 매수/매도 호가의 가격과 수량 정보를 포함합니다.
-     * </p>
-     */
-    @Getter
-    @NoArgsConstructor
-    static class BestOrderBook {
-        /**
-         * 호가 가격 (문자열 형태)
-         */
-        private String price;
-        
-        /**
-         * 호가 수량 (문자열 형태)
-         */
-        private String qty;
-
-        /**
-         * Constructs a BestOrderBook entry with the specified price and quantity.
-         *
-         * @param price the price of the order as a string
-         * @param qty the quantity of the order as a string
-         */
-        @Builder
-        private BestOrderBook(String price, String qty) {
-            this.price = price;
-            this.qty = qty;
-        }
+     * Returns the number of best ask levels.
+     *
+     * @return the ask level count
+     */
+    public int getAskLevels() {
+        return bestAskPrices.length;
+    }
+
+    /**
+     * Returns the number of best bid levels.
+     *
+     * @return the bid level count
+     */
+    public int getBidLevels() {
+        return bestBidPrices.length;
+    }
+
+    /**
+     * Returns the ask price at the given level as a fixed-point value at {@link #PRICE_SCALE}.
+     *
+     * @param level the level index, {@code 0} being the best ask
+     * @return the ask price
+     */
+    public long getBestAskPrice(int level) {
+        return bestAskPrices[level];
+    }
+
+    /**
+     * Returns the ask quantity at the given level as a fixed-point value at {@link #PRICE_SCALE}.
+     *
+     * @param level the level index, {@code 0} being the best ask
+     * @return the ask quantity
+     */
+    public long getBestAskQuantity(int level) {
+        return bestAskQuantities[level];
+    }
+
+    /**
+     * Returns the bid price at the given level as a fixed-point value at {@link #PRICE_SCALE}.
+     *
+     * @param level the level index, {@code 0} being the best bid
+     * @return the bid price
+     */
+    public long getBestBidPrice(int level) {
+        return bestBidPrices[level];
+    }
+
+    /**
+     * Returns the bid quantity at the given level as a fixed-point value at {@link #PRICE_SCALE}.
+     *
+     * @param level the level index, {@code 0} being the best bid
+     * @return the bid quantity
+     */
+    public long getBestBidQuantity(int level) {
+        return bestBidQuantities[level];
+    }
+
+    /**
+     * Returns the highest price as a {@link BigDecimal} for display.
+     *
+     * @return the highest price, or {@code null} if missing in the response
+     */
+    public BigDecimal getHighDecimal() {
+        return toDecimal(high, PRICE_SCALE);
+    }
+
+    /**
+     * Returns the lowest price as a {@link BigDecimal} for display.
+     *
+     * @return the lowest price, or {@code null} if missing in the response
+     */
+    public BigDecimal getLowDecimal() {
+        return toDecimal(low, PRICE_SCALE);
+    }
+
+    /**
+     * Returns the first traded price as a {@link BigDecimal} for display.
+     *
+     * @return the first traded price, or {@code null} if missing in the response
+     */
+    public BigDecimal getFirstDecimal() {
+        return toDecimal(first, PRICE_SCALE);
+    }
+
+    /**
+     * Returns the last traded price as a {@link BigDecimal} for display.
+     *
+     * @return the last traded price, or {@code null} if missing in the response
+     */
+    public BigDecimal getLastDecimal() {
+        return toDecimal(last, PRICE_SCALE);
+    }
+
+    /**
+     * Returns the traded volume in quote currency as a {@link BigDecimal} for display.
+     *
+     * @return the traded volume in quote currency, or {@code null} if missing in the response
+     */
+    public BigDecimal getQuoteVolumeDecimal() {
+        return toDecimal(quoteVolume, VOLUME_SCALE);
+    }
+
+    /**
+     * Returns the traded volume in target currency as a {@link BigDecimal} for display.
+     *
+     * @return the traded volume in target currency, or {@code null} if missing in the response
+     */
+    public BigDecimal getTargetVolumeDecimal() {
+        return toDecimal(targetVolume, VOLUME_SCALE);
+    }
+
+    /**
+     * Converts a price or quantity of this ticker into a {@link BigDecimal}.
+     *
+     * @param value a fixed-point value at {@link #PRICE_SCALE}
+     * @return the decimal value, or {@code null} if the value is {@link FixedPoint#MISSING}
+     */
+    public static BigDecimal toPriceDecimal(long value) {
+        return toDecimal(value, PRICE_SCALE);
+    }
+
+    private static BigDecimal toDecimal(long value, int scale) {
+        return value == FixedPoint.MISSING ? null : FixedPoint.toBigDecimal(value, scale);
     }
 }
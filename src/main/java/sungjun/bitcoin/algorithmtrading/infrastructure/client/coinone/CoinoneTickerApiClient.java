@@ -31,4 +31,28 @@ public interface CoinoneTickerApiClient {
     @GetExchange("/ticker_new/{quoteCurrency}/{targetCurrency}")
     CoinoneTickerApiResponse getTicker(@PathVariable String quoteCurrency, @PathVariable String targetCurrency);
 
+    /**
+     * Retrieves real-time ticker information for every market of the specified quote currency in a single call.
+     *
+     * @param quoteCurrency the base currency code (e.g., KRW)
+     * @return the ticker data of all markets for the given quote currency
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if the API call fails
+     */
+    @GetExchange("/ticker_new/{quoteCurrency}")
+    CoinoneTickerApiResponse getTickers(@PathVariable String quoteCurrency);
+
+    /**
+     * Retrieves the raw response body of the all-markets ticker endpoint without binding it to objects.
+     * <p>
+     * Intended for streaming parsers such as {@code CoinoneMarketTable} that write hundreds of markets
+     * directly into a flat table.
+     * </p>
+     *
+     * @param quoteCurrency the base currency code (e.g., KRW)
+     * @return the JSON response body
+     * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if the API call fails
+     */
+    @GetExchange("/ticker_new/{quoteCurrency}")
+    byte[] getTickersBody(@PathVariable String quoteCurrency);
+
 }
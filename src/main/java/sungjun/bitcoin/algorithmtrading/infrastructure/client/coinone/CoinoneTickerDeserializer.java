@@ -0,0 +1,110 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Coinone 시세 JSON을 {@link CoinoneTicker}로 역직렬화하는 스트리밍 디시리얼라이저입니다.
+ * <p>
+ * 가격/수량 문자열은 파서의 내부 문자 버퍼({@link JsonParser#getTextCharacters()})에서 바로
+ * {@link FixedPoint} 값으로 파싱하므로 필드마다 {@code String}이나 {@code BigDecimal}을 만들지 않습니다.
+ * 호가 목록도 객체 리스트 대신 가격/수량 {@code long} 배열로 읽습니다. 알 수 없는 필드는 건너뜁니다.
+ * 값이 {@code null}이거나 빈 문자열인 가격/수량은 실제 0과 구분되도록 {@link FixedPoint#MISSING}으로 읽습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class CoinoneTickerDeserializer extends StdDeserializer<CoinoneTicker> {
+
+    private static final int INITIAL_LEVELS = 4;
+
+    public CoinoneTickerDeserializer() {
+        super(CoinoneTicker.class);
+    }
+
+    @Override
+    public CoinoneTicker deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (CoinoneTicker) context.handleUnexpectedToken(CoinoneTicker.class, parser);
+        }
+
+        CoinoneTicker.CoinoneTickerBuilder builder = CoinoneTicker.builder();
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "quote_currency" -> builder.quoteCurrency(parser.getValueAsString());
+                case "target_currency" -> builder.targetCurrency(parser.getValueAsString());
+                case "timestamp" -> builder.timestamp(parser.getValueAsLong());
+                case "high" -> builder.high(FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE));
+                case "low" -> builder.low(FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE));
+                case "first" -> builder.first(FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE));
+                case "last" -> builder.last(FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE));
+                case "quote_volume" -> builder.quoteVolume(FixedPoint.read(parser, CoinoneTicker.VOLUME_SCALE));
+                case "target_volume" -> builder.targetVolume(FixedPoint.read(parser, CoinoneTicker.VOLUME_SCALE));
+                case "best_asks" -> readLevels(parser, context, builder, true);
+                case "best_bids" -> readLevels(parser, context, builder, false);
+                case "id" -> builder.id(parser.getValueAsString());
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 호가 배열({@code [{"price": "...", "qty": "..."}, ...]})을 가격/수량 배열로 읽어 빌더에 설정합니다.
+     */
+    private static void readLevels(JsonParser parser, DeserializationContext context,
+                                   CoinoneTicker.CoinoneTickerBuilder builder, boolean asks) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            if (parser.currentToken() != JsonToken.VALUE_NULL) {
+                context.handleUnexpectedToken(long[].class, parser);
+            }
+            return;
+        }
+
+        long[] prices = new long[INITIAL_LEVELS];
+        long[] quantities = new long[INITIAL_LEVELS];
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (count == prices.length) {
+                prices = Arrays.copyOf(prices, count * 2);
+                quantities = Arrays.copyOf(quantities, count * 2);
+            }
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "price" -> prices[count] = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                    // 호가 수량은 가격과 같은 소수 자릿수로 보관합니다(CoinoneTicker 문서 참고).
+                    case "qty" -> quantities[count] = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                    default -> {
+                        if (token.isStructStart()) {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+            count++;
+        }
+
+        if (count != prices.length) {
+            prices = Arrays.copyOf(prices, count);
+            quantities = Arrays.copyOf(quantities, count);
+        }
+        if (asks) {
+            builder.bestAskPrices(prices).bestAskQuantities(quantities);
+        } else {
+            builder.bestBidPrices(prices).bestBidQuantities(quantities);
+        }
+    }
+}
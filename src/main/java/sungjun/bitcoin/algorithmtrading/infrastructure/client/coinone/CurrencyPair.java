@@ -0,0 +1,59 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 기준 통화(quote)와 대상 통화(target)로 이루어진 거래 쌍입니다.
+ * <p>
+ * 통화 코드는 대문자로 정규화되므로 {@code krw/btc}와 {@code KRW/BTC}는 같은 키로 취급됩니다.
+ * 문자열 표현은 {@code QUOTE/TARGET} 형식이며 설정 파일의 키로도 사용합니다.
+ * </p>
+ *
+ * @param quoteCurrency  the quote currency (e.g., "KRW")
+ * @param targetCurrency the target currency (e.g., "BTC")
+ * @author sungjun
+ * @since 1.0
+ */
+public record CurrencyPair(String quoteCurrency, String targetCurrency) {
+
+    private static final char SEPARATOR = '/';
+
+    public CurrencyPair {
+        Objects.requireNonNull(quoteCurrency, "quoteCurrency must not be null");
+        Objects.requireNonNull(targetCurrency, "targetCurrency must not be null");
+        quoteCurrency = quoteCurrency.toUpperCase(Locale.ROOT);
+        targetCurrency = targetCurrency.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates a currency pair from its quote and target currencies.
+     *
+     * @param quoteCurrency  the quote currency
+     * @param targetCurrency the target currency
+     * @return the currency pair
+     */
+    public static CurrencyPair of(String quoteCurrency, String targetCurrency) {
+        return new CurrencyPair(quoteCurrency, targetCurrency);
+    }
+
+    /**
+     * Parses a currency pair written as {@code QUOTE/TARGET}.
+     *
+     * @param text the text to parse
+     * @return the currency pair
+     * @throws IllegalArgumentException if the text is not in {@code QUOTE/TARGET} form
+     */
+    public static CurrencyPair parse(String text) {
+        int separator = text.indexOf(SEPARATOR);
+        if (separator <= 0 || separator == text.length() - 1 || text.indexOf(SEPARATOR, separator + 1) >= 0) {
+            throw new IllegalArgumentException("Currency pair must be in QUOTE/TARGET form: " + text);
+        }
+        return new CurrencyPair(text.substring(0, separator).trim(), text.substring(separator + 1).trim());
+    }
+
+    @Override
+    public String toString() {
+        return quoteCurrency + SEPARATOR + targetCurrency;
+    }
+}
@@ -0,0 +1,46 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.reactive;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneAccountRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneAccountApiResponse;
+
+/**
+ * Coinone 거래소의 계정 정보 조회 API 논블로킹 클라이언트입니다.
+ * <p>
+ * {@link CoinoneAccountApiClient}와 같은 엔드포인트를 WebClient 기반으로 호출합니다.
+ * 인증 헤더는 {@code CoinoneAuthenticationFilter}가 전송 직전에 요청 본문으로 서명하여 추가합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Component
+@HttpExchange
+public interface CoinoneReactiveAccountApiClient {
+
+    /**
+     * Retrieves the account balance for a specific currency without blocking.
+     *
+     * @param requestBody the request data specifying the currency to query
+     * @return a mono emitting the account balance, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException} error
+     */
+    @PostExchange("/account/balance")
+    Mono<CoinoneAccountApiResponse> getAccount(@RequestBody CoinoneAccountRequest requestBody);
+
+    /**
+     * Retrieves account balances for all currencies held by the user without blocking.
+     *
+     * @param requestBody the account request data specifying authentication and query details
+     * @return a mono emitting the balances of all currencies, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException} error
+     */
+    @PostExchange("/account/balance/all")
+    Mono<CoinoneAccountApiResponse> getAccounts(@RequestBody CoinoneAccountRequest requestBody);
+
+}
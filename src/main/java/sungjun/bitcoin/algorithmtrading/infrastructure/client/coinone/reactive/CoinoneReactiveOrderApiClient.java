@@ -0,0 +1,49 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.reactive;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderCancelRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneOrderApiResponse;
+
+import java.util.Map;
+
+/**
+ * Coinone 거래소의 주문 관리 API 논블로킹 클라이언트입니다.
+ * <p>
+ * {@link CoinoneOrderApiClient}와 같은 엔드포인트를 WebClient 기반으로 호출합니다.
+ * 반환된 {@link Mono}를 구독해야 주문이 전송되며, 구독할 때마다 다시 전송되므로 재시도 시 주문 중복에 주의해야 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Component
+@HttpExchange
+public interface CoinoneReactiveOrderApiClient {
+
+    /**
+     * Creates a new buy or sell order without blocking.
+     *
+     * @param request the order creation request containing order parameters
+     * @return a mono emitting the order creation result, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException} error
+     */
+    @PostExchange("/order")
+    Mono<CoinoneOrderApiResponse> order(@RequestBody CoinoneOrderRequest request);
+
+    /**
+     * Cancels all pending (unfilled) orders without blocking.
+     *
+     * @param request the cancellation request containing relevant user and order information
+     * @return a mono emitting the cancellation results, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException} error
+     */
+    @PostExchange("/order/cancel/all")
+    Mono<Map<String, String>> cancelAll(@RequestBody CoinoneOrderCancelRequest request);
+
+}
@@ -0,0 +1,46 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.reactive;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTickerApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneTickerApiResponse;
+
+/**
+ * Coinone 거래소의 시세 정보 조회 API 논블로킹 클라이언트입니다.
+ * <p>
+ * {@link CoinoneTickerApiClient}와 같은 엔드포인트를 WebClient 기반으로 호출하며, 호출 스레드를 막지 않고
+ * {@link Mono}로 결과를 반환합니다. 여러 거래 쌍의 시세를 하나의 이벤트 루프에서 동시에 조회할 때 사용합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Component
+@HttpExchange
+public interface CoinoneReactiveTickerApiClient {
+
+    /**
+     * Retrieves real-time ticker information for the specified currency pair without blocking.
+     *
+     * @param quoteCurrency the base currency code (e.g., KRW)
+     * @param targetCurrency the target cryptocurrency code (e.g., BTC)
+     * @return a mono emitting the ticker data, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException} error
+     */
+    @GetExchange("/ticker_new/{quoteCurrency}/{targetCurrency}")
+    Mono<CoinoneTickerApiResponse> getTicker(@PathVariable String quoteCurrency, @PathVariable String targetCurrency);
+
+    /**
+     * Retrieves real-time ticker information for every market of the specified quote currency without blocking.
+     *
+     * @param quoteCurrency the base currency code (e.g., KRW)
+     * @return a mono emitting the ticker data of all markets, or a
+     *         {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException} error
+     */
+    @GetExchange("/ticker_new/{quoteCurrency}")
+    Mono<CoinoneTickerApiResponse> getTickers(@PathVariable String quoteCurrency);
+
+}
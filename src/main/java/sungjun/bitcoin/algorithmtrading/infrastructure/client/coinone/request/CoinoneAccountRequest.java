@@ -28,12 +28,11 @@ public class CoinoneAccountRequest extends CoinonePrivateBaseRequest {
      * Constructs a request object for querying account balances from the Coinone API.
      *
      * @param accessToken the API access token for authentication
-     * @param nonce a unique identifier for the request
      * @param currencies a list of currency codes to filter the balances; if null, all currencies are queried
      */
     @Builder
-    private CoinoneAccountRequest(String accessToken, String nonce, List<String> currencies) {
-        super(accessToken, nonce);
+    private CoinoneAccountRequest(String accessToken, List<String> currencies) {
+        super(accessToken);
         this.currencies = currencies;
     }
 }
@@ -6,23 +6,29 @@ import lombok.Getter;
 @Getter
 public class CoinoneOrderCancelRequest extends CoinonePrivateBaseRequest {
 
+    /**
+     * 취소할 주문 ID (거래 쌍의 전체 주문 취소 시 null)
+     */
+    private String orderId;
+
     private String quoteCurrency;
 
     private String targetCurrency;
 
     /**
-     * Constructs a CoinoneOrderCancelRequest with the specified access token, nonce, quote currency, and target currency.
+     * Constructs a CoinoneOrderCancelRequest with the specified access token, order id, quote currency, and target currency.
      *
      * Instances should be created using the builder pattern.
      *
      * @param accessToken the API access token
-     * @param nonce a unique value for request identification
+     * @param orderId the order to cancel, or {@code null} when cancelling every order of the currency pair
      * @param quoteCurrency the currency to be quoted in the order cancellation
      * @param targetCurrency the currency to be targeted in the order cancellation
      */
     @Builder
-    private CoinoneOrderCancelRequest(String accessToken, String nonce, String quoteCurrency, String targetCurrency) {
-        super(accessToken, nonce);
+    private CoinoneOrderCancelRequest(String accessToken, String orderId, String quoteCurrency, String targetCurrency) {
+        super(accessToken);
+        this.orderId = orderId;
         this.quoteCurrency = quoteCurrency;
         this.targetCurrency = targetCurrency;
     }
@@ -0,0 +1,52 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Coinone 주문 조회 API 요청 데이터 클래스입니다.
+ * <p>
+ * 거래 쌍의 미체결 주문 목록 조회와 주문 한 건의 상세 조회에 함께 사용합니다.
+ * 미체결 주문 목록을 조회할 때는 주문 ID를 지정하지 않으며, null 값은 직렬화에서 제외됩니다.
+ * 주문 ID 대신 주문할 때 붙인 사용자 지정 주문 ID로 상세 조회할 수도 있습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+public class CoinoneOrderInfoRequest extends CoinonePrivateBaseRequest {
+
+    /**
+     * 조회할 주문 ID (미체결 주문 목록 조회 시 null)
+     */
+    private String orderId;
+
+    /**
+     * 조회할 주문의 사용자 지정 주문 ID (주문 ID로 조회할 때 null)
+     */
+    private String userOrderId;
+
+    private String quoteCurrency;
+
+    private String targetCurrency;
+
+    /**
+     * Constructs an order query request.
+     *
+     * @param accessToken the API access token
+     * @param orderId the order to look up, or {@code null} when listing active orders
+     * @param userOrderId the user order id of the order to look up, or {@code null} when looking up by order id
+     * @param quoteCurrency the quote currency of the order
+     * @param targetCurrency the target currency of the order
+     */
+    @Builder
+    private CoinoneOrderInfoRequest(String accessToken, String orderId, String userOrderId,
+                                    String quoteCurrency, String targetCurrency) {
+        super(accessToken);
+        this.orderId = orderId;
+        this.userOrderId = userOrderId;
+        this.quoteCurrency = quoteCurrency;
+        this.targetCurrency = targetCurrency;
+    }
+}
@@ -20,9 +20,13 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
     private String limitPrice;
     private String triggerPrice;
 
+    /**
+     * 사용자 지정 주문 ID (영문, 숫자, -, _ 최대 100자). 같은 ID의 주문은 거래소가 한 번만 접수합니다.
+     */
+    private String userOrderId;
+
     @Builder(access = AccessLevel.PRIVATE)
     private CoinoneOrderRequest(String accessToken,
-                                String nonce,
                                 OrderSide side,
                                 String quoteCurrency,
                                 String targetCurrency,
@@ -32,8 +36,9 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
                                 String amount,
                                 boolean postOnly,
                                 String limitPrice,
-                                String triggerPrice) {
-        super(accessToken, nonce);
+                                String triggerPrice,
+                                String userOrderId) {
+        super(accessToken);
         this.side = side;
         this.quoteCurrency = quoteCurrency;
         this.targetCurrency = targetCurrency;
@@ -44,11 +49,11 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
         this.postOnly = postOnly;
         this.limitPrice = limitPrice;
         this.triggerPrice = triggerPrice;
+        this.userOrderId = userOrderId;
     }
 
     // 시장가 매도
     public static CoinoneOrderRequest createMarketSellOrder(String accessToken,
-                                                            String nonce,
                                                             OrderSide side,
                                                             String quoteCurrency,
                                                             String targetCurrency,
@@ -56,7 +61,6 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
                                                             String limitPrice) {
         return CoinoneOrderRequest.builder()
             .accessToken(accessToken)
-            .nonce(nonce)
             .side(side)
             .quoteCurrency(quoteCurrency)
             .targetCurrency(targetCurrency)
@@ -68,7 +72,6 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
 
     // 시장가 매수
     public static CoinoneOrderRequest createMarketBuyOrder(String accessToken,
-                                                            String nonce,
                                                             OrderSide side,
                                                             String quoteCurrency,
                                                             String targetCurrency,
@@ -76,7 +79,6 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
                                                             String limitPrice) {
         return CoinoneOrderRequest.builder()
             .accessToken(accessToken)
-            .nonce(nonce)
             .side(side)
             .quoteCurrency(quoteCurrency)
             .targetCurrency(targetCurrency)
@@ -88,16 +90,26 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
 
     // 지정가 매수/매도
     public static CoinoneOrderRequest createLimitOrder(String accessToken,
-                                                       String nonce,
                                                        OrderSide side,
                                                        String quoteCurrency,
                                                        String targetCurrency,
                                                        String price,
                                                        String qty,
                                                        boolean postOnly) {
+        return createLimitOrder(accessToken, side, quoteCurrency, targetCurrency, price, qty, postOnly, null);
+    }
+
+    // 사용자 지정 주문 ID를 붙인 지정가 매수/매도 (재전송해도 한 번만 접수)
+    public static CoinoneOrderRequest createLimitOrder(String accessToken,
+                                                       OrderSide side,
+                                                       String quoteCurrency,
+                                                       String targetCurrency,
+                                                       String price,
+                                                       String qty,
+                                                       boolean postOnly,
+                                                       String userOrderId) {
         return CoinoneOrderRequest.builder()
             .accessToken(accessToken)
-            .nonce(nonce)
             .side(side)
             .quoteCurrency(quoteCurrency)
             .targetCurrency(targetCurrency)
@@ -105,12 +117,12 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
             .price(price)
             .qty(qty)
             .postOnly(postOnly)
+            .userOrderId(userOrderId)
             .build();
     }
 
     // 예약가 매수/매도
     public static CoinoneOrderRequest createStopLimitOrder(String accessToken,
-                                                           String nonce,
                                                            OrderSide side,
                                                            String quoteCurrency,
                                                            String targetCurrency,
@@ -119,7 +131,6 @@ public class CoinoneOrderRequest extends CoinonePrivateBaseRequest {
                                                            String triggerPrice) {
         return CoinoneOrderRequest.builder()
             .accessToken(accessToken)
-            .nonce(nonce)
             .side(side)
             .quoteCurrency(quoteCurrency)
             .targetCurrency(targetCurrency)
@@ -0,0 +1,136 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 하나의 거래 쌍에 대한 Coinone 지정가 주문 본문의 고정 부분을 미리 렌더링해 둔 템플릿입니다.
+ * <p>
+ * {@link CoinoneOrderRequest#createLimitOrder}를 Jackson으로 직렬화하고 인증 인터셉터가 nonce를 채운 JSON과 같은 필드와 형식을 사용하며,
+ * 주문마다 바뀌는 nonce, 주문 방향, 가격, 수량, post-only 여부, 사용자 지정 주문 ID를 제외한 나머지 바이트를 생성 시점에 한 번만 만듭니다.
+ * 주문 방향은 값이 두 가지뿐이므로 방향별 조각을 각각 미리 만들어 둡니다.
+ * 긴급 상황에서 거래 쌍의 전체 주문을 취소하는 요청도 nonce만 다르므로 함께 만들어 둡니다.
+ * </p>
+ * <p>
+ * 템플릿은 불변이므로 스레드 간 공유할 수 있고, 실제 본문은 {@link CoinoneOrderWriter}가 재사용 버퍼에 조립합니다.
+ * </p>
+ *
+ * <h2>렌더링되는 본문</h2>
+ * <pre>
+ * {"access_token":"...","nonce":"...","side":"BUY","quote_currency":"KRW","target_currency":"BTC",
+ *  "type":"LIMIT","price":"52800000","qty":"0.001","post_only":false,"user_order_id":"..."}   (user_order_id는 선택)
+ *
+ * {"access_token":"...","nonce":"...","quote_currency":"KRW","target_currency":"BTC"}   (전체 주문 취소)
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class CoinoneOrderTemplate {
+
+    static final byte[] QTY_FIELD = bytes("\",\"qty\":\"");
+    static final byte[] POST_ONLY_TRUE = bytes("\",\"post_only\":true");
+    static final byte[] POST_ONLY_FALSE = bytes("\",\"post_only\":false");
+    static final byte[] USER_ORDER_ID_FIELD = bytes(",\"user_order_id\":\"");
+    static final byte[] END = bytes("}");
+    static final byte[] QUOTED_END = bytes("\"}");
+
+    private final String quoteCurrency;
+    private final String targetCurrency;
+
+    /**
+     * {@code {"access_token":"...","nonce":"}
+     */
+    final byte[] head;
+
+    /**
+     * {@code ","side":"BUY", ... ,"price":"}
+     */
+    final byte[] buyFields;
+
+    /**
+     * {@code ","side":"SELL", ... ,"price":"}
+     */
+    final byte[] sellFields;
+
+    /**
+     * {@code ","quote_currency":"KRW","target_currency":"BTC"}}
+     */
+    final byte[] cancelAllFields;
+
+    private CoinoneOrderTemplate(String quoteCurrency, String targetCurrency, byte[] head, byte[] buyFields, byte[] sellFields,
+                                 byte[] cancelAllFields) {
+        this.quoteCurrency = quoteCurrency;
+        this.targetCurrency = targetCurrency;
+        this.head = head;
+        this.buyFields = buyFields;
+        this.sellFields = sellFields;
+        this.cancelAllFields = cancelAllFields;
+    }
+
+    /**
+     * Pre-renders the static parts of a limit order body for the given currency pair.
+     *
+     * @param accessToken the Coinone access token
+     * @param quoteCurrency the quote currency (e.g., KRW)
+     * @param targetCurrency the target currency (e.g., BTC)
+     * @return the template
+     * @throws IllegalArgumentException if a value contains characters that would need JSON escaping
+     */
+    public static CoinoneOrderTemplate limitOrder(String accessToken, String quoteCurrency, String targetCurrency) {
+        byte[] head = bytes("{\"access_token\":\"" + plain(accessToken) + "\",\"nonce\":\"");
+        return new CoinoneOrderTemplate(quoteCurrency, targetCurrency, head,
+            sideFields(OrderSide.BUY, quoteCurrency, targetCurrency),
+            sideFields(OrderSide.SELL, quoteCurrency, targetCurrency),
+            bytes("\",\"quote_currency\":\"" + plain(quoteCurrency)
+                + "\",\"target_currency\":\"" + plain(targetCurrency) + "\"}"));
+    }
+
+    public String getQuoteCurrency() {
+        return quoteCurrency;
+    }
+
+    public String getTargetCurrency() {
+        return targetCurrency;
+    }
+
+    byte[] fieldsOf(OrderSide side) {
+        return side == OrderSide.BUY ? buyFields : sellFields;
+    }
+
+    /**
+     * 템플릿과 가변 값을 모두 합친 본문의 최대 길이를 계산합니다.
+     */
+    int maxBodyLength(int nonceLength, int numberLength, int userOrderIdLength) {
+        return head.length + nonceLength + Math.max(buyFields.length, sellFields.length) + numberLength
+            + QTY_FIELD.length + numberLength + POST_ONLY_FALSE.length
+            + USER_ORDER_ID_FIELD.length + userOrderIdLength + QUOTED_END.length;
+    }
+
+    private static byte[] sideFields(OrderSide side, String quoteCurrency, String targetCurrency) {
+        return bytes("\",\"side\":\"" + side.name()
+            + "\",\"quote_currency\":\"" + plain(quoteCurrency)
+            + "\",\"target_currency\":\"" + plain(targetCurrency)
+            + "\",\"type\":\"" + OrderType.LIMIT.name()
+            + "\",\"price\":\"");
+    }
+
+    /**
+     * 템플릿에 그대로 넣을 수 있도록 JSON 이스케이프가 필요 없는 출력 가능한 ASCII 문자열인지 확인합니다.
+     */
+    static String plain(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c >= 0x7F || c == '"' || c == '\\') {
+                throw new IllegalArgumentException("Value must be printable ASCII without quotes: " + value);
+            }
+        }
+        return value;
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
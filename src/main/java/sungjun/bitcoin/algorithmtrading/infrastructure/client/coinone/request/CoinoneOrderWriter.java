@@ -0,0 +1,218 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link CoinoneOrderTemplate}에 주문 값을 채워 넣고 Coinone 인증 헤더 값까지 만드는 재사용 버퍼입니다.
+ * <p>
+ * 주문 본문, Base64 payload, 16진수 서명을 각각 재사용 바이트 배열에 기록하므로 주문당 할당은 헤더 값 문자열 두 개뿐입니다.
+ * 가격과 수량은 {@link FixedPoint} 고정소수점 값을 그대로 받아 중간 문자열 없이 기록합니다.
+ * 서명 대상은 전송되는 본문을 인코딩한 바로 그 payload이므로 {@code CoinoneAuthenticationInterceptor}와 같은 헤더를 만듭니다.
+ * </p>
+ * <p>
+ * 인스턴스는 스레드 간 공유하지 않고 {@link #render} 호출마다 덮어써서 재사용합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class CoinoneOrderWriter {
+
+    private static final byte[] BASE64_DIGITS =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] body = new byte[512];
+    private int bodyLength;
+    private byte[] payload = new byte[688];
+    private int payloadLength;
+    private byte[] signature = new byte[128];
+    private int signatureLength;
+
+    /**
+     * Renders a limit order body from the template, replacing any previously rendered order.
+     *
+     * @param template the pre-rendered template of the currency pair
+     * @param nonce the request nonce (ASCII)
+     * @param side the order side
+     * @param price the limit price as a fixed-point value
+     * @param qty the order quantity as a fixed-point value
+     * @param scale the scale of {@code price} and {@code qty}
+     * @param postOnly whether the order must only add liquidity
+     * @return this writer
+     */
+    public CoinoneOrderWriter render(CoinoneOrderTemplate template, String nonce, OrderSide side,
+                                     long price, long qty, int scale, boolean postOnly) {
+        return render(template, nonce, null, side, price, qty, scale, postOnly);
+    }
+
+    /**
+     * Renders a limit order body carrying a user order id, replacing any previously rendered order.
+     * Coinone accepts at most one order per user order id, so a request rendered with the same id can be resent safely.
+     *
+     * @param template the pre-rendered template of the currency pair
+     * @param nonce the request nonce (ASCII)
+     * @param userOrderId the user order id (printable ASCII without quotes), or {@code null} to omit it
+     * @param side the order side
+     * @param price the limit price as a fixed-point value
+     * @param qty the order quantity as a fixed-point value
+     * @param scale the scale of {@code price} and {@code qty}
+     * @param postOnly whether the order must only add liquidity
+     * @return this writer
+     * @throws IllegalArgumentException if the user order id contains characters that would need JSON escaping
+     */
+    public CoinoneOrderWriter render(CoinoneOrderTemplate template, String nonce, String userOrderId, OrderSide side,
+                                     long price, long qty, int scale, boolean postOnly) {
+        int userOrderIdLength = userOrderId == null ? 0 : CoinoneOrderTemplate.plain(userOrderId).length();
+        int required = template.maxBodyLength(nonce.length(), FixedPoint.MAX_ASCII_LENGTH, userOrderIdLength);
+        if (body.length < required) {
+            body = new byte[Math.max(required, body.length * 2)];
+        }
+        bodyLength = 0;
+        write(template.head);
+        for (int i = 0; i < nonce.length(); i++) {
+            body[bodyLength++] = (byte) nonce.charAt(i);
+        }
+        write(template.fieldsOf(side));
+        bodyLength += FixedPoint.writeAscii(price, scale, body, bodyLength);
+        write(CoinoneOrderTemplate.QTY_FIELD);
+        bodyLength += FixedPoint.writeAscii(qty, scale, body, bodyLength);
+        write(postOnly ? CoinoneOrderTemplate.POST_ONLY_TRUE : CoinoneOrderTemplate.POST_ONLY_FALSE);
+        if (userOrderId == null) {
+            write(CoinoneOrderTemplate.END);
+        } else {
+            write(CoinoneOrderTemplate.USER_ORDER_ID_FIELD);
+            for (int i = 0; i < userOrderIdLength; i++) {
+                body[bodyLength++] = (byte) userOrderId.charAt(i);
+            }
+            write(CoinoneOrderTemplate.QUOTED_END);
+        }
+        payloadLength = 0;
+        signatureLength = 0;
+        return this;
+    }
+
+    /**
+     * Renders a request body cancelling every order of the template's currency pair, replacing any previously rendered request.
+     *
+     * @param template the pre-rendered template of the currency pair
+     * @param nonce the request nonce (ASCII)
+     * @return this writer
+     */
+    public CoinoneOrderWriter renderCancelAll(CoinoneOrderTemplate template, String nonce) {
+        int required = template.head.length + nonce.length() + template.cancelAllFields.length;
+        if (body.length < required) {
+            body = new byte[Math.max(required, body.length * 2)];
+        }
+        bodyLength = 0;
+        write(template.head);
+        for (int i = 0; i < nonce.length(); i++) {
+            body[bodyLength++] = (byte) nonce.charAt(i);
+        }
+        write(template.cancelAllFields);
+        payloadLength = 0;
+        signatureLength = 0;
+        return this;
+    }
+
+    /**
+     * Base64-encodes the rendered body into the payload buffer and signs the payload in place.
+     *
+     * @param signer the signer holding the Coinone secret key
+     * @return this writer
+     */
+    public CoinoneOrderWriter sign(HmacSigner signer) {
+        encodePayload();
+        if (signature.length < signer.getHexLength()) {
+            signature = new byte[signer.getHexLength()];
+        }
+        signatureLength = signer.signTo(payload, 0, payloadLength, signature, 0);
+        return this;
+    }
+
+    /**
+     * Returns the value of the {@code X-COINONE-PAYLOAD} header.
+     *
+     * @return the Base64 payload
+     */
+    public String payloadHeader() {
+        return new String(payload, 0, payloadLength, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Returns the value of the {@code X-COINONE-SIGNATURE} header.
+     *
+     * @return the hexadecimal signature
+     */
+    public String signatureHeader() {
+        return new String(signature, 0, signatureLength, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes the rendered body to the given stream in a single call.
+     *
+     * @param outputStream the target stream
+     * @throws IOException if writing fails
+     */
+    public void writeBodyTo(OutputStream outputStream) throws IOException {
+        outputStream.write(body, 0, bodyLength);
+    }
+
+    /**
+     * Returns the number of body bytes rendered.
+     *
+     * @return the body length
+     */
+    public int bodyLength() {
+        return bodyLength;
+    }
+
+    /**
+     * Returns a copy of the rendered body. Intended for tests and logging only.
+     *
+     * @return the body bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(body, bodyLength);
+    }
+
+    private void write(byte[] fragment) {
+        System.arraycopy(fragment, 0, body, bodyLength, fragment.length);
+        bodyLength += fragment.length;
+    }
+
+    /**
+     * 표준 Base64(패딩 포함)로 본문을 인코딩합니다.
+     */
+    private void encodePayload() {
+        int required = (bodyLength + 2) / 3 * 4;
+        if (payload.length < required) {
+            payload = new byte[Math.max(required, payload.length * 2)];
+        }
+        int in = 0;
+        int out = 0;
+        int whole = bodyLength - bodyLength % 3;
+        while (in < whole) {
+            int bits = (body[in++] & 0xFF) << 16 | (body[in++] & 0xFF) << 8 | (body[in++] & 0xFF);
+            payload[out++] = BASE64_DIGITS[(bits >>> 18) & 0x3F];
+            payload[out++] = BASE64_DIGITS[(bits >>> 12) & 0x3F];
+            payload[out++] = BASE64_DIGITS[(bits >>> 6) & 0x3F];
+            payload[out++] = BASE64_DIGITS[bits & 0x3F];
+        }
+        int remaining = bodyLength - whole;
+        if (remaining > 0) {
+            int bits = (body[in] & 0xFF) << 16 | (remaining == 2 ? (body[in + 1] & 0xFF) << 8 : 0);
+            payload[out++] = BASE64_DIGITS[(bits >>> 18) & 0x3F];
+            payload[out++] = BASE64_DIGITS[(bits >>> 12) & 0x3F];
+            payload[out++] = remaining == 2 ? BASE64_DIGITS[(bits >>> 6) & 0x3F] : (byte) '=';
+            payload[out++] = '=';
+        }
+        payloadLength = out;
+    }
+}
@@ -8,8 +8,8 @@ import lombok.Getter;
 /**
  * Coinone 비공개 API 요청의 공통 기본 클래스입니다.
  * <p>
- * 인증이 필요한 모든 Coinone API 요청에 공통으로 포함되는
- * 액세스 토큰과 nonce 값을 정의합니다.
+ * 인증이 필요한 모든 Coinone API 요청에 공통으로 포함되는 액세스 토큰을 정의합니다.
+ * 요청마다 새로 발급해야 하는 nonce는 호출자가 지정하지 않으며, 인증 인터셉터가 서명 직전에 본문에 채워 넣습니다.
  * JSON 직렬화 시 null 값은 제외하고 snake_case 형태로 변환됩니다.
  * </p>
  *
@@ -27,18 +27,11 @@ public abstract class CoinonePrivateBaseRequest {
     protected String accessToken;
 
     /**
-     * 요청 고유 번호 (리플레이 공격 방지용)
-     */
-    protected String nonce;
-
-    /**
-     * Initializes a new authenticated Coinone API request with the specified access token and nonce.
+     * Initializes a new authenticated Coinone API request with the specified access token.
      *
      * @param accessToken the API access token used for authentication
-     * @param nonce a unique identifier for the request to prevent replay attacks
      */
-    protected CoinonePrivateBaseRequest(String accessToken, String nonce) {
+    protected CoinonePrivateBaseRequest(String accessToken) {
         this.accessToken = accessToken;
-        this.nonce = nonce;
     }
 }
@@ -0,0 +1,35 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderInfo;
+
+import java.util.List;
+
+/**
+ * Coinone 미체결 주문 목록 조회 API의 응답 데이터를 나타내는 클래스입니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+public class CoinoneActiveOrdersApiResponse extends CoinoneBaseApiResponse {
+
+    /**
+     * 거래 쌍의 미체결 주문 목록
+     */
+    private List<CoinoneOrderInfo> activeOrders;
+
+    /**
+     * Constructs a CoinoneActiveOrdersApiResponse with the specified API result, error code, and active orders.
+     *
+     * @param result the result status of the API call
+     * @param errorCode the error code returned by the API, if any
+     * @param activeOrders the orders still resting on the order book
+     */
+    @Builder
+    private CoinoneActiveOrdersApiResponse(String result, String errorCode, List<CoinoneOrderInfo> activeOrders) {
+        super(result, errorCode);
+        this.activeOrders = activeOrders;
+    }
+}
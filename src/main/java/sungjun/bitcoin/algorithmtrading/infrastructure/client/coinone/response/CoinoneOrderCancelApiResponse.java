@@ -0,0 +1,55 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Coinone 주문 취소 API의 응답 데이터를 나타내는 클래스입니다.
+ * <p>
+ * 취소 직전까지 체결된 수량을 함께 돌려주므로, 취소와 동시에 주문의 최종 체결 수량을 확정할 수 있습니다.
+ * 수량은 거래소가 보낸 문자열 그대로 보관합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+public class CoinoneOrderCancelApiResponse extends CoinoneBaseApiResponse {
+
+    private String orderId;
+
+    /**
+     * 최초 주문 수량
+     */
+    private String originalQty;
+
+    /**
+     * 취소 전까지 체결된 수량
+     */
+    private String tradedQty;
+
+    /**
+     * 취소된 수량
+     */
+    private String canceledQty;
+
+    /**
+     * Constructs a CoinoneOrderCancelApiResponse with the specified API result, error code, and cancelled order fields.
+     *
+     * @param result the result status of the API call
+     * @param errorCode the error code returned by the API, if any
+     * @param orderId the cancelled order id
+     * @param originalQty the original order quantity
+     * @param tradedQty the quantity executed before cancellation
+     * @param canceledQty the cancelled quantity
+     */
+    @Builder
+    private CoinoneOrderCancelApiResponse(String result, String errorCode, String orderId, String originalQty,
+                                          String tradedQty, String canceledQty) {
+        super(result, errorCode);
+        this.orderId = orderId;
+        this.originalQty = originalQty;
+        this.tradedQty = tradedQty;
+        this.canceledQty = canceledQty;
+    }
+}
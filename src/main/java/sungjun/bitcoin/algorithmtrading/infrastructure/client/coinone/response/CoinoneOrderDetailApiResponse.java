@@ -0,0 +1,36 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response;
+
+import lombok.Builder;
+import lombok.Getter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderInfo;
+
+/**
+ * Coinone 주문 상세 조회 API의 응답 데이터를 나타내는 클래스입니다.
+ * <p>
+ * 체결 완료되거나 취소된 주문도 조회되므로, 미체결 목록에서 사라진 주문의 최종 상태를 확인할 때 사용합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+public class CoinoneOrderDetailApiResponse extends CoinoneBaseApiResponse {
+
+    /**
+     * 조회한 주문 정보
+     */
+    private CoinoneOrderInfo order;
+
+    /**
+     * Constructs a CoinoneOrderDetailApiResponse with the specified API result, error code, and order.
+     *
+     * @param result the result status of the API call
+     * @param errorCode the error code returned by the API, if any
+     * @param order the order information
+     */
+    @Builder
+    private CoinoneOrderDetailApiResponse(String result, String errorCode, CoinoneOrderInfo order) {
+        super(result, errorCode);
+        this.order = order;
+    }
+}
@@ -0,0 +1,155 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.market.OrderBook;
+
+/**
+ * Coinone WebSocket {@code ORDERBOOK} 채널로 유지되는 거래 쌍별 로컬 호가창입니다.
+ * <p>
+ * Coinone은 메시지마다 상위 호가 전체를 보내므로, 새 메시지를 받으면 {@link OrderBook}의 양쪽 호가를 제자리에서 다시 적재합니다.
+ * 레벨 {@code 0}이 최우선 호가이며 가격과 수량은
+ * {@link CoinoneTicker#PRICE_SCALE} 고정소수점 값입니다.
+ * </p>
+ * <p>
+ * 메시지 {@code id}가 이전보다 크지 않은 메시지(중복, 순서 역전)는 적용하지 않습니다.
+ * 연결이 끊기면 {@link #isStale()}이 {@code true}가 되며, 재연결 후 첫 스냅샷이 적용될 때 해제됩니다.
+ * 새 세션의 id는 이전 세션보다 작을 수 있으므로 stale 상태에서 받은 첫 스냅샷은 id와 관계없이 적용합니다.
+ * 연결 종료를 알리는 스레드는 {@code stale}만 기록하고, id 기준은 수신 스레드가 첫 스냅샷을 적용하면서 바꿉니다.
+ * 호가창은 수신 스레드에서만 갱신되므로 {@link CoinoneStreamListener#onOrderBook(CoinoneOrderBook)} 안에서 읽어야 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class CoinoneOrderBook {
+
+    private final CurrencyPair pair;
+    private final OrderBook orderBook;
+    private volatile long timestamp;
+    private volatile long lastId;
+    private long updates;
+    private volatile boolean stale = true;
+
+    CoinoneOrderBook(CurrencyPair pair, int initialDepth) {
+        this.pair = pair;
+        this.orderBook = new OrderBook(initialDepth);
+    }
+
+    public CurrencyPair getPair() {
+        return pair;
+    }
+
+    /**
+     * Returns the underlying order book for depth and VWAP queries.
+     *
+     * @return the order book
+     */
+    public OrderBook getOrderBook() {
+        return orderBook;
+    }
+
+    public int getBidLevels() {
+        return orderBook.getBids().size();
+    }
+
+    public int getAskLevels() {
+        return orderBook.getAsks().size();
+    }
+
+    public long getBidPrice(int level) {
+        return orderBook.getBids().price(level);
+    }
+
+    public long getBidQuantity(int level) {
+        return orderBook.getBids().quantity(level);
+    }
+
+    public long getAskPrice(int level) {
+        return orderBook.getAsks().price(level);
+    }
+
+    public long getAskQuantity(int level) {
+        return orderBook.getAsks().quantity(level);
+    }
+
+    /**
+     * Returns the best bid price, or {@code 0} if there are no bids.
+     *
+     * @return the best bid price
+     */
+    public long getBestBidPrice() {
+        return orderBook.getBestBidPrice();
+    }
+
+    /**
+     * Returns the best ask price, or {@code 0} if there are no asks.
+     *
+     * @return the best ask price
+     */
+    public long getBestAskPrice() {
+        return orderBook.getBestAskPrice();
+    }
+
+    /**
+     * Returns the exchange timestamp of the last applied snapshot in epoch milliseconds.
+     *
+     * @return the exchange timestamp
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Returns the message id of the last applied snapshot.
+     *
+     * @return the last message id
+     */
+    public long getLastId() {
+        return lastId;
+    }
+
+    /**
+     * Returns the number of snapshots applied so far.
+     *
+     * @return the update count
+     */
+    public long getUpdates() {
+        return updates;
+    }
+
+    /**
+     * Returns whether the book may be out of date because the connection was lost since the last snapshot.
+     *
+     * @return {@code true} if the book is stale
+     */
+    public boolean isStale() {
+        return stale;
+    }
+
+    /**
+     * 새 스냅샷을 적용합니다. stale 상태가 아닌데 이전 메시지보다 id가 크지 않으면 적용하지 않고 {@code false}를 반환합니다.
+     */
+    boolean apply(long id, long timestamp,
+                  long[] bidPrices, long[] bidQuantities, int bidLevels,
+                  long[] askPrices, long[] askQuantities, int askLevels) {
+        if (!stale && id <= lastId) {
+            return false;
+        }
+        orderBook.getBids().load(bidPrices, bidQuantities, bidLevels);
+        orderBook.getAsks().load(askPrices, askQuantities, askLevels);
+        this.timestamp = timestamp;
+        this.lastId = id;
+        this.updates++;
+        this.stale = false;
+        return true;
+    }
+
+    /**
+     * 연결이 끊겼음을 표시합니다. 수신 스레드가 아닌 곳에서 호출되므로 {@code stale}만 기록하며,
+     * id 기준은 재연결 후 첫 스냅샷을 적용할 때 수신 스레드가 새로 정합니다.
+     */
+    void markStale() {
+        stale = true;
+    }
+}
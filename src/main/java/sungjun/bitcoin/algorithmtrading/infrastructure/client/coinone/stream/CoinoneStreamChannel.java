@@ -0,0 +1,25 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+/**
+ * Coinone 공개 WebSocket 채널을 나타내는 열거형입니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public enum CoinoneStreamChannel {
+
+    /**
+     * 24시간 시세와 최우선 호가
+     */
+    TICKER,
+
+    /**
+     * 상위 호가 (매 메시지가 전체 상위 호가 스냅샷)
+     */
+    ORDERBOOK,
+
+    /**
+     * 체결 내역
+     */
+    TRADE
+}
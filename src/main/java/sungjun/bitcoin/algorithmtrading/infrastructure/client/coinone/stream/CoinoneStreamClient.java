@@ -0,0 +1,187 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.ReconnectingWebSocket;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneStreamProperties;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coinone 공개 WebSocket 시세 스트림 클라이언트입니다.
+ * <p>
+ * REST 폴링 대신 {@code TICKER}, {@code ORDERBOOK}, {@code TRADE} 채널을 구독하여 거래 쌍별 로컬 호가창을 유지하고,
+ * 수신한 시세를 등록된 {@link CoinoneStreamListener}에 수신 스레드에서 바로 전달합니다.
+ * 연결과 재연결은 {@link ReconnectingWebSocket}이 담당하고, 이 클래스는 구독 요청과 메시지 처리만 맡습니다.
+ * </p>
+ *
+ * <h2>연결 관리</h2>
+ * <ul>
+ *   <li>연결이 끊기거나 오류가 발생하면 지수 백오프로 재연결하고, 모든 구독을 다시 요청합니다.</li>
+ *   <li>주기적으로 {@code PING}을 보내며, {@code idleTimeout} 동안 아무 메시지도 받지 못하면
+ *       연결이 끊긴 것으로 보고 재연결합니다.</li>
+ *   <li>연결이 끊기면 모든 호가창을 stale로 표시하고, 재연결 후 첫 스냅샷으로 복구합니다.</li>
+ * </ul>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * client.addListener(new CoinoneStreamListener() {
+ *     public void onOrderBook(CoinoneOrderBook book) {
+ *         strategy.onQuote(book.getPair(), book.getBestBidPrice(), book.getBestAskPrice());
+ *     }
+ * });
+ * client.subscribe(CoinoneStreamChannel.ORDERBOOK, CurrencyPair.of("KRW", "BTC"));
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class CoinoneStreamClient implements SmartLifecycle, MeterBinder {
+
+    private static final String PING = "{\"request_type\":\"PING\"}";
+
+    private final URI uri;
+    private final boolean autoStartup;
+    private final CoinoneStreamMessageHandler handler;
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ReconnectingWebSocket socket;
+
+    public CoinoneStreamClient(CoinoneStreamProperties properties, JsonFactory jsonFactory) {
+        this.uri = URI.create(properties.getUrl());
+        this.autoStartup = properties.isEnabled();
+        this.handler = new CoinoneStreamMessageHandler(jsonFactory);
+        for (String pair : properties.getPairs()) {
+            for (CoinoneStreamChannel channel : properties.getChannels()) {
+                subscriptions.add(new Subscription(channel, CurrencyPair.parse(pair)));
+            }
+        }
+        this.socket = new ReconnectingWebSocket("coinone", new StreamHandler(), properties.getConnectTimeout(),
+            properties.getIdleTimeout(), properties.getPingInterval(), PING,
+            properties.getReconnectInitialDelay(), properties.getReconnectMaxDelay());
+    }
+
+    /**
+     * Registers an in-process consumer of stream updates.
+     *
+     * @param listener the listener
+     */
+    public void addListener(CoinoneStreamListener listener) {
+        handler.addListener(listener);
+    }
+
+    /**
+     * Subscribes to a channel for a currency pair. The subscription is sent immediately when connected
+     * and again after every reconnect.
+     *
+     * @param channel the channel
+     * @param pair the currency pair
+     */
+    public void subscribe(CoinoneStreamChannel channel, CurrencyPair pair) {
+        Subscription subscription = new Subscription(channel, pair);
+        if (subscriptions.add(subscription)) {
+            socket.send(subscription.toMessage());
+        }
+    }
+
+    /**
+     * Returns the local order book of a currency pair, or {@code null} if no snapshot has been received yet.
+     *
+     * @param pair the currency pair
+     * @return the order book
+     */
+    public CoinoneOrderBook getOrderBook(CurrencyPair pair) {
+        return handler.getOrderBook(pair);
+    }
+
+    /**
+     * Returns whether a WebSocket connection is currently open.
+     *
+     * @return {@code true} if connected
+     */
+    public boolean isConnected() {
+        return socket.isConnected();
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public void start() {
+        socket.start();
+    }
+
+    @Override
+    public void stop() {
+        socket.stop();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return socket.isRunning();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("coinone.stream.messages", handler, CoinoneStreamMessageHandler::getMessageCount)
+            .description("Messages received from the Coinone stream")
+            .register(registry);
+        FunctionCounter.builder("coinone.stream.out.of.order", handler, CoinoneStreamMessageHandler::getOutOfOrderCount)
+            .description("Order book snapshots dropped because their id was not newer than the applied one")
+            .register(registry);
+        FunctionCounter.builder("coinone.stream.errors", handler, CoinoneStreamMessageHandler::getErrorCount)
+            .description("Coinone stream messages that could not be handled")
+            .register(registry);
+        FunctionCounter.builder("coinone.stream.reconnects", socket, ReconnectingWebSocket::getReconnectCount)
+            .description("Coinone stream reconnect attempts")
+            .register(registry);
+        Gauge.builder("coinone.stream.connected", this, client -> client.isConnected() ? 1 : 0)
+            .description("Whether the Coinone stream is connected")
+            .register(registry);
+    }
+
+    /**
+     * 연결될 때마다 모든 구독을 다시 요청하고, 수신한 메시지를 호가창과 리스너에 반영합니다.
+     */
+    private final class StreamHandler implements ReconnectingWebSocket.Handler {
+
+        @Override
+        public URI uri() {
+            return uri;
+        }
+
+        @Override
+        public void connected(ReconnectingWebSocket socket) {
+            for (Subscription subscription : subscriptions) {
+                socket.send(subscription.toMessage());
+            }
+        }
+
+        @Override
+        public void handle(char[] chars, int length) {
+            handler.handle(chars, length);
+        }
+
+        @Override
+        public void disconnected() {
+            handler.disconnected();
+        }
+    }
+
+    private record Subscription(CoinoneStreamChannel channel, CurrencyPair pair) {
+
+        private String toMessage() {
+            return "{\"request_type\":\"SUBSCRIBE\",\"channel\":\"" + channel.name()
+                + "\",\"topic\":{\"quote_currency\":\"" + pair.quoteCurrency()
+                + "\",\"target_currency\":\"" + pair.targetCurrency() + "\"}}";
+        }
+    }
+}
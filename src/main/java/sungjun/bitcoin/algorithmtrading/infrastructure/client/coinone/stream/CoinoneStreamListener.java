@@ -0,0 +1,45 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+/**
+ * {@link CoinoneStreamClient}가 수신한 시세를 전달받는 프로세스 내부 소비자입니다.
+ * <p>
+ * 모든 콜백은 WebSocket 수신 스레드에서 순서대로 호출되므로, 오래 걸리는 작업은 다른 스레드로 넘겨야 합니다.
+ * 콜백에서 발생한 예외는 기록만 하고 다른 소비자와 수신 처리에는 영향을 주지 않습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public interface CoinoneStreamListener {
+
+    /**
+     * Called after an order book has been updated. The book may only be read inside this callback;
+     * copy the values needed elsewhere.
+     *
+     * @param orderBook the updated order book
+     */
+    default void onOrderBook(CoinoneOrderBook orderBook) {
+    }
+
+    /**
+     * Called for each ticker message.
+     *
+     * @param ticker the ticker
+     */
+    default void onTicker(CoinoneStreamTicker ticker) {
+    }
+
+    /**
+     * Called for each trade message.
+     *
+     * @param trade the trade
+     */
+    default void onTrade(CoinoneStreamTrade trade) {
+    }
+
+    /**
+     * Called when the connection is lost. Every order book is stale until its next snapshot arrives.
+     */
+    default void onDisconnected() {
+    }
+}
@@ -0,0 +1,328 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coinone WebSocket 텍스트 메시지를 해석하여 로컬 호가창을 갱신하고 소비자에게 전달합니다.
+ * <p>
+ * 메시지는 Jackson 스트리밍 파서로 읽으며, Coinone 응답 형식대로 {@code response_type}, {@code channel}이
+ * {@code data}보다 먼저 온다고 가정합니다. 호가는 재사용 임시 배열에 읽은 뒤 id 검증을 통과한 경우에만
+ * {@link CoinoneOrderBook}에 복사하므로, 순서가 뒤바뀐 메시지가 호가창을 오염시키지 않습니다.
+ * </p>
+ * <p>
+ * 하나의 수신 스레드에서만 {@link #handle(char[], int)}를 호출해야 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+class CoinoneStreamMessageHandler {
+
+    private static final int INITIAL_DEPTH = 16;
+
+    private final JsonFactory jsonFactory;
+    private final List<CoinoneStreamListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<CurrencyPair, CoinoneOrderBook> orderBooks = new ConcurrentHashMap<>();
+
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder outOfOrder = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    // 수신 스레드 전용 임시 호가 배열
+    private long[] bidPrices = new long[INITIAL_DEPTH];
+    private long[] bidQuantities = new long[INITIAL_DEPTH];
+    private long[] askPrices = new long[INITIAL_DEPTH];
+    private long[] askQuantities = new long[INITIAL_DEPTH];
+    private int levels;
+
+    CoinoneStreamMessageHandler(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    void addListener(CoinoneStreamListener listener) {
+        listeners.add(listener);
+    }
+
+    CoinoneOrderBook getOrderBook(CurrencyPair pair) {
+        return orderBooks.get(pair);
+    }
+
+    long getMessageCount() {
+        return messages.sum();
+    }
+
+    long getOutOfOrderCount() {
+        return outOfOrder.sum();
+    }
+
+    long getErrorCount() {
+        return errors.sum();
+    }
+
+    /**
+     * Parses one complete text message and dispatches it.
+     *
+     * @param chars the buffer holding the message
+     * @param length the message length
+     */
+    void handle(char[] chars, int length) {
+        messages.increment();
+        try (JsonParser parser = jsonFactory.createParser(chars, 0, length)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected message object");
+            }
+            String responseType = null;
+            String channel = null;
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "response_type" -> responseType = parser.getText();
+                    case "channel" -> channel = parser.getText();
+                    case "data" -> {
+                        if ("DATA".equals(responseType) && token == JsonToken.START_OBJECT) {
+                            handleData(parser, channel);
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> {
+                        if (token.isStructStart()) {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+            if ("ERROR".equals(responseType)) {
+                errors.increment();
+                log.warn("[coinone] Stream error response: {}", new String(chars, 0, length));
+            }
+        } catch (IOException | RuntimeException e) {
+            errors.increment();
+            log.warn("[coinone] Failed to handle stream message: {}", new String(chars, 0, length), e);
+        }
+    }
+
+    /**
+     * Marks every order book stale and notifies listeners that the connection was lost.
+     */
+    void disconnected() {
+        orderBooks.values().forEach(CoinoneOrderBook::markStale);
+        for (CoinoneStreamListener listener : listeners) {
+            try {
+                listener.onDisconnected();
+            } catch (RuntimeException e) {
+                log.warn("[coinone] Stream listener failed", e);
+            }
+        }
+    }
+
+    private void handleData(JsonParser parser, String channel) throws IOException {
+        if (channel == null) {
+            parser.skipChildren();
+            return;
+        }
+        switch (channel) {
+            case "ORDERBOOK" -> handleOrderBook(parser);
+            case "TICKER" -> handleTicker(parser);
+            case "TRADE" -> handleTrade(parser);
+            default -> parser.skipChildren();
+        }
+    }
+
+    private void handleOrderBook(JsonParser parser) throws IOException {
+        String quoteCurrency = null;
+        String targetCurrency = null;
+        long timestamp = 0L;
+        long id = 0L;
+        int bidLevels = 0;
+        int askLevels = 0;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "quote_currency" -> quoteCurrency = parser.getText();
+                case "target_currency" -> targetCurrency = parser.getText();
+                case "timestamp" -> timestamp = parser.getValueAsLong();
+                case "id" -> id = readLong(parser);
+                case "bids" -> {
+                    readLevels(parser, true);
+                    bidLevels = levels;
+                }
+                case "asks" -> {
+                    readLevels(parser, false);
+                    askLevels = levels;
+                }
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (quoteCurrency == null || targetCurrency == null) {
+            throw new JsonParseException(parser, "Order book message without currency pair");
+        }
+
+        CurrencyPair pair = CurrencyPair.of(quoteCurrency, targetCurrency);
+        CoinoneOrderBook orderBook = orderBooks.computeIfAbsent(pair, key -> new CoinoneOrderBook(key, INITIAL_DEPTH));
+        if (!orderBook.apply(id, timestamp, bidPrices, bidQuantities, bidLevels, askPrices, askQuantities, askLevels)) {
+            outOfOrder.increment();
+            return;
+        }
+        for (CoinoneStreamListener listener : listeners) {
+            try {
+                listener.onOrderBook(orderBook);
+            } catch (RuntimeException e) {
+                log.warn("[coinone] Stream listener failed", e);
+            }
+        }
+    }
+
+    private void handleTicker(JsonParser parser) throws IOException {
+        String quoteCurrency = null;
+        String targetCurrency = null;
+        long timestamp = 0L;
+        long last = 0L;
+        long bidPrice = 0L;
+        long bidQuantity = 0L;
+        long askPrice = 0L;
+        long askQuantity = 0L;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "quote_currency" -> quoteCurrency = parser.getText();
+                case "target_currency" -> targetCurrency = parser.getText();
+                case "timestamp" -> timestamp = parser.getValueAsLong();
+                case "last" -> last = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                case "bid_best_price" -> bidPrice = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                case "bid_best_qty" -> bidQuantity = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                case "ask_best_price" -> askPrice = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                case "ask_best_qty" -> askQuantity = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (quoteCurrency == null || targetCurrency == null) {
+            throw new JsonParseException(parser, "Ticker message without currency pair");
+        }
+
+        CoinoneStreamTicker ticker = new CoinoneStreamTicker(CurrencyPair.of(quoteCurrency, targetCurrency),
+            timestamp, last, bidPrice, bidQuantity, askPrice, askQuantity);
+        for (CoinoneStreamListener listener : listeners) {
+            try {
+                listener.onTicker(ticker);
+            } catch (RuntimeException e) {
+                log.warn("[coinone] Stream listener failed", e);
+            }
+        }
+    }
+
+    private void handleTrade(JsonParser parser) throws IOException {
+        String quoteCurrency = null;
+        String targetCurrency = null;
+        String id = null;
+        long timestamp = 0L;
+        long price = 0L;
+        long quantity = 0L;
+        boolean sellerMaker = false;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "quote_currency" -> quoteCurrency = parser.getText();
+                case "target_currency" -> targetCurrency = parser.getText();
+                case "id" -> id = parser.getValueAsString();
+                case "timestamp" -> timestamp = parser.getValueAsLong();
+                case "price" -> price = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                case "qty" -> quantity = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                case "is_seller_maker" -> sellerMaker = parser.getValueAsBoolean();
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (quoteCurrency == null || targetCurrency == null) {
+            throw new JsonParseException(parser, "Trade message without currency pair");
+        }
+
+        CoinoneStreamTrade trade = new CoinoneStreamTrade(CurrencyPair.of(quoteCurrency, targetCurrency),
+            id, timestamp, price, quantity, sellerMaker);
+        for (CoinoneStreamListener listener : listeners) {
+            try {
+                listener.onTrade(trade);
+            } catch (RuntimeException e) {
+                log.warn("[coinone] Stream listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * 호가 배열을 임시 배열에 읽고 읽은 호가 수를 {@link #levels}에 기록합니다.
+     */
+    private void readLevels(JsonParser parser, boolean bids) throws IOException {
+        levels = 0;
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return;
+        }
+        int count = 0;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ensureDepth(count + 1);
+            long[] prices = bids ? bidPrices : askPrices;
+            long[] quantities = bids ? bidQuantities : askQuantities;
+            prices[count] = 0L;
+            quantities[count] = 0L;
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                if ("price".equals(field)) {
+                    prices[count] = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                } else if ("qty".equals(field)) {
+                    quantities[count] = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                } else if (token.isStructStart()) {
+                    parser.skipChildren();
+                }
+            }
+            count++;
+        }
+        levels = count;
+    }
+
+    private void ensureDepth(int depth) {
+        if (bidPrices.length < depth) {
+            int capacity = Math.max(depth, bidPrices.length * 2);
+            bidPrices = Arrays.copyOf(bidPrices, capacity);
+            bidQuantities = Arrays.copyOf(bidQuantities, capacity);
+            askPrices = Arrays.copyOf(askPrices, capacity);
+            askQuantities = Arrays.copyOf(askQuantities, capacity);
+        }
+    }
+
+    private static long readLong(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+            return parser.getLongValue();
+        }
+        try {
+            return FixedPoint.parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), 0);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new JsonParseException(parser, "Invalid message id: " + parser.getText(), e);
+        }
+    }
+}
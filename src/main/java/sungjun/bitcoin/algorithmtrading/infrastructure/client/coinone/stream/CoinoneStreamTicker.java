@@ -0,0 +1,31 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+
+/**
+ * Coinone WebSocket {@code TICKER} 채널 메시지입니다.
+ * <p>
+ * 가격과 수량은 {@link CoinoneTicker#PRICE_SCALE} 고정소수점 값입니다.
+ * </p>
+ *
+ * @param pair            the currency pair
+ * @param timestamp       the exchange timestamp in epoch milliseconds
+ * @param last            the last traded price
+ * @param bestBidPrice    the best bid price
+ * @param bestBidQuantity the best bid quantity
+ * @param bestAskPrice    the best ask price
+ * @param bestAskQuantity the best ask quantity
+ * @author sungjun
+ * @since 1.0
+ */
+public record CoinoneStreamTicker(
+    CurrencyPair pair,
+    long timestamp,
+    long last,
+    long bestBidPrice,
+    long bestBidQuantity,
+    long bestAskPrice,
+    long bestAskQuantity
+) {
+}
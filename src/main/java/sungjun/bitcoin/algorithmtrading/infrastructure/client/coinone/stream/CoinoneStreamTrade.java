@@ -0,0 +1,29 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+
+/**
+ * Coinone WebSocket {@code TRADE} 채널 메시지입니다.
+ * <p>
+ * 가격과 수량은 {@link CoinoneTicker#PRICE_SCALE} 고정소수점 값입니다.
+ * </p>
+ *
+ * @param pair          the currency pair
+ * @param id            the trade id
+ * @param timestamp     the exchange timestamp in epoch milliseconds
+ * @param price         the traded price
+ * @param quantity      the traded quantity
+ * @param sellerMaker   whether the seller was the maker
+ * @author sungjun
+ * @since 1.0
+ */
+public record CoinoneStreamTrade(
+    CurrencyPair pair,
+    String id,
+    long timestamp,
+    long price,
+    long quantity,
+    boolean sellerMaker
+) {
+}
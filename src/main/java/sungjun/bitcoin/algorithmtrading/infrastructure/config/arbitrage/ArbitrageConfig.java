@@ -0,0 +1,48 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.arbitrage;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.BinanceAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream.BinanceStreamChannel;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream.BinanceStreamClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamChannel;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamClient;
+import sungjun.bitcoin.algorithmtrading.service.arbitrage.ArbitrageEngine;
+
+/**
+ * 거래소 간 차익거래 탐지 설정 클래스입니다.
+ * <p>
+ * {@link ArbitrageEngine}을 두 거래소 스트림 클라이언트의 소비자로 등록하고, Binance 수수료율은 시작 시 계정 API에서 불러옵니다.
+ * {@code arbitrage.enabled}가 {@code true}이면 엔진이 필요로 하는 호가창 채널도 함께 구독하므로,
+ * 스트림 설정({@code coinone.stream}, {@code binance.stream})도 활성화해야 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ArbitrageProperties.class)
+public class ArbitrageConfig {
+
+    @Bean
+    public ArbitrageEngine arbitrageEngine(ArbitrageProperties properties,
+                                           CoinoneStreamClient coinoneStreamClient,
+                                           BinanceStreamClient binanceStreamClient,
+                                           BinanceAccountApiClient binanceAccountApiClient) {
+        ArbitrageEngine engine = new ArbitrageEngine(properties,
+            () -> binanceAccountApiClient.getAccount().getCommissionRates());
+        coinoneStreamClient.addListener(engine.coinoneListener());
+        binanceStreamClient.addListener(engine.binanceListener());
+        if (properties.isEnabled()) {
+            for (CurrencyPair pair : engine.getCoinonePairs()) {
+                coinoneStreamClient.subscribe(CoinoneStreamChannel.ORDERBOOK, pair);
+            }
+            for (String symbol : engine.getBinanceSymbols()) {
+                binanceStreamClient.subscribe(BinanceStreamChannel.DEPTH, symbol);
+            }
+        }
+        return engine;
+    }
+}
@@ -0,0 +1,125 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.arbitrage;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 거래소 간 차익거래 탐지 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code arbitrage} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * 자산마다 Coinone {@code KRW/자산} 호가창과 Binance {@code 자산USDT} 호가창을 비교하며,
+ * USDT 가격은 Coinone {@code KRW/USDT} 호가로 원화 환산합니다. 수수료율과 차익 비율은 소수(0.001 = 0.1%)로 지정합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * arbitrage:
+ *   enabled: true
+ *   assets: BTC, ETH
+ *   min-net-spread: 0.003
+ *   coinone-taker-fee: 0.002
+ *   binance-taker-fee: 0.001
+ *   max-quote-age: 500ms
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "arbitrage")
+public class ArbitrageProperties {
+
+    /**
+     * 애플리케이션 시작 시 탐지 엔진 실행 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 비교할 자산 목록 (예: {@code BTC})
+     */
+    @NotEmpty(message = "비교할 자산 목록은 필수 값입니다.")
+    private final List<String> assets;
+
+    /**
+     * 수수료 차감 후 최소 차익 비율
+     */
+    @DecimalMin(value = "0.0", message = "최소 차익 비율은 0 이상이어야 합니다.")
+    private final double minNetSpread;
+
+    /**
+     * Coinone 시장가(taker) 수수료율
+     */
+    @DecimalMin(value = "0.0", message = "수수료율은 0 이상이어야 합니다.")
+    @DecimalMax(value = "0.1", message = "수수료율은 0.1 이하여야 합니다.")
+    private final double coinoneTakerFee;
+
+    /**
+     * Binance 계정 수수료율을 조회하기 전이나 조회에 실패했을 때 사용할 시장가(taker) 수수료율
+     */
+    @DecimalMin(value = "0.0", message = "수수료율은 0 이상이어야 합니다.")
+    @DecimalMax(value = "0.1", message = "수수료율은 0.1 이하여야 합니다.")
+    private final double binanceTakerFee;
+
+    /**
+     * 이 시간보다 오래된 호가가 섞이면 평가하지 않음
+     */
+    @NotNull(message = "호가 최대 유효 시간은 필수 값입니다.")
+    private final Duration maxQuoteAge;
+
+    /**
+     * 평가에 사용할 거래소별 호가 레벨 수
+     */
+    @Min(value = 1, message = "호가 레벨 수는 1 이상이어야 합니다.")
+    private final int depthLevels;
+
+    /**
+     * 한 번의 기회로 매수할 최대 금액 (원)
+     */
+    @Min(value = 1, message = "최대 매수 금액은 1 이상이어야 합니다.")
+    private final long maxNotional;
+
+    /**
+     * Constructs the arbitrage settings.
+     *
+     * @param enabled whether the engine starts on startup
+     * @param assets the assets to compare across exchanges
+     * @param minNetSpread the minimum spread after fees, as a fraction
+     * @param coinoneTakerFee the Coinone taker fee rate
+     * @param binanceTakerFee the Binance taker fee rate used until the account rates are loaded
+     * @param maxQuoteAge the maximum age of a quote used in an evaluation
+     * @param depthLevels the number of levels per book used in an evaluation
+     * @param maxNotional the maximum KRW amount bought for one opportunity
+     */
+    @ConstructorBinding
+    public ArbitrageProperties(@DefaultValue("false") boolean enabled,
+                               @DefaultValue("BTC") List<String> assets,
+                               @DefaultValue("0.003") double minNetSpread,
+                               @DefaultValue("0.002") double coinoneTakerFee,
+                               @DefaultValue("0.001") double binanceTakerFee,
+                               @DefaultValue("500ms") Duration maxQuoteAge,
+                               @DefaultValue("20") int depthLevels,
+                               @DefaultValue("10000000") long maxNotional) {
+        this.enabled = enabled;
+        this.assets = assets;
+        this.minNetSpread = minNetSpread;
+        this.coinoneTakerFee = coinoneTakerFee;
+        this.binanceTakerFee = binanceTakerFee;
+        this.maxQuoteAge = maxQuoteAge;
+        this.depthLevels = depthLevels;
+        this.maxNotional = maxNotional;
+    }
+}
@@ -4,8 +4,13 @@ import lombok.Getter;
 import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.HttpClientPoolProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RateLimitProperties;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -23,9 +28,17 @@ import jakarta.validation.constraints.NotNull;
  *     url: https://api.binance.com
  *     access-token: your-api-key
  *     secret-key: your-secret-key
- *     connection-timeout: 10
- *     read-timeout: 30
+ *     connection-timeout: 3000
+ *     read-timeout: 5000
  *     signature-algorithm: HmacSHA256
+ *     recv-window: 5000
+ *     pool:
+ *       max-connections-per-route: 20
+ *       http2: false
+ *     rate-limit:
+ *       capacity: 6000
+ *       period: 1m
+ *       used-weight-header: X-MBX-USED-WEIGHT-1M
  * </pre>
  *
  * @author sungjun
@@ -56,13 +69,13 @@ public class BinanceProperties {
     private String secretKey;
 
     /**
-     * HTTP 연결 타임아웃 (초 단위)
+     * HTTP 연결 타임아웃 (밀리초 단위)
      */
     @NotNull(message = "연결 타임아웃은 필수 값입니다.")
     private Long connectionTimeout;
 
     /**
-     * HTTP 읽기 타임아웃 (초 단위)
+     * HTTP 읽기 타임아웃 (밀리초 단위)
      */
     @NotNull(message = "읽기 타임아웃은 필수 값입니다.")
     private Long readTimeout;
@@ -73,23 +86,48 @@ public class BinanceProperties {
     @NotBlank(message = "서명 알고리즘은 필수 값입니다.")
     private String signatureAlgorithm;
 
+    /**
+     * 서명 요청의 유효 시간 (밀리초 단위, 최대 60000)
+     */
+    @NotNull(message = "recvWindow는 필수 값입니다.")
+    @Max(value = 60000, message = "recvWindow는 60000 이하여야 합니다.")
+    private Long recvWindow;
+
+    /**
+     * HTTP 커넥션 풀 설정 (미설정 시 기본값 사용)
+     */
+    @Valid
+    private HttpClientPoolProperties pool;
+
+    /**
+     * 클라이언트 측 요청 제한 설정 (미설정 시 기본값 사용)
+     */
+    @Valid
+    private RateLimitProperties rateLimit;
+
     /**
      * Constructs a BinanceProperties instance with the specified API configuration values.
      *
      * @param url the base URL for the Binance API
      * @param accessToken the API key used for authentication
      * @param secretKey the secret key used for signature generation
-     * @param connectionTimeout the HTTP connection timeout in seconds
-     * @param readTimeout the HTTP read timeout in seconds
+     * @param connectionTimeout the HTTP connection timeout in milliseconds
+     * @param readTimeout the HTTP read timeout in milliseconds
      * @param signatureAlgorithm the algorithm used for signature generation (e.g., HmacSHA256)
+     * @param recvWindow the validity window of signed requests in milliseconds (maximum 60000)
+     * @param pool the HTTP connection pool settings shared by every client of this exchange
+     * @param rateLimit the client-side rate limit shared by every client of this exchange
      */
     @ConstructorBinding
-    public BinanceProperties(String url, String accessToken, String secretKey, Long connectionTimeout, Long readTimeout, String signatureAlgorithm) {
+    public BinanceProperties(String url, String accessToken, String secretKey, Long connectionTimeout, Long readTimeout, String signatureAlgorithm, @DefaultValue("5000") Long recvWindow, @DefaultValue HttpClientPoolProperties pool, @DefaultValue RateLimitProperties rateLimit) {
         this.url = url;
         this.accessToken = accessToken;
         this.secretKey = secretKey;
         this.connectionTimeout = connectionTimeout;
         this.readTimeout = readTimeout;
         this.signatureAlgorithm = signatureAlgorithm;
+        this.recvWindow = recvWindow;
+        this.pool = pool;
+        this.rateLimit = rateLimit;
     }
 }
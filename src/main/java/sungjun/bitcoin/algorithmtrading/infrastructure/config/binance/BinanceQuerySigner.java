@@ -0,0 +1,61 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request.BinanceFormWriter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+import sungjun.bitcoin.algorithmtrading.util.ThreadStatePool;
+
+import java.net.URI;
+
+/**
+ * Binance SIGNED 요청 URI의 쿼리 스트링에 {@code recvWindow}, {@code timestamp}, {@code signature}를 추가하는 서명기입니다.
+ * <p>
+ * 요청 대상과 쿼리를 {@link ThreadStatePool}에서 빌린 {@link BinanceFormWriter} 버퍼 하나에 기록하고 쿼리 부분만 서명한 뒤,
+ * 완성된 문자열로 URI를 한 번만 생성합니다. 원본 URI의 인코딩된 쿼리와 포트를 그대로 유지합니다.
+ * 잠금이나 I/O 없이 CPU 연산만 수행하므로 블로킹 요청 팩토리({@link BinanceSignedClientHttpRequestFactory})와
+ * 이벤트 루프에서 실행되는 WebClient 필터({@link BinanceSigningFilter})가 함께 사용합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class BinanceQuerySigner {
+
+    private final HmacSigner signer;
+    private final ExchangeClock clock;
+    private final long recvWindow;
+    private final ThreadStatePool<BinanceFormWriter> writers = new ThreadStatePool<>(BinanceFormWriter::new);
+
+    public BinanceQuerySigner(HmacSigner signer, ExchangeClock clock, long recvWindow) {
+        this.signer = signer;
+        this.clock = clock;
+        this.recvWindow = recvWindow;
+    }
+
+    /**
+     * Builds the signed request URI in a single buffer, signing the raw (still percent-encoded) query bytes
+     * exactly as they are sent.
+     *
+     * @param uri the unsigned request URI
+     * @return the signed request URI
+     */
+    public URI sign(URI uri) {
+        BinanceFormWriter writer = writers.acquire();
+        try {
+            writer.reset()
+                .appendRaw(uri.getScheme())
+                .appendRaw("://")
+                .appendRaw(uri.getRawAuthority())
+                .appendRaw(uri.getRawPath())
+                .appendRaw("?")
+                .beginPayload()
+                .appendQuery(uri.getRawQuery())
+                .param("recvWindow", recvWindow)
+                .param("timestamp", clock.currentTimeMillis())
+                .sign(signer);
+            return URI.create(writer.toAsciiString());
+        } finally {
+            writers.release(writer);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.reactive.BinanceReactiveAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.reactive.BinanceReactiveMarketApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.ReactiveExchangeTransport;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.ReactiveResponseErrorFilter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.time.Duration;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Binance API 논블로킹 클라이언트 설정 클래스입니다.
+ * <p>
+ * {@link BinanceRestClientConfig}와 같은 엔드포인트를 WebClient 기반 HTTP Service Proxy로 제공합니다.
+ * SIGNED 엔드포인트는 블로킹 클라이언트와 같은 {@code binanceHmacSigner}, {@code binanceExchangeClock}으로
+ * {@link BinanceSigningFilter}에서 서명하므로, 서버 시각 보정과 서명 결과가 두 클라이언트에서 동일합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+@EnableConfigurationProperties(BinanceProperties.class)
+public class BinanceReactiveClientConfig {
+
+    private final BinanceProperties properties;
+    private final BinanceResponseErrorHandler responseErrorHandler;
+
+    @Bean
+    public ReactiveExchangeTransport binanceReactiveTransport() {
+        return ReactiveExchangeTransport.create(
+            "binance",
+            properties.getPool(),
+            Duration.ofMillis(properties.getConnectionTimeout()),
+            Duration.ofMillis(properties.getReadTimeout())
+        );
+    }
+
+    @Bean
+    public BinanceReactiveAccountApiClient binanceReactiveAccountApiClient(WebClient.Builder builder,
+                                                                           @Qualifier("binanceReactiveTransport") ReactiveExchangeTransport transport,
+                                                                           @Qualifier("binanceHmacSigner") HmacSigner signer,
+                                                                           @Qualifier("binanceExchangeClock") ExchangeClock clock) {
+        BinanceQuerySigner querySigner = new BinanceQuerySigner(signer, clock, properties.getRecvWindow());
+        WebClient webClient = builder
+            .baseUrl(properties.getUrl())
+            .clientConnector(transport.getConnector())
+            .defaultHeaders(this::setDefaultHeaders)
+            .filters(filters -> {
+                filters.add(new ReactiveResponseErrorFilter(responseErrorHandler));
+                filters.add(new BinanceSigningFilter(properties.getAccessToken(), querySigner));
+            })
+            .build();
+
+        return createHttpServiceProxy(webClient, BinanceReactiveAccountApiClient.class);
+    }
+
+    @Bean
+    public BinanceReactiveMarketApiClient binanceReactiveMarketApiClient(WebClient.Builder builder,
+                                                                         @Qualifier("binanceReactiveTransport") ReactiveExchangeTransport transport) {
+        WebClient webClient = builder
+            .baseUrl(properties.getUrl())
+            .clientConnector(transport.getConnector())
+            .defaultHeaders(this::setDefaultHeaders)
+            .filter(new ReactiveResponseErrorFilter(responseErrorHandler))
+            .build();
+
+        return createHttpServiceProxy(webClient, BinanceReactiveMarketApiClient.class);
+    }
+
+    private void setDefaultHeaders(HttpHeaders headers) {
+        headers.add(ACCEPT, APPLICATION_JSON_VALUE);
+    }
+
+    private <T> T createHttpServiceProxy(WebClient webClient, Class<T> clientClass) {
+        return HttpServiceProxyFactory
+            .builderFor(WebClientAdapter.create(webClient))
+            .build()
+            .createClient(clientClass);
+    }
+}
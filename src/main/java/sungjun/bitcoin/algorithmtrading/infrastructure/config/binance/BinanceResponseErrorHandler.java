@@ -10,6 +10,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.ResponseErrorHandler;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.BufferedClientHttpResponse;
 import sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException;
 
 import java.io.IOException;
@@ -25,7 +26,7 @@ import java.net.URI;
  * <h2>에러 감지 방법</h2>
  * <ul>
  *   <li>HTTP 상태 코드가 4xx 또는 5xx인 경우</li>
- *   <li>응답 본문의 JSON에 "code" 필드가 있고, 그 값이 0이 아닌 경우</li>
+ *   <li>응답 본문의 JSON이 "code" 필드로 시작하고, 그 값이 0이 아닌 경우</li>
  * </ul>
  * 
  * <h2>에러 응답 예시</h2>
@@ -77,9 +78,12 @@ public class BinanceResponseErrorHandler implements ResponseErrorHandler {
      * <p>다음 조건 중 하나라도 해당되면 에러로 판단합니다:</p>
      * <ul>
      *   <li>HTTP 상태 코드가 4xx 또는 5xx인 경우</li>
-     *   <li>응답 본문의 JSON에 "code" 필드가 있고, 그 값이 0이 아닌 경우</li>
+     *   <li>응답 본문의 JSON이 "code" 필드로 시작하고, 그 값이 0이 아닌 경우</li>
      * </ul>
      * 
+     * <p>정상 응답 본문은 첫 번째 필드만 확인한 뒤 건너뛰므로, 이후 메시지 컨버터가
+     * 같은 버퍼로 DTO를 바인딩할 때 본문 전체를 두 번 파싱하지 않습니다.</p>
+     * 
      * @param response HTTP 응답
      * @return 에러가 있으면 true, 없으면 false
      * @throws IOException 입출력 오류 발생 시
@@ -91,39 +95,27 @@ public class BinanceResponseErrorHandler implements ResponseErrorHandler {
             return true;
         }
         
-        // 스트리밍 방식으로 응답 본문을 확인하여 에러 코드가 있는지 확인
-        InputStream inputStream = response.getBody();
-        
-        // 입력 스트림이 비어있는 경우
-        if (inputStream.available() <= 0) {
-            return false;
-        }
-        
         try {
-            // Jackson의 스트리밍 파서 사용
-            JsonFactory factory = mapper.getFactory();
-            try (JsonParser parser = factory.createParser(inputStream)) {
+            // 버퍼링된 응답은 본문 바이트 배열을 직접 파싱하고, 그 외에는 스트리밍 파싱
+            try (JsonParser parser = createParser(response)) {
+                // 응답 본문이 비어있는 경우
+                if (parser == null) {
+                    return false;
+                }
+
                 // 루트 객체를 시작하는 토큰 확인
                 if (parser.nextToken() != JsonToken.START_OBJECT) {
                     return false; // JSON 객체가 아닌 경우
                 }
                 
-                // 필드를 하나씩 확인하며 "code" 필드 검색
-                while (parser.nextToken() != JsonToken.END_OBJECT && parser.currentToken() != null) {
-                    String fieldName = parser.currentName();
-                    if ("code".equals(fieldName)) {
-                        // "code" 필드를 찾았으면 값으로 이동
-                        parser.nextToken();
-                        // Binance는 0이 아닌 코드를 오류로 간주
-                        int code = parser.getIntValue();
-                        return code != 0;
-                    }
-                    // 다른 필드의 값은 건너뛰기
-                    if (parser.currentToken() != JsonToken.FIELD_NAME) {
-                        parser.skipChildren();
-                    }
+                // Binance 에러 본문은 항상 "code"로 시작하므로 첫 번째 필드만 확인하고,
+                // 대용량 정상 응답(/api/v3/account 등)은 나머지를 토큰화하지 않고 바로 반환
+                if (parser.nextToken() != JsonToken.FIELD_NAME || !"code".equals(parser.currentName())) {
+                    return false; // "code" 필드로 시작하지 않음
                 }
-                return false; // "code" 필드를 찾지 못함
+                parser.nextToken();
+                // Binance는 0이 아닌 코드를 오류로 간주
+                return parser.getIntValue() != 0;
             }
         } catch (Exception e) {
             log.debug("JSON 파싱 중 오류 발생: {}", e.getMessage());
@@ -169,15 +161,12 @@ public class BinanceResponseErrorHandler implements ResponseErrorHandler {
     @Override
     public void handleError(URI url, HttpMethod method, ClientHttpResponse response) throws IOException {
         int statusCode = response.getStatusCode().value();
-        InputStream inputStream = response.getBody();
         
         try {
-            // Jackson의 스트리밍 파서 사용
-            JsonFactory factory = mapper.getFactory();
             int errorCode = statusCode; // 기본값으로 HTTP 상태 코드 사용
             String errorMessage = "Unknown error";
             
-            try (JsonParser parser = factory.createParser(inputStream)) {
+            try (JsonParser parser = createBodyParser(response)) {
                 // 루트 객체 시작 토큰 확인
                 if (parser.nextToken() != JsonToken.START_OBJECT) {
                     throw new IOException("Invalid JSON format: not an object");
@@ -209,4 +198,29 @@ public class BinanceResponseErrorHandler implements ResponseErrorHandler {
             throw new BinanceApiException(statusCode, "Failed to parse error response: " + e.getMessage());
         }
     }
+
+    /**
+     * 에러 판단을 위한 파서를 생성합니다. 본문이 비어있으면 null을 반환합니다.
+     *
+     * <p>{@link BufferedClientHttpResponse}인 경우 이미 읽어 둔 바이트 배열을 그대로 파싱하므로
+     * 이후 메시지 컨버터가 같은 본문을 다시 읽을 수 있습니다.</p>
+     */
+    private JsonParser createParser(ClientHttpResponse response) throws IOException {
+        if (response instanceof BufferedClientHttpResponse buffered) {
+            return buffered.isEmpty() ? null : mapper.getFactory().createParser(buffered.getBodyBytes());
+        }
+        InputStream inputStream = response.getBody();
+        return inputStream.available() <= 0 ? null : mapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * 에러 응답 본문을 읽기 위한 파서를 생성합니다.
+     */
+    private JsonParser createBodyParser(ClientHttpResponse response) throws IOException {
+        JsonFactory factory = mapper.getFactory();
+        if (response instanceof BufferedClientHttpResponse buffered) {
+            return factory.createParser(buffered.getBodyBytes());
+        }
+        return factory.createParser(response.getBody());
+    }
 }
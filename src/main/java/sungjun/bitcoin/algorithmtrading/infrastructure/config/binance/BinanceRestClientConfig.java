@@ -1,26 +1,35 @@
 package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
 
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
-import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.BinanceAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.BinanceMarketApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.ExchangeHttpTransport;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.SinglePassClientHttpRequestFactory;
 import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.binance.BinanceAuthenticationInterceptor;
 import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common.LoggingInterceptor;
+import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common.RateLimitInterceptor;
+import sungjun.bitcoin.algorithmtrading.infrastructure.metrics.ExchangeClientMetrics;
+import sungjun.bitcoin.algorithmtrading.infrastructure.metrics.ExchangeMetricsInterceptor;
+import sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit.WeightedRateLimiter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeTimeSynchronizer;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.springframework.http.HttpHeaders.ACCEPT;
-import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @Configuration(proxyBeanMethods = false)
@@ -34,34 +43,92 @@ public class BinanceRestClientConfig {
     private final BinanceResponseErrorHandler responseErrorHandler;
 
     @Bean
-    public BinanceAccountApiClient binanceAccountApiClient(RestClient.Builder builder) {
+    public HmacSigner binanceHmacSigner() {
+        return new HmacSigner(properties.getSecretKey(), properties.getSignatureAlgorithm());
+    }
+
+    @Bean
+    public ExchangeClock binanceExchangeClock() {
+        return new ExchangeClock("binance");
+    }
+
+    @Bean
+    public ExchangeTimeSynchronizer binanceTimeSynchronizer(@Qualifier("binanceExchangeClock") ExchangeClock clock,
+                                                            BinanceMarketApiClient binanceMarketApiClient) {
+        return new ExchangeTimeSynchronizer(clock, () -> binanceMarketApiClient.getServerTime().getServerTime());
+    }
+
+    @Bean
+    public ExchangeClientMetrics binanceClientMetrics(MeterRegistry meterRegistry) {
+        return new ExchangeClientMetrics(meterRegistry, "binance");
+    }
+
+    @Bean
+    public WeightedRateLimiter binanceRateLimiter() {
+        return new WeightedRateLimiter("binance", properties.getRateLimit());
+    }
+
+    @Bean
+    public ExchangeHttpTransport binanceHttpTransport() {
+        return ExchangeHttpTransport.create(
+            "binance",
+            properties.getPool(),
+            Duration.ofMillis(properties.getConnectionTimeout()),
+            Duration.ofMillis(properties.getReadTimeout()),
+            List.of(properties.getUrl())
+        );
+    }
+
+    @Bean
+    public BinanceAccountApiClient binanceAccountApiClient(RestClient.Builder builder,
+                                                           @Qualifier("binanceHttpTransport") ExchangeHttpTransport transport,
+                                                           @Qualifier("binanceHmacSigner") HmacSigner signer,
+                                                           @Qualifier("binanceExchangeClock") ExchangeClock clock,
+                                                           @Qualifier("binanceClientMetrics") ExchangeClientMetrics metrics,
+                                                           @Qualifier("binanceRateLimiter") WeightedRateLimiter rateLimiter) {
         RestClient restClient = builder
             .baseUrl(properties.getUrl())
-            .requestFactory(createClientHttpRequestFactory())
+            .requestFactory(createClientHttpRequestFactory(transport, signer, clock))
+            .messageConverters(converters -> converters.addFirst(new BinanceSignedFormHttpMessageConverter(
+                signer, clock, properties.getRecvWindow())))
             .defaultHeaders(this::setDefaultHeaders)
             .requestInterceptors(interceptors -> {
+                interceptors.add(new RateLimitInterceptor(rateLimiter, properties.getRateLimit()));
+                interceptors.add(new ExchangeMetricsInterceptor(metrics));
                 interceptors.add(authenticationInterceptor);
                 interceptors.add(loggingInterceptor);
             })
             .defaultStatusHandler(responseErrorHandler)
             .build();
 
-        return createHttpServiceProxy(restClient, BinanceAccountApiClient.class);
+        return metrics.instrument(BinanceAccountApiClient.class, createHttpServiceProxy(restClient, BinanceAccountApiClient.class));
     }
 
-    private ClientHttpRequestFactory createClientHttpRequestFactory() {
-        ClientHttpRequestFactorySettings factorySettings = ClientHttpRequestFactorySettings
-            .defaults()
-            .withConnectTimeout(Duration.ofSeconds(properties.getConnectionTimeout()))
-            .withReadTimeout(Duration.ofSeconds(properties.getReadTimeout()));
+    @Bean
+    public BinanceMarketApiClient binanceMarketApiClient(RestClient.Builder builder,
+                                                         @Qualifier("binanceHttpTransport") ExchangeHttpTransport transport,
+                                                         @Qualifier("binanceClientMetrics") ExchangeClientMetrics metrics,
+                                                         @Qualifier("binanceRateLimiter") WeightedRateLimiter rateLimiter) {
+        RestClient restClient = builder
+            .baseUrl(properties.getUrl())
+            .requestFactory(new SinglePassClientHttpRequestFactory(transport.getRequestFactory()))
+            .defaultHeaders(this::setDefaultHeaders)
+            .requestInterceptor(new RateLimitInterceptor(rateLimiter, properties.getRateLimit()))
+            .defaultStatusHandler(responseErrorHandler)
+            .build();
+
+        return metrics.instrument(BinanceMarketApiClient.class, createHttpServiceProxy(restClient, BinanceMarketApiClient.class));
+    }
 
-        ClientHttpRequestFactory factory = ClientHttpRequestFactoryBuilder.detect().build(factorySettings);
-        return new BufferingClientHttpRequestFactory(new BinanceSignedClientHttpRequestFactory(properties, factory));
+    private ClientHttpRequestFactory createClientHttpRequestFactory(ExchangeHttpTransport transport, HmacSigner signer,
+                                                                    ExchangeClock clock) {
+        return new SinglePassClientHttpRequestFactory(new BinanceSignedClientHttpRequestFactory(
+            signer, clock, properties.getRecvWindow(), transport.getRequestFactory()));
     }
 
     private void setDefaultHeaders(HttpHeaders headers) {
+        // Content-Type은 본문을 쓰는 컨버터가 지정 (서명 요청은 application/x-www-form-urlencoded)
         headers.add(ACCEPT, APPLICATION_JSON_VALUE);
-        headers.add(CONTENT_TYPE, APPLICATION_JSON_VALUE);
     }
 
     private <T> T createHttpServiceProxy(RestClient restClient, Class<T> clientClass) {
@@ -0,0 +1,93 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request.BinanceFormWriter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request.BinancePrivateBaseRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+import sungjun.bitcoin.algorithmtrading.util.ThreadStatePool;
+
+import java.io.IOException;
+
+/**
+ * Binance 서명 요청 DTO를 서명된 {@code application/x-www-form-urlencoded} 본문으로 기록하는 메시지 컨버터입니다.
+ * <p>
+ * Binance의 SIGNED 엔드포인트는 JSON 본문을 받지 않고, 쿼리 스트링 또는 form 본문의 바이트 그대로를 서명 대상으로 삼습니다.
+ * 이 컨버터는 DTO를 {@link ThreadStatePool}에서 빌린 {@link BinanceFormWriter} 버퍼에 직접 기록하고 같은 버퍼에 서명을 덧붙인 뒤
+ * 한 번의 쓰기로 전송하므로, 서명한 바이트와 전송되는 바이트가 정확히 일치합니다.
+ * {@code timestamp}는 GET 요청의 {@link BinanceQuerySigner}와 같이 서버 시각으로 보정된 {@link ExchangeClock}에서 가져옵니다.
+ * </p>
+ *
+ * <h2>등록 방법</h2>
+ * <pre>
+ * RestClient.builder()
+ *     .messageConverters(converters -&gt; converters.addFirst(new BinanceSignedFormHttpMessageConverter(signer, clock, recvWindow)))
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class BinanceSignedFormHttpMessageConverter extends AbstractHttpMessageConverter<BinancePrivateBaseRequest> {
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    private final HmacSigner signer;
+    private final ExchangeClock clock;
+    private final long recvWindow;
+    private final ThreadStatePool<BinanceFormWriter> writers = new ThreadStatePool<>(BinanceFormWriter::new);
+
+    public BinanceSignedFormHttpMessageConverter(HmacSigner signer, ExchangeClock clock, long recvWindow) {
+        super(MediaType.APPLICATION_FORM_URLENCODED);
+        this.signer = signer;
+        this.clock = clock;
+        this.recvWindow = recvWindow;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BinancePrivateBaseRequest.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected BinancePrivateBaseRequest readInternal(Class<? extends BinancePrivateBaseRequest> clazz,
+                                                     HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Binance signed requests are write-only", inputMessage);
+    }
+
+    /**
+     * Writes the request parameters in canonical order followed by {@code recvWindow} and the server-corrected
+     * {@code timestamp}, signs the written bytes and appends the signature, then sends the whole body in a single write.
+     *
+     * @param request the signed request DTO
+     * @param outputMessage the message to write to
+     * @throws IOException if writing the body fails
+     */
+    @Override
+    protected void writeInternal(BinancePrivateBaseRequest request, HttpOutputMessage outputMessage) throws IOException {
+        BinanceFormWriter writer = writers.acquire().reset();
+        try {
+            request.writeTo(writer);
+            writer.param("recvWindow", recvWindow)
+                .param("timestamp", clock.currentTimeMillis())
+                .sign(signer);
+            outputMessage.getHeaders().setContentLength(writer.length());
+            writer.writeTo(outputMessage.getBody());
+        } finally {
+            // 비정상적으로 큰 요청으로 커진 버퍼는 계속 보관하지 않음
+            if (writer.length() > MAX_RETAINED_BUFFER_SIZE) {
+                writers.discard(writer);
+            } else {
+                writers.release(writer);
+            }
+        }
+    }
+}
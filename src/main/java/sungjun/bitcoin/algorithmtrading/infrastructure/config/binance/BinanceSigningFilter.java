@@ -0,0 +1,45 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Binance SIGNED 엔드포인트용 WebClient 필터입니다.
+ * <p>
+ * 모든 요청에 {@code X-MBX-APIKEY} 헤더를 추가하고, GET 요청은 {@link BinanceQuerySigner}로 쿼리 스트링에
+ * {@code recvWindow}, {@code timestamp}, {@code signature}를 추가합니다. 서명은 CPU 연산만 수행하므로
+ * 이벤트 루프를 막지 않습니다.
+ * </p>
+ * <p>
+ * 필터는 요청이 구독될 때마다 실행되므로, {@code retry()}로 다시 구독하면 새 {@code timestamp}로 다시 서명합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class BinanceSigningFilter implements ExchangeFilterFunction {
+
+    private static final String API_KEY_HEADER = "X-MBX-APIKEY";
+
+    private final String apiKey;
+    private final BinanceQuerySigner querySigner;
+
+    public BinanceSigningFilter(String apiKey, BinanceQuerySigner querySigner) {
+        this.apiKey = apiKey;
+        this.querySigner = querySigner;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        ClientRequest.Builder signed = ClientRequest.from(request)
+            .headers(headers -> headers.set(API_KEY_HEADER, apiKey));
+        if (request.method() == HttpMethod.GET) {
+            signed.url(querySigner.sign(request.url()));
+        }
+        return next.exchange(signed.build());
+    }
+}
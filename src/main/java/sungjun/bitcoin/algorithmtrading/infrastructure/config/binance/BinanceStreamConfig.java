@@ -0,0 +1,32 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.BinanceMarketApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream.BinanceStreamClient;
+
+/**
+ * Binance WebSocket 시세 스트림 설정 클래스입니다.
+ * <p>
+ * {@link BinanceStreamClient}를 등록하고, 호가창 동기화용 스냅샷은 {@link BinanceMarketApiClient}로 조회합니다.
+ * {@code binance.stream.enabled}가 {@code false}이면 애플리케이션 시작 시 연결하지 않습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(BinanceStreamProperties.class)
+public class BinanceStreamConfig {
+
+    @Bean
+    public BinanceStreamClient binanceStreamClient(BinanceStreamProperties properties,
+                                                   ObjectMapper objectMapper,
+                                                   BinanceMarketApiClient binanceMarketApiClient) {
+        int limit = properties.getDepthSnapshotLimit();
+        return new BinanceStreamClient(properties, objectMapper.getFactory(),
+            symbol -> binanceMarketApiClient.getOrderBookBody(symbol, limit));
+    }
+}
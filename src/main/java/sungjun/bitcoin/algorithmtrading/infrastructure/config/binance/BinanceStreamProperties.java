@@ -0,0 +1,141 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream.BinanceStreamChannel;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Binance WebSocket 시세 스트림 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code binance.stream} 으로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * {@code symbols}와 {@code channels}의 모든 조합을 하나의 combined stream 연결로 구독합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * binance:
+ *   stream:
+ *     enabled: true
+ *     url: wss://stream.binance.com:9443
+ *     symbols: BTCUSDT, ETHUSDT
+ *     channels: BOOK_TICKER, DEPTH, TRADE
+ *     depth-snapshot-limit: 1000
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "binance.stream")
+public class BinanceStreamProperties {
+
+    /**
+     * 애플리케이션 시작 시 스트림 연결 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * WebSocket 엔드포인트 기본 URL ({@code /stream?streams=...}는 자동으로 붙습니다)
+     */
+    @NotBlank(message = "스트림 URL은 필수 값입니다.")
+    private final String url;
+
+    /**
+     * 구독할 심볼 목록 (예: {@code BTCUSDT})
+     */
+    @NotNull(message = "구독할 심볼 목록은 필수 값입니다.")
+    private final List<String> symbols;
+
+    /**
+     * 심볼마다 구독할 스트림 목록
+     */
+    @NotNull(message = "구독할 스트림 목록은 필수 값입니다.")
+    private final List<BinanceStreamChannel> channels;
+
+    /**
+     * 호가창 동기화에 사용할 REST 스냅샷 호가 수
+     */
+    @Min(value = 1, message = "스냅샷 호가 수는 1 이상이어야 합니다.")
+    @Max(value = 5000, message = "스냅샷 호가 수는 5000 이하여야 합니다.")
+    private final int depthSnapshotLimit;
+
+    /**
+     * 스냅샷 요청 실패 후 재시도 대기 시간
+     */
+    @NotNull(message = "스냅샷 재시도 대기 시간은 필수 값입니다.")
+    private final Duration snapshotRetryDelay;
+
+    /**
+     * 프레임을 받지 못하면 연결이 끊긴 것으로 판단하는 시간
+     */
+    @NotNull(message = "유휴 타임아웃은 필수 값입니다.")
+    private final Duration idleTimeout;
+
+    /**
+     * 첫 재연결 대기 시간
+     */
+    @NotNull(message = "재연결 초기 대기 시간은 필수 값입니다.")
+    private final Duration reconnectInitialDelay;
+
+    /**
+     * 재연결 최대 대기 시간
+     */
+    @NotNull(message = "재연결 최대 대기 시간은 필수 값입니다.")
+    private final Duration reconnectMaxDelay;
+
+    /**
+     * 연결 타임아웃
+     */
+    @NotNull(message = "연결 타임아웃은 필수 값입니다.")
+    private final Duration connectTimeout;
+
+    /**
+     * Constructs the stream settings.
+     *
+     * @param enabled whether the stream connects on startup
+     * @param url the WebSocket base URL
+     * @param symbols the symbols to subscribe to
+     * @param channels the streams to subscribe to for each symbol
+     * @param depthSnapshotLimit the number of levels requested per depth snapshot
+     * @param snapshotRetryDelay the delay before retrying a failed snapshot request
+     * @param idleTimeout the time without frames after which the connection is considered lost
+     * @param reconnectInitialDelay the delay before the first reconnect attempt
+     * @param reconnectMaxDelay the maximum delay between reconnect attempts
+     * @param connectTimeout the connect timeout
+     */
+    @ConstructorBinding
+    public BinanceStreamProperties(@DefaultValue("false") boolean enabled,
+                                   @DefaultValue("wss://stream.binance.com:9443") String url,
+                                   @DefaultValue("BTCUSDT") List<String> symbols,
+                                   @DefaultValue({"BOOK_TICKER", "DEPTH", "TRADE"}) List<BinanceStreamChannel> channels,
+                                   @DefaultValue("1000") int depthSnapshotLimit,
+                                   @DefaultValue("1s") Duration snapshotRetryDelay,
+                                   @DefaultValue("30s") Duration idleTimeout,
+                                   @DefaultValue("500ms") Duration reconnectInitialDelay,
+                                   @DefaultValue("30s") Duration reconnectMaxDelay,
+                                   @DefaultValue("3s") Duration connectTimeout) {
+        this.enabled = enabled;
+        this.url = url;
+        this.symbols = symbols;
+        this.channels = channels;
+        this.depthSnapshotLimit = depthSnapshotLimit;
+        this.snapshotRetryDelay = snapshotRetryDelay;
+        this.idleTimeout = idleTimeout;
+        this.reconnectInitialDelay = reconnectInitialDelay;
+        this.reconnectMaxDelay = reconnectMaxDelay;
+        this.connectTimeout = connectTimeout;
+    }
+}
@@ -0,0 +1,37 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTickerApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.market.CoinoneMarketTable;
+
+/**
+ * Coinone 마켓 테이블 설정 클래스입니다.
+ * <p>
+ * 기준 통화의 전체 마켓 시세를 한 번의 호출로 갱신하는 {@link CoinoneMarketTable}을 등록합니다.
+ * 백그라운드 갱신을 끄면 테이블은 {@link CoinoneMarketTable#refresh()}를 호출할 때만 갱신됩니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CoinoneMarketTableProperties.class)
+public class CoinoneMarketTableConfig {
+
+    @Bean
+    public CoinoneMarketTable coinoneMarketTable(CoinoneTickerApiClient coinoneTickerApiClient,
+                                                 ObjectMapper objectMapper,
+                                                 CoinoneMarketTableProperties properties) {
+        String quoteCurrency = properties.getQuoteCurrency();
+        return CoinoneMarketTable.builder()
+            .quoteCurrency(quoteCurrency)
+            .capacity(properties.getCapacity())
+            .jsonFactory(objectMapper.getFactory())
+            .source(() -> coinoneTickerApiClient.getTickersBody(quoteCurrency))
+            .refreshInterval(properties.isEnabled() ? properties.getRefreshInterval() : null)
+            .build();
+    }
+}
@@ -0,0 +1,82 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Coinone 마켓 테이블 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code coinone.market-table} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * 백그라운드 갱신은 기본으로 꺼져 있으므로, 포트폴리오의 원화 평가처럼 테이블 시세가 필요하면 {@code enabled}를 켜야 합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * coinone:
+ *   market-table:
+ *     enabled: true
+ *     quote-currency: KRW
+ *     capacity: 512
+ *     refresh-interval: 1s
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "coinone.market-table")
+public class CoinoneMarketTableProperties {
+
+    /**
+     * 백그라운드 갱신 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 테이블에 보관할 마켓의 기준 통화
+     */
+    @NotBlank(message = "기준 통화는 필수 값입니다.")
+    private final String quoteCurrency;
+
+    /**
+     * 보관할 수 있는 최대 마켓 수
+     */
+    @Min(value = 1, message = "최대 마켓 수는 1 이상이어야 합니다.")
+    private final int capacity;
+
+    /**
+     * 전체 마켓 갱신 간격
+     */
+    @NotNull(message = "갱신 간격은 필수 값입니다.")
+    private final Duration refreshInterval;
+
+    /**
+     * Constructs the market table settings.
+     *
+     * @param enabled whether background refresh is enabled
+     * @param quoteCurrency the quote currency of the markets held by the table
+     * @param capacity the maximum number of markets
+     * @param refreshInterval the delay between full refreshes
+     */
+    @ConstructorBinding
+    public CoinoneMarketTableProperties(@DefaultValue("false") boolean enabled,
+                                        @DefaultValue("KRW") String quoteCurrency,
+                                        @DefaultValue("512") int capacity,
+                                        @DefaultValue("1s") Duration refreshInterval) {
+        this.enabled = enabled;
+        this.quoteCurrency = quoteCurrency;
+        this.capacity = capacity;
+        this.refreshInterval = refreshInterval;
+    }
+}
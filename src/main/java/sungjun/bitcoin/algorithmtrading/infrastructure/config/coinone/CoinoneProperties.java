@@ -4,8 +4,12 @@ import lombok.Getter;
 import lombok.ToString;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 import org.springframework.validation.annotation.Validated;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.HttpClientPoolProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RateLimitProperties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
@@ -24,9 +28,16 @@ import jakarta.validation.constraints.NotNull;
  *     private-url: https://api.coinone.co.kr
  *     access-token: your-access-token
  *     secret-key: your-secret-key
- *     connection-timeout: 10
- *     read-timeout: 30
+ *     connection-timeout: 3000
+ *     read-timeout: 5000
  *     signature-algorithm: HmacSHA512
+ *     pool:
+ *       max-connections-per-route: 20
+ *       http2: false
+ *     rate-limit:
+ *       capacity: 40
+ *       period: 1s
+ *       priority-paths: /v2.1/order
  * </pre>
  *
  * @author sungjun
@@ -73,13 +84,13 @@ public class CoinoneProperties {
     private String secretKey;
 
     /**
-     * HTTP 연결 타임아웃 (초 단위)
+     * HTTP 연결 타임아웃 (밀리초 단위)
      */
     @NotNull(message = "연결 타임아웃은 필수 값입니다.")
     private Long connectionTimeout;
 
     /**
-     * HTTP 읽기 타임아웃 (초 단위)
+     * HTTP 읽기 타임아웃 (밀리초 단위)
      */
     @NotNull(message = "읽기 타임아웃은 필수 값입니다.")
     private Long readTimeout;
@@ -90,6 +101,18 @@ public class CoinoneProperties {
     @NotBlank(message = "서명 알고리즘은 필수 값입니다.")
     private String signatureAlgorithm;
 
+    /**
+     * HTTP 커넥션 풀 설정 (미설정 시 기본값 사용)
+     */
+    @Valid
+    private HttpClientPoolProperties pool;
+
+    /**
+     * 클라이언트 측 요청 제한 설정 (미설정 시 기본값 사용)
+     */
+    @Valid
+    private RateLimitProperties rateLimit;
+
     /**
      * Constructs a new {@code CoinoneProperties} instance with the specified Coinone API configuration values.
      *
@@ -97,12 +120,14 @@ public class CoinoneProperties {
      * @param privateUrl the URL for private Coinone API endpoints requiring authentication
      * @param accessToken the API access token used for authentication
      * @param secretKey the secret key for generating request signatures
-     * @param connectionTimeout the HTTP connection timeout in seconds
-     * @param readTimeout the HTTP read timeout in seconds
+     * @param connectionTimeout the HTTP connection timeout in milliseconds
+     * @param readTimeout the HTTP read timeout in milliseconds
      * @param signatureAlgorithm the algorithm name used for signature generation (e.g., "HmacSHA512")
+     * @param pool the HTTP connection pool settings shared by every client of this exchange
+     * @param rateLimit the client-side rate limit shared by every client of this exchange
      */
     @ConstructorBinding
-    public CoinoneProperties(String publicUrl, String privateUrl, String accessToken, String secretKey, Long connectionTimeout, Long readTimeout, String signatureAlgorithm) {
+    public CoinoneProperties(String publicUrl, String privateUrl, String accessToken, String secretKey, Long connectionTimeout, Long readTimeout, String signatureAlgorithm, @DefaultValue HttpClientPoolProperties pool, @DefaultValue RateLimitProperties rateLimit) {
         this.publicUrl = publicUrl;
         this.privateUrl = privateUrl;
         this.accessToken = accessToken;
@@ -110,5 +135,7 @@ public class CoinoneProperties {
         this.connectionTimeout = connectionTimeout;
         this.readTimeout = readTimeout;
         this.signatureAlgorithm = signatureAlgorithm;
+        this.pool = pool;
+        this.rateLimit = rateLimit;
     }
 }
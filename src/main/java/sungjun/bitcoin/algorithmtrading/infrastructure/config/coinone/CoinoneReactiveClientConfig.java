@@ -0,0 +1,132 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.reactive.CoinoneReactiveAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.reactive.CoinoneReactiveOrderApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.reactive.CoinoneReactiveTickerApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.ReactiveExchangeTransport;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.ReactiveResponseErrorFilter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.coinone.CoinoneAuthenticationFilter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.time.Duration;
+
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+/**
+ * Coinone API 논블로킹 클라이언트 설정 클래스입니다.
+ * <p>
+ * {@link CoinoneRestClientConfig}와 같은 엔드포인트를 WebClient 기반 HTTP Service Proxy로 제공합니다.
+ * 모든 클라이언트는 하나의 {@link ReactiveExchangeTransport} 커넥션 풀과 Reactor Netty 이벤트 루프를 공유하므로,
+ * 수백 개의 거래소 호출을 스레드를 늘리지 않고 동시에 진행할 수 있습니다.
+ * 커넥션 풀과 타임아웃은 블로킹 클라이언트와 같은 {@code exchange.coinone} 설정을 사용합니다.
+ * </p>
+ *
+ * <h2>주요 기능</h2>
+ * <ul>
+ *   <li>Ticker API 클라이언트 (공개 API)</li>
+ *   <li>Account API 클라이언트 (비공개 API, {@link CoinoneAuthenticationFilter}로 인증)</li>
+ *   <li>Order API 클라이언트 (비공개 API, {@link CoinoneAuthenticationFilter}로 인증)</li>
+ *   <li>HTTP 200 본문 에러 처리 ({@link CoinoneResponseErrorHandler}를 {@link ReactiveResponseErrorFilter}로 적용)</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+@EnableConfigurationProperties(CoinoneProperties.class)
+public class CoinoneReactiveClientConfig {
+
+    private final CoinoneProperties properties;
+    private final CoinoneResponseErrorHandler responseErrorHandler;
+
+    @Bean
+    public ReactiveExchangeTransport coinoneReactiveTransport() {
+        return ReactiveExchangeTransport.create(
+            "coinone",
+            properties.getPool(),
+            Duration.ofMillis(properties.getConnectionTimeout()),
+            Duration.ofMillis(properties.getReadTimeout())
+        );
+    }
+
+    /**
+     * 블로킹 클라이언트와 같은 {@code coinoneExchangeClock}에서 nonce를 발급합니다.
+     */
+    @Bean
+    public CoinoneAuthenticationFilter coinoneAuthenticationFilter(@Qualifier("coinoneExchangeClock") ExchangeClock clock) {
+        return new CoinoneAuthenticationFilter(new HmacSigner(properties.getSecretKey(), properties.getSignatureAlgorithm()), clock);
+    }
+
+    @Bean
+    public CoinoneReactiveTickerApiClient coinoneReactiveTickerApiClient(WebClient.Builder builder,
+                                                                         @Qualifier("coinoneReactiveTransport") ReactiveExchangeTransport transport) {
+        WebClient webClient = builder
+            .baseUrl(properties.getPublicUrl())
+            .clientConnector(transport.getConnector())
+            .defaultHeaders(this::setDefaultHeaders)
+            .filter(new ReactiveResponseErrorFilter(responseErrorHandler))
+            .build();
+
+        return createHttpServiceProxy(webClient, CoinoneReactiveTickerApiClient.class);
+    }
+
+    @Bean
+    public CoinoneReactiveAccountApiClient coinoneReactiveAccountApiClient(WebClient.Builder builder,
+                                                                           @Qualifier("coinoneReactiveTransport") ReactiveExchangeTransport transport,
+                                                                           CoinoneAuthenticationFilter authenticationFilter) {
+        WebClient webClient = builder
+            .baseUrl(properties.getPrivateUrl())
+            .clientConnector(transport.getConnector())
+            .defaultHeaders(this::setDefaultHeaders)
+            .filters(filters -> {
+                filters.add(new ReactiveResponseErrorFilter(responseErrorHandler));
+                filters.add(authenticationFilter);
+            })
+            .build();
+
+        return createHttpServiceProxy(webClient, CoinoneReactiveAccountApiClient.class);
+    }
+
+    @Bean
+    public CoinoneReactiveOrderApiClient coinoneReactiveOrderApiClient(WebClient.Builder builder,
+                                                                       @Qualifier("coinoneReactiveTransport") ReactiveExchangeTransport transport,
+                                                                       CoinoneAuthenticationFilter authenticationFilter) {
+        WebClient webClient = builder
+            .baseUrl(properties.getPrivateUrl())
+            .clientConnector(transport.getConnector())
+            .defaultHeaders(this::setDefaultHeaders)
+            .filters(filters -> {
+                filters.add(new ReactiveResponseErrorFilter(responseErrorHandler));
+                filters.add(authenticationFilter);
+            })
+            .build();
+
+        return createHttpServiceProxy(webClient, CoinoneReactiveOrderApiClient.class);
+    }
+
+    private void setDefaultHeaders(HttpHeaders headers) {
+        headers.add(ACCEPT, APPLICATION_JSON_VALUE);
+        headers.add(CONTENT_TYPE, APPLICATION_JSON_VALUE);
+    }
+
+    private <T> T createHttpServiceProxy(WebClient webClient, Class<T> clientClass) {
+        return HttpServiceProxyFactory
+            .builderFor(WebClientAdapter.create(webClient))
+            .build()
+            .createClient(clientClass);
+    }
+
+}
@@ -10,6 +10,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.ResponseErrorHandler;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.BufferedClientHttpResponse;
 import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
 
 import java.io.IOException;
@@ -96,18 +97,14 @@ public class CoinoneResponseErrorHandler implements ResponseErrorHandler {
             return true;
         }
 
-        // 스트리밍 방식으로 응답 본문을 확인하여 에러 코드가 있는지 확인
-        InputStream inputStream = response.getBody();
-        
-        // 입력 스트림이 비어있는 경우
-        if (inputStream.available() <= 0) {
-            return false;
-        }
-        
         try {
-            // Jackson의 스트리밍 파서 사용
-            JsonFactory factory = mapper.getFactory();
-            try (JsonParser parser = factory.createParser(inputStream)) {
+            // 버퍼링된 응답은 본문 바이트 배열을 직접 파싱하고, 그 외에는 스트리밍 파싱
+            try (JsonParser parser = createParser(response)) {
+                // 응답 본문이 비어있는 경우
+                if (parser == null) {
+                    return false;
+                }
+
                 // 루트 객체를 시작하는 토큰 확인
                 if (parser.nextToken() != JsonToken.START_OBJECT) {
                     return false; // JSON 객체가 아닌 경우
@@ -179,15 +176,12 @@ public class CoinoneResponseErrorHandler implements ResponseErrorHandler {
     @Override
     public void handleError(URI url, HttpMethod method, ClientHttpResponse response) throws IOException {
         int statusCode = response.getStatusCode().value();
-        InputStream inputStream = response.getBody();
         
         try {
-            // Jackson의 스트리밍 파서 사용
-            JsonFactory factory = mapper.getFactory();
             String errorCode = String.valueOf(statusCode); // 기본값으로 HTTP 상태 코드 사용
             String errorMessage = "Unknown error";
             
-            try (JsonParser parser = factory.createParser(inputStream)) {
+            try (JsonParser parser = createBodyParser(response)) {
                 // 루트 객체 시작 토큰 확인
                 if (parser.nextToken() != JsonToken.START_OBJECT) {
                     throw new IOException("Invalid JSON format: not an object");
@@ -219,4 +213,29 @@ public class CoinoneResponseErrorHandler implements ResponseErrorHandler {
             throw new CoinoneApiException(String.valueOf(statusCode), "Failed to parse error response: " + e.getMessage());
         }
     }
+
+    /**
+     * 에러 판단을 위한 파서를 생성합니다. 본문이 비어있으면 null을 반환합니다.
+     *
+     * <p>{@link BufferedClientHttpResponse}인 경우 이미 읽어 둔 바이트 배열을 그대로 파싱하므로
+     * 이후 메시지 컨버터가 같은 본문을 다시 읽을 수 있습니다.</p>
+     */
+    private JsonParser createParser(ClientHttpResponse response) throws IOException {
+        if (response instanceof BufferedClientHttpResponse buffered) {
+            return buffered.isEmpty() ? null : mapper.getFactory().createParser(buffered.getBodyBytes());
+        }
+        InputStream inputStream = response.getBody();
+        return inputStream.available() <= 0 ? null : mapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * 에러 응답 본문을 읽기 위한 파서를 생성합니다.
+     */
+    private JsonParser createBodyParser(ClientHttpResponse response) throws IOException {
+        JsonFactory factory = mapper.getFactory();
+        if (response instanceof BufferedClientHttpResponse buffered) {
+            return factory.createParser(buffered.getBodyBytes());
+        }
+        return factory.createParser(response.getBody());
+    }
 }
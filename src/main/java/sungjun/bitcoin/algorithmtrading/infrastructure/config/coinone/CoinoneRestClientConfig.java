@@ -1,24 +1,38 @@
 package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.boot.http.client.ClientHttpRequestFactoryBuilder;
-import org.springframework.boot.http.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneAccountApiClient;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderGateway;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTickerApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.ExchangeHttpTransport;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.SinglePassClientHttpRequestFactory;
+import sungjun.bitcoin.algorithmtrading.infrastructure.halt.TradingHalt;
 import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.coinone.CoinoneAuthenticationInterceptor;
 import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common.LoggingInterceptor;
+import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common.RateLimitInterceptor;
+import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common.TradingHaltInterceptor;
+import sungjun.bitcoin.algorithmtrading.infrastructure.metrics.ExchangeClientMetrics;
+import sungjun.bitcoin.algorithmtrading.infrastructure.metrics.ExchangeMetricsInterceptor;
+import sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit.WeightedRateLimiter;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeTimeSynchronizer;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
@@ -28,7 +42,8 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
  * Coinone API 클라이언트 설정 클래스입니다.
  * <p>
  * Coinone 거래소와의 통신을 위한 RestClient 및 HTTP Service Proxy를 설정합니다.
- * 공개 API와 비공개 API를 위한 별도의 클라이언트를 생성합니다.
+ * 공개 API와 비공개 API를 위한 별도의 클라이언트를 생성하며,
+ * 모든 클라이언트는 하나의 {@link ExchangeHttpTransport} 커넥션 풀을 공유합니다.
  * </p>
  *
  * <h2>주요 기능</h2>
@@ -36,6 +51,10 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
  *   <li>Ticker API 클라이언트 (공개 API)</li>
  *   <li>Account API 클라이언트 (비공개 API, 인증 필요)</li>
  *   <li>Order API 클라이언트 (비공개 API, 인증 필요)</li>
+ *   <li>지정가 주문 전용 저지연 {@link CoinoneOrderGateway}</li>
+ *   <li>서버 시각 동기화 및 nonce 발급용 {@link ExchangeClock}</li>
+ *   <li>모든 클라이언트가 공유하는 요청 제한 {@link WeightedRateLimiter}</li>
+ *   <li>주문 관리자, 주문 게이트웨이, Order API 클라이언트가 공유하는 거래 중단 상태 {@link TradingHalt}</li>
  * </ul>
  *
  * @author sungjun
@@ -47,63 +66,156 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class CoinoneRestClientConfig {
 
     private final CoinoneProperties properties;
-    private final CoinoneAuthenticationInterceptor authenticationInterceptor;
     private final LoggingInterceptor loggingInterceptor;
     private final CoinoneResponseErrorHandler responseErrorHandler;
 
     @Bean
-    public CoinoneTickerApiClient coinoneTickerApiClient(RestClient.Builder builder) {
+    public ExchangeClock coinoneExchangeClock() {
+        return new ExchangeClock("coinone");
+    }
+
+    /**
+     * Coinone은 별도의 서버 시각 API가 없으므로 공개 ticker 응답의 {@code server_time}을 사용합니다.
+     */
+    @Bean
+    public ExchangeTimeSynchronizer coinoneTimeSynchronizer(@Qualifier("coinoneExchangeClock") ExchangeClock clock,
+                                                            CoinoneTickerApiClient coinoneTickerApiClient) {
+        return new ExchangeTimeSynchronizer(clock,
+            () -> Long.parseLong(coinoneTickerApiClient.getTicker("KRW", "BTC").getServerTime()));
+    }
+
+    /**
+     * 비공개 API 요청마다 {@code coinoneExchangeClock}에서 nonce를 발급해 본문에 넣고 서명합니다.
+     */
+    @Bean
+    public CoinoneAuthenticationInterceptor coinoneAuthenticationInterceptor(@Qualifier("coinoneExchangeClock") ExchangeClock clock) {
+        return new CoinoneAuthenticationInterceptor(properties, clock);
+    }
+
+    @Bean
+    public ExchangeClientMetrics coinoneClientMetrics(MeterRegistry meterRegistry) {
+        return new ExchangeClientMetrics(meterRegistry, "coinone");
+    }
+
+    @Bean
+    public WeightedRateLimiter coinoneRateLimiter() {
+        return new WeightedRateLimiter("coinone", properties.getRateLimit());
+    }
+
+    /**
+     * 새 주문을 보낼 수 있는 모든 경로가 공유하는 거래 중단 상태입니다.
+     */
+    @Bean
+    public TradingHalt coinoneTradingHalt() {
+        return new TradingHalt("coinone");
+    }
+
+    @Bean
+    public ExchangeHttpTransport coinoneHttpTransport() {
+        return ExchangeHttpTransport.create(
+            "coinone",
+            properties.getPool(),
+            Duration.ofMillis(properties.getConnectionTimeout()),
+            Duration.ofMillis(properties.getReadTimeout()),
+            List.of(properties.getPublicUrl(), properties.getPrivateUrl())
+        );
+    }
+
+    @Bean
+    public CoinoneTickerApiClient coinoneTickerApiClient(RestClient.Builder builder,
+                                                         @Qualifier("coinoneHttpTransport") ExchangeHttpTransport transport,
+                                                         @Qualifier("coinoneClientMetrics") ExchangeClientMetrics metrics,
+                                                         @Qualifier("coinoneRateLimiter") WeightedRateLimiter rateLimiter) {
         RestClient restClient = builder
             .baseUrl(properties.getPublicUrl())
-            .requestFactory(createClientHttpRequestFactory())
+            .requestFactory(createClientHttpRequestFactory(transport))
             .defaultHeaders(this::setDefaultHeaders)
-            .requestInterceptors(interceptors -> interceptors.add(loggingInterceptor))
+            .requestInterceptors(interceptors -> {
+                interceptors.add(new RateLimitInterceptor(rateLimiter, properties.getRateLimit()));
+                interceptors.add(new ExchangeMetricsInterceptor(metrics));
+                interceptors.add(loggingInterceptor);
+            })
             .defaultStatusHandler(responseErrorHandler)
             .build();
 
-        return createHttpServiceProxy(restClient, CoinoneTickerApiClient.class);
+        return metrics.instrument(CoinoneTickerApiClient.class, createHttpServiceProxy(restClient, CoinoneTickerApiClient.class));
     }
 
     @Bean
-    public CoinoneAccountApiClient coinoneAccountApiClient(RestClient.Builder builder) {
+    public CoinoneAccountApiClient coinoneAccountApiClient(RestClient.Builder builder,
+                                                           @Qualifier("coinoneHttpTransport") ExchangeHttpTransport transport,
+                                                           @Qualifier("coinoneClientMetrics") ExchangeClientMetrics metrics,
+                                                           @Qualifier("coinoneRateLimiter") WeightedRateLimiter rateLimiter,
+                                                           CoinoneAuthenticationInterceptor authenticationInterceptor) {
         RestClient restClient = builder
             .baseUrl(properties.getPrivateUrl())
-            .requestFactory(createClientHttpRequestFactory())
+            .requestFactory(createClientHttpRequestFactory(transport))
             .defaultHeaders(this::setDefaultHeaders)
             .requestInterceptors(interceptors -> {
+                interceptors.add(new RateLimitInterceptor(rateLimiter, properties.getRateLimit()));
+                interceptors.add(new ExchangeMetricsInterceptor(metrics));
                 interceptors.add(authenticationInterceptor);
                 interceptors.add(loggingInterceptor);
             })
             .defaultStatusHandler(responseErrorHandler)
             .build();
 
-        return createHttpServiceProxy(restClient, CoinoneAccountApiClient.class);
+        return metrics.instrument(CoinoneAccountApiClient.class, createHttpServiceProxy(restClient, CoinoneAccountApiClient.class));
     }
 
     @Bean
-    public CoinoneOrderApiClient coinoneOrderApiClient(RestClient.Builder builder) {
+    public CoinoneOrderApiClient coinoneOrderApiClient(RestClient.Builder builder,
+                                                       @Qualifier("coinoneHttpTransport") ExchangeHttpTransport transport,
+                                                       @Qualifier("coinoneClientMetrics") ExchangeClientMetrics metrics,
+                                                       @Qualifier("coinoneRateLimiter") WeightedRateLimiter rateLimiter,
+                                                       @Qualifier("coinoneTradingHalt") TradingHalt halt,
+                                                       CoinoneAuthenticationInterceptor authenticationInterceptor) {
         RestClient restClient = builder
             .baseUrl(properties.getPrivateUrl())
-            .requestFactory(createClientHttpRequestFactory())
+            .requestFactory(createClientHttpRequestFactory(transport))
             .defaultHeaders(this::setDefaultHeaders)
             .requestInterceptors(interceptors -> {
+                interceptors.add(new TradingHaltInterceptor(halt, "/order"));
+                interceptors.add(new RateLimitInterceptor(rateLimiter, properties.getRateLimit()));
+                interceptors.add(new ExchangeMetricsInterceptor(metrics));
                 interceptors.add(authenticationInterceptor);
                 interceptors.add(loggingInterceptor);
             })
             .defaultStatusHandler(responseErrorHandler)
             .build();
 
-        return createHttpServiceProxy(restClient, CoinoneOrderApiClient.class);
+        return metrics.instrument(CoinoneOrderApiClient.class, createHttpServiceProxy(restClient, CoinoneOrderApiClient.class));
     }
 
-    private ClientHttpRequestFactory createClientHttpRequestFactory() {
-        ClientHttpRequestFactorySettings factorySettings = ClientHttpRequestFactorySettings
-            .defaults()
-            .withConnectTimeout(Duration.ofSeconds(properties.getConnectionTimeout()))
-            .withReadTimeout(Duration.ofSeconds(properties.getReadTimeout()));
+    /**
+     * 주문 게이트웨이는 RestClient 인터셉터 체인을 거치지 않지만, 주문도 같은 요청 제한 예산을 사용하고
+     * 다른 클라이언트와 같은 {@code coinoneClientMetrics}에 기록되도록 요청 제한과 메트릭 인터셉터를 적용합니다.
+     * 거래 중단 확인은 게이트웨이가 직접 합니다.
+     */
+    @Bean
+    public CoinoneOrderGateway coinoneOrderGateway(@Qualifier("coinoneHttpTransport") ExchangeHttpTransport transport,
+                                                   @Qualifier("coinoneExchangeClock") ExchangeClock clock,
+                                                   @Qualifier("coinoneClientMetrics") ExchangeClientMetrics metrics,
+                                                   @Qualifier("coinoneRateLimiter") WeightedRateLimiter rateLimiter,
+                                                   @Qualifier("coinoneTradingHalt") TradingHalt halt,
+                                                   ObjectMapper objectMapper) {
+        ClientHttpRequestFactory requestFactory = new InterceptingClientHttpRequestFactory(transport.getRequestFactory(),
+            List.of(new RateLimitInterceptor(rateLimiter, properties.getRateLimit()), new ExchangeMetricsInterceptor(metrics)));
+        return new CoinoneOrderGateway(
+            properties.getAccessToken(),
+            properties.getPrivateUrl(),
+            requestFactory,
+            new HmacSigner(properties.getSecretKey(), properties.getSignatureAlgorithm()),
+            clock,
+            halt,
+            responseErrorHandler,
+            metrics,
+            objectMapper
+        );
+    }
 
-        ClientHttpRequestFactory factory = ClientHttpRequestFactoryBuilder.detect().build(factorySettings);
-        return new BufferingClientHttpRequestFactory(factory);
+    private ClientHttpRequestFactory createClientHttpRequestFactory(ExchangeHttpTransport transport) {
+        return new SinglePassClientHttpRequestFactory(transport.getRequestFactory());
     }
 
     private void setDefaultHeaders(HttpHeaders headers) {
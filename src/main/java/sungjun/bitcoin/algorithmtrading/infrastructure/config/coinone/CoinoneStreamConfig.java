@@ -0,0 +1,27 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamClient;
+
+/**
+ * Coinone WebSocket 시세 스트림 설정 클래스입니다.
+ * <p>
+ * {@link CoinoneStreamClient}를 등록합니다. {@code coinone.stream.enabled}가 {@code false}이면
+ * 애플리케이션 시작 시 연결하지 않으며, 필요할 때 {@link CoinoneStreamClient#start()}로 연결할 수 있습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CoinoneStreamProperties.class)
+public class CoinoneStreamConfig {
+
+    @Bean
+    public CoinoneStreamClient coinoneStreamClient(CoinoneStreamProperties properties, ObjectMapper objectMapper) {
+        return new CoinoneStreamClient(properties, objectMapper.getFactory());
+    }
+}
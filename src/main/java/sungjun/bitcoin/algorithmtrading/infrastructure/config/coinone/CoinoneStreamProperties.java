@@ -0,0 +1,130 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamChannel;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Coinone WebSocket 시세 스트림 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code coinone.stream} 으로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * {@code pairs}와 {@code channels}의 모든 조합을 연결 직후와 재연결 때마다 구독합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * coinone:
+ *   stream:
+ *     enabled: true
+ *     url: wss://stream.coinone.co.kr
+ *     pairs: KRW/BTC, KRW/ETH
+ *     channels: ORDERBOOK, TICKER
+ *     ping-interval: 10s
+ *     idle-timeout: 30s
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "coinone.stream")
+public class CoinoneStreamProperties {
+
+    /**
+     * 애플리케이션 시작 시 스트림 연결 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * WebSocket 엔드포인트 URL
+     */
+    @NotBlank(message = "스트림 URL은 필수 값입니다.")
+    private final String url;
+
+    /**
+     * 구독할 거래 쌍 목록 (예: {@code KRW/BTC})
+     */
+    @NotNull(message = "구독할 거래 쌍 목록은 필수 값입니다.")
+    private final List<String> pairs;
+
+    /**
+     * 거래 쌍마다 구독할 채널 목록
+     */
+    @NotNull(message = "구독할 채널 목록은 필수 값입니다.")
+    private final List<CoinoneStreamChannel> channels;
+
+    /**
+     * PING 전송 및 유휴 연결 검사 간격
+     */
+    @NotNull(message = "PING 간격은 필수 값입니다.")
+    private final Duration pingInterval;
+
+    /**
+     * 메시지를 받지 못하면 연결이 끊긴 것으로 판단하는 시간
+     */
+    @NotNull(message = "유휴 타임아웃은 필수 값입니다.")
+    private final Duration idleTimeout;
+
+    /**
+     * 첫 재연결 대기 시간
+     */
+    @NotNull(message = "재연결 초기 대기 시간은 필수 값입니다.")
+    private final Duration reconnectInitialDelay;
+
+    /**
+     * 재연결 최대 대기 시간
+     */
+    @NotNull(message = "재연결 최대 대기 시간은 필수 값입니다.")
+    private final Duration reconnectMaxDelay;
+
+    /**
+     * 연결 타임아웃
+     */
+    @NotNull(message = "연결 타임아웃은 필수 값입니다.")
+    private final Duration connectTimeout;
+
+    /**
+     * Constructs the stream settings.
+     *
+     * @param enabled whether the stream connects on startup
+     * @param url the WebSocket endpoint URL
+     * @param pairs the currency pairs to subscribe to
+     * @param channels the channels to subscribe to for each pair
+     * @param pingInterval the delay between pings and idle checks
+     * @param idleTimeout the time without messages after which the connection is considered lost
+     * @param reconnectInitialDelay the delay before the first reconnect attempt
+     * @param reconnectMaxDelay the maximum delay between reconnect attempts
+     * @param connectTimeout the connect timeout
+     */
+    @ConstructorBinding
+    public CoinoneStreamProperties(@DefaultValue("false") boolean enabled,
+                                   @DefaultValue("wss://stream.coinone.co.kr") String url,
+                                   @DefaultValue("KRW/BTC") List<String> pairs,
+                                   @DefaultValue({"ORDERBOOK", "TICKER"}) List<CoinoneStreamChannel> channels,
+                                   @DefaultValue("10s") Duration pingInterval,
+                                   @DefaultValue("30s") Duration idleTimeout,
+                                   @DefaultValue("500ms") Duration reconnectInitialDelay,
+                                   @DefaultValue("30s") Duration reconnectMaxDelay,
+                                   @DefaultValue("3s") Duration connectTimeout) {
+        this.enabled = enabled;
+        this.url = url;
+        this.pairs = pairs;
+        this.channels = channels;
+        this.pingInterval = pingInterval;
+        this.idleTimeout = idleTimeout;
+        this.reconnectInitialDelay = reconnectInitialDelay;
+        this.reconnectMaxDelay = reconnectMaxDelay;
+        this.connectTimeout = connectTimeout;
+    }
+}
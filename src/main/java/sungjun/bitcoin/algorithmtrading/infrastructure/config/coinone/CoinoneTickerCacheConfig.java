@@ -0,0 +1,51 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import sungjun.bitcoin.algorithmtrading.infrastructure.cache.SnapshotCache;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTickerApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Coinone 시세 캐시 설정 클래스입니다.
+ * <p>
+ * {@code CoinoneService}가 조회하는 시세를 거래 쌍별 {@link SnapshotCache}로 감싸,
+ * 내부 조회 빈도와 무관하게 Coinone 공개 API 호출 수를 TTL 단위로 제한합니다.
+ * {@code spring.threads.virtual.enabled}가 true이면 백그라운드 갱신도 가상 스레드에서 수행합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(CoinoneTickerCacheProperties.class)
+public class CoinoneTickerCacheConfig {
+
+    @Bean
+    public SnapshotCache<CurrencyPair, CoinoneTicker> coinoneTickerCache(CoinoneTickerApiClient coinoneTickerApiClient,
+                                                                         CoinoneTickerCacheProperties properties,
+                                                                         Environment environment) {
+        Map<CurrencyPair, Duration> ttls = new HashMap<>();
+        properties.getTtls().forEach((pair, ttl) -> ttls.put(CurrencyPair.parse(pair), ttl));
+
+        return SnapshotCache.<CurrencyPair, CoinoneTicker>builder()
+            .name("coinone.ticker")
+            .loader(pair -> coinoneTickerApiClient.getTicker(pair.quoteCurrency(), pair.targetCurrency())
+                .getTickers()
+                .getFirst())
+            .ttl(properties.getTtl())
+            .ttls(ttls)
+            .maxStale(properties.getMaxStale())
+            .refreshThreads(properties.getRefreshThreads())
+            .virtualThreads(Threading.VIRTUAL.isActive(environment))
+            .build();
+    }
+}
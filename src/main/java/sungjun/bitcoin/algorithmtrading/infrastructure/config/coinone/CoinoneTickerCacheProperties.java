@@ -0,0 +1,83 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Coinone 시세 캐시 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code coinone.ticker-cache} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * 거래 쌍별 TTL은 {@code QUOTE/TARGET} 형식의 키로 지정합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * coinone:
+ *   ticker-cache:
+ *     ttl: 1s
+ *     max-stale: 5s
+ *     refresh-threads: 2
+ *     ttls:
+ *       "[KRW/BTC]": 500ms
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "coinone.ticker-cache")
+public class CoinoneTickerCacheProperties {
+
+    /**
+     * 스냅샷을 다시 조회하지 않고 반환하는 기간
+     */
+    @NotNull(message = "TTL은 필수 값입니다.")
+    private final Duration ttl;
+
+    /**
+     * TTL이 지난 스냅샷을 백그라운드 갱신 중에 계속 반환할 수 있는 기간
+     */
+    @NotNull(message = "최대 stale 기간은 필수 값입니다.")
+    private final Duration maxStale;
+
+    /**
+     * 백그라운드 갱신 스레드 수
+     */
+    @Min(value = 1, message = "갱신 스레드 수는 1 이상이어야 합니다.")
+    private final int refreshThreads;
+
+    /**
+     * 거래 쌍({@code QUOTE/TARGET})별 TTL
+     */
+    private final Map<String, Duration> ttls;
+
+    /**
+     * Constructs the ticker cache settings.
+     *
+     * @param ttl the default time a snapshot is served without fetching
+     * @param maxStale how long past its TTL a snapshot may be served while it is refreshed
+     * @param refreshThreads the number of background refresh threads
+     * @param ttls TTL overrides keyed by {@code QUOTE/TARGET}
+     */
+    @ConstructorBinding
+    public CoinoneTickerCacheProperties(@DefaultValue("1s") Duration ttl,
+                                        @DefaultValue("5s") Duration maxStale,
+                                        @DefaultValue("2") int refreshThreads,
+                                        @DefaultValue Map<String, Duration> ttls) {
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+        this.refreshThreads = refreshThreads;
+        this.ttls = ttls;
+    }
+}
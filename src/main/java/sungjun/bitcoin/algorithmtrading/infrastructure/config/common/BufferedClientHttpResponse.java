@@ -0,0 +1,156 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * 응답 본문을 한 번만 읽어 보관하는 {@link ClientHttpResponse} 래퍼입니다.
+ * <p>
+ * 로깅, 에러 판단, DTO 바인딩이 모두 같은 바이트 배열을 공유하도록 본문을 정확한 크기의
+ * 배열로 한 번만 읽습니다. {@link #getBody()}는 호출될 때마다 같은 배열을 감싼
+ * 새 스트림을 반환하므로 본문 복사가 발생하지 않습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class BufferedClientHttpResponse implements ClientHttpResponse {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final ClientHttpResponse delegate;
+    private final byte[] body;
+
+    private BufferedClientHttpResponse(ClientHttpResponse delegate, byte[] body) {
+        this.delegate = delegate;
+        this.body = body;
+    }
+
+    /**
+     * Returns a buffered view of the given response, reading its body at most once.
+     * <p>
+     * If the response is already buffered it is returned as-is. When the response declares a
+     * {@code Content-Length}, the body is read directly into an array of exactly that size.
+     * </p>
+     *
+     * @param response the response to buffer
+     * @return the buffered response
+     * @throws IOException if the body cannot be read
+     */
+    public static BufferedClientHttpResponse of(ClientHttpResponse response) throws IOException {
+        if (response instanceof BufferedClientHttpResponse buffered) {
+            return buffered;
+        }
+        return new BufferedClientHttpResponse(response, readBody(response));
+    }
+
+    /**
+     * Returns a buffered response for a body that has already been received, e.g. by a reactive client.
+     * <p>
+     * Lets the blocking {@code ResponseErrorHandler}s inspect responses received by {@code WebClient}
+     * without reading the body again.
+     * </p>
+     *
+     * @param statusCode the response status
+     * @param headers the response headers
+     * @param body the complete response body; not copied
+     * @return the buffered response
+     */
+    public static BufferedClientHttpResponse of(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {
+        return new BufferedClientHttpResponse(new ReceivedResponse(statusCode, headers), body);
+    }
+
+    private static byte[] readBody(ClientHttpResponse response) throws IOException {
+        long contentLength = response.getHeaders().getContentLength();
+        try (InputStream inputStream = response.getBody()) {
+            if (contentLength == 0) {
+                return EMPTY_BODY;
+            }
+            if (contentLength < 0 || contentLength > Integer.MAX_VALUE) {
+                return inputStream.readAllBytes();
+            }
+            byte[] buffer = new byte[(int) contentLength];
+            int read = inputStream.readNBytes(buffer, 0, buffer.length);
+            return read == buffer.length ? buffer : Arrays.copyOf(buffer, read);
+        }
+    }
+
+    /**
+     * Returns the buffered body. The returned array is shared and must not be modified.
+     *
+     * @return the response body bytes
+     */
+    public byte[] getBodyBytes() {
+        return body;
+    }
+
+    /**
+     * Returns whether the response has no body.
+     *
+     * @return true if the body is empty
+     */
+    public boolean isEmpty() {
+        return body.length == 0;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+        return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+        return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return delegate.getHeaders();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * 이미 수신한 응답의 상태와 헤더만 제공합니다.
+     */
+    private record ReceivedResponse(HttpStatusCode statusCode, HttpHeaders headers) implements ClientHttpResponse {
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getStatusText() {
+            return "";
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public InputStream getBody() {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
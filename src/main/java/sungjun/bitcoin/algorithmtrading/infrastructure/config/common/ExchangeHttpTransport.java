@@ -0,0 +1,206 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 거래소 단위로 공유되는 HTTP 전송 계층입니다.
+ * <p>
+ * 하나의 거래소에 속한 모든 RestClient가 같은 커넥션 풀을 사용하도록
+ * {@link ClientHttpRequestFactory}를 한 번만 생성하여 제공합니다.
+ * 기본적으로 Apache HttpClient 5의 풀링 커넥션 매니저를 사용하며,
+ * {@link HttpClientPoolProperties#isHttp2()}가 true인 경우 HTTP/2 멀티플렉싱을 지원하는
+ * JDK {@link HttpClient}를 사용합니다.
+ * </p>
+ *
+ * <h2>주요 기능</h2>
+ * <ul>
+ *   <li>route당 최대 커넥션 수 및 전체 풀 크기 제한</li>
+ *   <li>Keep-Alive 유지, 유휴/만료 커넥션 백그라운드 제거, stale 커넥션 검증</li>
+ *   <li>애플리케이션 시작 시 커넥션 pre-warm (TLS 핸드셰이크 선행)</li>
+ *   <li>{@code httpcomponents.httpclient.pool.*} 메트릭 노출 (태그: {@code httpclient=거래소명})</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class ExchangeHttpTransport implements MeterBinder, AutoCloseable {
+
+    /**
+     * 거래소 이름 (메트릭 태그 및 로그에 사용)
+     */
+    @Getter
+    private final String exchange;
+
+    /**
+     * 거래소의 모든 RestClient가 공유하는 요청 팩토리
+     */
+    @Getter
+    private final ClientHttpRequestFactory requestFactory;
+
+    private final HttpClientPoolProperties pool;
+    private final Set<URI> origins;
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final AutoCloseable httpClient;
+
+    private ExchangeHttpTransport(String exchange,
+                                  HttpClientPoolProperties pool,
+                                  Set<URI> origins,
+                                  ClientHttpRequestFactory requestFactory,
+                                  PoolingHttpClientConnectionManager connectionManager,
+                                  AutoCloseable httpClient) {
+        this.exchange = exchange;
+        this.pool = pool;
+        this.origins = origins;
+        this.requestFactory = requestFactory;
+        this.connectionManager = connectionManager;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Creates a shared transport for a single exchange.
+     *
+     * @param exchange the exchange name used for metric tags and logging
+     * @param pool the connection pool settings
+     * @param connectTimeout the TCP connect timeout
+     * @param readTimeout the socket read (response) timeout
+     * @param baseUrls the base URLs served by this transport, used to pre-warm connections
+     * @return a new transport owning its own connection pool
+     */
+    public static ExchangeHttpTransport create(String exchange,
+                                               HttpClientPoolProperties pool,
+                                               Duration connectTimeout,
+                                               Duration readTimeout,
+                                               Collection<String> baseUrls) {
+        Set<URI> origins = new LinkedHashSet<>();
+        baseUrls.forEach(url -> origins.add(toOrigin(url)));
+
+        if (pool.isHttp2()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(readTimeout);
+            return new ExchangeHttpTransport(exchange, pool, origins, factory, null, httpClient);
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxConnections())
+            .setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(pool.getValidateAfterInactivity().toMillis()))
+                .setTimeToLive(TimeValue.ofMilliseconds(pool.getTimeToLive().toMillis()))
+                .build())
+            .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getConnectionRequestTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(pool.getKeepAlive().toMillis()))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleTimeout().toMillis()))
+            .build();
+
+        return new ExchangeHttpTransport(exchange, pool, origins,
+            new HttpComponentsClientHttpRequestFactory(httpClient), connectionManager, httpClient);
+    }
+
+    /**
+     * Opens the configured number of connections to every origin served by this transport.
+     * <p>
+     * Each connection is established by a lightweight {@code HEAD} request so the TCP and TLS handshakes
+     * happen before the first real call. Failures are logged and never propagated.
+     * </p>
+     */
+    public void prewarm() {
+        int connections = pool.isHttp2() ? Math.min(1, pool.getPrewarmConnections()) : pool.getPrewarmConnections();
+        if (connections <= 0) {
+            return;
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (URI origin : origins) {
+                for (int i = 0; i < connections; i++) {
+                    executor.execute(() -> warmUp(origin));
+                }
+            }
+        }
+        log.info("{} 커넥션 pre-warm 완료: origins={}, connections={}", exchange, origins, connections);
+    }
+
+    private void warmUp(URI origin) {
+        try (ClientHttpResponse response = requestFactory.createRequest(origin, HttpMethod.HEAD).execute()) {
+            log.debug("{} pre-warm 응답: {} {}", exchange, origin, response.getStatusCode());
+        } catch (IOException | RuntimeException e) {
+            log.warn("{} 커넥션 pre-warm 실패: {} ({})", exchange, origin, e.getMessage());
+        }
+    }
+
+    /**
+     * Binds the connection pool gauges of this transport to the given registry.
+     * <p>
+     * HTTP/2 mode has no observable pool, so nothing is registered in that case.
+     * </p>
+     *
+     * @param registry the meter registry to bind to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (connectionManager == null) {
+            return;
+        }
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, exchange).bindTo(registry);
+    }
+
+    /**
+     * Closes the underlying HTTP client together with its pooled connections.
+     *
+     * @throws Exception if the client fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        httpClient.close();
+    }
+
+    private static URI toOrigin(String baseUrl) {
+        return UriComponentsBuilder.fromUriString(baseUrl)
+            .replacePath("/")
+            .replaceQuery(null)
+            .build()
+            .toUri();
+    }
+}
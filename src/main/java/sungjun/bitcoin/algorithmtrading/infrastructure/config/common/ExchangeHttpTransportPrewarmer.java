@@ -0,0 +1,33 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 거래소 커넥션 풀을 미리 채우는 컴포넌트입니다.
+ * <p>
+ * 첫 주문 요청이 TCP/TLS 핸드셰이크 비용을 부담하지 않도록
+ * {@link ApplicationReadyEvent} 시점에 등록된 모든 {@link ExchangeHttpTransport}를 pre-warm 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class ExchangeHttpTransportPrewarmer {
+
+    private final List<ExchangeHttpTransport> transports;
+
+    /**
+     * Pre-warms every registered exchange transport once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarm() {
+        transports.forEach(ExchangeHttpTransport::prewarm);
+    }
+}
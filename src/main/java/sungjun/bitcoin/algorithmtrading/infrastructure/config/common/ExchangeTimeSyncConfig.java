@@ -0,0 +1,29 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeTimeSyncScheduler;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeTimeSynchronizer;
+
+import java.util.List;
+
+/**
+ * 거래소 서버 시각 동기화 설정 클래스입니다.
+ * <p>
+ * 각 거래소 설정 클래스가 등록한 {@link ExchangeTimeSynchronizer}를 모아 하나의 스케줄러로 실행합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(TimeSyncProperties.class)
+public class ExchangeTimeSyncConfig {
+
+    @Bean
+    public ExchangeTimeSyncScheduler exchangeTimeSyncScheduler(List<ExchangeTimeSynchronizer> synchronizers,
+                                                               TimeSyncProperties properties) {
+        return new ExchangeTimeSyncScheduler(synchronizers, properties);
+    }
+}
@@ -0,0 +1,120 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+
+/**
+ * 거래소별 HTTP 커넥션 풀 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code coinone.api.pool}, {@code binance.api.pool} 하위 설정 값들을 바인딩하며,
+ * 설정이 없는 항목은 기본값을 사용합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * coinone:
+ *   api:
+ *     pool:
+ *       max-connections: 50
+ *       max-connections-per-route: 20
+ *       keep-alive: 30s
+ *       idle-timeout: 30s
+ *       validate-after-inactivity: 2s
+ *       time-to-live: 5m
+ *       connection-request-timeout: 1s
+ *       http2: false
+ *       prewarm-connections: 2
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class HttpClientPoolProperties {
+
+    /**
+     * 풀 전체의 최대 커넥션 수
+     */
+    @Min(value = 1, message = "최대 커넥션 수는 1 이상이어야 합니다.")
+    private final int maxConnections;
+
+    /**
+     * 호스트(route)당 최대 커넥션 수
+     */
+    @Min(value = 1, message = "route당 최대 커넥션 수는 1 이상이어야 합니다.")
+    private final int maxConnectionsPerRoute;
+
+    /**
+     * 서버가 Keep-Alive 헤더를 보내지 않을 때 커넥션을 유지하는 시간
+     */
+    private final Duration keepAlive;
+
+    /**
+     * 유휴 커넥션을 풀에서 제거하기까지의 시간
+     */
+    private final Duration idleTimeout;
+
+    /**
+     * 재사용 전 stale 여부를 검사하는 유휴 시간 기준
+     */
+    private final Duration validateAfterInactivity;
+
+    /**
+     * 커넥션 최대 수명 (DNS 변경 반영 목적)
+     */
+    private final Duration timeToLive;
+
+    /**
+     * 풀에서 커넥션을 할당받기까지 대기하는 최대 시간
+     */
+    private final Duration connectionRequestTimeout;
+
+    /**
+     * HTTP/2 멀티플렉싱 사용 여부 (true인 경우 JDK HttpClient 기반 전송 계층 사용)
+     */
+    private final boolean http2;
+
+    /**
+     * 애플리케이션 시작 시 미리 열어 둘 커넥션 수 (0이면 pre-warm 하지 않음)
+     */
+    @Min(value = 0, message = "pre-warm 커넥션 수는 0 이상이어야 합니다.")
+    private final int prewarmConnections;
+
+    /**
+     * Constructs the connection pool settings for a single exchange, falling back to defaults for missing values.
+     *
+     * @param maxConnections the maximum number of connections in the pool
+     * @param maxConnectionsPerRoute the maximum number of connections per route
+     * @param keepAlive how long an idle connection is kept alive when the server sends no Keep-Alive header
+     * @param idleTimeout how long a connection may stay idle before it is evicted
+     * @param validateAfterInactivity the inactivity period after which a connection is checked for staleness before reuse
+     * @param timeToLive the maximum lifetime of a pooled connection
+     * @param connectionRequestTimeout the maximum time to wait for a connection lease from the pool
+     * @param http2 whether to negotiate HTTP/2 and multiplex requests over a single connection
+     * @param prewarmConnections the number of connections to open on startup
+     */
+    public HttpClientPoolProperties(@DefaultValue("50") int maxConnections,
+                                    @DefaultValue("20") int maxConnectionsPerRoute,
+                                    @DefaultValue("30s") Duration keepAlive,
+                                    @DefaultValue("30s") Duration idleTimeout,
+                                    @DefaultValue("2s") Duration validateAfterInactivity,
+                                    @DefaultValue("5m") Duration timeToLive,
+                                    @DefaultValue("1s") Duration connectionRequestTimeout,
+                                    @DefaultValue("false") boolean http2,
+                                    @DefaultValue("2") int prewarmConnections) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.keepAlive = keepAlive;
+        this.idleTimeout = idleTimeout;
+        this.validateAfterInactivity = validateAfterInactivity;
+        this.timeToLive = timeToLive;
+        this.connectionRequestTimeout = connectionRequestTimeout;
+        this.http2 = http2;
+        this.prewarmConnections = prewarmConnections;
+    }
+}
@@ -0,0 +1,27 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.metrics.VirtualThreadPinningMonitor;
+
+/**
+ * 가상 스레드 고정(pinning) 진단 설정 클래스입니다.
+ * <p>
+ * {@code spring.threads.virtual.enabled}로 요청 처리와 거래소 호출을 가상 스레드에서 실행할 때,
+ * 캐리어 스레드를 오래 점유하는 지점을 찾을 수 있도록 {@link VirtualThreadPinningMonitor}를 등록합니다.
+ * 포트폴리오 조회처럼 설정과 무관하게 가상 스레드를 사용하는 경로도 함께 감시합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(PinningMonitorProperties.class)
+public class PinningMonitorConfig {
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(PinningMonitorProperties properties) {
+        return new VirtualThreadPinningMonitor(properties);
+    }
+}
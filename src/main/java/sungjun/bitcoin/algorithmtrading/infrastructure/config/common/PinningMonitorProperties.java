@@ -0,0 +1,71 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 고정(pinning) 진단 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code exchange.pinning-monitor} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * 진단은 JFR 기록을 계속 유지하므로 기본으로 꺼져 있으며, 고정 지점을 찾을 때만 {@code enabled}를 켭니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * exchange:
+ *   pinning-monitor:
+ *     enabled: true
+ *     threshold: 20ms
+ *     stack-depth: 8
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "exchange.pinning-monitor")
+public class PinningMonitorProperties {
+
+    /**
+     * 고정 진단 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 기록할 최소 고정 시간 (JFR {@code jdk.VirtualThreadPinned} 이벤트 임계값)
+     */
+    @NotNull(message = "고정 시간 임계값은 필수입니다.")
+    private final Duration threshold;
+
+    /**
+     * 경고 로그에 출력할 스택 프레임 수
+     */
+    @Min(value = 1, message = "스택 프레임 수는 1 이상이어야 합니다.")
+    private final int stackDepth;
+
+    /**
+     * Constructs the pinning diagnostics settings.
+     *
+     * @param enabled whether pinning diagnostics are enabled
+     * @param threshold the minimum pinned duration that is recorded
+     * @param stackDepth the number of stack frames logged for a new pinning site
+     */
+    @ConstructorBinding
+    public PinningMonitorProperties(@DefaultValue("false") boolean enabled,
+                                    @DefaultValue("20ms") Duration threshold,
+                                    @DefaultValue("8") int stackDepth) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+    }
+}
@@ -0,0 +1,126 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래소별 클라이언트 측 요청 제한 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code coinone.api.rate-limit}, {@code binance.api.rate-limit} 하위 설정 값들을 바인딩하며,
+ * 설정이 없는 항목은 기본값을 사용합니다. {@code period}마다 {@code capacity}만큼의 가중치를 사용할 수 있고,
+ * 엔드포인트별 가중치와 우선 처리 경로는 요청 경로의 접두사로 매칭하며 가장 긴 접두사가 우선합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * binance:
+ *   api:
+ *     rate-limit:
+ *       capacity: 6000
+ *       period: 1m
+ *       max-wait: 500ms
+ *       priority-reserve: 0.2
+ *       used-weight-header: X-MBX-USED-WEIGHT-1M
+ *       weights:
+ *         "[/api/v3/account]": 20
+ *         "[/api/v3/depth]": 50
+ *       priority-paths: /api/v3/order
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class RateLimitProperties {
+
+    /**
+     * 요청 제한 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * {@code period} 동안 사용할 수 있는 최대 가중치
+     */
+    @Min(value = 1, message = "요청 제한 용량은 1 이상이어야 합니다.")
+    private final int capacity;
+
+    /**
+     * 용량이 모두 다시 채워지는 시간
+     */
+    private final Duration period;
+
+    /**
+     * 경로별 설정이 없는 요청의 가중치
+     */
+    @Min(value = 1, message = "기본 가중치는 1 이상이어야 합니다.")
+    private final int defaultWeight;
+
+    /**
+     * 요청 경로 접두사별 가중치
+     */
+    private final Map<String, Integer> weights;
+
+    /**
+     * 우선 처리할 요청 경로 접두사 (주문 등)
+     */
+    private final List<String> priorityPaths;
+
+    /**
+     * 우선 처리 요청만 사용할 수 있도록 남겨 둘 용량 비율 (0.0 ~ 1.0)
+     */
+    @DecimalMin(value = "0.0", message = "우선 처리 예약 비율은 0 이상이어야 합니다.")
+    @DecimalMax(value = "1.0", message = "우선 처리 예약 비율은 1 이하여야 합니다.")
+    private final double priorityReserve;
+
+    /**
+     * 용량이 부족할 때 요청이 대기할 수 있는 최대 시간 (초과하면 즉시 거절)
+     */
+    private final Duration maxWait;
+
+    /**
+     * 서버가 집계한 사용 가중치를 알려 주는 응답 헤더 이름 (비어 있으면 사용하지 않음)
+     */
+    private final String usedWeightHeader;
+
+    /**
+     * Constructs the rate limit settings for a single exchange, falling back to defaults for missing values.
+     *
+     * @param enabled whether client-side rate limiting is enabled
+     * @param capacity the total weight available per period
+     * @param period the time it takes to refill the full capacity
+     * @param defaultWeight the weight of requests without a path-specific weight
+     * @param weights request weights keyed by request path prefix
+     * @param priorityPaths request path prefixes served from the priority lane
+     * @param priorityReserve the fraction of capacity only priority requests may use
+     * @param maxWait the maximum time a request may queue for capacity before it is rejected
+     * @param usedWeightHeader the response header reporting the weight used on the server side, or empty
+     */
+    public RateLimitProperties(@DefaultValue("true") boolean enabled,
+                               @DefaultValue("1200") int capacity,
+                               @DefaultValue("1m") Duration period,
+                               @DefaultValue("1") int defaultWeight,
+                               @DefaultValue Map<String, Integer> weights,
+                               @DefaultValue List<String> priorityPaths,
+                               @DefaultValue("0.2") double priorityReserve,
+                               @DefaultValue("500ms") Duration maxWait,
+                               @DefaultValue("") String usedWeightHeader) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.period = period;
+        this.defaultWeight = defaultWeight;
+        this.weights = weights;
+        this.priorityPaths = priorityPaths;
+        this.priorityReserve = priorityReserve;
+        this.maxWait = maxWait;
+        this.usedWeightHeader = usedWeightHeader;
+    }
+}
@@ -0,0 +1,94 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import io.netty.channel.ChannelOption;
+import lombok.Getter;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 거래소 단위로 공유되는 논블로킹 HTTP 전송 계층입니다.
+ * <p>
+ * {@link ExchangeHttpTransport}의 WebClient 대응으로, 하나의 거래소에 속한 모든 WebClient가 같은 Reactor Netty
+ * 커넥션 풀을 사용하도록 {@link ClientHttpConnector}를 한 번만 생성하여 제공합니다.
+ * 요청은 Reactor Netty의 공용 이벤트 루프에서 처리되므로, 동시에 진행 중인 호출 수가 스레드 수가 아니라
+ * 커넥션 풀 크기({@link HttpClientPoolProperties#getMaxConnections()})로만 제한됩니다.
+ * </p>
+ *
+ * <h2>설정 매핑</h2>
+ * <ul>
+ *   <li>{@code max-connections}: 풀의 최대 커넥션 수 (Reactor Netty는 route 구분 없이 origin별로 관리)</li>
+ *   <li>{@code connection-request-timeout}: 커넥션을 얻기 위해 대기하는 최대 시간</li>
+ *   <li>{@code idle-timeout}, {@code time-to-live}: 유휴/만료 커넥션 제거</li>
+ *   <li>{@code http2}: true이면 ALPN으로 HTTP/2를 우선 협상</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class ReactiveExchangeTransport implements AutoCloseable {
+
+    /**
+     * 거래소 이름 (커넥션 풀 이름 및 로그에 사용)
+     */
+    @Getter
+    private final String exchange;
+
+    /**
+     * 거래소의 모든 WebClient가 공유하는 커넥터
+     */
+    @Getter
+    private final ClientHttpConnector connector;
+
+    private final ConnectionProvider connectionProvider;
+
+    private ReactiveExchangeTransport(String exchange, ClientHttpConnector connector, ConnectionProvider connectionProvider) {
+        this.exchange = exchange;
+        this.connector = connector;
+        this.connectionProvider = connectionProvider;
+    }
+
+    /**
+     * Creates a shared non-blocking transport for a single exchange.
+     *
+     * @param exchange the exchange name used for the connection pool name
+     * @param pool the connection pool settings
+     * @param connectTimeout the TCP connect timeout
+     * @param readTimeout the response timeout
+     * @return a new transport owning its own connection pool
+     */
+    public static ReactiveExchangeTransport create(String exchange,
+                                                   HttpClientPoolProperties pool,
+                                                   Duration connectTimeout,
+                                                   Duration readTimeout) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(exchange + "-reactive")
+            .maxConnections(pool.getMaxConnections())
+            .pendingAcquireTimeout(pool.getConnectionRequestTimeout())
+            .maxIdleTime(pool.getIdleTimeout())
+            .maxLifeTime(pool.getTimeToLive())
+            .evictInBackground(pool.getIdleTimeout())
+            .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+            .responseTimeout(readTimeout)
+            .keepAlive(true);
+        if (pool.isHttp2()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11);
+        }
+
+        return new ReactiveExchangeTransport(exchange, new ReactorClientHttpConnector(httpClient), connectionProvider);
+    }
+
+    /**
+     * Closes every pooled connection. The shared event loop is owned by Reactor Netty and stays running.
+     */
+    @Override
+    public void close() {
+        connectionProvider.dispose();
+    }
+}
@@ -0,0 +1,62 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.web.client.ResponseErrorHandler;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 거래소 {@link ResponseErrorHandler}를 WebClient 응답에 적용하는 필터입니다.
+ * <p>
+ * Coinone처럼 HTTP 200 응답 본문에 에러를 담는 거래소가 있으므로 상태 코드만으로는 에러를 판단할 수 없습니다.
+ * 이 필터는 응답 본문을 이벤트 루프에서 바이트 배열로 한 번 모은 뒤 {@link BufferedClientHttpResponse}로 감싸
+ * 블로킹 클라이언트와 같은 에러 핸들러로 판단하고, 정상 응답은 같은 바이트 배열로 본문을 다시 구성하여 디코더에 넘깁니다.
+ * 에러 핸들러가 던지는 거래소 예외({@code CoinoneApiException}, {@code BinanceApiException})는 그대로 {@link Mono#error(Throwable)}로 전달됩니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class ReactiveResponseErrorFilter implements ExchangeFilterFunction {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final ResponseErrorHandler errorHandler;
+
+    public ReactiveResponseErrorFilter(ResponseErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request)
+            .flatMap(response -> response.bodyToMono(byte[].class)
+                .defaultIfEmpty(EMPTY_BODY)
+                .map(body -> inspect(request, response, body)));
+    }
+
+    /**
+     * 에러 응답이면 거래소 예외를 던지고, 정상 응답이면 모아 둔 본문으로 응답을 다시 구성합니다.
+     */
+    private ClientResponse inspect(ClientRequest request, ClientResponse response, byte[] body) {
+        BufferedClientHttpResponse buffered = BufferedClientHttpResponse.of(
+            response.statusCode(), response.headers().asHttpHeaders(), body);
+        try {
+            if (errorHandler.hasError(buffered)) {
+                errorHandler.handleError(request.url(), request.method(), buffered);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return response.mutate()
+            .body(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+            .build();
+    }
+}
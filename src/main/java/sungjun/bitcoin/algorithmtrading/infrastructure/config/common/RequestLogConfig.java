@@ -0,0 +1,25 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common.AsyncRequestLogger;
+
+/**
+ * 거래소 요청 로그 설정 클래스입니다.
+ * <p>
+ * 모든 거래소 클라이언트의 {@code LoggingInterceptor}가 공유하는 {@link AsyncRequestLogger}를 등록합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RequestLogProperties.class)
+public class RequestLogConfig {
+
+    @Bean
+    public AsyncRequestLogger asyncRequestLogger(RequestLogProperties properties) {
+        return new AsyncRequestLogger(properties);
+    }
+}
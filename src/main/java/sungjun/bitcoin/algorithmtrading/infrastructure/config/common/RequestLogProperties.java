@@ -0,0 +1,94 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import java.util.Map;
+
+/**
+ * 거래소 요청 로그 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code exchange.request-log} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * 경로별 샘플링 비율은 요청 경로의 접두사로 매칭하며, 가장 긴 접두사가 우선합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * exchange:
+ *   request-log:
+ *     enabled: true
+ *     buffer-size: 1024
+ *     max-body-bytes: 512
+ *     default-sample-rate: 1.0
+ *     sample-rates:
+ *       "[/public/v2/ticker_new]": 0.01
+ *       "[/v2.1/order]": 1.0
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "exchange.request-log")
+public class RequestLogProperties {
+
+    /**
+     * 요청 로그 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 링 버퍼 슬롯 수 (2의 거듭제곱으로 올림)
+     */
+    @Min(value = 2, message = "버퍼 크기는 2 이상이어야 합니다.")
+    private final int bufferSize;
+
+    /**
+     * 요청/응답 본문을 기록할 최대 바이트 수 (초과분은 잘라냄)
+     */
+    @Min(value = 0, message = "본문 최대 크기는 0 이상이어야 합니다.")
+    private final int maxBodyBytes;
+
+    /**
+     * 경로별 설정이 없는 요청의 샘플링 비율 (0.0 ~ 1.0)
+     */
+    @DecimalMin(value = "0.0", message = "샘플링 비율은 0 이상이어야 합니다.")
+    @DecimalMax(value = "1.0", message = "샘플링 비율은 1 이하여야 합니다.")
+    private final double defaultSampleRate;
+
+    /**
+     * 요청 경로 접두사별 샘플링 비율
+     */
+    private final Map<String, Double> sampleRates;
+
+    /**
+     * Constructs the request log settings.
+     *
+     * @param enabled whether request logging is enabled
+     * @param bufferSize the number of ring buffer slots
+     * @param maxBodyBytes the maximum number of body bytes kept per request and response
+     * @param defaultSampleRate the sampling rate for paths without a specific rate
+     * @param sampleRates sampling rates keyed by request path prefix
+     */
+    @ConstructorBinding
+    public RequestLogProperties(@DefaultValue("true") boolean enabled,
+                                @DefaultValue("1024") int bufferSize,
+                                @DefaultValue("512") int maxBodyBytes,
+                                @DefaultValue("1.0") double defaultSampleRate,
+                                @DefaultValue Map<String, Double> sampleRates) {
+        this.enabled = enabled;
+        this.bufferSize = bufferSize;
+        this.maxBodyBytes = maxBodyBytes;
+        this.defaultSampleRate = defaultSampleRate;
+        this.sampleRates = sampleRates;
+    }
+}
@@ -0,0 +1,71 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 응답 본문을 한 번만 읽도록 보장하는 {@link ClientHttpRequestFactory}입니다.
+ * <p>
+ * {@code BufferingClientHttpRequestFactory}를 대체합니다. 요청 본문은 인터셉터 체인이 이미
+ * 바이트 배열로 보관하므로 다시 버퍼링하지 않고, 응답만 {@link BufferedClientHttpResponse}로
+ * 감싸 로깅 인터셉터, 에러 핸들러, 메시지 컨버터가 같은 본문을 공유하도록 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class SinglePassClientHttpRequestFactory implements ClientHttpRequestFactory {
+
+    private final ClientHttpRequestFactory delegate;
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        return new SinglePassClientHttpRequest(delegate.createRequest(uri, httpMethod));
+    }
+
+    @RequiredArgsConstructor
+    private static class SinglePassClientHttpRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            return BufferedClientHttpResponse.of(delegate.execute());
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return delegate.getAttributes();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * 거래소 서버 시각 동기화 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code exchange.time-sync} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * exchange:
+ *   time-sync:
+ *     enabled: true
+ *     interval: 30s
+ *     samples: 3
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "exchange.time-sync")
+public class TimeSyncProperties {
+
+    /**
+     * 백그라운드 동기화 사용 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 동기화 간격
+     */
+    @NotNull(message = "동기화 간격은 필수 값입니다.")
+    private final Duration interval;
+
+    /**
+     * 한 번의 동기화에서 조회할 서버 시각 샘플 수 (RTT가 가장 짧은 샘플을 사용)
+     */
+    @Min(value = 1, message = "샘플 수는 1 이상이어야 합니다.")
+    private final int samples;
+
+    /**
+     * Constructs the time synchronization settings.
+     *
+     * @param enabled whether background synchronization is enabled
+     * @param interval the delay between synchronizations
+     * @param samples the number of server time samples taken per synchronization
+     */
+    @ConstructorBinding
+    public TimeSyncProperties(@DefaultValue("true") boolean enabled,
+                              @DefaultValue("30s") Duration interval,
+                              @DefaultValue("3") int samples) {
+        this.enabled = enabled;
+        this.interval = interval;
+        this.samples = samples;
+    }
+}
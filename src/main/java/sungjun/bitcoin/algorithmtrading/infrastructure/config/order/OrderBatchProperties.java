@@ -0,0 +1,65 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.order;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
+
+/**
+ * 주문 일괄 처리 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code order-management.batch} 하위 설정 값들을 바인딩하며, 설정이 없는 항목은 기본값을 사용합니다.
+ * 첫 요청이 들어온 뒤 {@code window} 동안 들어온 주문/취소 요청을 최대 {@code max-size}개까지 한 묶음으로 모아,
+ * 동시에 {@code max-concurrency}개까지 전송합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * order-management:
+ *   batch:
+ *     window: 2ms
+ *     max-size: 50
+ *     max-concurrency: 16
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class OrderBatchProperties {
+
+    /**
+     * 첫 요청 이후 다른 요청을 모으기 위해 기다리는 시간 (0이면 이미 대기 중인 요청만 묶음)
+     */
+    private final Duration window;
+
+    /**
+     * 한 묶음의 최대 요청 수
+     */
+    @Min(value = 1, message = "묶음 최대 크기는 1 이상이어야 합니다.")
+    private final int maxSize;
+
+    /**
+     * 동시에 전송 중일 수 있는 최대 요청 수 (거래소 커넥션 풀 크기 이하로 설정)
+     */
+    @Min(value = 1, message = "최대 동시 요청 수는 1 이상이어야 합니다.")
+    private final int maxConcurrency;
+
+    /**
+     * Constructs the order batching settings, falling back to defaults for missing values.
+     *
+     * @param window how long the first request of a batch waits for more requests
+     * @param maxSize the maximum number of requests in a batch
+     * @param maxConcurrency the maximum number of requests in flight at once
+     */
+    public OrderBatchProperties(@DefaultValue("2ms") Duration window,
+                                @DefaultValue("50") int maxSize,
+                                @DefaultValue("16") int maxConcurrency) {
+        this.window = window;
+        this.maxSize = maxSize;
+        this.maxConcurrency = maxConcurrency;
+    }
+}
@@ -0,0 +1,46 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.order;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderGateway;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.halt.TradingHalt;
+import sungjun.bitcoin.algorithmtrading.service.order.CoinoneOrderVenue;
+import sungjun.bitcoin.algorithmtrading.service.order.OrderBatcher;
+import sungjun.bitcoin.algorithmtrading.service.order.OrderManager;
+
+/**
+ * 주문 관리자(OMS) 설정 클래스입니다.
+ * <p>
+ * 주문은 {@link CoinoneOrderGateway}로 보내고 정합성 확인은 {@link CoinoneOrderApiClient}로 조회하는
+ * Coinone {@link OrderManager}를 등록합니다. 전략은 주문 게이트웨이를 직접 호출하지 않고 이 빈을 통해 주문해야
+ * 주문 상태가 추적됩니다. 여러 호가를 한 번에 내거나 바꾸는 전략은 {@link OrderBatcher}로 묶어서 보낼 수 있습니다.
+ * 주문 관리자는 게이트웨이, Order API 클라이언트와 같은 {@code coinoneTradingHalt}를 사용하므로 거래 중단이 모든 주문 경로에 적용됩니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(OrderManagementProperties.class)
+public class OrderManagementConfig {
+
+    @Bean
+    public OrderManager coinoneOrderManager(OrderManagementProperties properties,
+                                            CoinoneOrderGateway coinoneOrderGateway,
+                                            CoinoneOrderApiClient coinoneOrderApiClient,
+                                            CoinoneProperties coinoneProperties,
+                                            @Qualifier("coinoneTradingHalt") TradingHalt halt) {
+        CoinoneOrderVenue venue = new CoinoneOrderVenue(coinoneOrderGateway, coinoneOrderApiClient,
+            coinoneProperties.getAccessToken());
+        return new OrderManager(venue, halt, properties);
+    }
+
+    @Bean
+    public OrderBatcher coinoneOrderBatcher(OrderManager coinoneOrderManager, OrderManagementProperties properties) {
+        return new OrderBatcher(coinoneOrderManager, properties.getBatch());
+    }
+}
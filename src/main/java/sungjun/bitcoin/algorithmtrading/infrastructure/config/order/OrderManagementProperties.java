@@ -0,0 +1,115 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.order;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * 주문 관리자(OMS) 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code order-management} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * {@code enabled}가 {@code false}이면 주문 상태는 계속 추적하지만 주기적인 정합성 확인은 실행하지 않습니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * order-management:
+ *   enabled: true
+ *   reconcile-interval: 5s
+ *   pending-timeout: 30s
+ *   terminal-retention: 10m
+ *   expected-orders: 1024
+ *   batch:
+ *     window: 2ms
+ *     max-size: 50
+ *     max-concurrency: 16
+ *   retry:
+ *     max-attempts: 3
+ *     initial-backoff: 20ms
+ *     max-backoff: 200ms
+ *     dedup-window: 1m
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "order-management")
+public class OrderManagementProperties {
+
+    /**
+     * 애플리케이션 시작 시 주기적인 정합성 확인 실행 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 거래소와 주문 상태를 비교하는 간격
+     */
+    @NotNull(message = "정합성 확인 간격은 필수 값입니다.")
+    private final Duration reconcileInterval;
+
+    /**
+     * 접수 여부를 알 수 없는 주문을 거래소에서 찾지 못하면 거부로 처리하기까지의 시간
+     */
+    @NotNull(message = "접수 확인 기한은 필수 값입니다.")
+    private final Duration pendingTimeout;
+
+    /**
+     * 종료된 주문을 메모리에 남겨 두는 시간
+     */
+    @NotNull(message = "종료 주문 보관 시간은 필수 값입니다.")
+    private final Duration terminalRetention;
+
+    /**
+     * 동시에 보관할 것으로 예상하는 주문 수 (인덱스 초기 크기)
+     */
+    @Min(value = 1, message = "예상 주문 수는 1 이상이어야 합니다.")
+    private final int expectedOrders;
+
+    /**
+     * 주문/취소 요청 일괄 처리 설정
+     */
+    private final OrderBatchProperties batch;
+
+    /**
+     * 주문 재시도 및 중복 주문 차단 설정
+     */
+    private final OrderRetryProperties retry;
+
+    /**
+     * Constructs the order management settings.
+     *
+     * @param enabled whether periodic reconciliation starts on startup
+     * @param reconcileInterval the delay between reconciliations
+     * @param pendingTimeout how long an order with an unknown outcome may stay unconfirmed before it is marked rejected
+     * @param terminalRetention how long terminal orders stay queryable
+     * @param expectedOrders the expected number of tracked orders, used to size the indexes
+     * @param batch the settings for coalescing and dispatching order and cancel requests
+     * @param retry the settings for retrying orders and suppressing duplicates
+     */
+    @ConstructorBinding
+    public OrderManagementProperties(@DefaultValue("true") boolean enabled,
+                                     @DefaultValue("5s") Duration reconcileInterval,
+                                     @DefaultValue("30s") Duration pendingTimeout,
+                                     @DefaultValue("10m") Duration terminalRetention,
+                                     @DefaultValue("1024") int expectedOrders,
+                                     @DefaultValue OrderBatchProperties batch,
+                                     @DefaultValue OrderRetryProperties retry) {
+        this.enabled = enabled;
+        this.reconcileInterval = reconcileInterval;
+        this.pendingTimeout = pendingTimeout;
+        this.terminalRetention = terminalRetention;
+        this.expectedOrders = expectedOrders;
+        this.batch = batch;
+        this.retry = retry;
+    }
+}
@@ -0,0 +1,78 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.order;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * 주문 재시도 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code order-management.retry} 하위 설정 값들을 바인딩하며, 설정이 없는 항목은 기본값을 사용합니다.
+ * 일시적인 실패로 전송하지 못한 주문은 첫 전송을 포함해 최대 {@code max-attempts}번까지 보내며,
+ * 재시도 간격은 {@code initial-backoff}부터 두 배씩 늘어나 {@code max-backoff}를 넘지 않는 범위에서 무작위로 정합니다.
+ * 같은 사용자 지정 주문 ID로 {@code dedup-window} 안에 다시 들어온 주문은 전송하지 않습니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * order-management:
+ *   retry:
+ *     max-attempts: 3
+ *     initial-backoff: 20ms
+ *     max-backoff: 200ms
+ *     dedup-window: 1m
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@ToString
+public class OrderRetryProperties {
+
+    /**
+     * 첫 전송을 포함한 최대 전송 횟수 (1이면 재시도하지 않음)
+     */
+    @Min(value = 1, message = "최대 전송 횟수는 1 이상이어야 합니다.")
+    private final int maxAttempts;
+
+    /**
+     * 첫 재시도 전 대기 시간의 상한
+     */
+    @NotNull(message = "재시도 초기 대기 시간은 필수 값입니다.")
+    private final Duration initialBackoff;
+
+    /**
+     * 재시도 전 대기 시간의 최대값
+     */
+    @NotNull(message = "재시도 최대 대기 시간은 필수 값입니다.")
+    private final Duration maxBackoff;
+
+    /**
+     * 같은 사용자 지정 주문 ID의 중복 주문을 막는 기간
+     */
+    @NotNull(message = "중복 주문 차단 기간은 필수 값입니다.")
+    private final Duration dedupWindow;
+
+    /**
+     * Constructs the order retry settings, falling back to defaults for missing values.
+     *
+     * @param maxAttempts the maximum number of times an order is sent, including the first attempt
+     * @param initialBackoff the upper bound of the delay before the first retry
+     * @param maxBackoff the upper bound of the delay before any retry
+     * @param dedupWindow how long an order stays registered under its user order id to suppress duplicates
+     */
+    public OrderRetryProperties(@DefaultValue("3") int maxAttempts,
+                                @DefaultValue("20ms") Duration initialBackoff,
+                                @DefaultValue("200ms") Duration maxBackoff,
+                                @DefaultValue("1m") Duration dedupWindow) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.dedupWindow = dedupWindow;
+    }
+}
@@ -0,0 +1,67 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.portfolio;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.BinanceAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneAccountApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneAccountRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.market.CoinoneMarketTable;
+import sungjun.bitcoin.algorithmtrading.service.portfolio.ExchangeBalance;
+import sungjun.bitcoin.algorithmtrading.service.portfolio.ExchangeBalanceSource;
+import sungjun.bitcoin.algorithmtrading.service.portfolio.PortfolioService;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 통합 포트폴리오 조회 설정 클래스입니다.
+ * <p>
+ * Coinone 전체 잔고 API와 Binance 계정 API를 {@link ExchangeBalanceSource}로 등록하고,
+ * 원화 가격은 {@link CoinoneMarketTable}의 최근 체결가로 평가하는 {@link PortfolioService}를 등록합니다.
+ * Binance 잔고는 0인 자산을 제외하고 조회합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(PortfolioProperties.class)
+public class PortfolioConfig {
+
+    @Bean
+    public PortfolioService portfolioService(PortfolioProperties properties,
+                                             CoinoneAccountApiClient coinoneAccountApiClient,
+                                             CoinoneProperties coinoneProperties,
+                                             BinanceAccountApiClient binanceAccountApiClient,
+                                             CoinoneMarketTable coinoneMarketTable) {
+        ExchangeBalanceSource coinone = new ExchangeBalanceSource("coinone", properties.getCoinoneTimeout(), () ->
+            coinoneAccountApiClient.getAccounts(CoinoneAccountRequest.builder()
+                    .accessToken(coinoneProperties.getAccessToken())
+                    .build())
+                .getBalances().stream()
+                .map(balance -> ExchangeBalance.of(balance.getCurrency(), balance.getAvailable(), balance.getLimit()))
+                .toList());
+        ExchangeBalanceSource binance = new ExchangeBalanceSource("binance", properties.getBinanceTimeout(), () ->
+            binanceAccountApiClient.getAccount(true)
+                .getBalances().stream()
+                .map(balance -> ExchangeBalance.of(balance.getAsset(), balance.getFree(), balance.getLocked()))
+                .toList());
+        return new PortfolioService(List.of(coinone, binance), currency -> krwPrice(coinoneMarketTable, currency));
+    }
+
+    /**
+     * 마켓 테이블의 최근 체결가를 원화 가격으로 사용합니다. 원화 마켓이 아니거나 시세가 없으면 {@code null}입니다.
+     */
+    private static BigDecimal krwPrice(CoinoneMarketTable marketTable, String currency) {
+        if (!"KRW".equalsIgnoreCase(marketTable.getQuoteCurrency())) {
+            return null;
+        }
+        int slot = marketTable.slotOf(currency);
+        long last = slot >= 0 ? marketTable.getLast(slot) : 0L;
+        return last > 0L ? FixedPoint.toBigDecimal(last, CoinoneTicker.PRICE_SCALE) : null;
+    }
+}
@@ -0,0 +1,60 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.portfolio;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * 통합 포트폴리오 조회 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code portfolio} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * 거래소별 기한 안에 잔고를 받지 못하면 마지막으로 조회한 잔고를 사용합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * portfolio:
+ *   coinone-timeout: 2s
+ *   binance-timeout: 2s
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "portfolio")
+public class PortfolioProperties {
+
+    /**
+     * Coinone 잔고 조회를 기다리는 최대 시간
+     */
+    @NotNull(message = "Coinone 잔고 조회 기한은 필수 값입니다.")
+    private final Duration coinoneTimeout;
+
+    /**
+     * Binance 잔고 조회를 기다리는 최대 시간
+     */
+    @NotNull(message = "Binance 잔고 조회 기한은 필수 값입니다.")
+    private final Duration binanceTimeout;
+
+    /**
+     * Constructs the portfolio settings.
+     *
+     * @param coinoneTimeout how long a portfolio request waits for Coinone balances
+     * @param binanceTimeout how long a portfolio request waits for Binance balances
+     */
+    @ConstructorBinding
+    public PortfolioProperties(@DefaultValue("2s") Duration coinoneTimeout,
+                               @DefaultValue("2s") Duration binanceTimeout) {
+        this.coinoneTimeout = coinoneTimeout;
+        this.binanceTimeout = binanceTimeout;
+    }
+}
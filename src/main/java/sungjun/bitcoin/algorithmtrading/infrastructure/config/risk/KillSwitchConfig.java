@@ -0,0 +1,64 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.risk;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamClient;
+import sungjun.bitcoin.algorithmtrading.service.order.OrderManager;
+import sungjun.bitcoin.algorithmtrading.service.risk.ErrorRateCheck;
+import sungjun.bitcoin.algorithmtrading.service.risk.FeedStalenessCheck;
+import sungjun.bitcoin.algorithmtrading.service.risk.KillSwitch;
+import sungjun.bitcoin.algorithmtrading.service.risk.KillSwitchEndpoint;
+import sungjun.bitcoin.algorithmtrading.service.risk.PriceShockCheck;
+import sungjun.bitcoin.algorithmtrading.service.risk.RiskCheck;
+
+import java.util.List;
+
+/**
+ * 긴급 거래 중단 장치 설정 클래스입니다.
+ * <p>
+ * Coinone 시세 스트림의 지연/끊김, Coinone API 오류율, 급격한 가격 변동을 위험 조건으로 등록하고,
+ * 등록된 모든 {@link OrderManager}를 대상으로 하는 {@link KillSwitch}와 수동 조작용 actuator 엔드포인트를 등록합니다.
+ * 시세 조건은 스트림 클라이언트의 소비자로 등록되므로 스트림이 연결되어 있을 때만 동작합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(KillSwitchProperties.class)
+public class KillSwitchConfig {
+
+    private static final String COINONE = "coinone";
+
+    @Bean
+    public FeedStalenessCheck coinoneFeedStalenessCheck(KillSwitchProperties properties, CoinoneStreamClient coinoneStreamClient) {
+        FeedStalenessCheck check = new FeedStalenessCheck(COINONE, properties.getFeedMaxStaleness(), properties.isCancelOnDisconnect());
+        coinoneStreamClient.addListener(check);
+        return check;
+    }
+
+    @Bean
+    public PriceShockCheck coinonePriceShockCheck(KillSwitchProperties properties, CoinoneStreamClient coinoneStreamClient) {
+        PriceShockCheck check = new PriceShockCheck(COINONE, properties.getPriceShockWindow(), properties.getPriceShockThreshold());
+        coinoneStreamClient.addListener(check);
+        return check;
+    }
+
+    @Bean
+    public ErrorRateCheck coinoneErrorRateCheck(KillSwitchProperties properties, MeterRegistry meterRegistry) {
+        return new ErrorRateCheck(meterRegistry, COINONE, properties.getErrorRateWindow(),
+            properties.getErrorRateThreshold(), properties.getErrorRateMinRequests());
+    }
+
+    @Bean
+    public KillSwitch killSwitch(KillSwitchProperties properties, List<OrderManager> orderManagers, List<RiskCheck> riskChecks) {
+        return new KillSwitch(orderManagers, riskChecks, properties);
+    }
+
+    @Bean
+    public KillSwitchEndpoint killSwitchEndpoint(KillSwitch killSwitch) {
+        return new KillSwitchEndpoint(killSwitch);
+    }
+}
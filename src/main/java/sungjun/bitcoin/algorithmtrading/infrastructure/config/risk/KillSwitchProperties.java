@@ -0,0 +1,155 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.risk;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 긴급 거래 중단 장치(kill switch) 설정 프로퍼티 클래스입니다.
+ * <p>
+ * {@code kill-switch} 로 시작하는 설정 값들을 바인딩하며, 설정하지 않은 값은 기본값을 사용합니다.
+ * 자동 감시는 기본으로 꺼져 있으며 {@code enabled}를 켜야 시작합니다. 꺼져 있어도 actuator 엔드포인트로 수동 중단은 할 수 있습니다.
+ * {@code pairs}에는 주문 관리자가 추적하지 않는 주문까지 항상 취소할 거래 쌍을 {@code QUOTE/TARGET} 형식으로 지정합니다.
+ * 비율은 소수(0.05 = 5%)로 지정합니다.
+ * </p>
+ *
+ * <h2>설정 예시</h2>
+ * <pre>
+ * kill-switch:
+ *   enabled: true
+ *   check-interval: 100ms
+ *   cancel-timeout: 2s
+ *   pairs: KRW/BTC, KRW/ETH
+ *   feed-max-staleness: 3s
+ *   cancel-on-disconnect: true
+ *   error-rate-window: 10s
+ *   error-rate-threshold: 0.5
+ *   error-rate-min-requests: 20
+ *   price-shock-window: 1m
+ *   price-shock-threshold: 0.05
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@Validated
+@ToString
+@ConfigurationProperties(prefix = "kill-switch")
+public class KillSwitchProperties {
+
+    /**
+     * 애플리케이션 시작 시 자동 감시 실행 여부
+     */
+    private final boolean enabled;
+
+    /**
+     * 위험 조건을 확인하는 간격
+     */
+    @NotNull(message = "위험 조건 확인 간격은 필수 값입니다.")
+    private final Duration checkInterval;
+
+    /**
+     * 전체 취소 요청의 응답을 기다리는 최대 시간
+     */
+    @NotNull(message = "전체 취소 대기 시간은 필수 값입니다.")
+    private final Duration cancelTimeout;
+
+    /**
+     * 활성 주문이 없어도 항상 전체 취소할 거래 쌍 (예: {@code KRW/BTC})
+     */
+    @NotNull(message = "전체 취소 거래 쌍 목록은 필수 값입니다.")
+    private final List<String> pairs;
+
+    /**
+     * 시세 스트림이 이 시간 동안 아무 메시지도 받지 못하면 거래 중단
+     */
+    @NotNull(message = "시세 최대 지연 시간은 필수 값입니다.")
+    private final Duration feedMaxStaleness;
+
+    /**
+     * 시세 스트림 연결이 끊기면 지연 시간을 기다리지 않고 바로 거래 중단할지 여부
+     */
+    private final boolean cancelOnDisconnect;
+
+    /**
+     * 거래소 API 오류율을 계산하는 구간
+     */
+    @NotNull(message = "오류율 계산 구간은 필수 값입니다.")
+    private final Duration errorRateWindow;
+
+    /**
+     * 이 비율 이상의 거래소 API 호출이 실패하면 거래 중단
+     */
+    @DecimalMin(value = "0.0", inclusive = false, message = "오류율 기준은 0보다 커야 합니다.")
+    @DecimalMax(value = "1.0", message = "오류율 기준은 1 이하여야 합니다.")
+    private final double errorRateThreshold;
+
+    /**
+     * 오류율을 판단하기 위한 구간 내 최소 호출 수
+     */
+    @Min(value = 1, message = "최소 호출 수는 1 이상이어야 합니다.")
+    private final int errorRateMinRequests;
+
+    /**
+     * 급격한 가격 변동을 판단하는 구간
+     */
+    @NotNull(message = "가격 변동 판단 구간은 필수 값입니다.")
+    private final Duration priceShockWindow;
+
+    /**
+     * 구간 안에서 가격이 이 비율 이상 움직이면 거래 중단
+     */
+    @DecimalMin(value = "0.0", inclusive = false, message = "가격 변동 기준은 0보다 커야 합니다.")
+    private final double priceShockThreshold;
+
+    /**
+     * Constructs the kill switch settings.
+     *
+     * @param enabled whether the automatic risk checks start on startup
+     * @param checkInterval the delay between risk checks
+     * @param cancelTimeout how long to wait for the cancel-all requests to complete
+     * @param pairs the currency pairs always cancelled, in {@code QUOTE/TARGET} form
+     * @param feedMaxStaleness how long the market data feed may stay silent
+     * @param cancelOnDisconnect whether a feed disconnection triggers immediately
+     * @param errorRateWindow the window over which the exchange API error rate is measured
+     * @param errorRateThreshold the error rate that triggers, as a fraction
+     * @param errorRateMinRequests the minimum number of calls in the window before the error rate is judged
+     * @param priceShockWindow the window over which price moves are measured
+     * @param priceShockThreshold the price move that triggers, as a fraction
+     */
+    @ConstructorBinding
+    public KillSwitchProperties(@DefaultValue("false") boolean enabled,
+                                @DefaultValue("100ms") Duration checkInterval,
+                                @DefaultValue("2s") Duration cancelTimeout,
+                                @DefaultValue List<String> pairs,
+                                @DefaultValue("3s") Duration feedMaxStaleness,
+                                @DefaultValue("true") boolean cancelOnDisconnect,
+                                @DefaultValue("10s") Duration errorRateWindow,
+                                @DefaultValue("0.5") double errorRateThreshold,
+                                @DefaultValue("20") int errorRateMinRequests,
+                                @DefaultValue("1m") Duration priceShockWindow,
+                                @DefaultValue("0.05") double priceShockThreshold) {
+        this.enabled = enabled;
+        this.checkInterval = checkInterval;
+        this.cancelTimeout = cancelTimeout;
+        this.pairs = pairs;
+        this.feedMaxStaleness = feedMaxStaleness;
+        this.cancelOnDisconnect = cancelOnDisconnect;
+        this.errorRateWindow = errorRateWindow;
+        this.errorRateThreshold = errorRateThreshold;
+        this.errorRateMinRequests = errorRateMinRequests;
+        this.priceShockWindow = priceShockWindow;
+        this.priceShockThreshold = priceShockThreshold;
+    }
+}
@@ -0,0 +1,27 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 클라이언트 측 요청 제한으로 거래소 요청을 보내지 않고 거절했음을 나타내는 예외입니다.
+ *
+ * <p>거래소의 요청 제한(HTTP 429)이나 IP 차단(HTTP 418)에 도달하기 전에 발생하므로, 요청은 거래소로 전송되지 않았습니다.
+ * {@link #getRetryAfter()} 이후에 다시 시도하면 용량이 확보되어 있을 가능성이 높습니다.</p>
+ *
+ * @see sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit.WeightedRateLimiter 가중치 기반 요청 제한기
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final String exchange;
+    private final int weight;
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String exchange, int weight, Duration retryAfter) {
+        super(String.format("%s rate limit exceeded: weight=%d, retryAfter=%dms", exchange, weight, retryAfter.toMillis()));
+        this.exchange = exchange;
+        this.weight = weight;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,22 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.exception;
+
+import lombok.Getter;
+
+/**
+ * 긴급 거래 중단 중이어서 새 주문을 거래소로 보내지 않고 거절했음을 나타내는 예외입니다.
+ *
+ * <p>주문은 주문 관리자에 등록되지도, 거래소로 전송되지도 않았습니다. 거래 중단이 해제되기 전까지 같은 주문은 계속 거절됩니다.</p>
+ *
+ * @see sungjun.bitcoin.algorithmtrading.service.risk.KillSwitch 긴급 거래 중단 장치
+ */
+@Getter
+public class TradingHaltedException extends RuntimeException {
+    private final String exchange;
+    private final String reason;
+
+    public TradingHaltedException(String exchange, String reason) {
+        super(String.format("%s trading halted: %s", exchange, reason));
+        this.exchange = exchange;
+        this.reason = reason;
+    }
+}
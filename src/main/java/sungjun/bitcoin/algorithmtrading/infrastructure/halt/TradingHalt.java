@@ -0,0 +1,74 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.halt;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.TradingHaltedException;
+
+/**
+ * 거래소 단위의 거래 중단 상태입니다.
+ * <p>
+ * 주문 관리자, 주문 게이트웨이, 주문 API 클라이언트처럼 새 주문을 거래소로 보낼 수 있는 모든 경로가 같은 인스턴스를 공유하여,
+ * 긴급 거래 중단 중에는 어느 경로로도 새 주문이 나가지 않게 합니다. 취소와 조회는 막지 않습니다.
+ * </p>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * halt.check();   // 중단 중이면 TradingHaltedException
+ * sendOrder(...);
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ * @see sungjun.bitcoin.algorithmtrading.service.risk.KillSwitch 긴급 거래 중단 장치
+ */
+public class TradingHalt {
+
+    private final String exchange;
+
+    private volatile String reason;
+
+    public TradingHalt(String exchange) {
+        this.exchange = exchange;
+    }
+
+    /**
+     * Rejects every new order on this exchange until {@link #resume()} is called.
+     *
+     * @param reason the reason reported by rejected orders
+     */
+    public void halt(String reason) {
+        this.reason = reason;
+    }
+
+    /**
+     * Accepts new orders again.
+     *
+     * @return {@code true} if trading was halted
+     */
+    public boolean resume() {
+        if (reason == null) {
+            return false;
+        }
+        reason = null;
+        return true;
+    }
+
+    /**
+     * Returns whether new orders are currently rejected.
+     *
+     * @return {@code true} if trading is halted
+     */
+    public boolean isHalted() {
+        return reason != null;
+    }
+
+    /**
+     * Throws if trading is halted. Call this before sending a new order.
+     *
+     * @throws TradingHaltedException if trading is halted
+     */
+    public void check() {
+        String current = reason;
+        if (current != null) {
+            throw new TradingHaltedException(exchange, current);
+        }
+    }
+}
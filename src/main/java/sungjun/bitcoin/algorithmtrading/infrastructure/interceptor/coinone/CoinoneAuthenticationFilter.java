@@ -0,0 +1,103 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.coinone;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.client.reactive.ClientHttpRequest;
+import org.springframework.http.client.reactive.ClientHttpRequestDecorator;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.util.Base64;
+import java.util.Optional;
+
+import static sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties.X_COINONE_PAYLOAD;
+import static sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties.X_COINONE_SIGNATURE;
+
+/**
+ * Coinone API 인증을 처리하는 WebClient 필터입니다.
+ * <p>
+ * {@link CoinoneAuthenticationInterceptor}의 논블로킹 대응으로, 요청 본문에 nonce를 채워 넣고 Base64로 인코딩한 뒤
+ * HMAC 서명을 생성하여 {@code X-COINONE-PAYLOAD}와 {@code X-COINONE-SIGNATURE} 헤더를 설정합니다.
+ * WebClient는 본문을 전송 시점에 인코더가 기록하므로, 요청을 감싸 기록되는 본문 버퍼를 하나로 모은 뒤
+ * 헤더가 커밋되기 전에 nonce를 넣어 서명하고 그 바이트를 그대로 전송합니다. 서명한 바이트와 전송되는 바이트가 정확히 일치합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class CoinoneAuthenticationFilter implements ExchangeFilterFunction {
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final HmacSigner signer;
+    private final CoinoneNonceInjector nonceInjector;
+
+    public CoinoneAuthenticationFilter(HmacSigner signer, ExchangeClock clock) {
+        this.signer = signer;
+        this.nonceInjector = new CoinoneNonceInjector(clock);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        BodyInserter<?, ? super ClientHttpRequest> body = request.body();
+        ClientRequest signed = ClientRequest.from(request)
+            .body((outputMessage, context) -> body.insert(new SigningRequest(outputMessage), context))
+            .build();
+        return next.exchange(signed);
+    }
+
+    /**
+     * 기록되는 본문을 서명한 뒤 전송하는 요청 래퍼입니다.
+     */
+    private final class SigningRequest extends ClientHttpRequestDecorator {
+
+        private SigningRequest(ClientHttpRequest delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            // 헤더는 본문 구독 전에 커밋되므로, 본문을 먼저 모아 서명한 뒤 전송
+            return DataBufferUtils.join(body)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(joined -> {
+                    if (joined.isEmpty()) {
+                        sign(EMPTY_BODY);
+                        return super.writeWith(Mono.empty());
+                    }
+                    DataBuffer buffer = joined.get();
+                    byte[] bytes = new byte[buffer.readableByteCount()];
+                    buffer.read(bytes);
+                    DataBufferUtils.release(buffer);
+                    byte[] signedBody = nonceInjector.inject(bytes);
+                    // nonce를 넣으면 본문 길이가 바뀌므로 인코더가 설정한 Content-Length를 갱신
+                    getHeaders().setContentLength(signedBody.length);
+                    sign(signedBody);
+                    return super.writeWith(Mono.just(bufferFactory().wrap(signedBody)));
+                });
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            // 본문 없이 완료되는 요청도 빈 본문으로 서명
+            return Mono.defer(() -> {
+                sign(EMPTY_BODY);
+                return super.setComplete();
+            });
+        }
+
+        private void sign(byte[] body) {
+            String encodedPayload = Base64.getEncoder().encodeToString(body);
+            getHeaders().set(X_COINONE_PAYLOAD, encodedPayload);
+            getHeaders().set(X_COINONE_SIGNATURE, signer.sign(encodedPayload));
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.coinone;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.stereotype.Component;
 import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties;
-import sungjun.bitcoin.algorithmtrading.util.SignatureUtils;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
 
 import java.io.IOException;
 import java.util.Base64;
@@ -18,25 +17,37 @@ import static sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.Coi
 /**
  * Coinone API 인증을 처리하는 HTTP 요청 인터셉터입니다.
  * <p>
- * 비공개 API 호출 시 필요한 인증 헤더를 자동으로 추가합니다.
- * 요청 본문을 Base64로 인코딩하고 HMAC 서명을 생성하여
+ * 비공개 API 호출 시 필요한 nonce와 인증 헤더를 자동으로 추가합니다.
+ * 요청 본문에 {@link ExchangeClock}이 발급한 nonce를 채워 넣은 뒤 Base64로 인코딩하고 HMAC 서명을 생성하여
  * X-COINONE-PAYLOAD와 X-COINONE-SIGNATURE 헤더를 설정합니다.
+ * 서명에는 시작 시 한 번 초기화된 {@link HmacSigner}를 재사용합니다.
  * </p>
  *
  * @author sungjun
  * @since 1.0
  */
-@Component
-@RequiredArgsConstructor
 public class CoinoneAuthenticationInterceptor implements ClientHttpRequestInterceptor {
 
-    private final CoinoneProperties properties;
+    private final HmacSigner signer;
+    private final CoinoneNonceInjector nonceInjector;
+
+    /**
+     * Creates the interceptor with a signer pre-initialized from the configured secret key and algorithm.
+     *
+     * @param properties the Coinone API configuration
+     * @param clock the clock issuing request nonces
+     */
+    public CoinoneAuthenticationInterceptor(CoinoneProperties properties, ExchangeClock clock) {
+        this.signer = new HmacSigner(properties.getSecretKey(), properties.getSignatureAlgorithm());
+        this.nonceInjector = new CoinoneNonceInjector(clock);
+    }
 
     /**
      * Intercepts an HTTP request to add Coinone API authentication headers.
      *
-     * Encodes the request body in Base64, generates an HMAC signature using the configured secret key and algorithm,
-     * and sets the `X-COINONE-PAYLOAD` and `X-COINONE-SIGNATURE` headers before forwarding the request.
+     * Adds a freshly issued {@code nonce} to the request body, encodes it in Base64, generates an HMAC signature
+     * using the configured secret key and algorithm, and sets the `X-COINONE-PAYLOAD` and `X-COINONE-SIGNATURE`
+     * headers before forwarding the request with the nonce-bearing body.
      *
      * @param request the HTTP request to intercept
      * @param body the request body as a byte array
@@ -46,11 +57,14 @@ public class CoinoneAuthenticationInterceptor implements ClientHttpRequestInterc
      */
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
-        String encodedPayload = Base64.getEncoder().encodeToString(body);
-        String signature = SignatureUtils.makeSignature(properties.getSecretKey(), encodedPayload, properties.getSignatureAlgorithm());
+        byte[] signedBody = nonceInjector.inject(body);
+        String encodedPayload = Base64.getEncoder().encodeToString(signedBody);
+        String signature = signer.sign(encodedPayload);
+        // nonce를 넣으면 본문 길이가 바뀌므로 앞서 계산된 Content-Length를 갱신
+        request.getHeaders().setContentLength(signedBody.length);
         request.getHeaders().add(X_COINONE_PAYLOAD, encodedPayload);
         request.getHeaders().add(X_COINONE_SIGNATURE, signature);
 
-        return execution.execute(request, body);
+        return execution.execute(request, signedBody);
     }
 }
@@ -0,0 +1,58 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.coinone;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Coinone 비공개 API 요청 본문에 nonce를 채워 넣는 도우미입니다.
+ * <p>
+ * 요청 객체는 nonce 없이 직렬화되고, 서명 직전에 {@link ExchangeClock}이 발급한 nonce를 JSON 객체의 첫 필드로 삽입합니다.
+ * 호출자가 nonce를 직접 만들거나 재사용할 수 없으므로, 재시도나 재전송 시에도 요청마다 새 nonce가 붙습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+final class CoinoneNonceInjector {
+
+    private static final byte[] NONCE_FIELD = "\"nonce\":\"".getBytes(StandardCharsets.US_ASCII);
+
+    private final ExchangeClock clock;
+
+    CoinoneNonceInjector(ExchangeClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a copy of the JSON object body with a freshly issued {@code nonce} field prepended.
+     * <p>
+     * Bodies that are not a JSON object (including an empty body) are returned unchanged.
+     * </p>
+     *
+     * @param body the serialized request body
+     * @return the body to sign and send
+     */
+    byte[] inject(byte[] body) {
+        if (body.length < 2 || body[0] != '{') {
+            return body;
+        }
+        byte[] nonce = clock.nextNonce().getBytes(StandardCharsets.US_ASCII);
+        boolean emptyObject = body[1] == '}';
+        byte[] injected = new byte[body.length + NONCE_FIELD.length + nonce.length + (emptyObject ? 1 : 2)];
+
+        // {"nonce":"<nonce>", + 원래 본문의 '{' 이후
+        int position = 0;
+        injected[position++] = '{';
+        System.arraycopy(NONCE_FIELD, 0, injected, position, NONCE_FIELD.length);
+        position += NONCE_FIELD.length;
+        System.arraycopy(nonce, 0, injected, position, nonce.length);
+        position += nonce.length;
+        injected[position++] = '"';
+        if (!emptyObject) {
+            injected[position++] = ',';
+        }
+        System.arraycopy(body, 1, injected, position, body.length - 1);
+        return injected;
+    }
+}
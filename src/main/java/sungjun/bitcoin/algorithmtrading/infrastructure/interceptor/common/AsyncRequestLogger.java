@@ -0,0 +1,228 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpMethod;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RequestLogProperties;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 거래소 요청 로그를 링 버퍼에 기록하고 백그라운드 스레드에서 출력하는 로거입니다.
+ * <p>
+ * 요청 스레드는 샘플링 여부를 판단한 뒤 {@link RequestLogRingBuffer}의 미리 할당된 슬롯에
+ * 참조와 잘라낸 본문 바이트만 복사하고 즉시 반환합니다. 버퍼가 가득 차면 대기하지 않고 레코드를 버립니다.
+ * 문자열 포맷팅과 로그 출력은 전용 데몬 스레드에서만 수행합니다.
+ * </p>
+ * <p>
+ * 인증 정보가 담긴 요청 헤더(API 키, 서명, 페이로드)는 기록하지 않습니다.
+ * </p>
+ *
+ * <h2>메트릭</h2>
+ * <ul>
+ *   <li>{@code exchange.request.log.dropped}: 버퍼가 가득 차 버려진 레코드 수</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class AsyncRequestLogger implements SmartLifecycle, MeterBinder {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final boolean enabled;
+    private final RequestLogRingBuffer ringBuffer;
+    private final String[] samplePrefixes;
+    private final double[] sampleRates;
+    private final double defaultSampleRate;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AsyncRequestLogger(RequestLogProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.ringBuffer = new RequestLogRingBuffer(properties.getBufferSize(), properties.getMaxBodyBytes());
+        this.defaultSampleRate = properties.getDefaultSampleRate();
+
+        // 가장 긴 접두사가 먼저 매칭되도록 정렬
+        List<Map.Entry<String, Double>> entries = properties.getSampleRates().entrySet().stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, Double> entry) -> entry.getKey().length()).reversed())
+            .toList();
+        this.samplePrefixes = new String[entries.size()];
+        this.sampleRates = new double[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            samplePrefixes[i] = entries.get(i).getKey();
+            sampleRates[i] = entries.get(i).getValue();
+        }
+    }
+
+    /**
+     * Decides whether a request to the given URI should be logged, using the rate of the longest matching
+     * path prefix.
+     *
+     * @param uri the request URI
+     * @return {@code true} if the request is sampled
+     */
+    public boolean isSampled(URI uri) {
+        if (!enabled) {
+            return false;
+        }
+        double rate = sampleRateOf(uri.getRawPath());
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * Records a completed exchange call. Never blocks; the record is dropped if the buffer is full.
+     *
+     * @param method the request method
+     * @param uri the request URI
+     * @param requestBody the request body
+     * @param status the response status code
+     * @param responseBody the response body
+     * @param durationNanos the elapsed time of the call
+     */
+    public void record(HttpMethod method, URI uri, byte[] requestBody, int status, byte[] responseBody, long durationNanos) {
+        RequestLogRecord record = ringBuffer.tryClaim();
+        if (record == null) {
+            return;
+        }
+        record.method = method;
+        record.uri = uri;
+        record.status = status;
+        record.durationNanos = durationNanos;
+        record.copyRequestBody(requestBody);
+        record.copyResponseBody(responseBody);
+        ringBuffer.publish(record);
+    }
+
+    /**
+     * Records an exchange call that failed before a response was received.
+     *
+     * @param method the request method
+     * @param uri the request URI
+     * @param requestBody the request body
+     * @param error the failure
+     * @param durationNanos the elapsed time of the call
+     */
+    public void recordFailure(HttpMethod method, URI uri, byte[] requestBody, Exception error, long durationNanos) {
+        RequestLogRecord record = ringBuffer.tryClaim();
+        if (record == null) {
+            return;
+        }
+        record.method = method;
+        record.uri = uri;
+        record.durationNanos = durationNanos;
+        record.error = error.toString();
+        record.copyRequestBody(requestBody);
+        ringBuffer.publish(record);
+    }
+
+    /**
+     * Formats every pending record and passes each line to the sink. Only one thread may drain at a time.
+     *
+     * @param sink the receiver of formatted log lines
+     * @return the number of records drained
+     */
+    int drainTo(Consumer<String> sink) {
+        return ringBuffer.drain(record -> sink.accept(format(record)));
+    }
+
+    long getDroppedCount() {
+        return ringBuffer.dropped();
+    }
+
+    private double sampleRateOf(String path) {
+        for (int i = 0; i < samplePrefixes.length; i++) {
+            if (path.startsWith(samplePrefixes[i])) {
+                return sampleRates[i];
+            }
+        }
+        return defaultSampleRate;
+    }
+
+    private String format(RequestLogRecord record) {
+        line.setLength(0);
+        line.append(record.method).append(' ').append(record.uri);
+        if (record.error != null) {
+            line.append(" -> ").append(record.error);
+        } else {
+            line.append(" -> ").append(record.status);
+        }
+        line.append(" (").append(TimeUnit.NANOSECONDS.toMicros(record.durationNanos)).append("us)");
+        appendBody("request", record.requestBody, record.requestBodyLength, record.requestBodyTotal);
+        appendBody("response", record.responseBody, record.responseBodyLength, record.responseBodyTotal);
+        return line.toString();
+    }
+
+    private void appendBody(String label, byte[] body, int length, int total) {
+        if (total == 0) {
+            return;
+        }
+        line.append(' ').append(label).append('=').append(new String(body, 0, length, StandardCharsets.UTF_8));
+        if (total > length) {
+            line.append("...(+").append(total - length).append(" bytes)");
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            if (drainTo(log::info) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 종료 전 남은 레코드 출력
+        drainTo(log::info);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform()
+            .name("exchange-request-log")
+            .daemon(true)
+            .start(this::runWorker);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("exchange.request.log.dropped", this, AsyncRequestLogger::getDroppedCount)
+            .description("Request log records dropped because the ring buffer was full")
+            .register(registry);
+    }
+}
@@ -1,68 +1,54 @@
 package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.BufferedClientHttpResponse;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 
 /**
  * HTTP 요청과 응답을 로그로 기록하는 인터셉터입니다.
  * <p>
- * 모든 외부 API 호출에 대해 요청 URL, 메서드, 헤더, 본문과
- * 응답 상태 코드, 헤더, 본문을 상세하게 로그로 기록합니다.
- * 디버깅 및 문제 해결에 유용합니다.
+ * 요청 메서드, URI, 상태 코드, 소요 시간과 잘라낸 요청/응답 본문을 {@link AsyncRequestLogger}에 넘기며,
+ * 포맷팅과 출력은 백그라운드 스레드에서 수행되므로 요청 스레드를 막지 않습니다.
+ * 경로별 샘플링에서 제외된 요청은 아무것도 기록하지 않고 그대로 실행합니다.
+ * </p>
+ * <p>
+ * 응답 본문은 {@link BufferedClientHttpResponse}로 한 번만 읽어 이후 에러 핸들러와
+ * 메시지 컨버터가 같은 버퍼를 재사용합니다.
  * </p>
  *
  * @author sungjun
  * @since 1.0
  */
-@Slf4j
 @Component
+@RequiredArgsConstructor
 public class LoggingInterceptor implements ClientHttpRequestInterceptor {
 
+    private final AsyncRequestLogger requestLogger;
+
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
-        logRequest(request, body);
-
-        // 응답을 래핑하여 복사된 본문으로 처리
-        ClientHttpResponse response = execution.execute(request, body);
+        if (!requestLogger.isSampled(request.getURI())) {
+            return execution.execute(request, body);
+        }
 
-        logResponse(response);
+        long startedAt = System.nanoTime();
+        BufferedClientHttpResponse response;
+        try {
+            // 본문을 한 번만 읽어 두고 이후 단계에서 같은 버퍼를 공유
+            response = BufferedClientHttpResponse.of(execution.execute(request, body));
+        } catch (IOException | RuntimeException e) {
+            requestLogger.recordFailure(request.getMethod(), request.getURI(), body, e, System.nanoTime() - startedAt);
+            throw e;
+        }
 
+        requestLogger.record(request.getMethod(), request.getURI(), body,
+            response.getStatusCode().value(), response.getBodyBytes(), System.nanoTime() - startedAt);
         return response;
     }
-
-    private void logRequest(HttpRequest request, byte[] body) {
-        log.info("===========================request begin================================================");
-        log.info("URI         : {}", request.getURI());
-        log.info("Method      : {}", request.getMethod());
-        log.info("Headers     : {}", request.getHeaders());
-        log.info("Request body: {}", new String(body, StandardCharsets.UTF_8));
-        log.info("==========================request end================================================");
-    }
-
-    private void logResponse(ClientHttpResponse response) throws IOException {
-        StringBuilder inputStringBuilder = new StringBuilder();
-        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
-            String line = bufferedReader.readLine();
-            while (line != null) {
-                inputStringBuilder.append(line);
-                inputStringBuilder.append('\n');
-                line = bufferedReader.readLine();
-            }
-        }
-        log.info("============================response begin==========================================");
-        log.info("Status code  : {}", response.getStatusCode());
-        log.info("Status text  : {}", response.getStatusText());
-        log.info("Headers      : {}", response.getHeaders());
-        log.info("Response body: {}", inputStringBuilder);
-        log.info("=======================response end=================================================");
-    }
 }
@@ -0,0 +1,134 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RateLimitProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit.RequestPriority;
+import sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit.WeightedRateLimiter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래소 요청을 전송하기 전에 {@link WeightedRateLimiter}에서 가중치를 예약하는 인터셉터입니다.
+ * <p>
+ * 요청 경로의 가장 긴 접두사로 엔드포인트 가중치와 우선순위를 결정하고, 용량이 부족하면 최대 {@code max-wait}까지
+ * 대기하거나 {@link sungjun.bitcoin.algorithmtrading.infrastructure.exception.RateLimitExceededException}으로 즉시 거절합니다.
+ * 응답을 받으면 서버가 집계한 사용 가중치 헤더로 로컬 추정을 보정하고, HTTP 429/418 응답은 {@code Retry-After} 동안
+ * 이후 요청을 막아 IP 차단이 길어지지 않게 합니다.
+ * </p>
+ * <p>
+ * 거래소의 모든 RestClient가 같은 {@link WeightedRateLimiter}를 공유해야 거래소 단위 예산이 지켜집니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class RateLimitInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final int IM_A_TEAPOT = 418;
+
+    private final WeightedRateLimiter limiter;
+    private final boolean enabled;
+    private final int defaultWeight;
+    private final String[] weightPrefixes;
+    private final int[] weights;
+    private final String[] priorityPrefixes;
+    private final String usedWeightHeader;
+
+    public RateLimitInterceptor(WeightedRateLimiter limiter, RateLimitProperties properties) {
+        this.limiter = limiter;
+        this.enabled = properties.isEnabled();
+        this.defaultWeight = properties.getDefaultWeight();
+        this.usedWeightHeader = properties.getUsedWeightHeader().isBlank() ? null : properties.getUsedWeightHeader();
+
+        // 가장 긴 접두사가 먼저 매칭되도록 정렬
+        List<Map.Entry<String, Integer>> entries = properties.getWeights().entrySet().stream()
+            .sorted(Comparator.comparingInt((Map.Entry<String, Integer> entry) -> entry.getKey().length()).reversed())
+            .toList();
+        this.weightPrefixes = new String[entries.size()];
+        this.weights = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            weightPrefixes[i] = entries.get(i).getKey();
+            weights[i] = entries.get(i).getValue();
+        }
+        this.priorityPrefixes = properties.getPriorityPaths().toArray(String[]::new);
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!enabled) {
+            return execution.execute(request, body);
+        }
+        String path = request.getURI().getRawPath();
+        limiter.acquire(weightOf(path), priorityOf(path));
+
+        ClientHttpResponse response = execution.execute(request, body);
+        observe(response);
+        return response;
+    }
+
+    /**
+     * 응답 헤더로 버킷 상태를 보정합니다. 본문은 읽지 않습니다.
+     */
+    private void observe(ClientHttpResponse response) throws IOException {
+        HttpHeaders headers = response.getHeaders();
+        if (usedWeightHeader != null) {
+            String usedWeight = headers.getFirst(usedWeightHeader);
+            if (usedWeight != null) {
+                try {
+                    limiter.observeUsedWeight(Integer.parseInt(usedWeight.trim()));
+                } catch (NumberFormatException e) {
+                    log.debug("Ignoring malformed {} header: {}", usedWeightHeader, usedWeight);
+                }
+            }
+        }
+
+        int status = response.getStatusCode().value();
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value() || status == IM_A_TEAPOT) {
+            limiter.penalize(retryAfterOf(headers));
+        }
+    }
+
+    int weightOf(String path) {
+        for (int i = 0; i < weightPrefixes.length; i++) {
+            if (path.startsWith(weightPrefixes[i])) {
+                return weights[i];
+            }
+        }
+        return defaultWeight;
+    }
+
+    RequestPriority priorityOf(String path) {
+        for (String prefix : priorityPrefixes) {
+            if (path.startsWith(prefix)) {
+                return RequestPriority.HIGH;
+            }
+        }
+        return RequestPriority.NORMAL;
+    }
+
+    /**
+     * {@code Retry-After}가 없거나 초 단위 숫자가 아니면 1초로 간주합니다.
+     */
+    private static Duration retryAfterOf(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring non-numeric Retry-After header: {}", retryAfter);
+            }
+        }
+        return Duration.ofSeconds(1);
+    }
+}
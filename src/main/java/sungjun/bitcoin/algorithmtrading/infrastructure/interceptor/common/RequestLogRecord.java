@@ -0,0 +1,60 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
+
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+
+/**
+ * 링 버퍼에 미리 할당되어 재사용되는 요청 로그 레코드입니다.
+ * <p>
+ * 요청 스레드는 불변 객체({@link URI}, {@link HttpMethod})의 참조와 숫자 값, 그리고 잘라낸 본문 바이트만
+ * 슬롯에 복사하며, 문자열 변환은 백그라운드 스레드에서 수행합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+final class RequestLogRecord {
+
+    long position;
+    HttpMethod method;
+    URI uri;
+    int status;
+    long durationNanos;
+    String error;
+
+    final byte[] requestBody;
+    int requestBodyLength;
+    int requestBodyTotal;
+
+    final byte[] responseBody;
+    int responseBodyLength;
+    int responseBodyTotal;
+
+    RequestLogRecord(int maxBodyBytes) {
+        this.requestBody = new byte[maxBodyBytes];
+        this.responseBody = new byte[maxBodyBytes];
+    }
+
+    void copyRequestBody(byte[] body) {
+        requestBodyTotal = body.length;
+        requestBodyLength = Math.min(body.length, requestBody.length);
+        System.arraycopy(body, 0, requestBody, 0, requestBodyLength);
+    }
+
+    void copyResponseBody(byte[] body) {
+        responseBodyTotal = body.length;
+        responseBodyLength = Math.min(body.length, responseBody.length);
+        System.arraycopy(body, 0, responseBody, 0, responseBodyLength);
+    }
+
+    void clear() {
+        method = null;
+        uri = null;
+        error = null;
+        status = 0;
+        durationNanos = 0L;
+        requestBodyLength = requestBodyTotal = 0;
+        responseBodyLength = responseBodyTotal = 0;
+    }
+}
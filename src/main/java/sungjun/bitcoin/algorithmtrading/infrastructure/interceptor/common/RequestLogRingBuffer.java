@@ -0,0 +1,106 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 다수 생산자, 단일 소비자용 고정 크기 잠금 없는 링 버퍼입니다.
+ * <p>
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 CAS 한 번으로 슬롯을 점유하고, 기록 후 시퀀스를 갱신하여 공개합니다.
+ * 버퍼가 가득 찬 경우 대기하지 않고 레코드를 버리며 버린 횟수를 기록합니다.
+ * 슬롯의 {@link RequestLogRecord}는 생성 시 모두 할당되어 재사용되므로 기록 시 할당이 없습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+final class RequestLogRingBuffer {
+
+    private final RequestLogRecord[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long consumerPosition;
+
+    RequestLogRingBuffer(int requestedCapacity, int maxBodyBytes) {
+        int capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.slots = new RequestLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new RequestLogRecord(maxBodyBytes);
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claims a free slot for writing, or returns {@code null} without waiting if the buffer is full.
+     *
+     * @return the claimed record, which must be passed to {@link #publish(RequestLogRecord)}
+     */
+    RequestLogRecord tryClaim() {
+        long position = producerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    RequestLogRecord record = slots[index];
+                    record.position = position;
+                    return record;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                dropped.incrementAndGet();
+                return null;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * Makes a claimed record visible to the consumer.
+     *
+     * @param record the record returned by {@link #tryClaim()}
+     */
+    void publish(RequestLogRecord record) {
+        sequences.lazySet((int) (record.position & mask), record.position + 1);
+    }
+
+    /**
+     * Hands every published record to the consumer in order and releases its slot. Must only be called
+     * from a single consumer thread at a time.
+     *
+     * @param consumer the record consumer
+     * @return the number of records drained
+     */
+    int drain(Consumer<RequestLogRecord> consumer) {
+        int drained = 0;
+        while (true) {
+            int index = (int) (consumerPosition & mask);
+            if (sequences.get(index) != consumerPosition + 1) {
+                return drained;
+            }
+            RequestLogRecord record = slots[index];
+            try {
+                consumer.accept(record);
+            } finally {
+                record.clear();
+                sequences.lazySet(index, consumerPosition + slots.length);
+                consumerPosition++;
+                drained++;
+            }
+        }
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    long dropped() {
+        return dropped.get();
+    }
+}
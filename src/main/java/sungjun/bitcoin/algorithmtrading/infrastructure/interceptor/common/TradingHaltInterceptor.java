@@ -0,0 +1,36 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.halt.TradingHalt;
+
+import java.io.IOException;
+
+/**
+ * 거래 중단 중에 새 주문 요청을 전송하지 않고 거절하는 인터셉터입니다.
+ * <p>
+ * 요청 경로가 {@code orderPath}로 끝나는 {@code POST} 요청만 새 주문으로 보고 {@link TradingHalt#check()}를 호출하므로,
+ * 취소와 조회 요청은 거래 중단 중에도 전송됩니다. 거절된 요청이 요청 제한 예산을 쓰지 않도록 인터셉터 체인의 맨 앞에 둡니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class TradingHaltInterceptor implements ClientHttpRequestInterceptor {
+
+    private final TradingHalt halt;
+    private final String orderPath;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (HttpMethod.POST.equals(request.getMethod()) && request.getURI().getRawPath().endsWith(orderPath)) {
+            halt.check();
+        }
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,498 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.market;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 하나의 기준 통화(예: KRW)에 속한 모든 Coinone 마켓의 최신 시세를 보관하는 메모리 테이블입니다.
+ * <p>
+ * {@code /ticker_new/{quote_currency}} 한 번의 호출로 모든 마켓을 갱신하며, 응답 본문을 스트리밍 파서로 읽어
+ * 거래 쌍별 고정 슬롯의 {@code long} 배열에 바로 기록합니다. 마켓별 객체를 만들지 않으므로 수백 개 마켓을
+ * 갱신해도 할당이 거의 없습니다.
+ * </p>
+ *
+ * <h2>조회</h2>
+ * <ul>
+ *   <li>{@link #slotOf(CharSequence)}로 대상 통화의 슬롯 번호를 한 번 구해 두면 이후 조회는 배열 접근 한 번입니다.</li>
+ *   <li>{@link #getLast(int)} 등 개별 필드 조회와, 여러 필드를 같은 갱신 시점으로 읽는
+ *       {@link #read(int, MarketQuote)}를 제공합니다. 둘 다 할당하지 않습니다.</li>
+ *   <li>응답에 없거나 비어 있는 가격과 수량(호가가 없는 마켓의 최우선 호가 등)은 실제 0과 구분되도록 {@link FixedPoint#MISSING}으로 기록합니다.</li>
+ * </ul>
+ *
+ * <h2>동시성</h2>
+ * <p>
+ * 갱신은 하나의 스레드(스케줄러 또는 {@link #refresh()} 호출자)에서만 수행되고 조회는 잠금 없이 수행됩니다.
+ * 슬롯마다 버전 번호(seqlock)를 두어 갱신 도중의 값이 섞여 읽히지 않도록 합니다.
+ * 슬롯 수는 {@code capacity}로 고정되며, 이를 넘는 신규 마켓은 무시하고 {@code overflow} 메트릭으로 집계합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public final class CoinoneMarketTable implements SmartLifecycle, MeterBinder {
+
+    private static final int LAST = 0;
+    private static final int BID_PRICE = 1;
+    private static final int BID_QUANTITY = 2;
+    private static final int ASK_PRICE = 3;
+    private static final int ASK_QUANTITY = 4;
+    private static final int TIMESTAMP = 5;
+    private static final int FIELDS = 6;
+
+    private final String quoteCurrency;
+    private final int capacity;
+    private final JsonFactory jsonFactory;
+    private final Supplier<byte[]> source;
+    private final Duration refreshInterval;
+
+    private final String[] targets;
+    private final AtomicIntegerArray index;
+    private final int indexMask;
+    private final AtomicLongArray versions;
+    private final AtomicLongArray values;
+    private volatile int size;
+    private volatile long refreshedAt;
+
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+
+    // 갱신 스레드 전용 임시 값 (최우선 호가 가격, 수량)
+    private final long[] level = new long[2];
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a market table.
+     *
+     * @param quoteCurrency   the quote currency of every market in this table (e.g., "KRW")
+     * @param capacity        the maximum number of markets
+     * @param jsonFactory     the factory used to create streaming parsers
+     * @param source          returns the raw {@code /ticker_new/{quote_currency}} response body
+     * @param refreshInterval the delay between background refreshes; {@code null} or zero disables them
+     */
+    @Builder
+    private CoinoneMarketTable(String quoteCurrency,
+                               int capacity,
+                               JsonFactory jsonFactory,
+                               Supplier<byte[]> source,
+                               Duration refreshInterval) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.quoteCurrency = quoteCurrency.toUpperCase(Locale.ROOT);
+        this.capacity = capacity;
+        this.jsonFactory = jsonFactory;
+        this.source = source;
+        this.refreshInterval = refreshInterval;
+        this.targets = new String[capacity];
+        // 적재율을 0.5 이하로 유지하는 2의 거듭제곱 크기의 개방 주소법 인덱스
+        int indexSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.index = new AtomicIntegerArray(indexSize);
+        this.indexMask = indexSize - 1;
+        this.versions = new AtomicLongArray(capacity);
+        this.values = new AtomicLongArray(capacity * FIELDS);
+    }
+
+    /**
+     * Returns the slot of the given target currency, or {@code -1} if the market is unknown.
+     * The lookup is case-insensitive and does not allocate.
+     *
+     * @param targetCurrency the target currency (e.g., "BTC")
+     * @return the slot, or {@code -1}
+     */
+    public int slotOf(CharSequence targetCurrency) {
+        int position = hash(targetCurrency) & indexMask;
+        while (true) {
+            int entry = index.get(position);
+            if (entry == 0) {
+                return -1;
+            }
+            int slot = entry - 1;
+            if (matches(targets[slot], targetCurrency)) {
+                return slot;
+            }
+            position = (position + 1) & indexMask;
+        }
+    }
+
+    /**
+     * Copies the quote of the given slot into the holder as of a single refresh.
+     *
+     * @param slot the slot returned by {@link #slotOf(CharSequence)}
+     * @param quote the holder to fill
+     * @return {@code true} if the slot holds a quote, {@code false} if it is unknown or not yet written
+     */
+    public boolean read(int slot, MarketQuote quote) {
+        if (slot < 0 || slot >= size) {
+            return false;
+        }
+        int base = slot * FIELDS;
+        while (true) {
+            long before = versions.get(slot);
+            if ((before & 1L) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long last = values.get(base + LAST);
+            long bidPrice = values.get(base + BID_PRICE);
+            long bidQuantity = values.get(base + BID_QUANTITY);
+            long askPrice = values.get(base + ASK_PRICE);
+            long askQuantity = values.get(base + ASK_QUANTITY);
+            long timestamp = values.get(base + TIMESTAMP);
+            if (versions.get(slot) == before) {
+                quote.set(last, bidPrice, bidQuantity, askPrice, askQuantity, timestamp);
+                return before != 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the last traded price of the slot as a fixed-point value at {@link CoinoneTicker#PRICE_SCALE}.
+     *
+     * @param slot the slot
+     * @return the last traded price, or {@link FixedPoint#MISSING} if the exchange did not report it
+     */
+    public long getLast(int slot) {
+        return values.get(slot * FIELDS + LAST);
+    }
+
+    /**
+     * Returns the best bid price of the slot as a fixed-point value at {@link CoinoneTicker#PRICE_SCALE}.
+     *
+     * @param slot the slot
+     * @return the best bid price, or {@link FixedPoint#MISSING} if the exchange did not report it
+     */
+    public long getBestBidPrice(int slot) {
+        return values.get(slot * FIELDS + BID_PRICE);
+    }
+
+    /**
+     * Returns the best ask price of the slot as a fixed-point value at {@link CoinoneTicker#PRICE_SCALE}.
+     *
+     * @param slot the slot
+     * @return the best ask price, or {@link FixedPoint#MISSING} if the exchange did not report it
+     */
+    public long getBestAskPrice(int slot) {
+        return values.get(slot * FIELDS + ASK_PRICE);
+    }
+
+    /**
+     * Returns the exchange timestamp of the slot's last update in epoch milliseconds.
+     *
+     * @param slot the slot
+     * @return the exchange timestamp
+     */
+    public long getTimestamp(int slot) {
+        return values.get(slot * FIELDS + TIMESTAMP);
+    }
+
+    /**
+     * Returns the target currency held by the slot.
+     *
+     * @param slot the slot
+     * @return the upper-case target currency
+     */
+    public String getTargetCurrency(int slot) {
+        return targets[slot];
+    }
+
+    public String getQuoteCurrency() {
+        return quoteCurrency;
+    }
+
+    /**
+     * Returns the number of markets in the table.
+     *
+     * @return the market count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the local time of the last successful refresh in epoch milliseconds, or {@code 0} if never refreshed.
+     *
+     * @return the last refresh time
+     */
+    public long getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    /**
+     * Fetches every market of the quote currency in one call and updates the table.
+     *
+     * @return the number of markets updated
+     * @throws IOException if the response body cannot be parsed
+     */
+    public int refresh() throws IOException {
+        return update(source.get());
+    }
+
+    /**
+     * Updates the table from a raw {@code /ticker_new/{quote_currency}} response body.
+     *
+     * @param body the response body
+     * @return the number of markets updated
+     * @throws IOException if the body cannot be parsed
+     */
+    public synchronized int update(byte[] body) throws IOException {
+        int updated = 0;
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected ticker response object");
+            }
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                if ("tickers".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        if (readTicker(parser)) {
+                            updated++;
+                        }
+                    }
+                } else if (token.isStructStart()) {
+                    parser.skipChildren();
+                }
+            }
+        }
+        refreshedAt = System.currentTimeMillis();
+        return updated;
+    }
+
+    private boolean readTicker(JsonParser parser) throws IOException {
+        int slot = -1;
+        long last = FixedPoint.MISSING;
+        long bidPrice = FixedPoint.MISSING;
+        long bidQuantity = FixedPoint.MISSING;
+        long askPrice = FixedPoint.MISSING;
+        long askQuantity = FixedPoint.MISSING;
+        long timestamp = 0L;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "target_currency" -> slot = slotFor(parser);
+                case "last" -> last = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                case "timestamp" -> timestamp = parser.getValueAsLong();
+                case "best_bids" -> {
+                    readBestLevel(parser);
+                    bidPrice = level[0];
+                    bidQuantity = level[1];
+                }
+                case "best_asks" -> {
+                    readBestLevel(parser);
+                    askPrice = level[0];
+                    askQuantity = level[1];
+                }
+                default -> {
+                    if (token.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+        if (slot < 0) {
+            return false;
+        }
+
+        int base = slot * FIELDS;
+        long version = versions.get(slot);
+        versions.set(slot, version + 1);
+        values.set(base + LAST, last);
+        values.set(base + BID_PRICE, bidPrice);
+        values.set(base + BID_QUANTITY, bidQuantity);
+        values.set(base + ASK_PRICE, askPrice);
+        values.set(base + ASK_QUANTITY, askQuantity);
+        values.set(base + TIMESTAMP, timestamp);
+        versions.set(slot, version + 2);
+        return true;
+    }
+
+    /**
+     * 호가 배열의 첫 번째(최우선) 가격/수량을 {@link #level}에 읽고 나머지 호가는 건너뜁니다.
+     */
+    private void readBestLevel(JsonParser parser) throws IOException {
+        level[0] = FixedPoint.MISSING;
+        level[1] = FixedPoint.MISSING;
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            return;
+        }
+        boolean first = true;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            if (!first) {
+                parser.skipChildren();
+                continue;
+            }
+            for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+                JsonToken token = parser.nextToken();
+                if ("price".equals(field)) {
+                    level[0] = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                } else if ("qty".equals(field)) {
+                    level[1] = FixedPoint.read(parser, CoinoneTicker.PRICE_SCALE);
+                } else if (token.isStructStart()) {
+                    parser.skipChildren();
+                }
+            }
+            first = false;
+        }
+    }
+
+    /**
+     * 파서의 문자 버퍼에서 대상 통화를 찾아 슬롯을 반환하며, 처음 보는 마켓이면 새 슬롯을 할당합니다.
+     */
+    private int slotFor(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return -1;
+        }
+        char[] chars = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+
+        int position = hash(chars, offset, length) & indexMask;
+        while (true) {
+            int entry = index.get(position);
+            if (entry == 0) {
+                break;
+            }
+            int slot = entry - 1;
+            if (matches(targets[slot], chars, offset, length)) {
+                return slot;
+            }
+            position = (position + 1) & indexMask;
+        }
+
+        int slot = size;
+        if (slot == capacity) {
+            overflow.increment();
+            return -1;
+        }
+        targets[slot] = new String(chars, offset, length).toUpperCase(Locale.ROOT);
+        // 대상 통화를 먼저 기록한 뒤 인덱스에 공개
+        index.set(position, slot + 1);
+        size = slot + 1;
+        return slot;
+    }
+
+    private static int hash(CharSequence text) {
+        int hash = 0;
+        for (int i = 0; i < text.length(); i++) {
+            hash = 31 * hash + toUpperAscii(text.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(char[] chars, int offset, int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + toUpperAscii(chars[i]);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(String target, CharSequence text) {
+        if (target.length() != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < target.length(); i++) {
+            if (target.charAt(i) != toUpperAscii(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String target, char[] chars, int offset, int length) {
+        if (target.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (target.charAt(i) != toUpperAscii(chars[offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toUpperAscii(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 스케줄이 중단되므로 여기서 처리
+            refreshFailures.increment();
+            log.warn("[coinone] Failed to refresh {} market table", quoteCurrency, e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null || refreshInterval == null || refreshInterval.isZero() || refreshInterval.isNegative()) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("coinone-market-table")
+            .daemon(true)
+            .factory());
+        executor.scheduleWithFixedDelay(this::refreshQuietly, 0L, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("coinone.market.table.size", this, CoinoneMarketTable::size)
+            .description("Markets held by the Coinone market table")
+            .tag("quote", quoteCurrency)
+            .register(registry);
+        Gauge.builder("coinone.market.table.age", this, table -> table.refreshedAt == 0
+                ? Double.NaN
+                : System.currentTimeMillis() - table.refreshedAt)
+            .description("Time since the last successful market table refresh")
+            .baseUnit("milliseconds")
+            .tag("quote", quoteCurrency)
+            .register(registry);
+        FunctionCounter.builder("coinone.market.table.refresh.failures", refreshFailures, LongAdder::sum)
+            .description("Failed market table refreshes")
+            .tag("quote", quoteCurrency)
+            .register(registry);
+        FunctionCounter.builder("coinone.market.table.overflow", overflow, LongAdder::sum)
+            .description("Markets ignored because the table is full")
+            .tag("quote", quoteCurrency)
+            .register(registry);
+    }
+}
@@ -0,0 +1,36 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.market;
+
+import lombok.Getter;
+import lombok.ToString;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+
+/**
+ * {@link CoinoneMarketTable}의 한 거래 쌍 시세를 일관된 시점으로 복사해 담는 재사용 가능한 홀더입니다.
+ * <p>
+ * 호출자가 인스턴스를 만들어 두고 {@link CoinoneMarketTable#read(int, MarketQuote)}에 반복 전달하므로
+ * 조회마다 객체를 할당하지 않습니다. 가격과 수량은 {@link CoinoneTicker#PRICE_SCALE} 고정소수점 값입니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Getter
+@ToString
+public final class MarketQuote {
+
+    private long last;
+    private long bestBidPrice;
+    private long bestBidQuantity;
+    private long bestAskPrice;
+    private long bestAskQuantity;
+    private long timestamp;
+
+    void set(long last, long bestBidPrice, long bestBidQuantity, long bestAskPrice, long bestAskQuantity, long timestamp) {
+        this.last = last;
+        this.bestBidPrice = bestBidPrice;
+        this.bestBidQuantity = bestBidQuantity;
+        this.bestAskPrice = bestAskPrice;
+        this.bestAskQuantity = bestAskQuantity;
+        this.timestamp = timestamp;
+    }
+}
@@ -0,0 +1,116 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.market;
+
+/**
+ * 고정소수점 {@code long} 가격을 키로 하는 호가창입니다.
+ * <p>
+ * 매수/매도 호가를 각각 정렬된 원시 배열({@link OrderBookSide})로 보관하여, 가격별 갱신은 이진 탐색으로,
+ * 최우선 호가 조회는 상수 시간에 처리하고 레벨 순회나 VWAP 조회에서 객체를 할당하지 않습니다.
+ * 거래소 스트림 클라이언트가 스냅샷({@link OrderBookSide#load(long[], long[], int)})이나 변경분({@link #setBid(long, long)},
+ * {@link #setAsk(long, long)})으로 갱신합니다. 가격과 잔량의 소수 자릿수는 호출자가 정합니다.
+ * </p>
+ * <p>
+ * 동기화하지 않으므로 하나의 스레드에서 갱신하고 읽어야 합니다.
+ * </p>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * OrderBook book = new OrderBook(1024);
+ * book.setBid(price, quantity);                 // 잔량 0이면 해당 가격 제거
+ * long spread = book.getSpread();
+ * long averageBuyPrice = book.getAsks().vwap(size);
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class OrderBook {
+
+    private final OrderBookSide bids;
+    private final OrderBookSide asks;
+
+    /**
+     * Creates an empty order book.
+     *
+     * @param initialCapacity the initial number of levels per side; each side grows as needed
+     */
+    public OrderBook(int initialCapacity) {
+        this.bids = new OrderBookSide(true, initialCapacity);
+        this.asks = new OrderBookSide(false, initialCapacity);
+    }
+
+    public OrderBookSide getBids() {
+        return bids;
+    }
+
+    public OrderBookSide getAsks() {
+        return asks;
+    }
+
+    /**
+     * Sets the bid quantity at a price. A quantity of {@code 0} removes the level.
+     *
+     * @param price the price
+     * @param quantity the new quantity
+     */
+    public void setBid(long price, long quantity) {
+        bids.set(price, quantity);
+    }
+
+    /**
+     * Sets the ask quantity at a price. A quantity of {@code 0} removes the level.
+     *
+     * @param price the price
+     * @param quantity the new quantity
+     */
+    public void setAsk(long price, long quantity) {
+        asks.set(price, quantity);
+    }
+
+    /**
+     * Returns the best bid price, or {@code 0} if there are no bids.
+     *
+     * @return the best bid price
+     */
+    public long getBestBidPrice() {
+        return bids.bestPrice();
+    }
+
+    /**
+     * Returns the best ask price, or {@code 0} if there are no asks.
+     *
+     * @return the best ask price
+     */
+    public long getBestAskPrice() {
+        return asks.bestPrice();
+    }
+
+    /**
+     * Returns the difference between the best ask and the best bid, or {@code 0} if either side is empty.
+     *
+     * @return the spread
+     */
+    public long getSpread() {
+        return bids.isEmpty() || asks.isEmpty() ? 0L : asks.bestPrice() - bids.bestPrice();
+    }
+
+    /**
+     * Returns the midpoint of the best bid and the best ask, rounded down, or {@code 0} if either side is empty.
+     *
+     * @return the mid price
+     */
+    public long getMidPrice() {
+        if (bids.isEmpty() || asks.isEmpty()) {
+            return 0L;
+        }
+        long bid = bids.bestPrice();
+        return bid + (asks.bestPrice() - bid) / 2;
+    }
+
+    /**
+     * Removes every level on both sides.
+     */
+    public void clear() {
+        bids.clear();
+        asks.clear();
+    }
+}
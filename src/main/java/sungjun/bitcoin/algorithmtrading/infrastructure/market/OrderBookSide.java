@@ -0,0 +1,334 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.market;
+
+import java.util.Arrays;
+
+/**
+ * {@link OrderBook}의 한쪽(매수 또는 매도) 호가 목록입니다.
+ * <p>
+ * 가격과 잔량을 고정소수점 {@code long} 배열 두 개에 정렬된 상태로 보관합니다. 가장 나쁜 호가부터 최우선 호가 순으로 저장하여
+ * 최우선 호가가 배열 끝에 오도록 하므로, 갱신이 몰리는 최우선 호가 근처의 삽입/삭제는 이동하는 원소가 적습니다.
+ * 매도 호가는 가격의 부호를 바꿔 저장하여 두 방향 모두 오름차순 이진 탐색을 사용합니다.
+ * </p>
+ *
+ * <h2>복잡도</h2>
+ * <ul>
+ *   <li>가격 탐색: O(log n), 삽입/삭제: 탐색 + 최우선 호가까지의 거리만큼 배열 이동</li>
+ *   <li>최우선 호가 조회, 레벨 인덱스 조회: O(1)</li>
+ *   <li>누적 잔량, VWAP 조회: 조회 범위의 레벨 수에 비례하며 객체를 할당하지 않습니다.</li>
+ * </ul>
+ * <p>
+ * 동기화하지 않으므로 하나의 스레드에서 갱신하고 읽어야 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class OrderBookSide {
+
+    /**
+     * 호가 레벨을 할당 없이 순회할 때 사용하는 콜백입니다.
+     */
+    @FunctionalInterface
+    public interface LevelConsumer {
+
+        /**
+         * Accepts one price level.
+         *
+         * @param price the price
+         * @param quantity the quantity
+         */
+        void accept(long price, long quantity);
+    }
+
+    private final boolean bid;
+    // 최우선 호가가 끝에 오도록 오름차순 정렬된 키 (매수: 가격, 매도: -가격)
+    private long[] keys;
+    private long[] quantities;
+    private int size;
+
+    OrderBookSide(boolean bid, int initialCapacity) {
+        this.bid = bid;
+        this.keys = new long[Math.max(initialCapacity, 1)];
+        this.quantities = new long[Math.max(initialCapacity, 1)];
+    }
+
+    /**
+     * Returns whether this is the bid side.
+     *
+     * @return {@code true} for bids, {@code false} for asks
+     */
+    public boolean isBid() {
+        return bid;
+    }
+
+    /**
+     * Returns the number of price levels.
+     *
+     * @return the number of levels
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the best price, or {@code 0} if the side is empty.
+     *
+     * @return the best price
+     */
+    public long bestPrice() {
+        return size == 0 ? 0L : toPrice(keys[size - 1]);
+    }
+
+    /**
+     * Returns the quantity at the best price, or {@code 0} if the side is empty.
+     *
+     * @return the best quantity
+     */
+    public long bestQuantity() {
+        return size == 0 ? 0L : quantities[size - 1];
+    }
+
+    /**
+     * Returns the price of a level, where level {@code 0} is the best price.
+     *
+     * @param level the level index
+     * @return the price
+     * @throws IndexOutOfBoundsException if the level does not exist
+     */
+    public long price(int level) {
+        return toPrice(keys[index(level)]);
+    }
+
+    /**
+     * Returns the quantity of a level, where level {@code 0} is the best price.
+     *
+     * @param level the level index
+     * @return the quantity
+     * @throws IndexOutOfBoundsException if the level does not exist
+     */
+    public long quantity(int level) {
+        return quantities[index(level)];
+    }
+
+    /**
+     * Returns the quantity at a price, or {@code 0} if there is no such level.
+     *
+     * @param price the price
+     * @return the quantity
+     */
+    public long quantityAt(long price) {
+        int index = Arrays.binarySearch(keys, 0, size, toKey(price));
+        return index >= 0 ? quantities[index] : 0L;
+    }
+
+    /**
+     * Sets the quantity at a price. A quantity of {@code 0} removes the level.
+     *
+     * @param price the price
+     * @param quantity the new quantity
+     * @throws IllegalArgumentException if the price is not positive or the quantity is negative
+     */
+    public void set(long price, long quantity) {
+        if (price <= 0 || quantity < 0) {
+            throw new IllegalArgumentException("Invalid level: price=" + price + ", quantity=" + quantity);
+        }
+        long key = toKey(price);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index >= 0) {
+            if (quantity == 0L) {
+                int moved = size - index - 1;
+                if (moved > 0) {
+                    System.arraycopy(keys, index + 1, keys, index, moved);
+                    System.arraycopy(quantities, index + 1, quantities, index, moved);
+                }
+                size--;
+            } else {
+                quantities[index] = quantity;
+            }
+            return;
+        }
+        if (quantity == 0L) {
+            return;
+        }
+        int insertion = -index - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            quantities = Arrays.copyOf(quantities, size * 2);
+        }
+        int moved = size - insertion;
+        if (moved > 0) {
+            System.arraycopy(keys, insertion, keys, insertion + 1, moved);
+            System.arraycopy(quantities, insertion, quantities, insertion + 1, moved);
+        }
+        keys[insertion] = key;
+        quantities[insertion] = quantity;
+        size++;
+    }
+
+    /**
+     * Replaces every level with the given levels ordered from the best price, as exchanges send snapshots.
+     * Levels with a quantity of {@code 0} are skipped. Input that is not strictly ordered is inserted one level at a time.
+     *
+     * @param prices the prices ordered from the best price
+     * @param quantities the quantities of each price
+     * @param count the number of levels to read
+     */
+    public void load(long[] prices, long[] quantities, int count) {
+        clear();
+        if (keys.length < count) {
+            keys = new long[count];
+            this.quantities = new long[count];
+        }
+        long previous = Long.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            long price = prices[i];
+            long quantity = quantities[i];
+            if (price <= 0 || quantity < 0) {
+                throw new IllegalArgumentException("Invalid level: price=" + price + ", quantity=" + quantity);
+            }
+            long key = toKey(price);
+            if (key >= previous) {
+                // 정렬되지 않은 입력은 하나씩 삽입합니다.
+                loadUnordered(prices, quantities, count);
+                return;
+            }
+            previous = key;
+        }
+        int loaded = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            if (quantities[i] != 0L) {
+                keys[loaded] = toKey(prices[i]);
+                this.quantities[loaded] = quantities[i];
+                loaded++;
+            }
+        }
+        size = loaded;
+    }
+
+    /**
+     * Removes every level.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Visits up to {@code maxLevels} levels from the best price without allocating.
+     *
+     * @param maxLevels the maximum number of levels to visit
+     * @param consumer the level consumer
+     * @return the number of visited levels
+     */
+    public int forEach(int maxLevels, LevelConsumer consumer) {
+        int count = Math.min(maxLevels, size);
+        for (int i = size - 1, end = size - count; i >= end; i--) {
+            consumer.accept(toPrice(keys[i]), quantities[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total quantity of the best {@code levels} levels.
+     *
+     * @param levels the number of levels
+     * @return the cumulative quantity
+     */
+    public long cumulativeQuantity(int levels) {
+        long total = 0L;
+        for (int i = size - 1, end = size - Math.min(levels, size); i >= end; i--) {
+            total += quantities[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the total quantity priced at or better than {@code limitPrice}
+     * (at or above it for bids, at or below it for asks).
+     *
+     * @param limitPrice the limit price
+     * @return the cumulative quantity
+     */
+    public long quantityWithin(long limitPrice) {
+        long limitKey = toKey(limitPrice);
+        long total = 0L;
+        for (int i = size - 1; i >= 0 && keys[i] >= limitKey; i--) {
+            total += quantities[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the worst price that must be reached to fill {@code size} by sweeping the side from the best price,
+     * or {@code 0} if {@code size} is not positive or the side does not hold enough quantity.
+     *
+     * @param size the quantity to fill
+     * @return the marginal price
+     */
+    public long priceToFill(long size) {
+        if (size <= 0L) {
+            return 0L;
+        }
+        long remaining = size;
+        for (int i = this.size - 1; i >= 0; i--) {
+            remaining -= quantities[i];
+            if (remaining <= 0L) {
+                return toPrice(keys[i]);
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Returns the volume-weighted average price of filling {@code size} by sweeping the side from the best price,
+     * or {@code 0} if the side does not hold enough quantity.
+     * <p>
+     * The weighted sum is accumulated in double precision, so the result may differ from the exact average
+     * by a few units in the last fixed-point digit.
+     * </p>
+     *
+     * @param size the quantity to fill
+     * @return the average fill price
+     */
+    public long vwap(long size) {
+        if (size <= 0L) {
+            return 0L;
+        }
+        long remaining = size;
+        double notional = 0.0;
+        for (int i = this.size - 1; i >= 0; i--) {
+            long filled = Math.min(remaining, quantities[i]);
+            notional += (double) toPrice(keys[i]) * filled;
+            remaining -= filled;
+            if (remaining == 0L) {
+                return Math.round(notional / size);
+            }
+        }
+        return 0L;
+    }
+
+    private void loadUnordered(long[] prices, long[] quantities, int count) {
+        size = 0;
+        for (int i = 0; i < count; i++) {
+            set(prices[i], quantities[i]);
+        }
+    }
+
+    private int index(int level) {
+        if (level < 0 || level >= size) {
+            throw new IndexOutOfBoundsException("Level " + level + " out of " + size);
+        }
+        return size - 1 - level;
+    }
+
+    private long toKey(long price) {
+        return bid ? price : -price;
+    }
+
+    private long toPrice(long key) {
+        return bid ? key : -key;
+    }
+}
@@ -0,0 +1,251 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 거래소 HTTP Interface 클라이언트의 엔드포인트별 메트릭을 기록합니다.
+ * <p>
+ * {@link #instrument(Class, Object)}로 클라이언트 프록시를 감싸면 인터페이스의 각 추상 메서드가 하나의 엔드포인트가 되며,
+ * 엔드포인트별 미터는 프록시 생성 시점에 미리 등록되어 호출 경로에서는 조회 없이 기록만 합니다.
+ * 같은 이름의 엔드포인트는 하나만 만들어 공유하므로, 여러 번 등록해도 진행 중인 호출 수는 한 게이지에 모입니다.
+ * 요청/응답 바이트 수는 같은 스레드에서 실행되는 {@link ExchangeMetricsInterceptor}가 현재 엔드포인트에 기록합니다.
+ * </p>
+ * <p>
+ * HTTP Interface를 거치지 않는 호출(예: 주문 게이트웨이)은 {@link #endpoint(String)}로 엔드포인트를 등록해 두고
+ * 호출마다 {@link Endpoint#start()}와 {@link Endpoint#success(long)} 또는 {@link Endpoint#failure(long, Throwable)}로 기록합니다.
+ * </p>
+ *
+ * <h2>메트릭 (태그: {@code exchange}, {@code endpoint})</h2>
+ * <ul>
+ *   <li>{@code exchange.client.requests}: 호출 지연 시간 (p50/p95/p99, 히스토그램), {@code outcome=success|error}</li>
+ *   <li>{@code exchange.client.requests.active}: 진행 중인 호출 수</li>
+ *   <li>{@code exchange.client.errors}: 오류 횟수, {@code code}=거래소 에러 코드 또는 예외 클래스명</li>
+ *   <li>{@code exchange.client.request.size}, {@code exchange.client.response.size}: 본문 바이트 수</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class ExchangeClientMetrics {
+
+    private static final String UNKNOWN_ENDPOINT = "unknown";
+
+    private final MeterRegistry registry;
+    private final String exchange;
+    private final ThreadLocal<Endpoint> currentEndpoint = new ThreadLocal<>();
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Endpoint unknownEndpoint;
+
+    public ExchangeClientMetrics(MeterRegistry registry, String exchange) {
+        this.registry = registry;
+        this.exchange = exchange;
+        this.unknownEndpoint = endpoint(UNKNOWN_ENDPOINT);
+    }
+
+    /**
+     * Wraps an HTTP interface client so that every call to one of its endpoint methods is measured.
+     * Default methods are dispatched back through the wrapper, so each call is counted once at the endpoint it reaches.
+     *
+     * @param clientType the HTTP interface type
+     * @param client the client to wrap
+     * @param <T> the client type
+     * @return the instrumented client
+     */
+    public <T> T instrument(Class<T> clientType, T client) {
+        Map<Method, Endpoint> methods = new HashMap<>();
+        for (Method method : clientType.getMethods()) {
+            if (Modifier.isAbstract(method.getModifiers())) {
+                methods.put(method, endpoint(clientType.getSimpleName() + "." + method.getName()));
+            }
+        }
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, args);
+            }
+            Endpoint endpoint = methods.get(method);
+            if (endpoint == null) {
+                return invoke(client, method, args);
+            }
+            return endpoint.record(client, method, args);
+        };
+        return clientType.cast(Proxy.newProxyInstance(clientType.getClassLoader(), new Class<?>[]{clientType}, handler));
+    }
+
+    /**
+     * Registers the meters of an endpoint that is not called through an {@linkplain #instrument(Class, Object) instrumented}
+     * HTTP interface. Keep the returned endpoint rather than looking it up per call; asking again for the same name
+     * returns the same endpoint.
+     *
+     * @param name the endpoint tag value (e.g., CoinoneOrderGateway.placeLimitOrder)
+     * @return the endpoint to record calls on
+     */
+    public Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, Endpoint::new);
+    }
+
+    /**
+     * Records the body sizes of an HTTP exchange against the endpoint currently being called on this thread.
+     *
+     * @param requestBytes the request body size
+     * @param responseBytes the response body size
+     */
+    public void recordBytes(long requestBytes, long responseBytes) {
+        Endpoint endpoint = currentEndpoint.get();
+        if (endpoint == null) {
+            endpoint = unknownEndpoint;
+        }
+        endpoint.requestSize.record(requestBytes);
+        endpoint.responseSize.record(responseBytes);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 거래소 예외에서 에러 코드를 추출합니다. 거래소 예외가 아닌 경우 예외 클래스명을 사용합니다.
+     */
+    private static String errorCodeOf(Throwable error) {
+        if (error instanceof CoinoneApiException coinone) {
+            return coinone.getErrorCode() != null ? coinone.getErrorCode() : "unknown";
+        }
+        if (error instanceof BinanceApiException binance) {
+            return String.valueOf(binance.getErrorCode());
+        }
+        return error.getClass().getSimpleName();
+    }
+
+    /**
+     * 하나의 엔드포인트에 대해 미리 등록된 미터 묶음입니다.
+     */
+    public final class Endpoint {
+
+        private final String endpoint;
+        private final Timer success;
+        private final Timer failure;
+        private final AtomicInteger active = new AtomicInteger();
+        private final DistributionSummary requestSize;
+        private final DistributionSummary responseSize;
+        private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+
+        private Endpoint(String endpoint) {
+            this.endpoint = endpoint;
+            this.success = timer("success");
+            this.failure = timer("error");
+            this.requestSize = summary("exchange.client.request.size");
+            this.responseSize = summary("exchange.client.response.size");
+            Gauge.builder("exchange.client.requests.active", active, AtomicInteger::get)
+                .description("Exchange client calls currently in flight")
+                .tag("exchange", exchange)
+                .tag("endpoint", endpoint)
+                .register(registry);
+        }
+
+        /**
+         * Marks the start of a call on the current thread. Every call must be finished with
+         * {@link #success(long)} or {@link #failure(long, Throwable)} on the same thread.
+         *
+         * @return the start time to pass to {@link #success(long)} or {@link #failure(long, Throwable)}
+         */
+        public long start() {
+            currentEndpoint.set(this);
+            active.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        /**
+         * Records a successful call.
+         *
+         * @param startedAt the value returned by {@link #start()}
+         */
+        public void success(long startedAt) {
+            success.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            finish();
+        }
+
+        /**
+         * Records a failed call, tagged with the exchange error code of the failure.
+         *
+         * @param startedAt the value returned by {@link #start()}
+         * @param error the failure
+         */
+        public void failure(long startedAt, Throwable error) {
+            failure.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            errors.computeIfAbsent(errorCodeOf(error), this::errorCounter).increment();
+            finish();
+        }
+
+        private void finish() {
+            active.decrementAndGet();
+            currentEndpoint.remove();
+        }
+
+        private Object record(Object client, Method method, Object[] args) throws Throwable {
+            Endpoint previous = currentEndpoint.get();
+            long startedAt = start();
+            try {
+                Object result = invoke(client, method, args);
+                success(startedAt);
+                return result;
+            } catch (Throwable error) {
+                failure(startedAt, error);
+                throw error;
+            } finally {
+                if (previous != null) {
+                    currentEndpoint.set(previous);
+                }
+            }
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("exchange.client.requests")
+                .description("Latency of exchange client calls")
+                .tag("exchange", exchange)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+        }
+
+        private DistributionSummary summary(String name) {
+            return DistributionSummary.builder(name)
+                .description("Body size of exchange client calls")
+                .baseUnit("bytes")
+                .tag("exchange", exchange)
+                .tag("endpoint", endpoint)
+                .register(registry);
+        }
+
+        private Counter errorCounter(String code) {
+            return Counter.builder("exchange.client.errors")
+                .description("Failed exchange client calls by exchange error code")
+                .tag("exchange", exchange)
+                .tag("endpoint", endpoint)
+                .tag("code", code)
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.BufferedClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 거래소 요청/응답 본문 크기를 {@link ExchangeClientMetrics}에 기록하는 인터셉터입니다.
+ * <p>
+ * 응답은 {@link BufferedClientHttpResponse}로 이미 버퍼링되어 있으므로 본문을 다시 읽지 않고 길이만 사용합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ExchangeMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+    private final ExchangeClientMetrics metrics;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        BufferedClientHttpResponse response = BufferedClientHttpResponse.of(execution.execute(request, body));
+        metrics.recordBytes(body.length, response.getBodyBytes().length);
+        return response;
+    }
+}
@@ -0,0 +1,161 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.PinningMonitorProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 채 블로킹된 지점을 JFR 이벤트로 감지하는 진단기입니다.
+ * <p>
+ * Java 21에서는 {@code synchronized} 블록이나 네이티브 프레임 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 놓지 못해,
+ * 동시 호출 수가 캐리어 수(CPU 코어 수)로 제한됩니다. {@code -Djdk.tracePinnedThreads}와 달리 JFR
+ * {@code jdk.VirtualThreadPinned} 이벤트를 스트리밍으로 구독하므로 운영 중에도 임계값 이상 고정된 경우만 기록합니다.
+ * </p>
+ * <p>
+ * 새로운 고정 지점(JDK 밖의 첫 프레임 기준)은 스택과 함께 한 번만 경고 로그로 남기고, 이후 같은 지점은 메트릭으로만 집계합니다.
+ * </p>
+ *
+ * <h2>메트릭</h2>
+ * <ul>
+ *   <li>{@code jvm.threads.virtual.pinned}: 임계값 이상 고정된 시간 (타이머)</li>
+ *   <li>{@code jvm.threads.virtual.pinned.sites}: 지금까지 발견한 고정 지점 수</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle, MeterBinder {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final PinningMonitorProperties properties;
+    private final Set<String> sites = ConcurrentHashMap.newKeySet();
+    private final LongAdder pinnedCount = new LongAdder();
+
+    private volatile Timer pinnedTimer;
+    private volatile boolean running;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(PinningMonitorProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the number of pinned events recorded since start.
+     *
+     * @return the pinned event count
+     */
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    /**
+     * Returns the distinct pinning sites found so far, each formatted as {@code class.method(line)}.
+     *
+     * @return the pinning sites
+     */
+    public Set<String> getSites() {
+        return Set.copyOf(sites);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (!properties.isEnabled() || running) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        running = true;
+        log.info("Virtual thread pinning monitor started: threshold={}", properties.getThreshold());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        stream.close();
+        stream = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+            .description("Time virtual threads spent blocked while pinned to their carrier thread")
+            .register(registry);
+        FunctionCounter.builder("jvm.threads.virtual.pinned.sites", sites, Set::size)
+            .description("Distinct code locations where virtual threads were pinned")
+            .register(registry);
+    }
+
+    /**
+     * JFR 이벤트 스트림 스레드에서 호출됩니다.
+     */
+    void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        Timer timer = pinnedTimer;
+        if (timer != null) {
+            timer.record(duration.toNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace != null ? stackTrace.getFrames() : List.of();
+        String site = siteOf(frames);
+        if (sites.add(site)) {
+            log.warn("Virtual thread pinned for {}ms at {}{}", duration.toMillis(), site, format(frames));
+        } else {
+            log.debug("Virtual thread pinned for {}ms at {}", duration.toMillis(), site);
+        }
+        pinnedCount.increment();
+    }
+
+    /**
+     * JDK 내부 프레임을 건너뛴 첫 프레임을 고정 지점으로 사용합니다.
+     */
+    private static String siteOf(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return describe(frame);
+            }
+        }
+        return frames.isEmpty() ? "unknown" : describe(frames.getFirst());
+    }
+
+    private String format(List<RecordedFrame> frames) {
+        StringBuilder builder = new StringBuilder();
+        int depth = Math.min(frames.size(), properties.getStackDepth());
+        for (int i = 0; i < depth; i++) {
+            builder.append(System.lineSeparator()).append("\tat ").append(describe(frames.get(i)));
+        }
+        return builder.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + "(" + frame.getLineNumber() + ")";
+    }
+}
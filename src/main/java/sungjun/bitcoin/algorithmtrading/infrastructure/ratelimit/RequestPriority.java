@@ -0,0 +1,20 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit;
+
+/**
+ * 요청 제한 용량을 사용하는 우선순위입니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public enum RequestPriority {
+
+    /**
+     * 주문처럼 지연되면 손실로 이어지는 요청. 예약된 용량까지 모두 사용할 수 있습니다.
+     */
+    HIGH,
+
+    /**
+     * 시세, 잔고 조회 등 일반 요청. 우선 처리용으로 예약된 용량은 사용하지 않습니다.
+     */
+    NORMAL
+}
@@ -0,0 +1,168 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RateLimitProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.RateLimitExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 거래소 하나의 요청 가중치 예산을 관리하는 잠금 없는 토큰 버킷입니다.
+ * <p>
+ * 버킷 상태를 "버킷이 다시 가득 차는 시각" 하나로 표현하는 GCRA(Generic Cell Rate Algorithm) 방식이므로,
+ * 토큰 수와 마지막 충전 시각을 따로 갱신할 필요 없이 {@link AtomicLong} 하나의 CAS로 용량을 예약합니다.
+ * 가중치 1은 {@code period / capacity}만큼의 시간에 해당하며, 예약한 요청은 순서대로 대기 시각이 정해지므로
+ * 대기열 없이도 먼저 온 요청이 먼저 전송됩니다.
+ * </p>
+ * <p>
+ * {@link RequestPriority#NORMAL} 요청은 용량 중 {@code priorityReserve} 비율을 사용할 수 없으므로, 시세 조회가
+ * 몰려도 주문({@link RequestPriority#HIGH})은 예약된 용량으로 바로 전송됩니다. 필요한 대기 시간이 {@code maxWait}를
+ * 넘으면 용량을 예약하지 않고 {@link RateLimitExceededException}으로 즉시 거절합니다.
+ * </p>
+ * <p>
+ * 대기는 {@link LockSupport#parkNanos(long)}로 하므로 가상 스레드가 캐리어 스레드에 고정되지 않습니다.
+ * </p>
+ *
+ * <h2>서버 집계와의 보정</h2>
+ * <ul>
+ *   <li>{@link #observeUsedWeight(int)}: 서버가 알려 준 사용 가중치가 로컬 추정보다 크면 로컬 상태를 앞당김</li>
+ *   <li>{@link #penalize(Duration)}: HTTP 429/418 응답의 {@code Retry-After} 동안 용량을 모두 소진된 상태로 유지</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class WeightedRateLimiter {
+
+    /**
+     * 거래소 이름 (예외 메시지 및 로그에 사용)
+     */
+    @Getter
+    private final String exchange;
+
+    private final int capacity;
+    private final long periodNanos;
+    private final long nanosPerWeight;
+    private final long normalLimitNanos;
+    private final long maxWaitNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * 버킷이 다시 가득 차는 시각 (nanoClock 기준)
+     */
+    private final AtomicLong fullAt;
+
+    /**
+     * Creates a limiter for a single exchange.
+     *
+     * @param exchange the exchange name
+     * @param properties the rate limit settings
+     */
+    public WeightedRateLimiter(String exchange, RateLimitProperties properties) {
+        this(exchange, properties, System::nanoTime);
+    }
+
+    WeightedRateLimiter(String exchange, RateLimitProperties properties, LongSupplier nanoClock) {
+        this.exchange = exchange;
+        this.capacity = properties.getCapacity();
+        this.periodNanos = properties.getPeriod().toNanos();
+        this.nanosPerWeight = Math.max(1L, periodNanos / capacity);
+        this.normalLimitNanos = (long) (periodNanos * (1.0 - properties.getPriorityReserve()));
+        this.maxWaitNanos = properties.getMaxWait().toNanos();
+        this.nanoClock = nanoClock;
+        this.fullAt = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Reserves the given weight, waiting until it fits into the budget.
+     *
+     * @param weight the request weight
+     * @param priority the lane the request is served from
+     * @throws RateLimitExceededException if the request would have to wait longer than the configured maximum
+     */
+    public void acquire(int weight, RequestPriority priority) {
+        long waitNanos = reserve(weight, priority);
+        if (waitNanos > 0) {
+            park(waitNanos);
+        }
+    }
+
+    /**
+     * Reserves the given weight without waiting.
+     *
+     * @param weight the request weight
+     * @param priority the lane the request is served from
+     * @return the time in nanoseconds the caller must wait before sending the request, {@code 0} if it may be sent now
+     * @throws RateLimitExceededException if the request would have to wait longer than the configured maximum
+     */
+    public long reserve(int weight, RequestPriority priority) {
+        long cost = weight * nanosPerWeight;
+        long limit = priority == RequestPriority.HIGH ? periodNanos : normalLimitNanos;
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + cost;
+            // 예약 후 버킷이 limit을 넘게 차 있으면, 넘친 만큼 기다려야 전송 가능
+            long waitNanos = next - now - limit;
+            if (waitNanos > maxWaitNanos) {
+                throw new RateLimitExceededException(exchange, weight, Duration.ofNanos(waitNanos));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return Math.max(waitNanos, 0L);
+            }
+        }
+    }
+
+    /**
+     * Corrects the local estimate with the weight the exchange reports as used in its current window.
+     * The estimate is only ever raised, since under-counting is what leads to a ban.
+     *
+     * @param usedWeight the used weight reported by the exchange
+     */
+    public void observeUsedWeight(int usedWeight) {
+        long reported = nanoClock.getAsLong() + Math.min(usedWeight, capacity) * nanosPerWeight;
+        fullAt.accumulateAndGet(reported, Math::max);
+    }
+
+    /**
+     * Treats the budget as exhausted until the given delay has elapsed, e.g. after an HTTP 429 or 418 response.
+     *
+     * @param retryAfter the delay requested by the exchange
+     */
+    public void penalize(Duration retryAfter) {
+        long until = nanoClock.getAsLong() + retryAfter.toNanos() + periodNanos;
+        fullAt.accumulateAndGet(until, Math::max);
+        log.warn("{} rate limit hit, backing off for {}ms", exchange, retryAfter.toMillis());
+    }
+
+    /**
+     * Returns the weight that can currently be reserved by a {@link RequestPriority#HIGH} request without waiting.
+     *
+     * @return the available weight
+     */
+    public int getAvailableWeight() {
+        long used = Math.max(0L, fullAt.get() - nanoClock.getAsLong());
+        return (int) Math.max(0L, (periodNanos - used) / nanosPerWeight);
+    }
+
+    /**
+     * 인터럽트되어도 예약한 시각까지 대기한 뒤 인터럽트 상태를 복원합니다.
+     */
+    private void park(long waitNanos) {
+        long deadline = System.nanoTime() + waitNanos;
+        boolean interrupted = false;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            interrupted |= Thread.interrupted();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
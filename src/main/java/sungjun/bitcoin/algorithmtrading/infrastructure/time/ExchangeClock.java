@@ -0,0 +1,122 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.time;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 거래소 서버 시각 기준의 시계입니다.
+ * <p>
+ * 생성 시점의 벽시계 시각을 기준점으로 삼고 이후 경과 시간은 {@link System#nanoTime()}으로 계산하므로
+ * 호스트 시계가 NTP 등으로 뒤로 조정되어도 영향을 받지 않습니다.
+ * 거래소 서버와의 시각 차이(offset)는 잠금 없이 갱신되며, offset이 줄어들면 타임스탬프도 즉시 보정된 값을 따릅니다.
+ * 단조 증가가 필요한 값은 타임스탬프가 아니라 {@link #nextCounterNonce()}에서만 보장합니다.
+ * </p>
+ * <p>
+ * 요청 재전송 방지용 nonce도 함께 발급합니다. Coinone은 UUID v4 nonce를,
+ * 증가하는 정수 nonce가 필요한 거래소는 {@link #nextCounterNonce()}를 사용합니다.
+ * </p>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * ExchangeClock clock = new ExchangeClock("binance");
+ * clock.updateOffset(serverTime - localTime);
+ * long timestamp = clock.currentTimeMillis();
+ * String nonce = clock.nextNonce();
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class ExchangeClock {
+
+    private final String exchange;
+    private final long anchorEpochMillis;
+    private final long anchorNanos;
+    private final AtomicLong lastCounterNonce = new AtomicLong();
+    private volatile long offsetMillis;
+
+    public ExchangeClock(String exchange) {
+        this.exchange = exchange;
+        this.anchorEpochMillis = System.currentTimeMillis();
+        this.anchorNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the exchange name this clock is synchronized with.
+     *
+     * @return the exchange name
+     */
+    public String getExchange() {
+        return exchange;
+    }
+
+    /**
+     * Returns the local monotonic time in epoch milliseconds, without the server offset applied.
+     *
+     * @return the local time in milliseconds
+     */
+    public long localTimeMillis() {
+        return anchorEpochMillis + (System.nanoTime() - anchorNanos) / 1_000_000L;
+    }
+
+    /**
+     * Returns the estimated exchange server time in epoch milliseconds.
+     * <p>
+     * The value follows the latest offset, so a backwards correction takes effect immediately instead of
+     * keeping request timestamps ahead of the server (which Binance rejects with {@code -1021}).
+     * </p>
+     *
+     * @return the server-corrected timestamp
+     */
+    public long currentTimeMillis() {
+        return localTimeMillis() + offsetMillis;
+    }
+
+    /**
+     * Returns the current offset between the exchange server clock and the local clock.
+     *
+     * @return the offset in milliseconds (server minus local)
+     */
+    public long getOffsetMillis() {
+        return offsetMillis;
+    }
+
+    /**
+     * Replaces the offset between the exchange server clock and the local clock.
+     *
+     * @param offsetMillis the offset in milliseconds (server minus local)
+     */
+    public void updateOffset(long offsetMillis) {
+        this.offsetMillis = offsetMillis;
+    }
+
+    /**
+     * Returns a random version 4 UUID nonce.
+     * <p>
+     * Uses {@link ThreadLocalRandom} instead of {@link UUID#randomUUID()} so that nonce generation does not
+     * contend on the shared {@code SecureRandom}. The nonce only has to be unique, not secret.
+     * </p>
+     *
+     * @return the UUID nonce string
+     */
+    public String nextNonce() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits).toString();
+    }
+
+    /**
+     * Returns a strictly increasing numeric nonce derived from the server-corrected time in microseconds.
+     * <p>
+     * Unlike {@link #currentTimeMillis()}, the nonce never goes backwards when the offset is adjusted backwards.
+     * </p>
+     *
+     * @return the counter nonce
+     */
+    public long nextCounterNonce() {
+        long floor = currentTimeMillis() * 1_000L;
+        return lastCounterNonce.updateAndGet(previous -> Math.max(previous + 1, floor));
+    }
+}
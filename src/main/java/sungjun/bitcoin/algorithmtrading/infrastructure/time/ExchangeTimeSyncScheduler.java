@@ -0,0 +1,72 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.time;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.TimeSyncProperties;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 등록된 모든 {@link ExchangeTimeSynchronizer}를 백그라운드에서 주기적으로 실행하는 스케줄러입니다.
+ * <p>
+ * {@link ApplicationReadyEvent} 시점에 즉시 한 번 동기화한 뒤, 설정된 간격마다 반복합니다.
+ * 요청 스레드는 {@link ExchangeClock}의 offset을 읽기만 하므로 동기화가 요청 경로를 막지 않습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class ExchangeTimeSyncScheduler implements DisposableBean {
+
+    private final List<ExchangeTimeSynchronizer> synchronizers;
+    private final TimeSyncProperties properties;
+    private ScheduledExecutorService executor;
+
+    public ExchangeTimeSyncScheduler(List<ExchangeTimeSynchronizer> synchronizers, TimeSyncProperties properties) {
+        this.synchronizers = synchronizers;
+        this.properties = properties;
+    }
+
+    /**
+     * Starts periodic synchronization once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!properties.isEnabled() || synchronizers.isEmpty() || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("exchange-time-sync")
+            .daemon(true)
+            .factory());
+        executor.scheduleWithFixedDelay(this::synchronizeAll, 0L, properties.getInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Synchronizes every registered exchange clock once.
+     */
+    public void synchronizeAll() {
+        for (ExchangeTimeSynchronizer synchronizer : synchronizers) {
+            try {
+                synchronizer.synchronize(properties.getSamples());
+            } catch (RuntimeException e) {
+                // 예외가 전파되면 이후 스케줄이 중단되므로 여기서 처리
+                log.warn("[{}] Time synchronization failed", synchronizer.getClock().getExchange(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
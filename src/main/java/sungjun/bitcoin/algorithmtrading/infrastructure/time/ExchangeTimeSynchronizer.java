@@ -0,0 +1,117 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.time;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 거래소 서버 시각을 샘플링하여 {@link ExchangeClock}의 offset을 갱신하는 동기화기입니다.
+ * <p>
+ * 한 번의 동기화에서 여러 번 서버 시각을 조회하고, 왕복 시간(RTT)이 가장 짧은 샘플을 선택합니다.
+ * 서버 시각은 요청과 응답의 중간 시점에 기록되었다고 가정하여 {@code RTT / 2}만큼 보정합니다.
+ * 조회에 실패하면 기존 offset을 그대로 유지합니다.
+ * </p>
+ *
+ * <h2>메트릭 (태그: {@code exchange=거래소명})</h2>
+ * <ul>
+ *   <li>{@code exchange.time.offset}: 서버 시각 - 로컬 시각 (ms)</li>
+ *   <li>{@code exchange.time.drift}: 직전 동기화 대비 offset 변화량 (ms)</li>
+ *   <li>{@code exchange.time.rtt}: 선택된 샘플의 왕복 시간 (ms)</li>
+ *   <li>{@code exchange.time.sync.failures}: 동기화 실패 횟수</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class ExchangeTimeSynchronizer implements MeterBinder {
+
+    private final ExchangeClock clock;
+    private final ServerTimeSource source;
+    private final AtomicLong failures = new AtomicLong();
+    private volatile boolean synchronizedOnce;
+    private volatile long lastRttMillis;
+    private volatile long lastDriftMillis;
+
+    public ExchangeTimeSynchronizer(ExchangeClock clock, ServerTimeSource source) {
+        this.clock = clock;
+        this.source = source;
+    }
+
+    /**
+     * Returns the clock updated by this synchronizer.
+     *
+     * @return the exchange clock
+     */
+    public ExchangeClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Samples the server time and updates the clock offset from the sample with the lowest round-trip time.
+     *
+     * @param samples the number of server time requests to make
+     * @return {@code true} if at least one sample succeeded and the offset was updated
+     */
+    public boolean synchronize(int samples) {
+        long bestRtt = Long.MAX_VALUE;
+        long bestOffset = 0L;
+
+        for (int i = 0; i < samples; i++) {
+            try {
+                long sentAt = clock.localTimeMillis();
+                long serverTime = source.fetchServerTimeMillis();
+                long receivedAt = clock.localTimeMillis();
+
+                long rtt = receivedAt - sentAt;
+                if (rtt < bestRtt) {
+                    bestRtt = rtt;
+                    bestOffset = serverTime - (sentAt + rtt / 2);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[{}] Failed to fetch server time: {}", clock.getExchange(), e.getMessage());
+            }
+        }
+
+        if (bestRtt == Long.MAX_VALUE) {
+            failures.incrementAndGet();
+            return false;
+        }
+
+        long previousOffset = clock.getOffsetMillis();
+        clock.updateOffset(bestOffset);
+        lastRttMillis = bestRtt;
+        lastDriftMillis = synchronizedOnce ? bestOffset - previousOffset : 0L;
+        synchronizedOnce = true;
+        log.debug("[{}] Server time offset={}ms, rtt={}ms", clock.getExchange(), bestOffset, bestRtt);
+        return true;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String exchange = clock.getExchange();
+        Gauge.builder("exchange.time.offset", clock, ExchangeClock::getOffsetMillis)
+            .description("Exchange server time minus local time")
+            .baseUnit("milliseconds")
+            .tag("exchange", exchange)
+            .register(registry);
+        Gauge.builder("exchange.time.drift", this, synchronizer -> synchronizer.lastDriftMillis)
+            .description("Change of the server time offset since the previous synchronization")
+            .baseUnit("milliseconds")
+            .tag("exchange", exchange)
+            .register(registry);
+        Gauge.builder("exchange.time.rtt", this, synchronizer -> synchronizer.lastRttMillis)
+            .description("Round-trip time of the selected server time sample")
+            .baseUnit("milliseconds")
+            .tag("exchange", exchange)
+            .register(registry);
+        FunctionCounter.builder("exchange.time.sync.failures", failures, AtomicLong::get)
+            .description("Number of synchronizations in which every sample failed")
+            .tag("exchange", exchange)
+            .register(registry);
+    }
+}
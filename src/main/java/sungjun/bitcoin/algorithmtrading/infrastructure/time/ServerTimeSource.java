@@ -0,0 +1,18 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.time;
+
+/**
+ * 거래소 서버의 현재 시각을 조회하는 함수형 인터페이스입니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ServerTimeSource {
+
+    /**
+     * Fetches the current exchange server time.
+     *
+     * @return the server time in epoch milliseconds
+     */
+    long fetchServerTimeMillis();
+}
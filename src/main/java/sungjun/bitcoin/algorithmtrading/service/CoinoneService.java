@@ -1,15 +1,17 @@
 package sungjun.bitcoin.algorithmtrading.service;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTickerApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.cache.SnapshotCache;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
-import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneTickerApiResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
 
 /**
  * Coinone 거래소와 관련된 비즈니스 로직을 처리하는 서비스 클래스입니다.
  * <p>
  * 이 서비스는 Coinone API 클라이언트를 통해 시세 정보, 주문 관리 등의
  * 암호화폐 거래 관련 기능을 제공합니다.
+ * 시세는 거래 쌍별 스냅샷 캐시를 거쳐 조회하므로 같은 거래 쌍에 대한 동시 조회가 하나의 API 호출로 합쳐집니다.
  * </p>
  *
  * @author sungjun
@@ -18,28 +20,30 @@ import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.C
 @Service
 public class CoinoneService {
 
-    private final CoinoneTickerApiClient coinoneTickerApiClient;
+    private final SnapshotCache<CurrencyPair, CoinoneTicker> tickerCache;
 
     /**
-     * Constructs a CoinoneService with the specified CoinoneTickerApiClient.
+     * Constructs a CoinoneService with the specified ticker cache.
      *
-     * @param coinoneTickerApiClient the API client used to interact with the Coinone ticker service
+     * @param tickerCache the cache in front of the Coinone ticker API
      */
-    public CoinoneService(CoinoneTickerApiClient coinoneTickerApiClient) {
-        this.coinoneTickerApiClient = coinoneTickerApiClient;
+    public CoinoneService(@Qualifier("coinoneTickerCache") SnapshotCache<CurrencyPair, CoinoneTicker> tickerCache) {
+        this.tickerCache = tickerCache;
     }
 
     /**
      * Retrieves the latest ticker information for the specified currency pair from the Coinone exchange.
+     * <p>
+     * A snapshot younger than the configured TTL is returned without calling the API.
+     * </p>
      *
      * @param quoteCurrency the base currency (e.g., "KRW")
      * @param targetCurrency the target currency (e.g., "BTC")
-     * @return the first {@link CoinoneTicker} object from the API response representing the current ticker data
+     * @return the {@link CoinoneTicker} representing the current ticker data
      * @throws sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException if the API call fails
      */
     public CoinoneTicker getTicker(String quoteCurrency, String targetCurrency) {
-        CoinoneTickerApiResponse apiResponse = coinoneTickerApiClient.getTicker(quoteCurrency, targetCurrency);
-        return apiResponse.getTickers().getFirst();
+        return tickerCache.get(CurrencyPair.of(quoteCurrency, targetCurrency));
     }
 
 }
@@ -0,0 +1,20 @@
+package sungjun.bitcoin.algorithmtrading.service.arbitrage;
+
+/**
+ * 차익거래에서 매수와 매도를 실행할 거래소 방향입니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public enum ArbitrageDirection {
+
+    /**
+     * Coinone에서 매수하고 Binance에서 매도합니다.
+     */
+    BUY_COINONE_SELL_BINANCE,
+
+    /**
+     * Binance에서 매수하고 Coinone에서 매도합니다.
+     */
+    BUY_BINANCE_SELL_COINONE
+}
@@ -0,0 +1,563 @@
+package sungjun.bitcoin.algorithmtrading.service.arbitrage;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceCommissionRates;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream.BinanceDepthBook;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream.BinanceStreamListener;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneOrderBook;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamListener;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.arbitrage.ArbitrageProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.market.OrderBook;
+import sungjun.bitcoin.algorithmtrading.infrastructure.market.OrderBookSide;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Coinone과 Binance 호가창을 비교하여 수수료를 반영한 차익거래 기회를 찾는 엔진입니다.
+ * <p>
+ * 자산마다 Coinone {@code KRW/자산}과 Binance {@code 자산USDT} 호가창을 비교하며, Binance의 USDT 가격은
+ * Coinone {@code KRW/USDT} 최우선 호가로 원화 환산합니다. Binance에서 사는 방향은 USDT를 사야 하므로 매도 호가를,
+ * Binance에서 파는 방향은 USDT를 팔아야 하므로 매수 호가를 환율로 사용합니다.
+ * </p>
+ *
+ * <h2>처리 방식</h2>
+ * <ul>
+ *   <li>스트림 수신 스레드는 호가 상위 {@code depthLevels}개를 시장별 슬롯에 복사하고 평가 스레드를 깨우기만 합니다.</li>
+ *   <li>하나의 평가 스레드가 바뀐 슬롯을 자신만 쓰는 {@link OrderBook}으로 옮긴 뒤 평가하므로, 평가 경로에는 잠금 경합과
+ *       객체 할당이 없습니다. 기회를 찾았을 때만 {@link ArbitrageOpportunity}를 생성합니다.</li>
+ *   <li>매수 거래소의 매도 호가와 매도 거래소의 매수 호가를 최우선 호가부터 함께 훑으며, 수수료를 반영한 한계 차익이
+ *       {@code minNetSpread} 이상인 수량만 더하므로 체결 가능한 수량과 평균 가격을 함께 구합니다.</li>
+ *   <li>자산 호가 중 {@code maxQuoteAge}보다 오래된 것이 있으면 평가하지 않습니다. 연결이 끊긴 거래소의 호가는
+ *       다시 수신할 때까지 제외합니다.</li>
+ * </ul>
+ *
+ * <h2>메트릭</h2>
+ * <ul>
+ *   <li>{@code arbitrage.evaluation}: 평가 한 번의 소요 시간 (p50/p95/p99, 히스토그램)</li>
+ *   <li>{@code arbitrage.detection.latency}: 호가 수신부터 평가 완료까지의 시간 (p50/p95/p99, 히스토그램)</li>
+ *   <li>{@code arbitrage.evaluations}, {@code arbitrage.opportunities}, {@code arbitrage.stale.quotes}: 평가, 기회, 오래된 호가로 건너뛴 횟수</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class ArbitrageEngine implements SmartLifecycle, MeterBinder {
+
+    /**
+     * 원화 환산에 사용할 Binance 기준 통화
+     */
+    public static final String BINANCE_QUOTE_CURRENCY = "USDT";
+
+    private static final String KRW = "KRW";
+    // 두 거래소 모두 가격과 수량을 소수 8자리 고정소수점으로 다룹니다.
+    private static final double SCALE = 1e8;
+    // 갱신이 없더라도 주기적으로 깨어나 종료 여부를 확인합니다.
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final boolean autoStartup;
+    private final double minNetSpread;
+    private final double coinoneTakerFee;
+    private final long maxQuoteAgeNanos;
+    private final double maxNotional;
+    private final Supplier<BinanceCommissionRates> commissionRatesSource;
+    private final Map<CurrencyPair, MarketSlot> coinoneSlots = new HashMap<>();
+    private final Map<String, MarketSlot> binanceSlots = new HashMap<>();
+    private final MarketSlot rateSlot;
+    private final Route[] routes;
+    private final List<ArbitrageListener> listeners = new CopyOnWriteArrayList<>();
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder opportunities = new LongAdder();
+    private final LongAdder staleQuotes = new LongAdder();
+
+    // 평가 스레드 전용 상태
+    private final OrderBook rateBook;
+    private long rateVersion = -1L;
+    private long rateReceivedNanos = -1L;
+
+    private volatile double binanceTakerFee;
+    private volatile Timer evaluationTimer;
+    private volatile Timer detectionTimer;
+    private volatile Thread evaluator;
+    private volatile boolean running;
+
+    /**
+     * Creates an engine for the configured assets.
+     *
+     * @param properties the arbitrage settings
+     * @param commissionRatesSource loads the Binance account commission rates when the engine starts
+     */
+    public ArbitrageEngine(ArbitrageProperties properties, Supplier<BinanceCommissionRates> commissionRatesSource) {
+        this.autoStartup = properties.isEnabled();
+        this.minNetSpread = properties.getMinNetSpread();
+        this.coinoneTakerFee = properties.getCoinoneTakerFee();
+        this.binanceTakerFee = properties.getBinanceTakerFee();
+        this.maxQuoteAgeNanos = properties.getMaxQuoteAge().toNanos();
+        this.maxNotional = properties.getMaxNotional() * SCALE * SCALE;
+        this.commissionRatesSource = commissionRatesSource;
+
+        int depth = properties.getDepthLevels();
+        this.rateSlot = new MarketSlot(depth);
+        this.rateBook = new OrderBook(depth);
+        coinoneSlots.put(CurrencyPair.of(KRW, BINANCE_QUOTE_CURRENCY), rateSlot);
+        this.routes = new Route[properties.getAssets().size()];
+        for (int i = 0; i < routes.length; i++) {
+            String asset = properties.getAssets().get(i).toUpperCase(Locale.ROOT);
+            MarketSlot coinone = new MarketSlot(depth);
+            MarketSlot binance = new MarketSlot(depth);
+            coinoneSlots.put(CurrencyPair.of(KRW, asset), coinone);
+            binanceSlots.put(asset + BINANCE_QUOTE_CURRENCY, binance);
+            routes[i] = new Route(asset, coinone, binance, depth);
+        }
+    }
+
+    /**
+     * Registers a consumer of detected opportunities.
+     *
+     * @param listener the listener
+     */
+    public void addListener(ArbitrageListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Returns the Coinone pairs the engine needs order books for, including the USDT rate pair.
+     *
+     * @return the Coinone pairs
+     */
+    public Set<CurrencyPair> getCoinonePairs() {
+        return new LinkedHashSet<>(coinoneSlots.keySet());
+    }
+
+    /**
+     * Returns the Binance symbols the engine needs depth books for.
+     *
+     * @return the Binance symbols
+     */
+    public Set<String> getBinanceSymbols() {
+        return new LinkedHashSet<>(binanceSlots.keySet());
+    }
+
+    /**
+     * Returns the listener to register on the Coinone stream client.
+     *
+     * @return the Coinone stream listener
+     */
+    public CoinoneStreamListener coinoneListener() {
+        return new CoinoneStreamListener() {
+            @Override
+            public void onOrderBook(CoinoneOrderBook orderBook) {
+                updateCoinone(orderBook.getPair(), orderBook.getOrderBook());
+            }
+
+            @Override
+            public void onDisconnected() {
+                coinoneDisconnected();
+            }
+        };
+    }
+
+    /**
+     * Returns the listener to register on the Binance stream client.
+     *
+     * @return the Binance stream listener
+     */
+    public BinanceStreamListener binanceListener() {
+        return new BinanceStreamListener() {
+            @Override
+            public void onDepth(BinanceDepthBook depthBook) {
+                updateBinance(depthBook.getSymbol(), depthBook.getOrderBook());
+            }
+
+            @Override
+            public void onDisconnected() {
+                binanceDisconnected();
+            }
+        };
+    }
+
+    /**
+     * Returns the Binance taker fee rate currently applied.
+     *
+     * @return the fee rate as a fraction
+     */
+    public double getBinanceTakerFee() {
+        return binanceTakerFee;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        evaluator = Thread.ofPlatform().name("arbitrage-engine").daemon(true).start(this::runLoop);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        Thread current = evaluator;
+        evaluator = null;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        evaluationTimer = Timer.builder("arbitrage.evaluation")
+            .description("Time spent evaluating one asset across exchanges")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry);
+        detectionTimer = Timer.builder("arbitrage.detection.latency")
+            .description("Time from receiving an order book update to finishing its evaluation")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .publishPercentileHistogram()
+            .register(registry);
+        FunctionCounter.builder("arbitrage.evaluations", evaluations, LongAdder::sum)
+            .description("Arbitrage evaluations performed")
+            .register(registry);
+        FunctionCounter.builder("arbitrage.opportunities", opportunities, LongAdder::sum)
+            .description("Arbitrage opportunities detected")
+            .register(registry);
+        FunctionCounter.builder("arbitrage.stale.quotes", staleQuotes, LongAdder::sum)
+            .description("Evaluations skipped because a quote was older than the maximum age")
+            .register(registry);
+    }
+
+    /**
+     * 수신 스레드에서 Coinone 호가창을 슬롯에 복사하고 평가 스레드를 깨웁니다.
+     */
+    void updateCoinone(CurrencyPair pair, OrderBook orderBook) {
+        MarketSlot slot = coinoneSlots.get(pair);
+        if (slot != null) {
+            slot.write(orderBook, System.nanoTime());
+            signal();
+        }
+    }
+
+    /**
+     * 수신 스레드에서 Binance 호가창을 슬롯에 복사하고 평가 스레드를 깨웁니다.
+     */
+    void updateBinance(String symbol, OrderBook orderBook) {
+        MarketSlot slot = binanceSlots.get(symbol);
+        if (slot != null) {
+            slot.write(orderBook, System.nanoTime());
+            signal();
+        }
+    }
+
+    void coinoneDisconnected() {
+        for (MarketSlot slot : coinoneSlots.values()) {
+            slot.invalidate();
+        }
+    }
+
+    void binanceDisconnected() {
+        for (MarketSlot slot : binanceSlots.values()) {
+            slot.invalidate();
+        }
+    }
+
+    /**
+     * Binance 계정 수수료율을 불러옵니다. 실패하면 설정된 수수료율을 계속 사용합니다.
+     */
+    void loadBinanceFees() {
+        try {
+            BinanceCommissionRates rates = commissionRatesSource.get();
+            if (rates != null && rates.getTaker() != null) {
+                binanceTakerFee = Double.parseDouble(rates.getTaker());
+                log.info("[arbitrage] Binance taker fee loaded: {}", rates.getTaker());
+            }
+        } catch (RuntimeException e) {
+            log.warn("[arbitrage] Failed to load Binance commission rates, using {}: {}", binanceTakerFee, e.getMessage());
+        }
+    }
+
+    /**
+     * 바뀐 슬롯이 있는 자산을 모두 평가합니다. 평가 스레드(또는 테스트)에서만 호출합니다.
+     */
+    void evaluate() {
+        boolean rateChanged = false;
+        long version = rateSlot.version();
+        if (version != rateVersion) {
+            rateVersion = version;
+            rateReceivedNanos = rateSlot.copyTo(rateBook);
+            rateChanged = true;
+        }
+        for (Route route : routes) {
+            if (route.refresh() || rateChanged) {
+                evaluate(route);
+            }
+        }
+    }
+
+    private void runLoop() {
+        loadBinanceFees();
+        while (running) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            try {
+                evaluate();
+            } catch (RuntimeException e) {
+                log.warn("[arbitrage] Evaluation failed", e);
+            }
+        }
+    }
+
+    private void signal() {
+        Thread current = evaluator;
+        if (current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    private void evaluate(Route route) {
+        long started = System.nanoTime();
+        if (route.coinoneReceivedNanos < 0 || route.binanceReceivedNanos < 0 || rateReceivedNanos < 0) {
+            return;
+        }
+        // 환율 호가는 변동이 적어 갱신이 드물므로 연결이 유지되는 동안 유효한 것으로 봅니다.
+        long oldest = Math.min(route.coinoneReceivedNanos, route.binanceReceivedNanos);
+        if (started - oldest > maxQuoteAgeNanos) {
+            staleQuotes.increment();
+            return;
+        }
+        long usdtBid = rateBook.getBestBidPrice();
+        long usdtAsk = rateBook.getBestAskPrice();
+        if (usdtBid == 0L || usdtAsk == 0L) {
+            return;
+        }
+        evaluations.increment();
+
+        double binanceFee = binanceTakerFee;
+        sweep(route, ArbitrageDirection.BUY_BINANCE_SELL_COINONE,
+            route.binanceBook.getAsks(), usdtAsk / SCALE, binanceFee,
+            route.coinoneBook.getBids(), 1.0, coinoneTakerFee);
+        sweep(route, ArbitrageDirection.BUY_COINONE_SELL_BINANCE,
+            route.coinoneBook.getAsks(), 1.0, coinoneTakerFee,
+            route.binanceBook.getBids(), usdtBid / SCALE, binanceFee);
+
+        long finished = System.nanoTime();
+        Timer evaluation = evaluationTimer;
+        Timer detection = detectionTimer;
+        if (evaluation != null && detection != null) {
+            long newest = Math.max(rateReceivedNanos, Math.max(route.coinoneReceivedNanos, route.binanceReceivedNanos));
+            evaluation.record(finished - started, TimeUnit.NANOSECONDS);
+            detection.record(finished - newest, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 매수 측 매도 호가와 매도 측 매수 호가를 최우선 호가부터 함께 훑어, 수수료를 반영한 한계 차익이
+     * 최소 차익 이상인 수량과 평균 가격을 구합니다. 가격은 {@code rate}를 곱해 원화로 환산합니다.
+     */
+    private void sweep(Route route, ArbitrageDirection direction,
+                       OrderBookSide buySide, double buyRate, double buyFee,
+                       OrderBookSide sellSide, double sellRate, double sellFee) {
+        int buyLevels = buySide.size();
+        int sellLevels = sellSide.size();
+        if (buyLevels == 0 || sellLevels == 0) {
+            return;
+        }
+        int buyLevel = 0;
+        int sellLevel = 0;
+        long buyLeft = buySide.quantity(0);
+        long sellLeft = sellSide.quantity(0);
+        long quantity = 0L;
+        // 가격(소수 8자리) x 수량(소수 8자리) 단위로 누적합니다.
+        double cost = 0.0;
+        double proceeds = 0.0;
+        while (true) {
+            double buyPrice = buySide.price(buyLevel) * buyRate * (1.0 + buyFee);
+            double sellPrice = sellSide.price(sellLevel) * sellRate * (1.0 - sellFee);
+            if (sellPrice < buyPrice * (1.0 + minNetSpread)) {
+                break;
+            }
+            long filled = Math.min(buyLeft, sellLeft);
+            long affordable = (long) ((maxNotional - cost) / buyPrice);
+            if (affordable < filled) {
+                filled = affordable;
+            }
+            if (filled <= 0L) {
+                break;
+            }
+            quantity += filled;
+            cost += buyPrice * filled;
+            proceeds += sellPrice * filled;
+            buyLeft -= filled;
+            sellLeft -= filled;
+            if (buyLeft == 0L) {
+                if (++buyLevel == buyLevels) {
+                    break;
+                }
+                buyLeft = buySide.quantity(buyLevel);
+            }
+            if (sellLeft == 0L) {
+                if (++sellLevel == sellLevels) {
+                    break;
+                }
+                sellLeft = sellSide.quantity(sellLevel);
+            }
+            if (filled == affordable) {
+                break;
+            }
+        }
+        if (quantity > 0L) {
+            emit(new ArbitrageOpportunity(route.asset, direction, quantity,
+                Math.round(cost / quantity), Math.round(proceeds / quantity),
+                proceeds / cost - 1.0, Math.round((proceeds - cost) / SCALE), System.currentTimeMillis()));
+        }
+    }
+
+    private void emit(ArbitrageOpportunity opportunity) {
+        opportunities.increment();
+        for (ArbitrageListener listener : listeners) {
+            try {
+                listener.onOpportunity(opportunity);
+            } catch (RuntimeException e) {
+                log.warn("[arbitrage] Opportunity listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * 자산 하나의 비교 대상 시장과 평가 스레드 전용 호가창 사본입니다.
+     */
+    private static final class Route {
+
+        private final String asset;
+        private final MarketSlot coinone;
+        private final MarketSlot binance;
+        private final OrderBook coinoneBook;
+        private final OrderBook binanceBook;
+        private long coinoneVersion = -1L;
+        private long binanceVersion = -1L;
+        private long coinoneReceivedNanos = -1L;
+        private long binanceReceivedNanos = -1L;
+
+        private Route(String asset, MarketSlot coinone, MarketSlot binance, int depth) {
+            this.asset = asset;
+            this.coinone = coinone;
+            this.binance = binance;
+            this.coinoneBook = new OrderBook(depth);
+            this.binanceBook = new OrderBook(depth);
+        }
+
+        /**
+         * 바뀐 슬롯을 사본으로 옮기고, 하나라도 바뀌었으면 {@code true}를 반환합니다.
+         */
+        private boolean refresh() {
+            boolean changed = false;
+            long version = coinone.version();
+            if (version != coinoneVersion) {
+                coinoneVersion = version;
+                coinoneReceivedNanos = coinone.copyTo(coinoneBook);
+                changed = true;
+            }
+            version = binance.version();
+            if (version != binanceVersion) {
+                binanceVersion = version;
+                binanceReceivedNanos = binance.copyTo(binanceBook);
+                changed = true;
+            }
+            return changed;
+        }
+    }
+
+    /**
+     * 수신 스레드와 평가 스레드가 주고받는 시장 하나의 상위 호가 복사본입니다.
+     * 갱신과 복사 모두 상위 몇 개 레벨만 다루므로 짧게 잠금을 잡습니다.
+     */
+    private static final class MarketSlot {
+
+        private final long[] bidPrices;
+        private final long[] bidQuantities;
+        private final long[] askPrices;
+        private final long[] askQuantities;
+        private int bidLevels;
+        private int askLevels;
+        private long receivedNanos;
+        private long version;
+        private boolean valid;
+
+        private MarketSlot(int depth) {
+            this.bidPrices = new long[depth];
+            this.bidQuantities = new long[depth];
+            this.askPrices = new long[depth];
+            this.askQuantities = new long[depth];
+        }
+
+        private synchronized void write(OrderBook orderBook, long receivedNanos) {
+            bidLevels = copyLevels(orderBook.getBids(), bidPrices, bidQuantities);
+            askLevels = copyLevels(orderBook.getAsks(), askPrices, askQuantities);
+            this.receivedNanos = receivedNanos;
+            this.valid = true;
+            version++;
+        }
+
+        private synchronized void invalidate() {
+            valid = false;
+            version++;
+        }
+
+        private synchronized long version() {
+            return version;
+        }
+
+        /**
+         * 사본 호가창으로 옮기고 수신 시각을 반환합니다. 유효하지 않으면 사본을 비우고 {@code -1}을 반환합니다.
+         */
+        private synchronized long copyTo(OrderBook target) {
+            if (!valid) {
+                target.clear();
+                return -1L;
+            }
+            target.getBids().load(bidPrices, bidQuantities, bidLevels);
+            target.getAsks().load(askPrices, askQuantities, askLevels);
+            return receivedNanos;
+        }
+
+        private static int copyLevels(OrderBookSide side, long[] prices, long[] quantities) {
+            int levels = Math.min(side.size(), prices.length);
+            for (int i = 0; i < levels; i++) {
+                prices[i] = side.price(i);
+                quantities[i] = side.quantity(i);
+            }
+            return levels;
+        }
+    }
+}
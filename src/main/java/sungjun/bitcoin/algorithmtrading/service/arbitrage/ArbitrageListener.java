@@ -0,0 +1,22 @@
+package sungjun.bitcoin.algorithmtrading.service.arbitrage;
+
+/**
+ * {@link ArbitrageEngine}이 찾은 차익거래 기회를 전달받는 소비자입니다.
+ * <p>
+ * 평가 스레드에서 호출되므로 오래 걸리는 작업은 다른 스레드로 넘겨야 합니다.
+ * 기회가 유지되는 동안에는 관련 호가가 갱신될 때마다 다시 전달됩니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ArbitrageListener {
+
+    /**
+     * Called for each detected opportunity.
+     *
+     * @param opportunity the opportunity
+     */
+    void onOpportunity(ArbitrageOpportunity opportunity);
+}
@@ -0,0 +1,31 @@
+package sungjun.bitcoin.algorithmtrading.service.arbitrage;
+
+/**
+ * 수수료를 반영해도 최소 차익 이상이 남는 거래소 간 가격 차이입니다.
+ * <p>
+ * 가격과 수량, 금액은 소수 8자리 고정소수점 값이며 가격과 금액은 원화로 환산한 값입니다.
+ * 평균 가격은 호가창을 훑어 {@code quantity}만큼 체결할 때의 평균이며 수수료가 포함되어 있습니다.
+ * </p>
+ *
+ * @param asset          the asset (e.g., BTC)
+ * @param direction      which exchange to buy on and which to sell on
+ * @param quantity       the executable quantity at or above the minimum spread
+ * @param buyPrice       the average KRW buy price including fees
+ * @param sellPrice      the average KRW sell price net of fees
+ * @param netSpread      the spread after fees, as a fraction of the buy amount
+ * @param expectedProfit the expected KRW profit after fees
+ * @param detectedAt     the detection time in epoch milliseconds
+ * @author sungjun
+ * @since 1.0
+ */
+public record ArbitrageOpportunity(
+    String asset,
+    ArbitrageDirection direction,
+    long quantity,
+    long buyPrice,
+    long sellPrice,
+    double netSpread,
+    long expectedProfit,
+    long detectedAt
+) {
+}
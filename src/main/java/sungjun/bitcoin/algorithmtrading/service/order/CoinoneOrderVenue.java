@@ -0,0 +1,204 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import org.springframework.web.client.ResourceAccessException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderApiClient;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderGateway;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneOrderInfo;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderCancelRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderInfoRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.CoinoneOrderTemplate;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.RateLimitExceededException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coinone 주문 API를 {@link OrderVenue}로 감싼 구현입니다.
+ * <p>
+ * 주문과 긴급 전체 취소는 지연 시간이 짧은 {@link CoinoneOrderGateway}로 보내고, 주문 취소와 정합성 확인을 위한 미체결 주문 목록, 주문 상세 조회는
+ * {@link CoinoneOrderApiClient}로 수행합니다. 거래 쌍별 주문 템플릿은 처음 사용할 때 한 번 만들어 보관합니다.
+ * </p>
+ * <p>
+ * 주문에는 {@code user_order_id}를 붙여 보내며, Coinone은 같은 사용자 지정 주문 ID의 주문을 한 번만 접수합니다.
+ * 접수 여부를 알 수 없는 주문은 같은 ID로 상세 조회하여 확인할 수 있습니다.
+ * </p>
+ *
+ * <h2>상태 매핑</h2>
+ * <ul>
+ *   <li>{@code LIVE}: 체결 수량이 있으면 {@link OrderState#PARTIALLY_FILLED}, 없으면 {@link OrderState#OPEN}</li>
+ *   <li>{@code PARTIALLY_FILLED}: {@link OrderState#PARTIALLY_FILLED}</li>
+ *   <li>{@code FILLED}: {@link OrderState#FILLED}</li>
+ *   <li>{@code CANCELED}, {@code PARTIALLY_CANCELED}: {@link OrderState#CANCELLED}</li>
+ * </ul>
+ * <p>
+ * 미체결 주문 목록 응답에는 상태가 없으므로 {@code LIVE}로 취급합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class CoinoneOrderVenue implements OrderVenue {
+
+    private static final String EXCHANGE = "coinone";
+    /**
+     * 주문을 찾을 수 없음 (docs/coinone-error-codes.md)
+     */
+    private static final String ORDER_NOT_FOUND = "302";
+
+    private final CoinoneOrderGateway gateway;
+    private final CoinoneOrderApiClient orderApiClient;
+    private final String accessToken;
+    private final ConcurrentMap<CurrencyPair, CoinoneOrderTemplate> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a Coinone order venue.
+     *
+     * @param gateway the low-latency order gateway used to place orders
+     * @param orderApiClient the order API client used to cancel and query orders
+     * @param accessToken the Coinone access token
+     */
+    public CoinoneOrderVenue(CoinoneOrderGateway gateway, CoinoneOrderApiClient orderApiClient, String accessToken) {
+        this.gateway = gateway;
+        this.orderApiClient = orderApiClient;
+        this.accessToken = accessToken;
+    }
+
+    @Override
+    public String exchange() {
+        return EXCHANGE;
+    }
+
+    @Override
+    public String placeLimitOrder(CurrencyPair pair, String userOrderId, OrderSide side, long price, long qty,
+                                  boolean postOnly, long tickNanos) {
+        return gateway.placeLimitOrder(template(pair), userOrderId, side, price, qty, postOnly, tickNanos).getOrderId();
+    }
+
+    @Override
+    public long cancelOrder(CurrencyPair pair, String exchangeOrderId) {
+        CoinoneOrderCancelRequest request = CoinoneOrderCancelRequest.builder()
+            .accessToken(accessToken)
+            .orderId(exchangeOrderId)
+            .quoteCurrency(pair.quoteCurrency())
+            .targetCurrency(pair.targetCurrency())
+            .build();
+        return parse(orderApiClient.cancel(request).getTradedQty());
+    }
+
+    @Override
+    public void cancelAll(CurrencyPair pair) {
+        gateway.cancelAll(template(pair));
+    }
+
+    @Override
+    public List<ExchangeOrderStatus> getActiveOrders(CurrencyPair pair) {
+        List<CoinoneOrderInfo> orders = orderApiClient.getActiveOrders(request(pair, null)).getActiveOrders();
+        if (orders == null) {
+            return List.of();
+        }
+        return orders.stream()
+            .map(CoinoneOrderVenue::toStatus)
+            .toList();
+    }
+
+    @Override
+    public ExchangeOrderStatus getOrder(CurrencyPair pair, String exchangeOrderId) {
+        return toStatus(orderApiClient.getOrderDetail(request(pair, exchangeOrderId)).getOrder());
+    }
+
+    /**
+     * 거래소가 주문을 찾을 수 없다는 에러({@code 302})로 응답한 경우만 해당 사용자 지정 주문 ID의 주문이 없는 것으로 판단합니다.
+     * 인증 실패나 잘못된 파라미터처럼 주문의 존재를 확인하지 못한 에러는 그대로 던져, 접수된 주문을 다시 보내거나 거부로 확정하지 않게 합니다.
+     */
+    @Override
+    public ExchangeOrderStatus findOrder(CurrencyPair pair, String userOrderId) {
+        CoinoneOrderInfoRequest request = CoinoneOrderInfoRequest.builder()
+            .accessToken(accessToken)
+            .userOrderId(userOrderId)
+            .quoteCurrency(pair.quoteCurrency())
+            .targetCurrency(pair.targetCurrency())
+            .build();
+        try {
+            return toStatus(orderApiClient.getOrderDetail(request).getOrder());
+        } catch (CoinoneApiException e) {
+            if (ORDER_NOT_FOUND.equals(e.getErrorCode())) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 전송 실패(타임아웃, 연결 끊김), 요청 제한, 서버 오류(5xx 에러 코드)만 재시도합니다.
+     * 잔고 부족이나 잘못된 파라미터처럼 다시 보내도 같은 결과가 나오는 거부는 재시도하지 않습니다.
+     */
+    @Override
+    public boolean isRetriable(RuntimeException failure) {
+        if (failure instanceof CoinoneApiException e) {
+            return isServerError(e);
+        }
+        return failure instanceof RateLimitExceededException
+            || failure instanceof UncheckedIOException
+            || failure instanceof ResourceAccessException;
+    }
+
+    /**
+     * 거래소가 에러 응답을 보냈거나 요청 제한으로 전송하지 않은 경우만 접수되지 않은 것으로 확정합니다.
+     * 서버 오류(5xx 에러 코드)는 거래소 내부에서 주문이 처리되었을 수 있으므로 접수 여부를 알 수 없는 실패로 봅니다.
+     */
+    @Override
+    public boolean isRejection(RuntimeException failure) {
+        if (failure instanceof CoinoneApiException e) {
+            return !isServerError(e);
+        }
+        return failure instanceof RateLimitExceededException;
+    }
+
+    private static boolean isServerError(CoinoneApiException e) {
+        String code = e.getErrorCode();
+        return code != null && code.length() == 3 && code.charAt(0) == '5';
+    }
+
+    private CoinoneOrderTemplate template(CurrencyPair pair) {
+        return templates.computeIfAbsent(pair, key -> gateway.template(key.quoteCurrency(), key.targetCurrency()));
+    }
+
+    private CoinoneOrderInfoRequest request(CurrencyPair pair, String orderId) {
+        return CoinoneOrderInfoRequest.builder()
+            .accessToken(accessToken)
+            .orderId(orderId)
+            .quoteCurrency(pair.quoteCurrency())
+            .targetCurrency(pair.targetCurrency())
+            .build();
+    }
+
+    static ExchangeOrderStatus toStatus(CoinoneOrderInfo order) {
+        long qty = parse(order.getOriginalQty());
+        long filledQty = parse(order.getExecutedQty());
+        return new ExchangeOrderStatus(order.getOrderId(), order.getUserOrderId(), order.getSide(), parse(order.getPrice()),
+            qty, filledQty, stateOf(order.getStatus(), filledQty));
+    }
+
+    private static OrderState stateOf(String status, long filledQty) {
+        if (status == null) {
+            return filledQty > 0L ? OrderState.PARTIALLY_FILLED : OrderState.OPEN;
+        }
+        return switch (status) {
+            case "PARTIALLY_FILLED" -> OrderState.PARTIALLY_FILLED;
+            case "FILLED" -> OrderState.FILLED;
+            case "CANCELED", "PARTIALLY_CANCELED" -> OrderState.CANCELLED;
+            default -> filledQty > 0L ? OrderState.PARTIALLY_FILLED : OrderState.OPEN;
+        };
+    }
+
+    private static long parse(String value) {
+        return value == null || value.isEmpty() ? 0L : FixedPoint.parse(value, CoinoneTicker.PRICE_SCALE);
+    }
+}
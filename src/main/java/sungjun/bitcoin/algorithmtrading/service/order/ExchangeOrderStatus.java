@@ -0,0 +1,30 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+
+/**
+ * 정합성 확인 시 거래소가 알려 준 주문 한 건의 현재 상태입니다.
+ * <p>
+ * 가격과 수량은 {@link TrackedOrder}와 같은 고정소수점 값입니다.
+ * </p>
+ *
+ * @param exchangeOrderId the id assigned by the exchange
+ * @param userOrderId     the user order id the order was sent with, or {@code null} if the exchange did not report one
+ * @param side            the order side
+ * @param price           the limit price
+ * @param qty             the original order quantity
+ * @param filledQty       the executed quantity
+ * @param state           the state mapped from the exchange status; never {@link OrderState#PENDING_NEW}
+ * @author sungjun
+ * @since 1.0
+ */
+public record ExchangeOrderStatus(
+    String exchangeOrderId,
+    String userOrderId,
+    OrderSide side,
+    long price,
+    long qty,
+    long filledQty,
+    OrderState state
+) {
+}
@@ -0,0 +1,348 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.order.OrderBatchProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 주문/취소 요청을 짧은 시간 동안 모아 동시에 전송하는 일괄 처리기입니다.
+ * <p>
+ * Coinone에는 여러 주문을 한 번에 보내는 API가 없으므로, 그리드나 마켓 메이킹 전략이 50개 호가를 다시 낼 때
+ * 요청을 하나씩 보내면 왕복 시간이 50번 누적됩니다. 일괄 처리기는 첫 요청이 들어온 뒤 {@code window} 동안 들어온 요청을
+ * 최대 {@code maxSize}개까지 한 묶음으로 모아, 묶음 안의 요청을 가상 스레드에서 동시에 {@link OrderManager}로 전송합니다.
+ * 따라서 묶음 전체의 소요 시간은 왕복 시간의 합이 아니라 가장 느린 요청 하나에 가깝습니다.
+ * </p>
+ *
+ * <h2>처리 방식</h2>
+ * <ul>
+ *   <li>요청마다 {@link CompletableFuture}를 돌려주며, 요청별 결과(주문 스냅샷) 또는 실패가 각각 전달됩니다.</li>
+ *   <li>묶음 안에서는 취소를 모두 전송하고 완료된 뒤에 주문을 전송하여 호가를 바꿀 때 묶인 잔고가 먼저 풀리도록 하고,
+ *       같은 주문에 대한 중복 취소는 한 번만 전송합니다. 취소가 실패해도 주문은 그대로 전송합니다.
+ *       취소 완료를 기다리는 동안에도 다음 묶음은 계속 모아서 전송하므로, 느린 취소가 뒤에 들어온 요청을 지연시키지 않습니다.</li>
+ *   <li>동시에 전송 중인 요청은 {@code maxConcurrency}개로 제한하여 커넥션 풀이 고갈되지 않도록 합니다.
+ *       거래소 요청 제한은 각 요청이 거치는 거래소별 요청 제한기가 그대로 적용합니다.</li>
+ *   <li>여러 요청을 {@link #submitAll(List)}로 넘기면 {@code window}와 관계없이 같은 묶음으로 처리됩니다
+ *       ({@code maxSize} 이내인 경우).</li>
+ * </ul>
+ *
+ * <h2>메트릭 (태그: {@code exchange})</h2>
+ * <ul>
+ *   <li>{@code oms.batch.size}: 묶음당 요청 수</li>
+ *   <li>{@code oms.batch.queue.wait}: 요청이 들어온 뒤 전송을 시작하기까지의 시간</li>
+ *   <li>{@code oms.batch.in_flight}: 전송 중인 요청 수</li>
+ * </ul>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * List&lt;OrderIntent&gt; requote = new ArrayList&lt;&gt;();
+ * staleOrders.forEach(order -&gt; requote.add(OrderIntent.cancel(order.clientOrderId())));
+ * levels.forEach(level -&gt; requote.add(OrderIntent.limitOrder(pair, OrderSide.BUY, level.price(), level.qty(), true, tickNanos)));
+ * List&lt;CompletableFuture&lt;TrackedOrder&gt;&gt; results = batcher.submitAll(requote);
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class OrderBatcher implements SmartLifecycle, MeterBinder {
+
+    // 요청이 없더라도 주기적으로 깨어나 종료 여부를 확인합니다.
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final OrderManager orderManager;
+    private final long windowNanos;
+    private final int maxSize;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+
+    private volatile DistributionSummary batchSizes;
+    private volatile Timer queueWait;
+    private volatile Thread dispatcher;
+    private volatile ExecutorService executor;
+    private volatile boolean running;
+
+    /**
+     * Creates an order batcher.
+     *
+     * @param orderManager the order manager the requests are sent through
+     * @param properties the batching settings
+     */
+    public OrderBatcher(OrderManager orderManager, OrderBatchProperties properties) {
+        this.orderManager = orderManager;
+        this.windowNanos = properties.getWindow().toNanos();
+        this.maxSize = properties.getMaxSize();
+        this.maxConcurrency = properties.getMaxConcurrency();
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * Queues a single order or cancel request.
+     *
+     * @param intent the request
+     * @return completes with the order after the request, or exceptionally with the failure of this request
+     */
+    public CompletableFuture<TrackedOrder> submit(OrderIntent intent) {
+        return submitAll(List.of(intent)).getFirst();
+    }
+
+    /**
+     * Queues several requests together so that they are dispatched in the same batch.
+     *
+     * @param intents the requests
+     * @return one future per request, in the same order
+     */
+    public List<CompletableFuture<TrackedOrder>> submitAll(List<? extends OrderIntent> intents) {
+        List<CompletableFuture<TrackedOrder>> futures = new ArrayList<>(intents.size());
+        long now = System.nanoTime();
+        for (OrderIntent intent : intents) {
+            CompletableFuture<TrackedOrder> future = new CompletableFuture<>();
+            futures.add(future);
+            if (!running) {
+                future.completeExceptionally(new IllegalStateException("Order batcher is not running"));
+                continue;
+            }
+            Pending pending = new Pending(intent, future, now);
+            queue.add(pending);
+            // stop()이 큐를 비운 뒤에 넣었다면 아무도 꺼내지 않으므로 직접 실패 처리합니다.
+            // 그 전에 넣었다면 stop()이 실패 처리하고, 여기서는 remove가 false를 돌려줍니다.
+            if (!running && queue.remove(pending)) {
+                future.completeExceptionally(new IllegalStateException("Order batcher is not running"));
+            }
+        }
+        return futures;
+    }
+
+    private void dispatchLoop(ExecutorService executor) {
+        List<Pending> batch = new ArrayList<>(maxSize);
+        try {
+            while (running) {
+                Pending first = queue.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = first.enqueuedNanos() + windowNanos;
+                while (batch.size() < maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending next = remaining > 0L ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                dispatch(executor, batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            failAll(batch);
+        }
+    }
+
+    /**
+     * 취소를 먼저 전송하고, 주문은 취소가 모두 끝난 뒤 실행기에서 전송합니다. 전송을 시작했거나 실행기로 넘긴 요청은
+     * 묶음에서 제거하므로, 중단되면 남은 요청만 실패 처리됩니다.
+     */
+    private void dispatch(ExecutorService executor, List<Pending> batch) throws InterruptedException {
+        DistributionSummary sizes = batchSizes;
+        if (sizes != null) {
+            sizes.record(batch.size());
+        }
+
+        Map<Long, CompletableFuture<TrackedOrder>> cancels = new HashMap<>();
+        List<Pending> ordered = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            if (pending.intent() instanceof OrderIntent.Cancel cancel) {
+                CompletableFuture<TrackedOrder> first = cancels.putIfAbsent(cancel.clientOrderId(), pending.future());
+                if (first != null) {
+                    // 같은 묶음의 중복 취소는 첫 요청의 결과를 함께 받습니다.
+                    first.whenComplete((order, failure) -> complete(pending.future(), order, failure));
+                    continue;
+                }
+                ordered.add(pending);
+            }
+        }
+        for (Pending pending : batch) {
+            if (pending.intent() instanceof OrderIntent.Place) {
+                ordered.add(pending);
+            }
+        }
+        batch.clear();
+        batch.addAll(ordered);
+
+        send(executor, batch, cancels.size());
+        if (cancels.isEmpty() || batch.isEmpty()) {
+            send(executor, batch, batch.size());
+            return;
+        }
+        // 취소 결과는 요청자에게 이미 전달되므로, 실패 여부와 관계없이 모두 끝나면 주문을 전송합니다.
+        List<Pending> places = new ArrayList<>(batch);
+        batch.clear();
+        CompletableFuture.allOf(cancels.values().toArray(CompletableFuture[]::new))
+            .whenComplete((ignored, failure) -> sendLater(executor, places));
+    }
+
+    /**
+     * 묶음 앞쪽의 요청을 {@code count}개 전송합니다.
+     */
+    private void send(ExecutorService executor, List<Pending> batch, int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            Pending pending = batch.getFirst();
+            permits.acquire();
+            batch.removeFirst();
+            try {
+                executor.execute(() -> execute(pending));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                pending.future().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 전송 대기 중인 요청을 발송 스레드가 아닌 실행기에서 전송합니다. 전송 한도를 기다리는 동안 중단되면 남은 요청을 실패 처리합니다.
+     */
+    private void sendLater(ExecutorService executor, List<Pending> pending) {
+        try {
+            executor.execute(() -> {
+                try {
+                    send(executor, pending, pending.size());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    failAll(pending);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            failAll(pending);
+        }
+    }
+
+    private void execute(Pending pending) {
+        try {
+            Timer wait = queueWait;
+            if (wait != null) {
+                wait.record(System.nanoTime() - pending.enqueuedNanos(), TimeUnit.NANOSECONDS);
+            }
+            TrackedOrder order = switch (pending.intent()) {
+                case OrderIntent.Place place -> orderManager.place(place.userOrderId(), place.pair(), place.side(),
+                    place.price(), place.qty(), place.postOnly(), place.tickNanos());
+                case OrderIntent.Cancel cancel -> orderManager.cancel(cancel.clientOrderId());
+            };
+            pending.future().complete(order);
+        } catch (Throwable e) {
+            pending.future().completeExceptionally(e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static void complete(CompletableFuture<TrackedOrder> future, TrackedOrder order, Throwable failure) {
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(order);
+        }
+    }
+
+    private void failAll(List<Pending> pending) {
+        IllegalStateException stopped = new IllegalStateException("Order batcher stopped");
+        for (Pending request : pending) {
+            request.future().completeExceptionally(stopped);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Returns the number of requests currently being sent.
+     *
+     * @return the in-flight request count
+     */
+    public int getInFlight() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        ExecutorService started = Executors.newVirtualThreadPerTaskExecutor();
+        executor = started;
+        dispatcher = Thread.ofPlatform()
+            .name(orderManager.getExchange() + "-order-batcher")
+            .daemon(true)
+            .start(() -> dispatchLoop(started));
+    }
+
+    /**
+     * Stops dispatching. Queued requests and orders still waiting for their batch's cancels fail.
+     * Requests already sent to the exchange are allowed to finish in the background,
+     * because abandoning them would leave their outcome unknown; their futures complete as usual.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        try {
+            dispatcher.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dispatcher = null;
+        // 새 작업만 거절하고, 이미 거래소로 보낸 요청은 결과를 받을 때까지 실행합니다.
+        executor.shutdown();
+        executor = null;
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        failAll(remaining);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String exchange = orderManager.getExchange();
+        batchSizes = DistributionSummary.builder("oms.batch.size")
+            .description("Order and cancel requests dispatched together")
+            .tag("exchange", exchange)
+            .register(registry);
+        queueWait = Timer.builder("oms.batch.queue.wait")
+            .description("Time from request submission to dispatch")
+            .tag("exchange", exchange)
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+        Gauge.builder("oms.batch.in_flight", this, OrderBatcher::getInFlight)
+            .description("Order and cancel requests being sent")
+            .tag("exchange", exchange)
+            .register(registry);
+    }
+
+    private record Pending(OrderIntent intent, CompletableFuture<TrackedOrder> future, long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,84 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+
+import java.util.Objects;
+
+/**
+ * {@link OrderBatcher}에 넘기는 주문 또는 취소 요청입니다.
+ * <p>
+ * 가격과 수량은 {@link TrackedOrder}와 같은 고정소수점 값입니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public sealed interface OrderIntent {
+
+    /**
+     * Creates a limit order intent.
+     *
+     * @param pair the currency pair
+     * @param side the order side
+     * @param price the limit price
+     * @param qty the order quantity
+     * @param postOnly whether the order must only add liquidity
+     * @param tickNanos the {@link System#nanoTime()} at which the market data that triggered the order was received
+     * @return the intent
+     */
+    static Place limitOrder(CurrencyPair pair, OrderSide side, long price, long qty, boolean postOnly, long tickNanos) {
+        return new Place(null, pair, side, price, qty, postOnly, tickNanos);
+    }
+
+    /**
+     * Creates a limit order intent under a caller-chosen user order id, deduplicated as by
+     * {@link OrderManager#placeLimitOrder(String, CurrencyPair, OrderSide, long, long, boolean, long)}.
+     *
+     * @param userOrderId the caller-chosen id, unique per order across processes and accepted by the exchange
+     * @param pair the currency pair
+     * @param side the order side
+     * @param price the limit price
+     * @param qty the order quantity
+     * @param postOnly whether the order must only add liquidity
+     * @param tickNanos the {@link System#nanoTime()} at which the market data that triggered the order was received
+     * @return the intent
+     */
+    static Place limitOrder(String userOrderId, CurrencyPair pair, OrderSide side, long price, long qty, boolean postOnly,
+                            long tickNanos) {
+        return new Place(Objects.requireNonNull(userOrderId, "userOrderId"), pair, side, price, qty, postOnly, tickNanos);
+    }
+
+    /**
+     * Creates a cancel intent.
+     *
+     * @param clientOrderId the local id of the order to cancel
+     * @return the intent
+     */
+    static Cancel cancel(long clientOrderId) {
+        return new Cancel(clientOrderId);
+    }
+
+    /**
+     * 지정가 주문 요청입니다.
+     *
+     * @param userOrderId the caller-chosen user order id, or {@code null} to let the order manager assign one
+     * @param pair        the currency pair
+     * @param side        the order side
+     * @param price       the limit price
+     * @param qty         the order quantity
+     * @param postOnly    whether the order must only add liquidity
+     * @param tickNanos   the {@link System#nanoTime()} at which the triggering market data was received
+     */
+    record Place(String userOrderId, CurrencyPair pair, OrderSide side, long price, long qty, boolean postOnly,
+                 long tickNanos) implements OrderIntent {
+    }
+
+    /**
+     * 주문 취소 요청입니다.
+     *
+     * @param clientOrderId the local id of the order to cancel
+     */
+    record Cancel(long clientOrderId) implements OrderIntent {
+    }
+}
@@ -0,0 +1,948 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.order.OrderManagementProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.RateLimitExceededException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.TradingHaltedException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.halt.TradingHalt;
+import sungjun.bitcoin.algorithmtrading.util.LongObjectHashMap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 이 애플리케이션이 보낸 주문의 상태를 메모리에 보관하는 주문 관리자(OMS)입니다.
+ * <p>
+ * 주문 API는 접수된 주문 ID만 돌려주므로, 전략이 미체결 주문이나 잔량을 알려면 매번 거래소를 조회해야 했습니다.
+ * 주문 관리자는 {@link OrderVenue}로 보내는 모든 주문을 {@link OrderState} 상태 머신으로 추적하고,
+ * 전략은 거래소 호출 없이 O(1)로 주문 상태를 조회합니다.
+ * </p>
+ *
+ * <h2>주문 흐름</h2>
+ * <ul>
+ *   <li>주문은 전송 전에 로컬 주문 번호({@code clientOrderId})를 받아 {@link OrderState#PENDING_NEW}로 등록됩니다.</li>
+ *   <li>거래소가 주문 ID를 돌려주면 {@link OrderState#OPEN}, 거래소가 거부하면 {@link OrderState#REJECTED}가 됩니다.</li>
+ *   <li>타임아웃처럼 접수 여부를 알 수 없는 실패는 {@link OrderState#PENDING_NEW}로 남겨 두고 정합성 확인에서 결정합니다.</li>
+ * </ul>
+ *
+ * <h2>재시도와 중복 주문 방지</h2>
+ * <p>
+ * 모든 주문은 프로세스마다 다른 접두어와 주문 번호로 만든 사용자 지정 주문 ID({@code userOrderId})를 붙여 보내며,
+ * 거래소는 같은 ID의 주문을 한 번만 접수합니다. 타임아웃, 서버 오류, 요청 제한처럼 거래소가 재시도할 수 있다고 분류한 실패만
+ * 같은 ID로 최대 {@code maxAttempts}번까지 다시 보내고, 재시도 간격은 지수적으로 늘어나는 상한 안에서 무작위로 정합니다.
+ * 앞선 시도의 접수 여부를 알 수 없으면 다시 보내기 전에 같은 ID로 거래소를 조회하여, 이미 접수된 주문은 다시 보내지 않고 그 주문으로 확정합니다.
+ * 조회에 실패하거나 거래가 중단되면 더 보내지 않고 정합성 확인에 맡깁니다.
+ * </p>
+ * <p>
+ * 호출자가 사용자 지정 주문 ID를 직접 지정하면, {@code dedupWindow} 안에 같은 ID로 다시 들어온 주문은 전송하지 않고 처음 주문을 돌려줍니다.
+ * 결과를 모르는 주문 요청을 호출자가 그대로 반복해도 주문은 한 번만 나갑니다.
+ * </p>
+ *
+ * <h2>정합성 확인</h2>
+ * <p>
+ * {@code reconcileInterval}마다 활성 주문이 있는 거래 쌍의 미체결 주문 목록을 조회하여 체결 수량과 상태를 갱신하고,
+ * 목록에서 사라진 주문은 주문 상세 조회로 최종 상태(체결 완료 또는 취소)를 확인합니다.
+ * 접수 여부를 알 수 없던 주문은 사용자 지정 주문 ID가 같은 처음 보는 미체결 주문이 있으면 그 주문으로 확정하고,
+ * {@code pendingTimeout}이 지나도 찾지 못하면 사용자 지정 주문 ID로 한 번 더 조회한 뒤 없으면 {@link OrderState#REJECTED}로 처리합니다.
+ * 종료 상태가 된 지 {@code terminalRetention}이 지난 주문은 메모리에서 제거합니다.
+ * </p>
+ *
+ * <h2>거래 중단</h2>
+ * <p>
+ * {@link #halt(String)}를 호출하면 해제({@link #resume()})할 때까지 새 주문을 등록하지 않고 {@link TradingHaltedException}으로 거절합니다.
+ * 중단 상태는 거래소의 {@link TradingHalt}에 기록되므로, 같은 {@link TradingHalt}를 공유하는 주문 게이트웨이와 주문 API 클라이언트도
+ * 이 관리자를 거치지 않은 새 주문을 거절합니다. 취소와 정합성 확인은 계속 동작합니다. 거래 중단 직전에 전송을 시작한 주문은 {@link #getPlacingCount()}로 확인할 수 있습니다.
+ * </p>
+ *
+ * <h2>동시성</h2>
+ * <p>
+ * 주문 번호와 거래소 주문 ID를 각각 {@code long} 키로 사용하는 {@link LongObjectHashMap} 두 개에 불변 스냅샷({@link TrackedOrder})을
+ * 보관하고, 읽기/쓰기 잠금으로 보호합니다. 조회는 읽기 잠금만 사용하므로 여러 전략이 동시에 조회할 수 있고,
+ * 거래소 호출은 잠금 밖에서 수행합니다.
+ * </p>
+ *
+ * <h2>메트릭 (태그: {@code exchange})</h2>
+ * <ul>
+ *   <li>{@code oms.orders.active}: 종료되지 않은 주문 수</li>
+ *   <li>{@code oms.orders.tracked}: 메모리에 보관 중인 주문 수</li>
+ *   <li>{@code oms.reconcile.corrections}: 정합성 확인으로 상태나 체결 수량이 바뀐 주문 수</li>
+ *   <li>{@code oms.reconcile.failures}: 실패한 정합성 확인 수</li>
+ *   <li>{@code oms.halted}: 거래 중단 여부 (1 = 중단)</li>
+ *   <li>{@code oms.place.retries}: 일시적인 실패로 다시 보낸 주문 수</li>
+ *   <li>{@code oms.place.recovered}: 접수 여부를 알 수 없던 주문을 다시 보내지 않고 거래소 조회로 확정한 수</li>
+ *   <li>{@code oms.place.duplicates}: 같은 사용자 지정 주문 ID로 다시 들어와 전송하지 않은 주문 수</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class OrderManager implements SmartLifecycle, MeterBinder {
+
+    // 64비트 FNV-1a
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final OrderVenue venue;
+    private final boolean autoStartup;
+    private final Duration reconcileInterval;
+    private final long pendingTimeoutMillis;
+    private final long terminalRetentionMillis;
+    private final LongSupplier clock;
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long dedupWindowMillis;
+    private final String userOrderIdPrefix;
+
+    private final Lock readLock;
+    private final Lock writeLock;
+    // 아래 필드는 모두 writeLock으로 보호됩니다.
+    private final LongObjectHashMap<TrackedOrder> byClientId;
+    private final LongObjectHashMap<TrackedOrder> byExchangeId;
+    // 전송이 실패했지만 거래소 접수 여부를 알 수 없는 주문
+    private final LongObjectHashMap<TrackedOrder> unconfirmed;
+    // 호출자가 지정한 사용자 지정 주문 ID별 최초 주문 (등록 순서 = 만료 순서)
+    private final Map<String, TrackedOrder> byUserOrderId = new LinkedHashMap<>();
+    private long lastClientOrderId;
+    private int activeCount;
+
+    private final LongAdder corrections = new LongAdder();
+    private final LongAdder reconcileFailures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    // 거래소로 전송 중인 주문 수
+    private final AtomicInteger placing = new AtomicInteger();
+
+    private final TradingHalt halt;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates an order manager with a trading halt of its own.
+     *
+     * @param venue the exchange the orders are sent to
+     * @param properties the order management settings
+     */
+    public OrderManager(OrderVenue venue, OrderManagementProperties properties) {
+        this(venue, new TradingHalt(venue.exchange()), properties);
+    }
+
+    /**
+     * Creates an order manager.
+     *
+     * @param venue the exchange the orders are sent to
+     * @param halt the trading halt shared with every other path that sends orders to the exchange
+     * @param properties the order management settings
+     */
+    public OrderManager(OrderVenue venue, TradingHalt halt, OrderManagementProperties properties) {
+        this(venue, halt, properties, System::currentTimeMillis);
+    }
+
+    OrderManager(OrderVenue venue, TradingHalt halt, OrderManagementProperties properties, LongSupplier clock) {
+        this.venue = venue;
+        this.halt = halt;
+        this.autoStartup = properties.isEnabled();
+        this.reconcileInterval = properties.getReconcileInterval();
+        this.pendingTimeoutMillis = properties.getPendingTimeout().toMillis();
+        this.terminalRetentionMillis = properties.getTerminalRetention().toMillis();
+        this.clock = clock;
+        this.maxAttempts = properties.getRetry().getMaxAttempts();
+        this.initialBackoffNanos = properties.getRetry().getInitialBackoff().toNanos();
+        this.maxBackoffNanos = properties.getRetry().getMaxBackoff().toNanos();
+        this.dedupWindowMillis = properties.getRetry().getDedupWindow().toMillis();
+        // 재시작 후에도 이전 프로세스가 보낸 주문과 ID가 겹치지 않도록 시작 시각을 접두어로 사용합니다.
+        this.userOrderIdPrefix = Long.toString(clock.getAsLong(), 36) + "-";
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+        this.byClientId = new LongObjectHashMap<>(properties.getExpectedOrders());
+        this.byExchangeId = new LongObjectHashMap<>(properties.getExpectedOrders());
+        this.unconfirmed = new LongObjectHashMap<>(16);
+    }
+
+    /**
+     * Registers a limit order, sends it to the exchange and records the outcome.
+     * Transient failures are retried with the same user order id; see the class documentation.
+     *
+     * @param pair the currency pair
+     * @param side the order side
+     * @param price the limit price as a fixed-point value
+     * @param qty the order quantity as a fixed-point value
+     * @param postOnly whether the order must only add liquidity
+     * @param tickNanos the {@link System#nanoTime()} at which the market data that triggered the order was received
+     * @return the order as acknowledged by the exchange
+     * @throws TradingHaltedException if trading is halted; the order is then neither registered nor sent
+     * @throws RuntimeException the last venue failure; the order is then {@link OrderState#REJECTED} if the exchange
+     *                          refused it, or stays {@link OrderState#PENDING_NEW} until reconciliation if the outcome is unknown
+     */
+    public TrackedOrder placeLimitOrder(CurrencyPair pair, OrderSide side, long price, long qty, boolean postOnly, long tickNanos) {
+        return place(null, pair, side, price, qty, postOnly, tickNanos);
+    }
+
+    /**
+     * Places a limit order under a caller-chosen user order id. If an order with the same id was placed within the
+     * dedup window, that order is returned as it currently stands and nothing is sent, so a caller may safely repeat
+     * a request whose outcome it does not know.
+     *
+     * @param userOrderId the caller-chosen id, unique per order across processes and accepted by the exchange
+     * @param pair the currency pair
+     * @param side the order side
+     * @param price the limit price as a fixed-point value
+     * @param qty the order quantity as a fixed-point value
+     * @param postOnly whether the order must only add liquidity
+     * @param tickNanos the {@link System#nanoTime()} at which the market data that triggered the order was received
+     * @return the order as acknowledged by the exchange, or the earlier order with the same id
+     * @throws TradingHaltedException if trading is halted; the order is then neither registered nor sent
+     * @throws RuntimeException the last venue failure, as for {@link #placeLimitOrder(CurrencyPair, OrderSide, long, long, boolean, long)}
+     */
+    public TrackedOrder placeLimitOrder(String userOrderId, CurrencyPair pair, OrderSide side, long price, long qty,
+                                       boolean postOnly, long tickNanos) {
+        return place(Objects.requireNonNull(userOrderId, "userOrderId"), pair, side, price, qty, postOnly, tickNanos);
+    }
+
+    /**
+     * 사용자 지정 주문 ID가 {@code null}이면 주문 관리자가 붙인 ID로 보내고 중복 차단은 하지 않습니다.
+     * {@link OrderBatcher}도 이 메서드로 주문합니다.
+     */
+    TrackedOrder place(String userOrderId, CurrencyPair pair, OrderSide side, long price, long qty,
+                       boolean postOnly, long tickNanos) {
+        // 거래 중단 확인보다 먼저 증가시켜, 중단 이후에는 전송 중인 주문 수가 줄어들기만 하도록 합니다.
+        placing.incrementAndGet();
+        try {
+            halt.check();
+            Registration registration = register(userOrderId, pair, side, price, qty);
+            TrackedOrder order = registration.order();
+            if (registration.duplicate()) {
+                duplicates.increment();
+                log.debug("[{}] Suppressed duplicate of order {} ({})", venue.exchange(), order.clientOrderId(), userOrderId);
+                return order;
+            }
+            String exchangeOrderId;
+            try {
+                exchangeOrderId = send(order, postOnly, tickNanos);
+            } catch (RuntimeException e) {
+                if (venue.isRejection(e)) {
+                    update(order.clientOrderId(), OrderState.REJECTED, 0L);
+                } else {
+                    markUnconfirmed(order.clientOrderId());
+                    log.warn("[{}] Order {} outcome unknown, will be resolved by reconciliation", venue.exchange(), order.clientOrderId(), e);
+                }
+                throw e;
+            }
+            return acknowledge(order.clientOrderId(), exchangeOrderId);
+        } finally {
+            placing.decrementAndGet();
+        }
+    }
+
+    /**
+     * Rejects every new order until {@link #resume()} is called. Cancellation and reconciliation keep working.
+     *
+     * @param reason the reason reported by rejected orders
+     */
+    public void halt(String reason) {
+        halt.halt(reason);
+        log.warn("[{}] Trading halted: {}", venue.exchange(), reason);
+    }
+
+    /**
+     * Accepts new orders again after {@link #halt(String)}.
+     */
+    public void resume() {
+        if (halt.resume()) {
+            log.info("[{}] Trading resumed", venue.exchange());
+        }
+    }
+
+    /**
+     * Returns whether new orders are currently rejected.
+     *
+     * @return {@code true} if trading is halted
+     */
+    public boolean isHalted() {
+        return halt.isHalted();
+    }
+
+    /**
+     * Returns the number of orders being sent to the exchange. Orders that passed the halt check before
+     * {@link #halt(String)} may still be in flight and rest on the exchange once acknowledged.
+     *
+     * @return the in-flight order count
+     */
+    public int getPlacingCount() {
+        return placing.get();
+    }
+
+    /**
+     * Cancels every open order of the currency pair on the exchange, including orders this manager does not track.
+     * The tracked orders are updated by the next reconciliation.
+     *
+     * @param pair the currency pair
+     */
+    public void cancelAll(CurrencyPair pair) {
+        venue.cancelAll(pair);
+    }
+
+    /**
+     * Cancels the remaining quantity of an order and records the quantity executed before cancellation.
+     * Orders that have already reached a terminal state are returned unchanged.
+     *
+     * @param clientOrderId the local order id
+     * @return the order after cancellation
+     * @throws IllegalArgumentException if the order is unknown
+     * @throws IllegalStateException if the exchange has not yet acknowledged the order
+     * @throws RuntimeException the venue failure, e.g. when the order was filled in the meantime
+     */
+    public TrackedOrder cancel(long clientOrderId) {
+        TrackedOrder order = get(clientOrderId);
+        if (order == null) {
+            throw new IllegalArgumentException("Unknown order: " + clientOrderId);
+        }
+        if (order.state().isTerminal()) {
+            return order;
+        }
+        if (order.exchangeOrderId() == null) {
+            throw new IllegalStateException("Order " + clientOrderId + " has not been acknowledged by the exchange yet");
+        }
+        long filledQty = venue.cancelOrder(order.pair(), order.exchangeOrderId());
+        apply(new ExchangeOrderStatus(order.exchangeOrderId(), order.userOrderId(), order.side(), order.price(), order.qty(),
+            filledQty, OrderState.CANCELLED));
+        return get(clientOrderId);
+    }
+
+    /**
+     * Returns the order with the given local id.
+     *
+     * @param clientOrderId the local order id
+     * @return the order, or {@code null} if it is unknown or has been evicted
+     */
+    public TrackedOrder get(long clientOrderId) {
+        readLock.lock();
+        try {
+            return byClientId.get(clientOrderId);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the order with the given exchange id.
+     *
+     * @param exchangeOrderId the id assigned by the exchange
+     * @return the order, or {@code null} if it is unknown or has been evicted
+     */
+    public TrackedOrder getByExchangeOrderId(String exchangeOrderId) {
+        readLock.lock();
+        try {
+            return findByExchangeId(exchangeOrderId);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns every order that has not reached a terminal state.
+     *
+     * @return the active orders in no particular order
+     */
+    public List<TrackedOrder> getActiveOrders() {
+        return getActiveOrders(null);
+    }
+
+    /**
+     * Returns the orders of a currency pair that have not reached a terminal state.
+     *
+     * @param pair the currency pair, or {@code null} for every pair
+     * @return the active orders in no particular order
+     */
+    public List<TrackedOrder> getActiveOrders(CurrencyPair pair) {
+        readLock.lock();
+        try {
+            List<TrackedOrder> orders = new ArrayList<>(activeCount);
+            byClientId.forEachValue(order -> {
+                if (order.state().isActive() && (pair == null || pair.equals(order.pair()))) {
+                    orders.add(order);
+                }
+            });
+            return orders;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the exchange name of the venue used for logs and metric tags.
+     *
+     * @return the exchange name (e.g., coinone)
+     */
+    public String getExchange() {
+        return venue.exchange();
+    }
+
+    /**
+     * Returns the currency pairs that have orders which have not reached a terminal state,
+     * including orders whose outcome is still unknown.
+     *
+     * @return the currency pairs
+     */
+    public Set<CurrencyPair> getActivePairs() {
+        Set<CurrencyPair> pairs = new LinkedHashSet<>();
+        readLock.lock();
+        try {
+            byClientId.forEachValue(order -> {
+                if (order.state().isActive()) {
+                    pairs.add(order.pair());
+                }
+            });
+        } finally {
+            readLock.unlock();
+        }
+        return pairs;
+    }
+
+    /**
+     * Returns the number of orders that have not reached a terminal state.
+     *
+     * @return the active order count
+     */
+    public int getActiveCount() {
+        readLock.lock();
+        try {
+            return activeCount;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of orders held in memory, including terminal ones not yet evicted.
+     *
+     * @return the tracked order count
+     */
+    public int getTrackedCount() {
+        readLock.lock();
+        try {
+            return byClientId.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Applies an order status reported by the exchange, e.g. from a private stream or a query.
+     * Reports that would move an order backwards, such as a stale open status after a fill, are ignored;
+     * the executed quantity only ever increases.
+     *
+     * @param status the reported status
+     * @return {@code true} if the order changed
+     */
+    public boolean apply(ExchangeOrderStatus status) {
+        writeLock.lock();
+        try {
+            return applyLocked(status);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reconciles every currency pair with active orders against the exchange.
+     *
+     * @return the number of orders whose state or fill changed
+     */
+    public int reconcile() {
+        Set<CurrencyPair> pairs = getActivePairs();
+        int changed = 0;
+        for (CurrencyPair pair : pairs) {
+            try {
+                changed += reconcile(pair);
+            } catch (RuntimeException e) {
+                reconcileFailures.increment();
+                log.warn("[{}] Failed to reconcile {} orders", venue.exchange(), pair, e);
+            }
+        }
+        evictTerminal();
+        return changed;
+    }
+
+    /**
+     * Reconciles the orders of one currency pair against the exchange.
+     *
+     * @param pair the currency pair
+     * @return the number of orders whose state or fill changed
+     */
+    public int reconcile(CurrencyPair pair) {
+        // 목록 조회 전에 접수가 확인된 주문만 비교 대상으로 삼아, 조회 도중 접수된 주문을 사라진 주문으로 오인하지 않습니다.
+        List<TrackedOrder> acknowledged = new ArrayList<>();
+        readLock.lock();
+        try {
+            byClientId.forEachValue(order -> {
+                if (order.state().isActive() && order.exchangeOrderId() != null && pair.equals(order.pair())) {
+                    acknowledged.add(order);
+                }
+            });
+        } finally {
+            readLock.unlock();
+        }
+
+        List<ExchangeOrderStatus> active = venue.getActiveOrders(pair);
+        Set<String> resting = new HashSet<>(active.size() * 2);
+        int changed = 0;
+        List<TrackedOrder> expired;
+        writeLock.lock();
+        try {
+            for (ExchangeOrderStatus status : active) {
+                resting.add(status.exchangeOrderId());
+                if (findByExchangeId(status.exchangeOrderId()) == null && !adopt(pair, status)) {
+                    continue;
+                }
+                if (applyLocked(status)) {
+                    changed++;
+                }
+            }
+            expired = expiredUnconfirmed(pair);
+        } finally {
+            writeLock.unlock();
+        }
+        changed += resolveExpired(pair, expired);
+
+        for (TrackedOrder order : acknowledged) {
+            if (!resting.contains(order.exchangeOrderId()) && apply(venue.getOrder(pair, order.exchangeOrderId()))) {
+                changed++;
+            }
+        }
+        corrections.add(changed);
+        return changed;
+    }
+
+    private Registration register(String userOrderId, CurrencyPair pair, OrderSide side, long price, long qty) {
+        long now = clock.getAsLong();
+        writeLock.lock();
+        try {
+            if (userOrderId != null) {
+                expireUserOrderIds(now);
+                TrackedOrder previous = byUserOrderId.get(userOrderId);
+                if (previous != null) {
+                    TrackedOrder current = byClientId.get(previous.clientOrderId());
+                    return new Registration(current != null ? current : previous, true);
+                }
+            }
+            long clientOrderId = ++lastClientOrderId;
+            TrackedOrder order = new TrackedOrder(clientOrderId,
+                userOrderId != null ? userOrderId : userOrderIdPrefix + clientOrderId, null, pair, side, price, qty, 0L,
+                OrderState.PENDING_NEW, now, now);
+            byClientId.put(order.clientOrderId(), order);
+            if (userOrderId != null) {
+                byUserOrderId.put(userOrderId, order);
+            }
+            activeCount++;
+            return new Registration(order, false);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void expireUserOrderIds(long now) {
+        long expiredBefore = now - dedupWindowMillis;
+        Iterator<TrackedOrder> iterator = byUserOrderId.values().iterator();
+        while (iterator.hasNext() && iterator.next().createdAt() <= expiredBefore) {
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 주문을 보내고 일시적인 실패는 같은 사용자 지정 주문 ID로 다시 보냅니다.
+     * 접수 여부를 알 수 없는 실패가 한 번이라도 있었다면 이후 거부는 중복 ID 때문일 수 있으므로, 그 실패를 던져 정합성 확인에 맡깁니다.
+     */
+    private String send(TrackedOrder order, boolean postOnly, long tickNanos) {
+        RuntimeException uncertain = null;
+        RuntimeException last = null;
+        for (int attempt = 1; ; attempt++) {
+            if (last != null) {
+                if (halt.isHalted()) {
+                    throw failure(uncertain, last);
+                }
+                if (uncertain != null) {
+                    // 다시 보내기 전에 앞선 시도가 접수되었는지 확인하고, 확인하지 못하면 다시 보내지 않습니다.
+                    ExchangeOrderStatus status;
+                    try {
+                        status = venue.findOrder(order.pair(), order.userOrderId());
+                    } catch (RuntimeException e) {
+                        uncertain.addSuppressed(e);
+                        throw failure(uncertain, last);
+                    }
+                    if (status != null) {
+                        return recover(order, status);
+                    }
+                }
+                retries.increment();
+            }
+            try {
+                return venue.placeLimitOrder(order.pair(), order.userOrderId(), order.side(), order.price(), order.qty(),
+                    postOnly, tickNanos);
+            } catch (RuntimeException e) {
+                if (uncertain == null && !venue.isRejection(e)) {
+                    uncertain = e;
+                }
+                last = e;
+                if (attempt >= maxAttempts || !venue.isRetriable(e)) {
+                    throw failure(uncertain, last);
+                }
+                log.debug("[{}] Order {} attempt {} failed, retrying", venue.exchange(), order.clientOrderId(), attempt, e);
+            }
+            if (!backoff(attempt, last)) {
+                throw failure(uncertain, last);
+            }
+        }
+    }
+
+    private static RuntimeException failure(RuntimeException uncertain, RuntimeException last) {
+        if (uncertain == null || uncertain == last) {
+            return last;
+        }
+        uncertain.addSuppressed(last);
+        return uncertain;
+    }
+
+    /**
+     * 여러 주문이 같은 장애로 동시에 실패해도 재시도가 한꺼번에 몰리지 않도록, 두 배씩 늘어나는 상한의 절반 이상에서 무작위로 기다립니다.
+     */
+    private boolean backoff(int attempt, RuntimeException failure) {
+        long ceiling = initialBackoffNanos;
+        for (int i = 1; i < attempt && ceiling < maxBackoffNanos; i++) {
+            ceiling <<= 1;
+        }
+        ceiling = Math.min(ceiling, maxBackoffNanos);
+        long delay = ceiling <= 0L ? 0L : ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+        if (failure instanceof RateLimitExceededException limited) {
+            delay = Math.max(delay, limited.getRetryAfter().toNanos());
+        }
+        if (delay <= 0L) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String recover(TrackedOrder order, ExchangeOrderStatus status) {
+        recovered.increment();
+        log.info("[{}] Order {} found on the exchange as {}, not resent", venue.exchange(), order.clientOrderId(),
+            status.exchangeOrderId());
+        acknowledge(order.clientOrderId(), status.exchangeOrderId());
+        apply(status);
+        return status.exchangeOrderId();
+    }
+
+    private TrackedOrder acknowledge(long clientOrderId, String exchangeOrderId) {
+        writeLock.lock();
+        try {
+            TrackedOrder order = byClientId.get(clientOrderId);
+            if (order.exchangeOrderId() != null) {
+                // 응답보다 정합성 확인이 먼저 주문을 확정한 경우
+                return order;
+            }
+            TrackedOrder acknowledged = order.acknowledged(exchangeOrderId, clock.getAsLong());
+            replace(order, acknowledged);
+            return acknowledged;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void update(long clientOrderId, OrderState state, long filledQty) {
+        writeLock.lock();
+        try {
+            TrackedOrder order = byClientId.get(clientOrderId);
+            if (order != null && order.state().canTransitionTo(state)) {
+                replace(order, order.transitioned(state, filledQty, clock.getAsLong()));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void markUnconfirmed(long clientOrderId) {
+        writeLock.lock();
+        try {
+            TrackedOrder order = byClientId.get(clientOrderId);
+            if (order != null && order.state() == OrderState.PENDING_NEW && order.exchangeOrderId() == null) {
+                unconfirmed.put(clientOrderId, order);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean applyLocked(ExchangeOrderStatus status) {
+        TrackedOrder order = findByExchangeId(status.exchangeOrderId());
+        if (order == null) {
+            return false;
+        }
+        long filledQty = Math.max(order.filledQty(), status.filledQty());
+        OrderState state = status.state();
+        if (state == OrderState.OPEN && filledQty > 0L) {
+            state = OrderState.PARTIALLY_FILLED;
+        }
+        if (state == order.state() && filledQty == order.filledQty()) {
+            return false;
+        }
+        // 같은 상태에서는 체결 수량만 보정합니다 (예: 취소 응답 이후 확인된 체결).
+        if (state != order.state() && !order.state().canTransitionTo(state)) {
+            log.debug("[{}] Ignored {} -> {} for order {}", venue.exchange(), order.state(), state, order.clientOrderId());
+            return false;
+        }
+        replace(order, order.transitioned(state, filledQty, clock.getAsLong()));
+        return true;
+    }
+
+    /**
+     * 처음 보는 미체결 주문과 사용자 지정 주문 ID가 같은 접수 미확인 주문이 있으면 그 주문의 거래소 ID로 확정합니다.
+     * 방향, 가격, 수량이 같은 다른 주문으로 잘못 확정하지 않도록 조건으로 비교하지 않으며,
+     * 거래소가 사용자 지정 주문 ID를 알려 주지 않은 주문은 기한이 지난 뒤 조회로 확정합니다.
+     */
+    private boolean adopt(CurrencyPair pair, ExchangeOrderStatus status) {
+        String userOrderId = status.userOrderId();
+        if (userOrderId == null) {
+            return false;
+        }
+        TrackedOrder[] match = new TrackedOrder[1];
+        unconfirmed.forEachValue(order -> {
+            if (pair.equals(order.pair()) && userOrderId.equals(order.userOrderId())) {
+                match[0] = order;
+            }
+        });
+        if (match[0] == null) {
+            return false;
+        }
+        TrackedOrder order = byClientId.get(match[0].clientOrderId());
+        replace(order, order.acknowledged(status.exchangeOrderId(), clock.getAsLong()));
+        log.info("[{}] Order {} confirmed as {} by reconciliation", venue.exchange(), order.clientOrderId(), status.exchangeOrderId());
+        return true;
+    }
+
+    private List<TrackedOrder> expiredUnconfirmed(CurrencyPair pair) {
+        long expiredBefore = clock.getAsLong() - pendingTimeoutMillis;
+        List<TrackedOrder> expired = new ArrayList<>();
+        unconfirmed.forEachValue(order -> {
+            if (pair.equals(order.pair()) && order.createdAt() <= expiredBefore) {
+                expired.add(order);
+            }
+        });
+        return expired;
+    }
+
+    /**
+     * 기한이 지난 접수 미확인 주문을 사용자 지정 주문 ID로 조회하여, 이미 체결되어 미체결 목록에 없던 주문도 확정하고 없으면 거부로 처리합니다.
+     * 조회에 실패한 주문은 다음 정합성 확인까지 그대로 둡니다.
+     */
+    private int resolveExpired(CurrencyPair pair, List<TrackedOrder> expired) {
+        int changed = 0;
+        for (TrackedOrder order : expired) {
+            ExchangeOrderStatus status;
+            try {
+                status = venue.findOrder(pair, order.userOrderId());
+            } catch (RuntimeException e) {
+                reconcileFailures.increment();
+                log.warn("[{}] Failed to look up unconfirmed order {}", venue.exchange(), order.clientOrderId(), e);
+                continue;
+            }
+            writeLock.lock();
+            try {
+                TrackedOrder current = byClientId.get(order.clientOrderId());
+                if (current == null || current.state() != OrderState.PENDING_NEW || current.exchangeOrderId() != null) {
+                    continue;
+                }
+                if (status != null) {
+                    replace(current, current.acknowledged(status.exchangeOrderId(), clock.getAsLong()));
+                    applyLocked(status);
+                    log.info("[{}] Order {} confirmed as {} by lookup", venue.exchange(), order.clientOrderId(), status.exchangeOrderId());
+                } else {
+                    replace(current, current.transitioned(OrderState.REJECTED, 0L, clock.getAsLong()));
+                    log.warn("[{}] Order {} was not found on the exchange within {}ms, marked as rejected",
+                        venue.exchange(), order.clientOrderId(), pendingTimeoutMillis);
+                }
+                changed++;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        return changed;
+    }
+
+    private void evictTerminal() {
+        long evictBefore = clock.getAsLong() - terminalRetentionMillis;
+        writeLock.lock();
+        try {
+            List<TrackedOrder> evicted = new ArrayList<>();
+            byClientId.forEachValue(order -> {
+                if (order.state().isTerminal() && order.updatedAt() <= evictBefore) {
+                    evicted.add(order);
+                }
+            });
+            for (TrackedOrder order : evicted) {
+                byClientId.remove(order.clientOrderId());
+                if (order.exchangeOrderId() != null) {
+                    long key = exchangeKey(order.exchangeOrderId());
+                    TrackedOrder indexed = byExchangeId.get(key);
+                    if (indexed != null && indexed.clientOrderId() == order.clientOrderId()) {
+                        byExchangeId.remove(key);
+                    }
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 두 인덱스와 활성 주문 수를 새 스냅샷으로 갱신합니다. writeLock을 보유한 상태에서 호출해야 합니다.
+     */
+    private void replace(TrackedOrder previous, TrackedOrder next) {
+        byClientId.put(next.clientOrderId(), next);
+        if (next.exchangeOrderId() != null) {
+            long key = exchangeKey(next.exchangeOrderId());
+            TrackedOrder indexed = byExchangeId.get(key);
+            if (indexed == null || indexed.clientOrderId() == next.clientOrderId()) {
+                byExchangeId.put(key, next);
+            } else {
+                log.warn("[{}] Exchange order id {} collides with {}, order {} is only indexed by client id",
+                    venue.exchange(), next.exchangeOrderId(), indexed.exchangeOrderId(), next.clientOrderId());
+            }
+        }
+        if (next.state() != OrderState.PENDING_NEW || next.exchangeOrderId() != null) {
+            unconfirmed.remove(next.clientOrderId());
+        }
+        if (previous.state().isActive() && next.state().isTerminal()) {
+            activeCount--;
+        }
+    }
+
+    private TrackedOrder findByExchangeId(String exchangeOrderId) {
+        TrackedOrder order = byExchangeId.get(exchangeKey(exchangeOrderId));
+        return order != null && exchangeOrderId.equals(order.exchangeOrderId()) ? order : null;
+    }
+
+    /**
+     * 거래소 주문 ID(Coinone은 UUID 문자열)를 할당 없이 64비트 키로 변환합니다. 충돌 여부는 조회 시 원래 ID로 확인합니다.
+     */
+    static long exchangeKey(String exchangeOrderId) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < exchangeOrderId.length(); i++) {
+            hash ^= exchangeOrderId.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 스케줄이 중단되므로 여기서 처리
+            reconcileFailures.increment();
+            log.warn("[{}] Failed to reconcile orders", venue.exchange(), e);
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name(venue.exchange() + "-order-reconciler")
+            .daemon(true)
+            .factory());
+        long interval = reconcileInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::reconcileQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        String exchange = venue.exchange();
+        Gauge.builder("oms.orders.active", this, OrderManager::getActiveCount)
+            .description("Orders that have not reached a terminal state")
+            .tag("exchange", exchange)
+            .register(registry);
+        Gauge.builder("oms.orders.tracked", this, OrderManager::getTrackedCount)
+            .description("Orders held in memory, including terminal ones awaiting eviction")
+            .tag("exchange", exchange)
+            .register(registry);
+        FunctionCounter.builder("oms.reconcile.corrections", corrections, LongAdder::sum)
+            .description("Orders whose state or fill was changed by reconciliation")
+            .tag("exchange", exchange)
+            .register(registry);
+        FunctionCounter.builder("oms.reconcile.failures", reconcileFailures, LongAdder::sum)
+            .description("Failed order reconciliations")
+            .tag("exchange", exchange)
+            .register(registry);
+        Gauge.builder("oms.halted", this, manager -> manager.isHalted() ? 1 : 0)
+            .description("Whether new orders are rejected because trading is halted")
+            .tag("exchange", exchange)
+            .register(registry);
+        FunctionCounter.builder("oms.place.retries", retries, LongAdder::sum)
+            .description("Orders sent again after a transient failure")
+            .tag("exchange", exchange)
+            .register(registry);
+        FunctionCounter.builder("oms.place.recovered", recovered, LongAdder::sum)
+            .description("Orders with an unknown outcome found on the exchange instead of being sent again")
+            .tag("exchange", exchange)
+            .register(registry);
+        FunctionCounter.builder("oms.place.duplicates", duplicates, LongAdder::sum)
+            .description("Orders not sent because an order with the same user order id was placed within the dedup window")
+            .tag("exchange", exchange)
+            .register(registry);
+    }
+
+    private record Registration(TrackedOrder order, boolean duplicate) {
+    }
+}
@@ -0,0 +1,85 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+/**
+ * {@link OrderManager}가 추적하는 주문의 상태입니다.
+ * <p>
+ * 상태는 아래 방향으로만 바뀌며, 체결 완료/취소/거부는 종료 상태로 더 이상 바뀌지 않습니다.
+ * </p>
+ * <pre>
+ * PENDING_NEW ─┬─▶ OPEN ─┬─▶ PARTIALLY_FILLED ─┬─▶ FILLED
+ *              │         │                     └─▶ CANCELLED
+ *              │         ├─▶ FILLED
+ *              │         └─▶ CANCELLED
+ *              ├─▶ PARTIALLY_FILLED / FILLED / CANCELLED (응답보다 정합성 확인이 먼저 도착한 경우)
+ *              └─▶ REJECTED
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public enum OrderState {
+
+    /**
+     * 거래소에 전송했지만 아직 접수 응답을 받지 못한 주문
+     */
+    PENDING_NEW,
+
+    /**
+     * 거래소에 접수되어 체결을 기다리는 주문
+     */
+    OPEN,
+
+    /**
+     * 일부 체결되고 잔량이 남아 있는 주문
+     */
+    PARTIALLY_FILLED,
+
+    /**
+     * 전량 체결된 주문
+     */
+    FILLED,
+
+    /**
+     * 잔량이 취소된 주문 (일부 체결 후 취소 포함)
+     */
+    CANCELLED,
+
+    /**
+     * 거래소가 접수를 거부했거나 접수 여부를 끝내 확인하지 못한 주문
+     */
+    REJECTED;
+
+    /**
+     * Returns whether the order can no longer change.
+     *
+     * @return {@code true} for filled, cancelled and rejected orders
+     */
+    public boolean isTerminal() {
+        return this == FILLED || this == CANCELLED || this == REJECTED;
+    }
+
+    /**
+     * Returns whether the order is resting on the exchange or may still be.
+     *
+     * @return {@code true} for pending, open and partially filled orders
+     */
+    public boolean isActive() {
+        return !isTerminal();
+    }
+
+    /**
+     * Returns whether an order in this state may move to the given state.
+     * Staying in {@link #PARTIALLY_FILLED} is allowed so that further partial fills can be applied.
+     *
+     * @param next the next state
+     * @return {@code true} if the transition is allowed
+     */
+    public boolean canTransitionTo(OrderState next) {
+        return switch (this) {
+            case PENDING_NEW -> next != PENDING_NEW;
+            case OPEN -> next == PARTIALLY_FILLED || next == FILLED || next == CANCELLED;
+            case PARTIALLY_FILLED -> next == PARTIALLY_FILLED || next == FILLED || next == CANCELLED;
+            case FILLED, CANCELLED, REJECTED -> false;
+        };
+    }
+}
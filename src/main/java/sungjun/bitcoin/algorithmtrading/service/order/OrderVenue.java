@@ -0,0 +1,102 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+
+import java.util.List;
+
+/**
+ * {@link OrderManager}가 주문을 보내고 정합성을 확인할 거래소입니다.
+ * <p>
+ * 가격과 수량은 {@link TrackedOrder}와 같은 고정소수점 값이며, 구현은 거래소 API 클라이언트 호출을 감싸기만 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public interface OrderVenue {
+
+    /**
+     * Returns the exchange name used for logs and metric tags.
+     *
+     * @return the exchange name (e.g., coinone)
+     */
+    String exchange();
+
+    /**
+     * Sends a limit order to the exchange. The exchange accepts at most one order per user order id,
+     * so the same order may be sent again after a failure whose outcome is unknown.
+     *
+     * @param pair the currency pair
+     * @param userOrderId the client-assigned id identifying the order on the exchange
+     * @param side the order side
+     * @param price the limit price
+     * @param qty the order quantity
+     * @param postOnly whether the order must only add liquidity
+     * @param tickNanos the {@link System#nanoTime()} at which the market data that triggered the order was received
+     * @return the id assigned by the exchange
+     * @throws RuntimeException if the order was rejected or its outcome is unknown; see {@link #isRejection(RuntimeException)}
+     */
+    String placeLimitOrder(CurrencyPair pair, String userOrderId, OrderSide side, long price, long qty, boolean postOnly, long tickNanos);
+
+    /**
+     * Cancels the remaining quantity of an order.
+     *
+     * @param pair the currency pair of the order
+     * @param exchangeOrderId the id assigned by the exchange
+     * @return the quantity executed before the order was cancelled
+     */
+    long cancelOrder(CurrencyPair pair, String exchangeOrderId);
+
+    /**
+     * Cancels every open order of the currency pair, including orders not tracked by the {@link OrderManager}.
+     *
+     * @param pair the currency pair
+     */
+    void cancelAll(CurrencyPair pair);
+
+    /**
+     * Returns the orders of the currency pair still resting on the order book.
+     *
+     * @param pair the currency pair
+     * @return the active orders
+     */
+    List<ExchangeOrderStatus> getActiveOrders(CurrencyPair pair);
+
+    /**
+     * Returns the current status of a single order, including filled and cancelled ones.
+     *
+     * @param pair the currency pair of the order
+     * @param exchangeOrderId the id assigned by the exchange
+     * @return the order status
+     */
+    ExchangeOrderStatus getOrder(CurrencyPair pair, String exchangeOrderId);
+
+    /**
+     * Looks up an order by the user order id it was sent with.
+     *
+     * @param pair the currency pair of the order
+     * @param userOrderId the client-assigned id the order was sent with
+     * @return the order status, or {@code null} if the exchange has no order with the id
+     * @throws RuntimeException if the exchange could not be asked; the order may or may not exist
+     */
+    ExchangeOrderStatus findOrder(CurrencyPair pair, String userOrderId);
+
+    /**
+     * Returns whether a failure of {@link #placeLimitOrder} is transient, so that sending the same order again may succeed,
+     * e.g. a timeout, a dropped connection, a server error or a client-side rate limit.
+     *
+     * @param failure the failure thrown by {@link #placeLimitOrder}
+     * @return {@code true} if the order may be sent again
+     */
+    boolean isRetriable(RuntimeException failure);
+
+    /**
+     * Returns whether a failure of {@link #placeLimitOrder} means the order was definitely not accepted,
+     * as opposed to a transport failure after which the order may or may not rest on the exchange.
+     *
+     * @param failure the failure thrown by {@link #placeLimitOrder}
+     * @return {@code true} if the order was definitely not accepted
+     */
+    boolean isRejection(RuntimeException failure);
+}
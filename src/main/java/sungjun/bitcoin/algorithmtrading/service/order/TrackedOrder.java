@@ -0,0 +1,59 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+
+/**
+ * {@link OrderManager}가 보관하는 주문 한 건의 불변 스냅샷입니다.
+ * <p>
+ * 가격과 수량은 {@link sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker#PRICE_SCALE}
+ * 고정소수점 값입니다. 상태가 바뀔 때마다 새 스냅샷으로 교체되므로 조회한 스냅샷은 다른 스레드에서도 안전하게 읽을 수 있습니다.
+ * </p>
+ *
+ * @param clientOrderId   the locally assigned order id, unique within the process
+ * @param userOrderId     the id the order is sent to the exchange with, unique across processes
+ * @param exchangeOrderId the id assigned by the exchange, or {@code null} until the exchange acknowledges the order
+ * @param pair            the currency pair
+ * @param side            the order side
+ * @param price           the limit price
+ * @param qty             the order quantity
+ * @param filledQty       the executed quantity
+ * @param state           the order state
+ * @param createdAt       when the order was submitted, in epoch milliseconds
+ * @param updatedAt       when the state or fill last changed, in epoch milliseconds
+ * @author sungjun
+ * @since 1.0
+ */
+public record TrackedOrder(
+    long clientOrderId,
+    String userOrderId,
+    String exchangeOrderId,
+    CurrencyPair pair,
+    OrderSide side,
+    long price,
+    long qty,
+    long filledQty,
+    OrderState state,
+    long createdAt,
+    long updatedAt
+) {
+
+    /**
+     * Returns the quantity not yet executed. Cancelled and rejected orders have nothing remaining.
+     *
+     * @return the remaining quantity
+     */
+    public long remainingQty() {
+        return state == OrderState.CANCELLED || state == OrderState.REJECTED ? 0L : qty - filledQty;
+    }
+
+    TrackedOrder acknowledged(String exchangeOrderId, long now) {
+        return new TrackedOrder(clientOrderId, userOrderId, exchangeOrderId, pair, side, price, qty, filledQty,
+            state == OrderState.PENDING_NEW ? OrderState.OPEN : state, createdAt, now);
+    }
+
+    TrackedOrder transitioned(OrderState state, long filledQty, long now) {
+        return new TrackedOrder(clientOrderId, userOrderId, exchangeOrderId, pair, side, price, qty, filledQty, state,
+            createdAt, now);
+    }
+}
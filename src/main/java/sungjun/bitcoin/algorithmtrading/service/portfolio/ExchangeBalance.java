@@ -0,0 +1,53 @@
+package sungjun.bitcoin.algorithmtrading.service.portfolio;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 한 거래소에 보유한 통화 하나의 잔고입니다.
+ * <p>
+ * 거래소 응답의 문자열 수량을 숫자로 변환해 담으며, 통화 코드는 대문자로 정규화됩니다.
+ * </p>
+ *
+ * @param currency  the currency code (e.g., BTC)
+ * @param available the amount available for trading
+ * @param locked    the amount held by open orders
+ * @author sungjun
+ * @since 1.0
+ */
+public record ExchangeBalance(String currency, BigDecimal available, BigDecimal locked) {
+
+    public ExchangeBalance {
+        Objects.requireNonNull(currency, "currency must not be null");
+        currency = currency.toUpperCase(Locale.ROOT);
+        available = available != null ? available : BigDecimal.ZERO;
+        locked = locked != null ? locked : BigDecimal.ZERO;
+    }
+
+    /**
+     * Creates a balance from the decimal strings returned by an exchange. A missing amount is treated as zero.
+     *
+     * @param currency  the currency code
+     * @param available the available amount
+     * @param locked    the locked amount
+     * @return the balance
+     * @throws NumberFormatException if an amount is not a decimal number
+     */
+    public static ExchangeBalance of(String currency, String available, String locked) {
+        return new ExchangeBalance(currency, decimal(available), decimal(locked));
+    }
+
+    /**
+     * Returns the available and locked amounts combined.
+     *
+     * @return the total amount
+     */
+    public BigDecimal total() {
+        return available.add(locked);
+    }
+
+    private static BigDecimal decimal(String value) {
+        return value == null || value.isBlank() ? BigDecimal.ZERO : new BigDecimal(value.trim());
+    }
+}
@@ -0,0 +1,24 @@
+package sungjun.bitcoin.algorithmtrading.service.portfolio;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * {@link PortfolioService}가 잔고를 조회할 거래소 하나입니다.
+ *
+ * @param exchange the exchange name (e.g., coinone)
+ * @param timeout  how long a portfolio request waits for this exchange before using its last known balances
+ * @param fetcher  fetches the current balances; called on a virtual thread
+ * @author sungjun
+ * @since 1.0
+ */
+public record ExchangeBalanceSource(String exchange, Duration timeout, Supplier<List<ExchangeBalance>> fetcher) {
+
+    public ExchangeBalanceSource {
+        Objects.requireNonNull(exchange, "exchange must not be null");
+        Objects.requireNonNull(timeout, "timeout must not be null");
+        Objects.requireNonNull(fetcher, "fetcher must not be null");
+    }
+}
@@ -0,0 +1,35 @@
+package sungjun.bitcoin.algorithmtrading.service.portfolio;
+
+/**
+ * 포트폴리오 조회 시 거래소 하나의 잔고 조회 결과입니다.
+ *
+ * @param exchange  the exchange name
+ * @param state     whether the balances are current, stale or missing
+ * @param fetchedAt when the balances used were fetched, in epoch milliseconds, or {@code 0} if none
+ * @param error     why the current balances are missing, or {@code null} if they are current
+ * @author sungjun
+ * @since 1.0
+ */
+public record ExchangeStatus(String exchange, State state, long fetchedAt, String error) {
+
+    /**
+     * 잔고 조회 상태입니다.
+     */
+    public enum State {
+
+        /**
+         * 이번 요청에서 기한 안에 조회한 잔고입니다.
+         */
+        FRESH,
+
+        /**
+         * 기한을 넘겼거나 조회에 실패하여 마지막으로 조회에 성공한 잔고를 사용했습니다.
+         */
+        STALE,
+
+        /**
+         * 조회에 성공한 적이 없어 포트폴리오에서 제외했습니다.
+         */
+        UNAVAILABLE
+    }
+}
@@ -0,0 +1,28 @@
+package sungjun.bitcoin.algorithmtrading.service.portfolio;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 여러 거래소의 잔고를 합친 포트폴리오입니다.
+ * <p>
+ * 일부 거래소가 기한 안에 응답하지 않으면 마지막으로 조회한 잔고를 사용하거나 제외하고 {@code partial}을 표시합니다.
+ * 자산은 평가 금액이 큰 순서이며, 가격을 알 수 없는 자산은 평가 금액 합계에서 빠지고 목록 끝에 놓입니다.
+ * </p>
+ *
+ * @param assets     the assets ordered by KRW value
+ * @param exchanges  the status of each exchange
+ * @param totalValue the total KRW value of priced assets
+ * @param partial    whether any exchange is stale or unavailable
+ * @param asOf       when the portfolio was assembled, in epoch milliseconds
+ * @author sungjun
+ * @since 1.0
+ */
+public record Portfolio(
+    List<PortfolioAsset> assets,
+    List<ExchangeStatus> exchanges,
+    BigDecimal totalValue,
+    boolean partial,
+    long asOf
+) {
+}
@@ -0,0 +1,26 @@
+package sungjun.bitcoin.algorithmtrading.service.portfolio;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 모든 거래소의 잔고를 합친 통화 하나의 보유 현황입니다.
+ *
+ * @param currency the currency code
+ * @param amounts  the total amount held on each exchange, keyed by exchange name
+ * @param total    the total amount across exchanges
+ * @param price    the KRW price used for valuation, or {@code null} if the currency has no known price
+ * @param value    the KRW value, or {@code null} if the currency has no known price
+ * @param stale    whether any of the amounts comes from stale balances
+ * @author sungjun
+ * @since 1.0
+ */
+public record PortfolioAsset(
+    String currency,
+    Map<String, BigDecimal> amounts,
+    BigDecimal total,
+    BigDecimal price,
+    BigDecimal value,
+    boolean stale
+) {
+}
@@ -0,0 +1,226 @@
+package sungjun.bitcoin.algorithmtrading.service.portfolio;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 여러 거래소의 잔고를 동시에 조회하여 하나의 포트폴리오로 합치는 서비스입니다.
+ * <p>
+ * 거래소마다 가상 스레드에서 잔고를 조회하고 각 거래소의 {@link ExchangeBalanceSource#timeout()}까지만 기다리므로,
+ * 포트폴리오 조회 시간은 거래소 응답 시간의 합이 아니라 가장 느린 거래소(또는 그 기한)로 정해집니다.
+ * </p>
+ *
+ * <h2>지연과 실패</h2>
+ * <ul>
+ *   <li>기한을 넘긴 조회는 취소하지 않고 계속 진행하며, 끝나면 다음 요청을 위해 마지막 잔고로 저장합니다.
+ *       같은 거래소의 조회가 진행 중이면 새로 요청하지 않고 진행 중인 조회를 기다립니다.</li>
+ *   <li>기한을 넘기거나 실패한 거래소는 마지막으로 조회에 성공한 잔고를 {@link ExchangeStatus.State#STALE}로 사용하고,
+ *       성공한 적이 없으면 {@link ExchangeStatus.State#UNAVAILABLE}로 제외합니다.</li>
+ * </ul>
+ *
+ * <h2>평가</h2>
+ * <p>
+ * 통화별 원화 가격은 생성 시 받은 가격 조회 함수(예: Coinone 마켓 테이블의 최근 체결가)로 구하며, KRW는 1로 평가합니다.
+ * 가격을 알 수 없는 통화는 수량만 표시합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class PortfolioService implements AutoCloseable {
+
+    private static final String VALUATION_CURRENCY = "KRW";
+
+    private final List<ExchangeBalanceSource> sources;
+    private final Function<String, BigDecimal> priceSource;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, CompletableFuture<Snapshot>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Snapshot> lastKnown = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a portfolio service.
+     *
+     * @param sources the exchanges to aggregate
+     * @param priceSource returns the KRW price of a currency, or {@code null} if it is unknown
+     */
+    public PortfolioService(List<ExchangeBalanceSource> sources, Function<String, BigDecimal> priceSource) {
+        this.sources = List.copyOf(sources);
+        this.priceSource = priceSource;
+    }
+
+    /**
+     * Fetches the balances of every exchange concurrently and merges them into one portfolio.
+     * <p>
+     * Waits for each exchange only up to its timeout; an exchange that is late or fails contributes its last known
+     * balances, flagged as stale, or nothing if it has never been fetched.
+     * </p>
+     *
+     * @return the portfolio
+     */
+    public Portfolio getPortfolio() {
+        long started = System.nanoTime();
+        List<CompletableFuture<Snapshot>> pending = new ArrayList<>(sources.size());
+        for (ExchangeBalanceSource source : sources) {
+            pending.add(fetch(source));
+        }
+
+        List<ExchangeStatus> statuses = new ArrayList<>(sources.size());
+        Map<String, AssetBuilder> assets = new TreeMap<>();
+        boolean partial = false;
+        for (int i = 0; i < sources.size(); i++) {
+            ExchangeBalanceSource source = sources.get(i);
+            Outcome outcome = await(source, pending.get(i), started);
+            ExchangeStatus status = outcome.status();
+            statuses.add(status);
+            if (status.state() != ExchangeStatus.State.FRESH) {
+                partial = true;
+            }
+            if (outcome.snapshot() != null) {
+                boolean stale = status.state() == ExchangeStatus.State.STALE;
+                for (ExchangeBalance balance : outcome.snapshot().balances()) {
+                    BigDecimal total = balance.total();
+                    if (total.signum() != 0) {
+                        assets.computeIfAbsent(balance.currency(), AssetBuilder::new).add(source.exchange(), total, stale);
+                    }
+                }
+            }
+        }
+
+        List<PortfolioAsset> result = new ArrayList<>(assets.size());
+        BigDecimal totalValue = BigDecimal.ZERO;
+        for (AssetBuilder builder : assets.values()) {
+            PortfolioAsset asset = builder.build(priceOf(builder.currency));
+            if (asset.value() != null) {
+                totalValue = totalValue.add(asset.value());
+            }
+            result.add(asset);
+        }
+        result.sort(Comparator.comparing(PortfolioAsset::value, Comparator.nullsLast(Comparator.reverseOrder())));
+        return new Portfolio(List.copyOf(result), List.copyOf(statuses), totalValue, partial, System.currentTimeMillis());
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 거래소 잔고 조회를 가상 스레드에서 시작합니다. 같은 거래소의 조회가 진행 중이면 그 조회를 반환합니다.
+     */
+    private CompletableFuture<Snapshot> fetch(ExchangeBalanceSource source) {
+        String exchange = source.exchange();
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> existing = inFlight.putIfAbsent(exchange, created);
+        if (existing != null) {
+            return existing;
+        }
+        // 완료를 알리기 전에 진행 중 목록에서 지워야 다음 요청이 이미 끝난 조회를 다시 받지 않습니다.
+        executor.execute(() -> {
+            try {
+                Snapshot snapshot = new Snapshot(List.copyOf(source.fetcher().get()), System.currentTimeMillis());
+                lastKnown.put(exchange, snapshot);
+                inFlight.remove(exchange, created);
+                created.complete(snapshot);
+            } catch (Throwable e) {
+                inFlight.remove(exchange, created);
+                created.completeExceptionally(e);
+            }
+        });
+        return created;
+    }
+
+    /**
+     * 거래소의 기한까지 조회 결과를 기다리고 상태를 판단합니다. 기한은 포트폴리오 조회 시작 시각부터 계산합니다.
+     * 제때 끝난 조회는 그 조회의 잔고를 사용하며, 그 사이 다른 요청이 갱신한 마지막 잔고를 다시 읽지 않습니다.
+     */
+    private Outcome await(ExchangeBalanceSource source, CompletableFuture<Snapshot> future, long started) {
+        String exchange = source.exchange();
+        String error;
+        try {
+            long remaining = source.timeout().toNanos() - (System.nanoTime() - started);
+            Snapshot fetched = future.get(Math.max(remaining, 0L), TimeUnit.NANOSECONDS);
+            return new Outcome(new ExchangeStatus(exchange, ExchangeStatus.State.FRESH, fetched.fetchedAt(), null), fetched);
+        } catch (TimeoutException e) {
+            error = "Timed out after " + source.timeout().toMillis() + "ms";
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Interrupted";
+        }
+        log.warn("[{}] Balances unavailable for portfolio: {}", exchange, error);
+        Snapshot snapshot = lastKnown.get(exchange);
+        if (snapshot == null) {
+            return new Outcome(new ExchangeStatus(exchange, ExchangeStatus.State.UNAVAILABLE, 0L, error), null);
+        }
+        return new Outcome(new ExchangeStatus(exchange, ExchangeStatus.State.STALE, snapshot.fetchedAt(), error), snapshot);
+    }
+
+    private BigDecimal priceOf(String currency) {
+        if (VALUATION_CURRENCY.equals(currency)) {
+            return BigDecimal.ONE;
+        }
+        try {
+            return priceSource.apply(currency);
+        } catch (RuntimeException e) {
+            log.warn("[portfolio] Failed to price {}: {}", currency, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 거래소 하나에서 마지막으로 조회에 성공한 잔고입니다.
+     */
+    private record Snapshot(List<ExchangeBalance> balances, long fetchedAt) {
+    }
+
+    /**
+     * 거래소 하나의 상태와 포트폴리오에 반영할 잔고입니다. 사용할 수 없는 거래소는 잔고가 {@code null}입니다.
+     */
+    private record Outcome(ExchangeStatus status, Snapshot snapshot) {
+    }
+
+    /**
+     * 통화 하나의 거래소별 수량을 모읍니다.
+     */
+    private static final class AssetBuilder {
+
+        private final String currency;
+        private final Map<String, BigDecimal> amounts = new LinkedHashMap<>();
+        private BigDecimal total = BigDecimal.ZERO;
+        private boolean stale;
+
+        private AssetBuilder(String currency) {
+            this.currency = currency;
+        }
+
+        private void add(String exchange, BigDecimal amount, boolean stale) {
+            amounts.merge(exchange, amount, BigDecimal::add);
+            total = total.add(amount);
+            this.stale |= stale;
+        }
+
+        private PortfolioAsset build(BigDecimal price) {
+            BigDecimal value = price != null ? total.multiply(price) : null;
+            return new PortfolioAsset(currency, Collections.unmodifiableMap(amounts), total, price, value, stale);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+
+/**
+ * 거래소 API 오류율이 급증하면 거래를 중단시키는 위험 조건입니다.
+ * <p>
+ * 별도로 호출을 세지 않고 {@code ExchangeClientMetrics}가 기록하는 {@code exchange.client.requests} 타이머의
+ * {@code outcome}별 누적 호출 수를 확인할 때마다 표본으로 남깁니다. {@code window} 안의 가장 오래된 표본과 비교한 호출 수가
+ * {@code minRequests} 이상이고 그중 실패 비율이 {@code threshold} 이상이면 {@link RiskTrigger#ERROR_RATE}를 보고합니다.
+ * 거래소 장애나 인증 문제로 주문 상태를 확인할 수 없는 상황에서 계속 주문하는 것을 막기 위한 조건입니다.
+ * 거래 재개 시에는 {@link #reset()}으로 표본을 버려, 중단 전이나 중단 중의 오류로 다시 중단되지 않게 합니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class ErrorRateCheck implements RiskCheck {
+
+    private static final String REQUESTS_METER = "exchange.client.requests";
+
+    private final MeterRegistry registry;
+    private final String exchange;
+    private final long windowNanos;
+    private final double threshold;
+    private final long minRequests;
+    // 감시 스레드에서만 사용합니다. {측정 시각, 누적 호출 수, 누적 실패 수}
+    private final ArrayDeque<long[]> samples = new ArrayDeque<>();
+
+    /**
+     * Creates an error rate check.
+     *
+     * @param registry the registry holding the exchange client metrics
+     * @param exchange the exchange tag of the client metrics (e.g., coinone)
+     * @param window the window over which the error rate is measured
+     * @param threshold the error rate that is reported, as a fraction
+     * @param minRequests the minimum number of calls in the window before the error rate is judged
+     */
+    public ErrorRateCheck(MeterRegistry registry, String exchange, Duration window, double threshold, long minRequests) {
+        this.registry = registry;
+        this.exchange = exchange;
+        this.windowNanos = window.toNanos();
+        this.threshold = threshold;
+        this.minRequests = minRequests;
+    }
+
+    @Override
+    public RiskBreach check(long nowNanos) {
+        long requests = 0L;
+        long errors = 0L;
+        for (Timer timer : registry.find(REQUESTS_METER).tag("exchange", exchange).timers()) {
+            long count = timer.count();
+            requests += count;
+            if ("error".equals(timer.getId().getTag("outcome"))) {
+                errors += count;
+            }
+        }
+        samples.addLast(new long[]{nowNanos, requests, errors});
+        while (nowNanos - samples.getFirst()[0] > windowNanos) {
+            samples.removeFirst();
+        }
+
+        long[] oldest = samples.getFirst();
+        long windowRequests = requests - oldest[1];
+        long windowErrors = errors - oldest[2];
+        if (windowRequests >= minRequests && windowErrors >= threshold * windowRequests) {
+            return new RiskBreach(RiskTrigger.ERROR_RATE, String.format("%s API errors %d/%d (%.0f%%)",
+                exchange, windowErrors, windowRequests, 100.0 * windowErrors / windowRequests));
+        }
+        return null;
+    }
+
+    @Override
+    public void reset() {
+        samples.clear();
+    }
+}
@@ -0,0 +1,96 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneOrderBook;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamListener;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamTrade;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 시세 스트림이 끊기거나 멈추면 거래를 중단시키는 위험 조건입니다.
+ * <p>
+ * 스트림 클라이언트의 소비자로 등록되어 메시지를 받을 때마다 수신 시각만 기록하고, 마지막 메시지로부터 {@code maxStaleness}가
+ * 지나면 {@link RiskTrigger#FEED_STALE}을 보고합니다. {@code cancelOnDisconnect}가 {@code true}이면 연결이 끊긴 즉시 보고하며,
+ * 다시 메시지를 받으면 정상으로 돌아옵니다. 호가를 모르는 상태에서 낸 주문이 체결되는 것을 막기 위한 조건입니다.
+ * </p>
+ * <p>
+ * 아직 한 번도 메시지를 받지 못했다면 스트림을 사용하지 않는 것으로 보고 보고하지 않습니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class FeedStalenessCheck implements RiskCheck, CoinoneStreamListener {
+
+    private final String feed;
+    private final long maxStalenessNanos;
+    private final boolean cancelOnDisconnect;
+    private final LongSupplier nanoClock;
+
+    private volatile boolean received;
+    private volatile boolean disconnected;
+    private volatile long lastMessageNanos;
+
+    /**
+     * Creates a feed staleness check.
+     *
+     * @param feed the feed name used in the breach detail (e.g., coinone)
+     * @param maxStaleness how long the feed may stay silent
+     * @param cancelOnDisconnect whether a disconnection is reported immediately
+     */
+    public FeedStalenessCheck(String feed, Duration maxStaleness, boolean cancelOnDisconnect) {
+        this(feed, maxStaleness, cancelOnDisconnect, System::nanoTime);
+    }
+
+    FeedStalenessCheck(String feed, Duration maxStaleness, boolean cancelOnDisconnect, LongSupplier nanoClock) {
+        this.feed = feed;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.cancelOnDisconnect = cancelOnDisconnect;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void onOrderBook(CoinoneOrderBook orderBook) {
+        touch();
+    }
+
+    @Override
+    public void onTicker(CoinoneStreamTicker ticker) {
+        touch();
+    }
+
+    @Override
+    public void onTrade(CoinoneStreamTrade trade) {
+        touch();
+    }
+
+    @Override
+    public void onDisconnected() {
+        disconnected = true;
+    }
+
+    @Override
+    public RiskBreach check(long nowNanos) {
+        if (!received) {
+            return null;
+        }
+        if (cancelOnDisconnect && disconnected) {
+            return new RiskBreach(RiskTrigger.FEED_STALE, feed + " feed disconnected");
+        }
+        long silentNanos = nowNanos - lastMessageNanos;
+        if (silentNanos > maxStalenessNanos) {
+            return new RiskBreach(RiskTrigger.FEED_STALE,
+                feed + " feed silent for " + TimeUnit.NANOSECONDS.toMillis(silentNanos) + "ms");
+        }
+        return null;
+    }
+
+    private void touch() {
+        lastMessageNanos = nanoClock.getAsLong();
+        disconnected = false;
+        received = true;
+    }
+}
@@ -0,0 +1,351 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.risk.KillSwitchProperties;
+import sungjun.bitcoin.algorithmtrading.service.order.OrderManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 위험 상황에서 모든 거래소의 주문을 즉시 취소하고 새 주문을 막는 긴급 거래 중단 장치입니다.
+ * <p>
+ * 지금까지는 거래 쌍 하나의 전체 주문 취소를 수동으로 호출하는 방법뿐이었습니다. 중단 장치는 {@link RiskCheck}를
+ * {@code checkInterval}마다 확인하다가 위험 조건이 발견되거나 운영자가 {@link #engage(RiskTrigger, String)}를 호출하면
+ * 다음 순서로 포지션 노출을 정리합니다.
+ * </p>
+ * <ol>
+ *   <li>모든 {@link OrderManager}를 거래 중단 상태로 바꿔 새 주문을 거절합니다.</li>
+ *   <li>거래소마다 활성 주문이 있는 거래 쌍과 설정된 {@code pairs}에 전체 주문 취소를 가상 스레드에서 동시에 보냅니다.
+ *       취소 요청은 미리 만들어 둔 템플릿에 nonce만 채워 서명하는 주문 게이트웨이 경로로 전송됩니다.</li>
+ *   <li>중단 직전에 전송을 시작한 주문이 있었다면, 그 주문들이 끝나기를 기다려 한 번 더 전체 취소를 보냅니다.</li>
+ *   <li>{@code cancelTimeout} 안에 끝난 결과와 소요 시간을 {@link KillSwitchReport}로 남기고,
+ *       주문 관리자의 정합성 확인을 바로 실행하여 추적 중인 주문 상태를 갱신합니다.</li>
+ * </ol>
+ * <p>
+ * 중단 상태는 {@link #disengage()}를 호출할 때까지 유지되며, 중단 중에는 자동 감시가 다시 중단시키지 않습니다.
+ * 해제 후 첫 확인 전에 모든 위험 조건을 {@link RiskCheck#reset()}하여, 이미 처리한 위험으로 곧바로 다시 중단되지 않게 합니다.
+ * 수동 호출은 중단 중에도 전체 취소를 다시 보냅니다.
+ * 감시 스레드와 요청 스레드가 모두 호출할 수 있고, 가상 스레드에서 호출해도 캐리어 스레드를 고정하지 않도록
+ * {@code synchronized} 대신 {@link ReentrantLock}으로 직렬화합니다.
+ * </p>
+ *
+ * <h2>메트릭</h2>
+ * <ul>
+ *   <li>{@code risk.kill_switch.engaged}: 거래 중단 여부 (1 = 중단)</li>
+ *   <li>{@code risk.kill_switch.triggers}: 거래 중단 횟수, {@code trigger}=원인</li>
+ *   <li>{@code risk.kill_switch.flatten}: 거래 중단부터 모든 전체 취소 요청이 끝나기까지의 시간</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Slf4j
+public class KillSwitch implements SmartLifecycle, MeterBinder {
+
+    // 중단 직전에 전송을 시작한 주문이 끝났는지 확인하는 간격
+    private static final long PLACEMENT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final List<OrderManager> orderManagers;
+    private final List<RiskCheck> riskChecks;
+    private final List<CurrencyPair> pairs;
+    private final boolean autoStartup;
+    private final Duration checkInterval;
+    private final long cancelTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ExecutorService cancelExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<RiskTrigger, LongAdder> triggers = new EnumMap<>(RiskTrigger.class);
+
+    private volatile RiskBreach cause;
+    private volatile boolean resetPending;
+    private volatile KillSwitchReport lastReport;
+    private volatile Timer flattenTimer;
+
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a kill switch.
+     *
+     * @param orderManagers the order managers of every exchange
+     * @param riskChecks the conditions checked periodically
+     * @param properties the kill switch settings
+     */
+    public KillSwitch(List<OrderManager> orderManagers, List<RiskCheck> riskChecks, KillSwitchProperties properties) {
+        this.orderManagers = List.copyOf(orderManagers);
+        this.riskChecks = List.copyOf(riskChecks);
+        this.pairs = properties.getPairs().stream()
+            .map(CurrencyPair::parse)
+            .toList();
+        this.autoStartup = properties.isEnabled();
+        this.checkInterval = properties.getCheckInterval();
+        this.cancelTimeoutNanos = properties.getCancelTimeout().toNanos();
+        for (RiskTrigger trigger : RiskTrigger.values()) {
+            triggers.put(trigger, new LongAdder());
+        }
+    }
+
+    /**
+     * Halts trading on every exchange and cancels every open order, waiting at most the cancel timeout.
+     *
+     * @param trigger the kind of risk
+     * @param detail the description of the breach or the manual reason
+     * @return the outcome of the cancellation
+     */
+    public KillSwitchReport engage(RiskTrigger trigger, String detail) {
+        lock.lock();
+        try {
+            long startedAt = System.nanoTime();
+            Instant triggeredAt = Instant.now();
+            long deadline = startedAt + cancelTimeoutNanos;
+            cause = new RiskBreach(trigger, detail);
+
+            String reason = trigger + ": " + detail;
+            boolean placing = false;
+            for (OrderManager manager : orderManagers) {
+                manager.halt(reason);
+                placing |= manager.getPlacingCount() > 0;
+            }
+            Map<String, String> outcomes = flatten(deadline);
+            if (placing) {
+                // 중단 직전에 전송을 시작한 주문은 첫 번째 취소 이후에 접수될 수 있으므로 한 번 더 취소합니다.
+                awaitPlacements(deadline);
+                outcomes.putAll(flatten(deadline));
+            }
+            long elapsedNanos = System.nanoTime() - startedAt;
+
+            KillSwitchReport report = report(trigger, detail, triggeredAt, elapsedNanos, outcomes);
+            triggers.get(trigger).increment();
+            Timer timer = flattenTimer;
+            if (timer != null) {
+                timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+            log.warn("Kill switch engaged by {} ({}): cancelled {} in {}ms, failed {}",
+                trigger, detail, report.cancelled(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), report.failed());
+            for (OrderManager manager : orderManagers) {
+                cancelExecutor.execute(() -> reconcileQuietly(manager));
+            }
+            lastReport = report;
+            return report;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Accepts new orders again on every exchange. Automatic checks may engage the kill switch again
+     * if the condition still holds.
+     */
+    public void disengage() {
+        lock.lock();
+        try {
+            if (cause == null) {
+                return;
+            }
+            for (OrderManager manager : orderManagers) {
+                manager.resume();
+            }
+            log.info("Kill switch disengaged, was engaged by {} ({})", cause.trigger(), cause.detail());
+            // 위험 조건은 감시 스레드에서만 사용하므로 초기화도 감시 스레드의 다음 확인에서 합니다.
+            resetPending = true;
+            cause = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns whether trading is halted by the kill switch.
+     *
+     * @return {@code true} if engaged
+     */
+    public boolean isEngaged() {
+        return cause != null;
+    }
+
+    /**
+     * Returns what engaged the kill switch.
+     *
+     * @return the cause, or {@code null} if not engaged
+     */
+    public RiskBreach getCause() {
+        return cause;
+    }
+
+    /**
+     * Returns the outcome of the most recent engagement.
+     *
+     * @return the report, or {@code null} if the kill switch has never been engaged
+     */
+    public KillSwitchReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 거래소별로 활성 주문이 있는 거래 쌍과 설정된 거래 쌍에 전체 취소를 동시에 보내고 결과를 기다립니다.
+     * 결과 값은 성공이면 {@code null}, 실패면 실패 사유입니다.
+     */
+    private Map<String, String> flatten(long deadline) {
+        Map<String, CompletableFuture<Void>> requests = new LinkedHashMap<>();
+        for (OrderManager manager : orderManagers) {
+            Set<CurrencyPair> targets = new LinkedHashSet<>(manager.getActivePairs());
+            targets.addAll(pairs);
+            for (CurrencyPair pair : targets) {
+                requests.put(manager.getExchange() + ":" + pair,
+                    CompletableFuture.runAsync(() -> manager.cancelAll(pair), cancelExecutor));
+            }
+        }
+
+        Map<String, String> outcomes = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Void>> request : requests.entrySet()) {
+            String failure = null;
+            try {
+                request.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                failure = String.valueOf(e.getCause());
+            } catch (TimeoutException e) {
+                failure = "timed out";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = "interrupted";
+            }
+            outcomes.put(request.getKey(), failure);
+        }
+        return outcomes;
+    }
+
+    private void awaitPlacements(long deadline) {
+        for (OrderManager manager : orderManagers) {
+            while (manager.getPlacingCount() > 0 && System.nanoTime() < deadline) {
+                LockSupport.parkNanos(PLACEMENT_POLL_NANOS);
+            }
+        }
+    }
+
+    private static KillSwitchReport report(RiskTrigger trigger, String detail, Instant triggeredAt, long elapsedNanos,
+                                           Map<String, String> outcomes) {
+        List<String> cancelled = new ArrayList<>();
+        Map<String, String> failed = new LinkedHashMap<>();
+        outcomes.forEach((target, failure) -> {
+            if (failure == null) {
+                cancelled.add(target);
+            } else {
+                failed.put(target, failure);
+            }
+        });
+        return new KillSwitchReport(trigger, detail, triggeredAt, Duration.ofNanos(elapsedNanos),
+            List.copyOf(cancelled), Collections.unmodifiableMap(failed));
+    }
+
+    private void reconcileQuietly(OrderManager manager) {
+        try {
+            manager.reconcile();
+        } catch (Exception e) {
+            log.warn("[{}] Failed to reconcile orders after kill switch", manager.getExchange(), e);
+        }
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (Exception e) {
+            // 예외가 전파되면 이후 스케줄이 중단되므로 여기서 처리
+            log.warn("Failed to evaluate risk checks", e);
+        }
+    }
+
+    /**
+     * 위험 조건을 순서대로 확인하여 처음 발견한 조건으로 거래를 중단합니다. 이미 중단된 상태면 확인하지 않고,
+     * 해제된 뒤 첫 확인이면 위험 조건을 먼저 초기화합니다.
+     */
+    void check() {
+        if (cause != null) {
+            return;
+        }
+        if (resetPending) {
+            resetPending = false;
+            for (RiskCheck riskCheck : riskChecks) {
+                riskCheck.reset();
+            }
+        }
+        long now = System.nanoTime();
+        for (RiskCheck riskCheck : riskChecks) {
+            RiskBreach breach = riskCheck.check(now);
+            if (breach != null) {
+                engage(breach.trigger(), breach.detail());
+                return;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("kill-switch-monitor")
+            .daemon(true)
+            .factory());
+        long interval = checkInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::checkQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("risk.kill_switch.engaged", this, killSwitch -> killSwitch.isEngaged() ? 1 : 0)
+            .description("Whether trading is halted by the kill switch")
+            .register(registry);
+        triggers.forEach((trigger, count) -> FunctionCounter.builder("risk.kill_switch.triggers", count, LongAdder::sum)
+            .description("Kill switch engagements")
+            .tag("trigger", trigger.name())
+            .register(registry));
+        flattenTimer = Timer.builder("risk.kill_switch.flatten")
+            .description("Time from kill switch trigger until every cancel-all request completed")
+            .publishPercentiles(0.5, 0.99)
+            .register(registry);
+    }
+}
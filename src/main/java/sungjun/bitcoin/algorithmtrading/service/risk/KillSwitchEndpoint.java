@@ -0,0 +1,71 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 긴급 거래 중단 장치를 운영자가 직접 조작하기 위한 actuator 엔드포인트입니다.
+ * <p>
+ * {@code management.endpoints.web.exposure.include}에 {@code killswitch}를 포함해야 HTTP로 노출됩니다.
+ * </p>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * GET    /actuator/killswitch                                         # 상태와 마지막 결과 조회
+ * POST   /actuator/killswitch  {"reason": "exchange maintenance"}      # 거래 중단 및 전체 취소
+ * DELETE /actuator/killswitch                                         # 거래 재개
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@Endpoint(id = "killswitch")
+public class KillSwitchEndpoint {
+
+    private static final String DEFAULT_REASON = "manual request";
+
+    private final KillSwitch killSwitch;
+
+    public KillSwitchEndpoint(KillSwitch killSwitch) {
+        this.killSwitch = killSwitch;
+    }
+
+    /**
+     * Returns whether trading is halted, its cause and the outcome of the most recent engagement.
+     *
+     * @return the kill switch status
+     */
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("engaged", killSwitch.isEngaged());
+        status.put("cause", killSwitch.getCause());
+        status.put("lastReport", killSwitch.getLastReport());
+        return status;
+    }
+
+    /**
+     * Halts trading and cancels every open order.
+     *
+     * @param reason the reason recorded with the engagement
+     * @return the outcome of the cancellation
+     */
+    @WriteOperation
+    public KillSwitchReport engage(@Nullable String reason) {
+        return killSwitch.engage(RiskTrigger.MANUAL, reason != null ? reason : DEFAULT_REASON);
+    }
+
+    /**
+     * Accepts new orders again.
+     */
+    @DeleteOperation
+    public void disengage() {
+        killSwitch.disengage();
+    }
+}
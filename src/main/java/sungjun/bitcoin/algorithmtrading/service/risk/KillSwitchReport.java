@@ -0,0 +1,40 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 긴급 거래 중단 한 번의 결과입니다.
+ * <p>
+ * 취소 대상은 {@code 거래소:거래 쌍} 형식(예: {@code coinone:KRW/BTC})으로 표시합니다.
+ * </p>
+ *
+ * @param trigger the kind of risk that triggered the kill switch
+ * @param detail the description of the breach or the manual reason
+ * @param triggeredAt when the kill switch was triggered
+ * @param elapsed the time from the trigger until every cancel-all request completed or timed out
+ * @param cancelled the targets whose orders were cancelled
+ * @param failed the targets whose cancel-all request failed or timed out, with the failure
+ * @author sungjun
+ * @since 1.0
+ */
+public record KillSwitchReport(
+    RiskTrigger trigger,
+    String detail,
+    Instant triggeredAt,
+    Duration elapsed,
+    List<String> cancelled,
+    Map<String, String> failed
+) {
+
+    /**
+     * Returns whether every cancel-all request succeeded.
+     *
+     * @return {@code true} if no request failed
+     */
+    public boolean isComplete() {
+        return failed.isEmpty();
+    }
+}
@@ -0,0 +1,117 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneOrderBook;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamListener;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamTicker;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 짧은 시간 안에 가격이 급격히 움직이면 거래를 중단시키는 위험 조건입니다.
+ * <p>
+ * 거래 쌍마다 기준 가격을 두고, 호가창 중간 가격이나 체결가가 기준 가격에서 {@code threshold} 비율 이상 벗어나면
+ * {@link RiskTrigger#PRICE_SHOCK}을 보고합니다. 기준 가격은 {@code window}마다 그 시점의 가격으로 바뀌므로,
+ * 실제로 비교하는 구간은 {@code window}에서 {@code window}의 두 배 사이입니다.
+ * </p>
+ * <p>
+ * 가격 변동은 한 번 일어나는 사건이므로 {@link #check(long)}가 보고한 변동은 다시 보고하지 않고,
+ * 거래가 중단된 동안 발생해 아직 보고하지 않은 변동은 {@link #reset()}에서 버립니다.
+ * 거래 재개 후에도 변동이 계속되면 새 변동으로 다시 보고됩니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public class PriceShockCheck implements RiskCheck, CoinoneStreamListener {
+
+    private final String feed;
+    private final long windowNanos;
+    private final double threshold;
+    private final LongSupplier nanoClock;
+    // 시세 수신 스레드에서만 읽고 씁니다.
+    private final Map<CurrencyPair, Reference> references = new HashMap<>();
+    private final AtomicReference<RiskBreach> breach = new AtomicReference<>();
+
+    /**
+     * Creates a price shock check.
+     *
+     * @param feed the feed name used in the breach detail (e.g., coinone)
+     * @param window the window over which price moves are measured
+     * @param threshold the price move that is reported, as a fraction
+     */
+    public PriceShockCheck(String feed, Duration window, double threshold) {
+        this(feed, window, threshold, System::nanoTime);
+    }
+
+    PriceShockCheck(String feed, Duration window, double threshold, LongSupplier nanoClock) {
+        this.feed = feed;
+        this.windowNanos = window.toNanos();
+        this.threshold = threshold;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void onOrderBook(CoinoneOrderBook orderBook) {
+        long bid = orderBook.getBestBidPrice();
+        long ask = orderBook.getBestAskPrice();
+        if (bid > 0L && ask > 0L) {
+            observe(orderBook.getPair(), bid + (ask - bid) / 2);
+        }
+    }
+
+    @Override
+    public void onTicker(CoinoneStreamTicker ticker) {
+        if (ticker.last() > 0L) {
+            observe(ticker.pair(), ticker.last());
+        }
+    }
+
+    @Override
+    public RiskBreach check(long nowNanos) {
+        return breach.getAndSet(null);
+    }
+
+    @Override
+    public void reset() {
+        breach.set(null);
+    }
+
+    private void observe(CurrencyPair pair, long price) {
+        long now = nanoClock.getAsLong();
+        Reference reference = references.get(pair);
+        if (reference == null) {
+            references.put(pair, new Reference(price, now));
+            return;
+        }
+        double move = (double) (price - reference.price) / reference.price;
+        if (Math.abs(move) >= threshold) {
+            breach.set(new RiskBreach(RiskTrigger.PRICE_SHOCK,
+                String.format("%s %s moved %.2f%% (%d -> %d)", feed, pair, move * 100.0, reference.price, price)));
+            // 같은 변동을 반복해서 보고하지 않도록 기준 가격을 옮깁니다.
+            reference.reset(price, now);
+        } else if (now - reference.sinceNanos >= windowNanos) {
+            reference.reset(price, now);
+        }
+    }
+
+    private static final class Reference {
+
+        private long price;
+        private long sinceNanos;
+
+        private Reference(long price, long sinceNanos) {
+            this.price = price;
+            this.sinceNanos = sinceNanos;
+        }
+
+        private void reset(long price, long sinceNanos) {
+            this.price = price;
+            this.sinceNanos = sinceNanos;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+/**
+ * {@link RiskCheck}가 발견한 위험 조건입니다.
+ *
+ * @param trigger the kind of risk
+ * @param detail a human-readable description, e.g. which feed or pair and by how much
+ * @author sungjun
+ * @since 1.0
+ */
+public record RiskBreach(RiskTrigger trigger, String detail) {
+}
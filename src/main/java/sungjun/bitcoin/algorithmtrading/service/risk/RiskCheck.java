@@ -0,0 +1,32 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+/**
+ * {@link KillSwitch}가 주기적으로 확인하는 위험 조건입니다.
+ * <p>
+ * 모든 확인은 {@link KillSwitch}의 감시 스레드 하나에서 순서대로 호출되므로, 거래소 호출처럼 오래 걸리는 작업을 하면 안 됩니다.
+ * 시세 수신 스레드 등 다른 스레드에서 갱신한 값을 읽기만 하도록 구현합니다.
+ * </p>
+ * <p>
+ * 거래가 중단된 동안에는 확인하지 않으므로, 중단 전후에 쌓인 상태는 해제 후 첫 확인 전에 {@link #reset()}으로 버립니다.
+ * </p>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public interface RiskCheck {
+
+    /**
+     * Evaluates the condition.
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return the breach, or {@code null} if trading may continue
+     */
+    RiskBreach check(long nowNanos);
+
+    /**
+     * Discards the state accumulated before the kill switch was disengaged, so that a breach that has already
+     * been handled is not reported again. Called on the monitor thread before the first check after disengaging.
+     */
+    default void reset() {
+    }
+}
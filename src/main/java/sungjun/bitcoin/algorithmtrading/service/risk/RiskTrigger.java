@@ -0,0 +1,30 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+/**
+ * 긴급 거래 중단을 일으킨 원인의 종류입니다.
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public enum RiskTrigger {
+
+    /**
+     * 운영자가 직접 중단한 경우 (actuator 엔드포인트 등)
+     */
+    MANUAL,
+
+    /**
+     * 시세 스트림이 끊기거나 일정 시간 이상 갱신되지 않은 경우
+     */
+    FEED_STALE,
+
+    /**
+     * 거래소 API 오류율이 급증한 경우
+     */
+    ERROR_RATE,
+
+    /**
+     * 짧은 시간 안에 가격이 급격히 움직인 경우
+     */
+    PRICE_SHOCK
+}
@@ -0,0 +1,258 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 가격과 수량을 정해진 소수 자릿수(scale)의 {@code long} 고정소수점 값으로 다루는 유틸리티 클래스입니다.
+ * <p>
+ * 값 {@code v}는 {@code v / 10^scale}을 의미합니다. 예를 들어 scale 8에서 {@code "52800000.5"}는
+ * {@code 5280000050000000L}로 표현됩니다. 시세 처리 경로에서 {@link BigDecimal}이나 중간 문자열 없이
+ * 비교와 덧셈을 할 수 있도록 문자 배열에서 직접 파싱하며, 표시가 필요할 때만 {@link BigDecimal}로 변환합니다.
+ * </p>
+ *
+ * <h2>파싱 규칙</h2>
+ * <ul>
+ *   <li>부호, 정수부, 소수부만 허용하며 지수 표기는 허용하지 않습니다.</li>
+ *   <li>scale을 넘는 소수 자릿수는 버립니다 (0 방향 절삭).</li>
+ *   <li>{@code long} 범위를 넘으면 {@link ArithmeticException}이 발생합니다.</li>
+ * </ul>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+@UtilityClass
+public class FixedPoint {
+
+    /**
+     * 지원하는 최대 scale입니다.
+     */
+    public static final int MAX_SCALE = 18;
+
+    /**
+     * {@link #writeAscii(long, int, byte[], int)}가 기록하는 최대 바이트 수입니다 (부호, 19자리, 소수점).
+     */
+    public static final int MAX_ASCII_LENGTH = 21;
+
+    /**
+     * 응답에 값이 없음({@code null} 또는 빈 문자열)을 나타내는 값입니다. 실제 가격 0과 구분하기 위해 사용합니다.
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1L;
+        for (int i = 1; i <= MAX_SCALE; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Parses a plain decimal number from a region of a character array into a fixed-point value.
+     *
+     * @param chars the characters to parse
+     * @param offset the start offset
+     * @param length the number of characters
+     * @param scale the number of fractional digits to keep
+     * @return the fixed-point value
+     * @throws NumberFormatException if the text is not a plain decimal number
+     * @throws ArithmeticException if the value does not fit in a {@code long} at the given scale
+     */
+    public static long parse(char[] chars, int offset, int length, int scale) {
+        checkScale(scale);
+        if (length <= 0) {
+            throw new NumberFormatException("Empty decimal value");
+        }
+        int position = offset;
+        int end = offset + length;
+        boolean negative = false;
+        char first = chars[position];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            position++;
+        }
+
+        // 음수 범위가 양수보다 1 넓으므로 음수로 누적하여 Long.MIN_VALUE까지 표현
+        long result = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; position < end; position++) {
+            char c = chars[position];
+            if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+                continue;
+            }
+            if (c < '0' || c > '9') {
+                throw new NumberFormatException("Invalid decimal value: " + new String(chars, offset, length));
+            }
+            digits++;
+            if (fractionDigits >= 0) {
+                if (fractionDigits == scale) {
+                    continue;
+                }
+                fractionDigits++;
+            }
+            result = Math.subtractExact(Math.multiplyExact(result, 10), c - '0');
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid decimal value: " + new String(chars, offset, length));
+        }
+
+        int padding = scale - Math.max(fractionDigits, 0);
+        result = Math.multiplyExact(result, POWERS_OF_TEN[padding]);
+        return negative ? result : Math.negateExact(result);
+    }
+
+    /**
+     * Parses a plain decimal string into a fixed-point value.
+     *
+     * @param text the text to parse
+     * @param scale the number of fractional digits to keep
+     * @return the fixed-point value
+     * @throws NumberFormatException if the text is not a plain decimal number
+     * @throws ArithmeticException if the value does not fit in a {@code long} at the given scale
+     */
+    public static long parse(String text, int scale) {
+        return parse(text.toCharArray(), 0, text.length(), scale);
+    }
+
+    /**
+     * Reads the current token of a streaming JSON parser (a decimal string or number) as a fixed-point value,
+     * parsing directly from the parser's character buffer without creating a {@code String}.
+     *
+     * @param parser the parser positioned on the value token
+     * @param scale the number of fractional digits to keep
+     * @return the fixed-point value, or {@link #MISSING} if the value is {@code null} or an empty string
+     * @throws JsonParseException if the token is not a decimal value or does not fit in a {@code long}
+     * @throws IOException if the parser fails to read the token
+     */
+    public static long read(JsonParser parser, int scale) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return MISSING;
+        }
+        if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+            throw new JsonParseException(parser, "Expected decimal value but was " + token);
+        }
+        int length = parser.getTextLength();
+        if (length == 0) {
+            return MISSING;
+        }
+        try {
+            return parse(parser.getTextCharacters(), parser.getTextOffset(), length, scale);
+        } catch (NumberFormatException | ArithmeticException e) {
+            throw new JsonParseException(parser, "Invalid decimal value: " + parser.getText(), e);
+        }
+    }
+
+    /**
+     * Scales an integer value into a fixed-point value.
+     *
+     * @param value the integer value
+     * @param scale the target scale
+     * @return the fixed-point value
+     * @throws ArithmeticException if the result does not fit in a {@code long}
+     */
+    public static long ofLong(long value, int scale) {
+        checkScale(scale);
+        return Math.multiplyExact(value, POWERS_OF_TEN[scale]);
+    }
+
+    /**
+     * Converts a {@link BigDecimal} into a fixed-point value, truncating extra fractional digits.
+     *
+     * @param value the decimal value
+     * @param scale the target scale
+     * @return the fixed-point value
+     * @throws ArithmeticException if the result does not fit in a {@code long}
+     */
+    public static long fromBigDecimal(BigDecimal value, int scale) {
+        checkScale(scale);
+        return value.setScale(scale, RoundingMode.DOWN).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts a fixed-point value back into a {@link BigDecimal} for display or order submission.
+     *
+     * @param value the fixed-point value
+     * @param scale the scale of the value
+     * @return the decimal value with trailing zeros removed
+     */
+    public static BigDecimal toBigDecimal(long value, int scale) {
+        checkScale(scale);
+        return BigDecimal.valueOf(value, scale).stripTrailingZeros();
+    }
+
+    /**
+     * Formats a fixed-point value as a plain decimal string without trailing zeros.
+     *
+     * @param value the fixed-point value
+     * @param scale the scale of the value
+     * @return the plain decimal string
+     */
+    public static String toPlainString(long value, int scale) {
+        return toBigDecimal(value, scale).toPlainString();
+    }
+
+    /**
+     * Writes a fixed-point value as a plain decimal without trailing zeros into the target buffer as ASCII bytes,
+     * without allocating. Produces the same text as {@link #toPlainString(long, int)}.
+     *
+     * @param value the fixed-point value
+     * @param scale the scale of the value
+     * @param target the buffer receiving the text; must have at least {@link #MAX_ASCII_LENGTH} bytes left
+     * @param offset the offset at which to start writing
+     * @return the number of bytes written
+     */
+    public static int writeAscii(long value, int scale, byte[] target, int offset) {
+        checkScale(scale);
+        int position = offset;
+        if (value < 0) {
+            target[position++] = '-';
+        }
+        // 음수 범위가 양수보다 1 넓으므로 음수로 계산하여 Long.MIN_VALUE까지 처리
+        long negative = value < 0 ? value : -value;
+        long integerPart = negative / POWERS_OF_TEN[scale];
+        long fraction = -(negative - integerPart * POWERS_OF_TEN[scale]);
+
+        // 정수부를 역순으로 기록한 뒤 뒤집음
+        int start = position;
+        do {
+            target[position++] = (byte) ('0' - integerPart % 10);
+            integerPart /= 10;
+        } while (integerPart != 0);
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte digit = target[i];
+            target[i] = target[j];
+            target[j] = digit;
+        }
+
+        if (fraction != 0) {
+            int digits = scale;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            target[position++] = '.';
+            for (int i = digits - 1; i >= 0; i--) {
+                target[position + i] = (byte) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            position += digits;
+        }
+        return position - offset;
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + ": " + scale);
+        }
+    }
+}
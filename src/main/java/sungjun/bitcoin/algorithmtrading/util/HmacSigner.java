@@ -0,0 +1,256 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 하나의 (비밀 키, 알고리즘) 조합에 대해 재사용되는 HMAC 서명기입니다.
+ * <p>
+ * {@link SignatureUtils#makeSignature(String, String, String)}가 요청마다 수행하던
+ * {@code Mac.getInstance}, {@code Mac.init}, 비밀 키 인코딩을 생성 시점에 한 번만 수행합니다.
+ * 초기화된 {@link Mac}은 다이제스트와 16진수 출력 버퍼와 함께 {@link ThreadStatePool}에 복제하여 보관하므로 잠금 없이 사용할 수 있습니다.
+ * 플랫폼 스레드는 스레드별로 하나씩, 가상 스레드는 풀에서 빌려 사용하므로 요청마다 가상 스레드가 새로 만들어져도
+ * {@link Mac}을 요청마다 복제하지 않습니다.
+ * </p>
+ * <p>
+ * 서명 경로에는 {@code synchronized} 블록이나 잠금이 없으므로 가상 스레드에서 호출해도 캐리어 스레드에 고정(pinning)되지 않습니다.
+ * </p>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * HmacSigner signer = new HmacSigner(properties.getSecretKey(), "HmacSHA512");
+ * String signature = signer.sign(encodedPayload);
+ *
+ * // 할당 없이 호출자 버퍼에 16진수 서명을 기록
+ * int written = signer.signTo(body, 0, body.length, out, offset);
+ * </pre>
+ *
+ * @author sungjun
+ * @since 1.0
+ */
+public final class HmacSigner {
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final String algorithm;
+    private final SecretKeySpec keySpec;
+    private final Mac prototype;
+    private final int hexLength;
+    private final ThreadStatePool<SignerState> states;
+
+    /**
+     * Creates a signer for the given secret key and HMAC algorithm.
+     * <p>
+     * The key is encoded and the {@link Mac} initialized once here, so an invalid key or
+     * unsupported algorithm fails at construction rather than on the first request.
+     * </p>
+     *
+     * @param secretKey the secret key used for HMAC generation
+     * @param algorithm the HMAC algorithm to use (e.g., HmacSHA256, HmacSHA512)
+     * @throws IllegalStateException if the algorithm is unavailable or the key is invalid
+     */
+    public HmacSigner(String secretKey, String algorithm) {
+        this.algorithm = algorithm;
+        this.keySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), algorithm);
+        this.prototype = initMac();
+        this.hexLength = prototype.getMacLength() * 2;
+        this.states = new ThreadStatePool<>(() -> new SignerState(newMac(), prototype.getMacLength()));
+    }
+
+    /**
+     * Returns the HMAC algorithm of this signer.
+     *
+     * @return the algorithm name
+     */
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Returns the number of characters in a hexadecimal signature produced by this signer.
+     *
+     * @return the signature length in hex characters
+     */
+    public int getHexLength() {
+        return hexLength;
+    }
+
+    /**
+     * Signs the given string and returns the signature as a lowercase hexadecimal string.
+     * <p>
+     * ASCII input (Base64 payloads, query strings) is copied into a reused pooled buffer instead of
+     * allocating a new UTF-8 byte array.
+     * </p>
+     *
+     * @param data the data to sign
+     * @return the lowercase hexadecimal signature
+     */
+    public String sign(String data) {
+        SignerState current = states.acquire();
+        try {
+            byte[] input = current.encodeAscii(data);
+            if (input == null) {
+                byte[] utf8 = data.getBytes(StandardCharsets.UTF_8);
+                return current.signHex(utf8, 0, utf8.length);
+            }
+            return current.signHex(input, 0, data.length());
+        } finally {
+            states.release(current);
+        }
+    }
+
+    /**
+     * Signs the given byte array and returns the signature as a lowercase hexadecimal string.
+     *
+     * @param data the data to sign
+     * @return the lowercase hexadecimal signature
+     */
+    public String sign(byte[] data) {
+        return sign(data, 0, data.length);
+    }
+
+    /**
+     * Signs a region of the given byte array and returns the signature as a lowercase hexadecimal string.
+     *
+     * @param data the buffer holding the data to sign
+     * @param offset the start offset of the data
+     * @param length the number of bytes to sign
+     * @return the lowercase hexadecimal signature
+     */
+    public String sign(byte[] data, int offset, int length) {
+        SignerState current = states.acquire();
+        try {
+            return current.signHex(data, offset, length);
+        } finally {
+            states.release(current);
+        }
+    }
+
+    /**
+     * Signs the remaining bytes of the given buffer and returns the signature as a lowercase hexadecimal string.
+     *
+     * @param data the buffer to sign; its position is advanced to its limit
+     * @return the lowercase hexadecimal signature
+     */
+    public String sign(ByteBuffer data) {
+        SignerState current = states.acquire();
+        try {
+            current.mac.update(data);
+            return current.finishHex();
+        } finally {
+            states.release(current);
+        }
+    }
+
+    /**
+     * Signs a region of the given byte array and writes the lowercase hexadecimal signature as ASCII bytes
+     * into the target buffer without allocating.
+     *
+     * @param data the buffer holding the data to sign
+     * @param offset the start offset of the data
+     * @param length the number of bytes to sign
+     * @param target the buffer receiving the hexadecimal signature
+     * @param targetOffset the offset at which to start writing
+     * @return the number of bytes written, always {@link #getHexLength()}
+     */
+    public int signTo(byte[] data, int offset, int length, byte[] target, int targetOffset) {
+        SignerState current = states.acquire();
+        try {
+            current.mac.update(data, offset, length);
+            current.finishDigest();
+            return encodeHex(current.digest, target, targetOffset);
+        } finally {
+            states.release(current);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            return initMac();
+        }
+    }
+
+    private Mac initMac() {
+        try {
+            Mac mac = Mac.getInstance(algorithm);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + algorithm + " signer", e);
+        }
+    }
+
+    private static int encodeHex(byte[] digest, byte[] target, int targetOffset) {
+        int position = targetOffset;
+        for (byte b : digest) {
+            target[position++] = HEX_DIGITS[(b >> 4) & 0x0F];
+            target[position++] = HEX_DIGITS[b & 0x0F];
+        }
+        return position - targetOffset;
+    }
+
+    /**
+     * 한 번에 한 스레드만 사용하는 서명 상태입니다.
+     */
+    private static final class SignerState {
+
+        private static final int MAX_SCRATCH_SIZE = 64 * 1024;
+
+        private final Mac mac;
+        private final byte[] digest;
+        private final byte[] hex;
+        private byte[] scratch = new byte[512];
+
+        private SignerState(Mac mac, int macLength) {
+            this.mac = mac;
+            this.digest = new byte[macLength];
+            this.hex = new byte[macLength * 2];
+        }
+
+        private void finishDigest() {
+            try {
+                mac.doFinal(digest, 0);
+            } catch (ShortBufferException e) {
+                throw new IllegalStateException("Failed to generate signature", e);
+            }
+        }
+
+        private String signHex(byte[] data, int offset, int length) {
+            mac.update(data, offset, length);
+            return finishHex();
+        }
+
+        private String finishHex() {
+            finishDigest();
+            encodeHex(digest, hex, 0);
+            return new String(hex, 0, hex.length, StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * 문자열이 ASCII로만 구성된 경우 재사용 버퍼에 복사하고, 그렇지 않으면 null을 반환합니다.
+         */
+        private byte[] encodeAscii(String data) {
+            int length = data.length();
+            if (length > MAX_SCRATCH_SIZE) {
+                return null;
+            }
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = data.charAt(i);
+                if (c >= 0x80) {
+                    return null;
+                }
+                scratch[i] = (byte) c;
+            }
+            return scratch;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * {@code long} 키를 박싱하지 않고 값을 보관하는 개방 주소법 해시 맵입니다.
+ * <p>
+ * 키와 값을 각각 {@code long[]}, {@code Object[]} 배열에 저장하고 선형 탐사로 충돌을 처리합니다.
+ * {@link java.util.HashMap HashMap&lt;Long, V&gt;}와 달리 조회, 삽입, 삭제에 {@link Long} 객체나 엔트리 객체를 만들지 않습니다.
+ * 삭제는 묘비(tombstone) 대신 뒤따르는 엔트리를 당겨 채우므로, 삽입과 삭제가 반복되어도 탐사 길이가 늘어나지 않습니다.
+ * </p>
+ *
+ * <h2>복잡도</h2>
+ * <ul>
+ *   <li>조회, 삽입, 삭제: 평균 O(1) (적재율을 0.5 이하로 유지)</li>
+ *   <li>순회: 배열 크기에 비례하며 객체를 할당하지 않습니다.</li>
+ * </ul>
+ * <p>
+ * 동기화하지 않으므로 여러 스레드에서 사용하려면 호출자가 잠금으로 보호해야 합니다.
+ * </p>
+ *
+ * @param <V> the value type
+ * @author sungjun
+ * @since 1.0
+ */
+public final class LongObjectHashMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * Creates a map sized to hold the given number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongObjectHashMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1);
+    }
+
+    /**
+     * Returns the value mapped to the key.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int position = mix(key) & mask;
+        while (true) {
+            Object value = values[position];
+            if (value == null) {
+                return null;
+            }
+            if (keys[position] == key) {
+                return (V) value;
+            }
+            position = (position + 1) & mask;
+        }
+    }
+
+    /**
+     * Returns whether the key is present.
+     *
+     * @param key the key
+     * @return {@code true} if the key is present
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the key to the value, replacing any previous value.
+     *
+     * @param key the key
+     * @param value the value, not {@code null}
+     * @return the previous value, or {@code null} if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("value must not be null");
+        }
+        int position = mix(key) & mask;
+        while (true) {
+            Object current = values[position];
+            if (current == null) {
+                keys[position] = key;
+                values[position] = value;
+                if (++size > resizeAt) {
+                    allocate(keys.length << 1);
+                }
+                return null;
+            }
+            if (keys[position] == key) {
+                values[position] = value;
+                return (V) current;
+            }
+            position = (position + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int position = mix(key) & mask;
+        while (true) {
+            Object current = values[position];
+            if (current == null) {
+                return null;
+            }
+            if (keys[position] == key) {
+                shiftBack(position);
+                size--;
+                return (V) current;
+            }
+            position = (position + 1) & mask;
+        }
+    }
+
+    /**
+     * Passes every value to the consumer in no particular order. The map must not be modified while iterating.
+     *
+     * @param consumer the consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (Object value : values) {
+            if (value != null) {
+                consumer.accept((V) value);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every entry while keeping the current capacity.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * 빈 칸을 만나기 전까지 뒤따르는 엔트리 중 원래 위치가 비워진 칸 이전인 것을 당겨 탐사 경로를 유지합니다.
+     */
+    private void shiftBack(int position) {
+        int gap = position;
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int home = mix(keys[next]) & mask;
+            // home이 (gap, next] 순환 구간 밖이면 gap으로 옮겨도 탐사 경로가 끊기지 않습니다.
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    private void allocate(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity >>> 1;
+        if (oldValues == null) {
+            return;
+        }
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                int position = mix(oldKeys[i]) & mask;
+                while (values[position] != null) {
+                    position = (position + 1) & mask;
+                }
+                keys[position] = oldKeys[i];
+                values[position] = value;
+            }
+        }
+    }
+
+    /**
+     * 순차 증가하는 주문 번호도 고르게 퍼지도록 키를 섞습니다 (MurmurHash3 fmix64).
+     */
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -21,8 +21,14 @@ import java.security.NoSuchAlgorithmException;
  *   <li>HmacSHA512 (Coinone API)</li>
  * </ul>
  *
+ * <p>
+ * 요청마다 {@link Mac}을 생성/초기화하므로 일회성 서명에만 사용하고,
+ * 요청 경로에서는 초기화된 {@link Mac}을 재사용하는 {@link HmacSigner}를 사용합니다.
+ * </p>
+ *
  * @author sungjun
  * @since 1.0
+ * @see HmacSigner
  */
 @UtilityClass
 public class SignatureUtils {
@@ -0,0 +1,121 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 서명기, 직렬화 버퍼처럼 한 번에 한 스레드만 사용하는 재사용 객체를 스레드 종류에 맞게 보관하는 풀입니다.
+ * <p>
+ * 플랫폼 스레드는 수가 적고 오래 살기 때문에 {@link ThreadLocal}에 하나씩 보관하는 것이 가장 저렴합니다.
+ * 반면 가상 스레드는 요청마다 새로 만들어지므로 {@link ThreadLocal}에 보관하면 요청마다 객체를 새로 만들고
+ * 버리게 됩니다. 가상 스레드에서는 대신 크기가 제한된 슬롯 배열에서 CAS로 객체를 빌리고 돌려주므로,
+ * 동시에 사용 중인 수만큼만 객체가 만들어집니다.
+ * </p>
+ * <p>
+ * 잠금({@code synchronized}, {@code Lock})을 사용하지 않으므로 가상 스레드가 캐리어 스레드에 고정(pinning)되지 않습니다.
+ * 슬롯이 모두 비어 있으면 새로 만들고, 가득 차 있으면 돌려받은 객체를 버립니다.
+ * </p>
+ *
+ * <h2>사용 예시</h2>
+ * <pre>
+ * ThreadStatePool&lt;BinanceFormWriter&gt; writers = new ThreadStatePool&lt;&gt;(BinanceFormWriter::new);
+ *
+ * BinanceFormWriter writer = writers.acquire();
+ * try {
+ *     // writer 사용
+ * } finally {
+ *     writers.release(writer);
+ * }
+ * </pre>
+ *
+ * @param <T> the pooled state type
+ * @author sungjun
+ * @since 1.0
+ */
+public final class ThreadStatePool<T> {
+
+    private final Supplier<T> factory;
+    private final ThreadLocal<T> platformLocal;
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+
+    /**
+     * Creates a pool retaining two states per available processor for virtual threads.
+     *
+     * @param factory creates a new state when none is available
+     */
+    public ThreadStatePool(Supplier<T> factory) {
+        this(factory, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a pool retaining up to the given number of states for virtual threads.
+     *
+     * @param factory creates a new state when none is available
+     * @param capacity the number of states retained for virtual threads, rounded up to a power of two
+     */
+    public ThreadStatePool(Supplier<T> factory, int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.factory = factory;
+        this.platformLocal = ThreadLocal.withInitial(factory);
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns a state owned exclusively by the caller until it is released.
+     * <p>
+     * Platform threads always receive their own thread-local state. Virtual threads borrow a pooled state,
+     * or a new one if every slot is empty.
+     * </p>
+     *
+     * @return the state
+     */
+    public T acquire() {
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            return platformLocal.get();
+        }
+        int start = (int) thread.threadId();
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            T state = slots.get(index);
+            if (state != null && slots.compareAndSet(index, state, null)) {
+                return state;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * Returns a state obtained from {@link #acquire()} on the same thread.
+     *
+     * @param state the state to return
+     */
+    public void release(T state) {
+        Thread thread = Thread.currentThread();
+        if (!thread.isVirtual()) {
+            return;
+        }
+        int start = (int) thread.threadId();
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, state)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Drops a state obtained from {@link #acquire()} on the same thread instead of returning it,
+     * e.g. because it has grown too large to retain. A state that is not the calling platform thread's own state
+     * is left alone, so discarding some other instance never drops the state the thread is using.
+     *
+     * @param state the state to drop
+     */
+    public void discard(T state) {
+        if (!Thread.currentThread().isVirtual() && platformLocal.get() == state) {
+            platformLocal.remove();
+        }
+    }
+}
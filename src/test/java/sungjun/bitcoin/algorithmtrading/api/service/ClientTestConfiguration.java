@@ -2,16 +2,27 @@ package sungjun.bitcoin.algorithmtrading.api.service;
 
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
+import sungjun.bitcoin.algorithmtrading.infrastructure.cache.SnapshotCache;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.MockCoinoneTickerApiClient;
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CoinoneTickerApiClient;
 import sungjun.bitcoin.algorithmtrading.service.CoinoneService;
 
+import java.time.Duration;
+
 @TestConfiguration
 public class ClientTestConfiguration {
 
     @Bean
     CoinoneService coinoneService() {
-        return new CoinoneService(mockCoinoneTickerApiClient());
+        CoinoneTickerApiClient client = mockCoinoneTickerApiClient();
+        SnapshotCache<CurrencyPair, CoinoneTicker> tickerCache = SnapshotCache.<CurrencyPair, CoinoneTicker>builder()
+            .name("test.ticker")
+            .loader(pair -> client.getTicker(pair.quoteCurrency(), pair.targetCurrency()).getTickers().getFirst())
+            .ttl(Duration.ofSeconds(1))
+            .build();
+        return new CoinoneService(tickerCache);
     }
 
     @Bean
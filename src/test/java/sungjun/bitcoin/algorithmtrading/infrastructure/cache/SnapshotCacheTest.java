@@ -0,0 +1,221 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Timeout(30)
+class SnapshotCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SnapshotCache<String, String> cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    @DisplayName("TTL 안에서는 다시 조회하지 않고 스냅샷을 반환한다.")
+    @Test
+    void hitWithinTtl() {
+        // given
+        cache = createCache(key -> key + "-" + loads.incrementAndGet(), Map.of());
+        cache.get("KRW/BTC");
+
+        // when
+        clock.addAndGet(Duration.ofMillis(999).toNanos());
+        String value = cache.get("KRW/BTC");
+
+        // then
+        assertThat(value).isEqualTo("KRW/BTC-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @DisplayName("키별 TTL이 기본 TTL보다 우선한다.")
+    @Test
+    void perKeyTtl() {
+        // given
+        cache = createCache(key -> key + "-" + loads.incrementAndGet(), Map.of("KRW/BTC", Duration.ofMillis(100)));
+        cache.get("KRW/BTC");
+        cache.get("KRW/ETH");
+
+        // when
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        cache.get("KRW/BTC");
+        cache.get("KRW/ETH");
+
+        // then
+        assertThat(loads).hasValue(4);
+    }
+
+    @DisplayName("TTL이 지난 stale 스냅샷은 즉시 반환하고 백그라운드에서 갱신한다.")
+    @Test
+    void staleWhileRevalidate() throws Exception {
+        // given
+        CountDownLatch refreshed = new CountDownLatch(1);
+        cache = createCache(key -> {
+            int count = loads.incrementAndGet();
+            if (count == 2) {
+                refreshed.countDown();
+            }
+            return key + "-" + count;
+        }, Map.of());
+        cache.get("KRW/BTC");
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+
+        // when
+        String stale = cache.get("KRW/BTC");
+
+        // then
+        assertThat(stale).isEqualTo("KRW/BTC-1");
+        assertThat(refreshed.await(10, TimeUnit.SECONDS)).isTrue();
+        awaitValue("KRW/BTC", "KRW/BTC-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("maxStale이 지난 스냅샷은 반환하지 않고 호출 스레드에서 다시 조회한다.")
+    @Test
+    void expiredAfterMaxStale() {
+        // given
+        cache = createCache(key -> key + "-" + loads.incrementAndGet(), Map.of());
+        cache.get("KRW/BTC");
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(7).toNanos());
+        String value = cache.get("KRW/BTC");
+
+        // then
+        assertThat(value).isEqualTo("KRW/BTC-2");
+    }
+
+    @DisplayName("같은 키에 대한 동시 조회는 하나의 조회 결과를 공유한다.")
+    @Test
+    void coalesceConcurrentMisses() throws Exception {
+        // given
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        cache = createCache(key -> {
+            loads.incrementAndGet();
+            loaderStarted.countDown();
+            await(release);
+            return key;
+        }, Map.of());
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // when
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            results.add(executor.submit(() -> cache.get("KRW/BTC")));
+            assertThat(loaderStarted.await(10, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get("KRW/BTC")));
+            }
+            while (registry.get("cache.gets").tag("result", "coalesced").functionCounter().count() < 7) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("KRW/BTC");
+            }
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("조회 실패는 호출자에게 전파되고 다음 조회에서 다시 시도한다.")
+    @Test
+    void propagateLoadFailure() {
+        // given
+        cache = createCache(key -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("rate limited");
+            }
+            return key;
+        }, Map.of());
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // when & then
+        assertThatThrownBy(() -> cache.get("KRW/BTC"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("rate limited");
+        assertThat(cache.get("KRW/BTC")).isEqualTo("KRW/BTC");
+        assertThat(registry.get("cache.loads").tag("result", "failure").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.loads").tag("result", "success").functionCounter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("조회 결과를 hit/stale/miss로 집계한다.")
+    @Test
+    void recordMetrics() {
+        // given
+        cache = createCache(key -> key + "-" + loads.incrementAndGet(), Map.of());
+        MeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // when
+        cache.get("KRW/BTC");
+        cache.get("KRW/BTC");
+        cache.get("KRW/BTC");
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.get("KRW/BTC");
+
+        // then
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("cache.gets").tag("result", "stale").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    private SnapshotCache<String, String> createCache(Function<String, String> loader, Map<String, Duration> ttls) {
+        return SnapshotCache.<String, String>builder()
+            .name("test")
+            .loader(loader)
+            .ttl(Duration.ofSeconds(1))
+            .ttls(ttls)
+            .maxStale(Duration.ofSeconds(5))
+            .refreshThreads(1)
+            .nanoClock(clock::get)
+            .build();
+    }
+
+    private void awaitValue(String key, String expected) throws InterruptedException {
+        // 백그라운드 갱신이 스냅샷을 교체할 때까지 대기 (시계를 고정하여 TTL 안에서 조회)
+        while (!expected.equals(cache.get(key))) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
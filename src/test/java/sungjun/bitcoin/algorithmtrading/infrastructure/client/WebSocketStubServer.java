@@ -0,0 +1,223 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 최소 WebSocket 서버입니다.
+ * <p>
+ * RFC 6455 핸드셰이크와 텍스트/close/ping 프레임만 처리하며, 한 번에 하나의 연결만 유지합니다.
+ * 클라이언트가 보낸 텍스트 메시지는 {@link #takeMessage(Duration)}로 확인하고,
+ * {@link #send(String)}로 기록된 프레임을 재생하며, {@link #dropConnection()}과 {@link #closeConnection(int)}으로
+ * 연결 끊김과 서버 측 종료를 흉내 냅니다.
+ * </p>
+ */
+public class WebSocketStubServer implements AutoCloseable {
+
+    private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+    private final ServerSocket serverSocket;
+    private final BlockingQueue<String> messages = new LinkedBlockingQueue<>();
+    private final Semaphore connections = new Semaphore(0);
+    private volatile Socket socket;
+    private volatile OutputStream output;
+    private volatile String requestPath;
+
+    public WebSocketStubServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofPlatform().name("websocket-stub").daemon(true).start(this::acceptLoop);
+    }
+
+    public URI uri() {
+        return URI.create("ws://127.0.0.1:" + serverSocket.getLocalPort() + "/");
+    }
+
+    /**
+     * Waits until a client completes the handshake.
+     */
+    public boolean awaitConnection(Duration timeout) throws InterruptedException {
+        return connections.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the next text message sent by the client, or {@code null} on timeout.
+     */
+    public String takeMessage(Duration timeout) throws InterruptedException {
+        return messages.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the request path (including the query string) of the latest handshake.
+     */
+    public String requestPath() {
+        return requestPath;
+    }
+
+    public synchronized void send(String text) throws IOException {
+        writeFrame(0x1, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Closes the current connection without a close frame.
+     */
+    public void dropConnection() throws IOException {
+        Socket current = socket;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    /**
+     * Sends a close frame with the given status code, as a server does before a scheduled disconnect.
+     */
+    public synchronized void closeConnection(int statusCode) throws IOException {
+        writeFrame(0x8, new byte[]{(byte) (statusCode >>> 8), (byte) statusCode});
+    }
+
+    @Override
+    public void close() throws IOException {
+        dropConnection();
+        serverSocket.close();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket accepted = serverSocket.accept();
+                Thread.ofPlatform().name("websocket-stub-connection").daemon(true).start(() -> serve(accepted));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket accepted) {
+        try (accepted) {
+            DataInputStream input = new DataInputStream(new BufferedInputStream(accepted.getInputStream()));
+            String key = null;
+            String path = readLine(input).split(" ")[1];
+            for (String line = readLine(input); !line.isEmpty(); line = readLine(input)) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+                    key = line.substring(colon + 1).trim();
+                }
+            }
+            OutputStream out = accepted.getOutputStream();
+            out.write(("HTTP/1.1 101 Switching Protocols\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Accept: " + accept(key) + "\r\n\r\n").getBytes(StandardCharsets.ISO_8859_1));
+            out.flush();
+            synchronized (this) {
+                socket = accepted;
+                output = out;
+                requestPath = path;
+            }
+            connections.release();
+            readFrames(input);
+        } catch (IOException e) {
+            // 연결이 끊기면 해당 연결 처리만 종료합니다.
+        }
+    }
+
+    private void readFrames(DataInputStream input) throws IOException {
+        while (true) {
+            int first = input.readUnsignedByte();
+            int second = input.readUnsignedByte();
+            int opcode = first & 0x0F;
+            long length = second & 0x7F;
+            if (length == 126) {
+                length = input.readUnsignedShort();
+            } else if (length == 127) {
+                length = input.readLong();
+            }
+            byte[] mask = new byte[4];
+            if ((second & 0x80) != 0) {
+                input.readFully(mask);
+            }
+            byte[] payload = new byte[(int) length];
+            input.readFully(payload);
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] ^= mask[i & 3];
+            }
+            switch (opcode) {
+                case 0x1 -> messages.add(new String(payload, StandardCharsets.UTF_8));
+                case 0x8 -> {
+                    synchronized (this) {
+                        writeFrame(0x8, payload);
+                    }
+                    return;
+                }
+                case 0x9 -> {
+                    synchronized (this) {
+                        writeFrame(0xA, payload);
+                    }
+                }
+                default -> {
+                    // 연속 프레임과 pong은 사용하지 않습니다.
+                }
+            }
+        }
+    }
+
+    private void writeFrame(int opcode, byte[] payload) throws IOException {
+        OutputStream out = output;
+        if (out == null) {
+            throw new IOException("No client connected");
+        }
+        out.write(0x80 | opcode);
+        if (payload.length < 126) {
+            out.write(payload.length);
+        } else if (payload.length <= 0xFFFF) {
+            out.write(126);
+            out.write(payload.length >>> 8);
+            out.write(payload.length);
+        } else {
+            out.write(127);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                out.write((int) ((long) payload.length >>> shift));
+            }
+        }
+        out.write(payload);
+        out.flush();
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int c = input.read(); c != '\n'; c = input.read()) {
+            if (c < 0) {
+                throw new IOException("Connection closed during handshake");
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private static String accept(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1")
+                .digest((key + ACCEPT_GUID).getBytes(StandardCharsets.ISO_8859_1));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -17,11 +17,8 @@ class BinanceAccountApiClientTest extends IntegrationClientTestSupport {
     @DisplayName("전체 자산 잔고를 조회한다.")
     @Test
     void getAccounts() {
-        // given
-        long timestamp = System.currentTimeMillis();
-
         // when
-        BinanceAccountApiResponse response = binanceAccountApiClient.getAccount(timestamp);
+        BinanceAccountApiResponse response = binanceAccountApiClient.getAccount();
 
         // then
         assertThat(response).isNotNull();
@@ -0,0 +1,45 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinanceFormWriterTest {
+
+    @DisplayName("파라미터를 기록한 순서대로 form 형식으로 직렬화한다.")
+    @Test
+    void writeInOrder() {
+        // given
+        BinanceFormWriter writer = new BinanceFormWriter(8);
+
+        // when
+        writer.param("symbol", "BTCUSDT")
+            .param("quantity", new BigDecimal("0.00100000"))
+            .param("price", new BigDecimal("4.3E+4"))
+            .param("newClientOrderId", (String) null)
+            .param("recvWindow", -5000L)
+            .param("timestamp", 0L);
+
+        // then
+        assertThat(new String(writer.toByteArray(), StandardCharsets.US_ASCII))
+            .isEqualTo("symbol=BTCUSDT&quantity=0.00100000&price=43000&recvWindow=-5000&timestamp=0");
+    }
+
+    @DisplayName("예약되지 않은 문자가 아닌 값은 퍼센트 인코딩한다.")
+    @Test
+    void percentEncodeValue() {
+        // given
+        BinanceFormWriter writer = new BinanceFormWriter();
+
+        // when
+        writer.param("newClientOrderId", "주문 1/2");
+
+        // then
+        assertThat(new String(writer.toByteArray(), StandardCharsets.US_ASCII))
+            .isEqualTo("newClientOrderId=%EC%A3%BC%EB%AC%B8+1%2F2");
+    }
+}
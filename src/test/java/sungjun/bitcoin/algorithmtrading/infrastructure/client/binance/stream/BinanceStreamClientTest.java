@@ -0,0 +1,133 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.WebSocketStubServer;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.binance.BinanceStreamProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinanceStreamClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String SYMBOL = "BTCUSDT";
+
+    private final AtomicReference<String> snapshot = new AtomicReference<>();
+    private final BlockingQueue<Long> syncedUpdates = new LinkedBlockingQueue<>();
+    private WebSocketStubServer server;
+    private BinanceStreamClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new WebSocketStubServer();
+        String url = server.uri().toString().replaceAll("/$", "");
+        client = new BinanceStreamClient(new BinanceStreamProperties(true, url, List.of(SYMBOL),
+            List.of(BinanceStreamChannel.DEPTH, BinanceStreamChannel.BOOK_TICKER), 1000, Duration.ofMillis(50),
+            Duration.ofSeconds(30), Duration.ofMillis(50), Duration.ofMillis(200), Duration.ofSeconds(3)),
+            new JsonFactory(), symbol -> snapshot.get().getBytes(StandardCharsets.UTF_8));
+        client.addListener(new BinanceStreamListener() {
+            @Override
+            public void onDepth(BinanceDepthBook depthBook) {
+                syncedUpdates.add(depthBook.getLastUpdateId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.stop();
+        server.close();
+    }
+
+    @DisplayName("설정된 스트림을 combined stream URL로 구독하고, 연결 중 추가한 스트림은 SUBSCRIBE 요청으로 보낸다.")
+    @Test
+    void subscribe() throws Exception {
+        // given
+        client.start();
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+        awaitConnected();
+
+        // when
+        client.subscribe(BinanceStreamChannel.TRADE, "ethusdt");
+
+        // then
+        assertThat(server.requestPath()).isEqualTo("/stream?streams=btcusdt@bookTicker/btcusdt@depth@100ms");
+        assertThat(server.takeMessage(TIMEOUT))
+            .isEqualTo("{\"method\":\"SUBSCRIBE\",\"params\":[\"ethusdt@trade\"],\"id\":1}");
+    }
+
+    @DisplayName("스냅샷과 변경 이벤트로 호가창을 재구성하고, 이벤트가 누락되면 다시 동기화한다.")
+    @Test
+    void depthBook() throws Exception {
+        // given
+        snapshot.set(BinanceStreamMessageHandlerTest.snapshot(104, "[[\"100.0\",\"1\"]]", "[[\"101.0\",\"1\"]]"));
+        client.start();
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+
+        // when
+        server.send(BinanceStreamMessageHandlerTest.depth(101, 105, "[[\"100.5\",\"3\"]]", "[]"));
+        Long synced = syncedUpdates.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        server.send(BinanceStreamMessageHandlerTest.depth(106, 107, "[]", "[[\"100.9\",\"2\"]]"));
+        Long applied = syncedUpdates.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        snapshot.set(BinanceStreamMessageHandlerTest.snapshot(130, "[[\"99.0\",\"1\"]]", "[[\"99.5\",\"1\"]]"));
+        server.send(BinanceStreamMessageHandlerTest.depth(120, 131, "[]", "[]"));
+        Long resynced = syncedUpdates.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(synced).isEqualTo(105L);
+        assertThat(applied).isEqualTo(107L);
+        assertThat(resynced).isEqualTo(131L);
+        BinanceDepthBook book = client.getDepthBook("btcusdt");
+        assertThat(book.isSynced()).isTrue();
+        assertThat(book.getBestBidPrice()).isEqualTo(9900000000L);
+        assertThat(book.getBestAskPrice()).isEqualTo(9950000000L);
+    }
+
+    @DisplayName("서버가 연결을 종료하면 호가창 동기화를 해제하고 재연결한다.")
+    @Test
+    void reconnect() throws Exception {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        client.bindTo(registry);
+        snapshot.set(BinanceStreamMessageHandlerTest.snapshot(104, "[[\"100.0\",\"1\"]]", "[]"));
+        client.start();
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+        server.send(BinanceStreamMessageHandlerTest.depth(101, 105, "[]", "[]"));
+        assertThat(syncedUpdates.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isEqualTo(105L);
+
+        // when
+        server.closeConnection(1001);
+
+        // then
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+        assertThat(client.getDepthBook(SYMBOL).isSynced()).isFalse();
+        assertThat(registry.get("binance.stream.reconnects").functionCounter().count()).isGreaterThanOrEqualTo(1.0);
+
+        snapshot.set(BinanceStreamMessageHandlerTest.snapshot(200, "[[\"100.0\",\"1\"]]", "[]"));
+        server.send(BinanceStreamMessageHandlerTest.depth(195, 201, "[]", "[]"));
+        assertThat(syncedUpdates.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isEqualTo(201L);
+        assertThat(registry.get("binance.stream.depth.snapshots").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    private void awaitConnected() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!client.isConnected()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("client did not connect");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
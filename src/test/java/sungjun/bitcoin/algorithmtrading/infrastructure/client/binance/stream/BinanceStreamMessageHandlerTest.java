@@ -0,0 +1,224 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinanceStreamMessageHandlerTest {
+
+    private static final String SYMBOL = "BTCUSDT";
+
+    private final Queue<String> snapshots = new ArrayDeque<>();
+    private final Queue<Runnable> snapshotTasks = new ArrayDeque<>();
+    private final AtomicInteger snapshotRequests = new AtomicInteger();
+    private final BinanceStreamMessageHandler handler = new BinanceStreamMessageHandler(new JsonFactory(), symbol -> {
+        snapshotRequests.incrementAndGet();
+        return snapshots.remove().getBytes(StandardCharsets.UTF_8);
+    }, snapshotTasks::add, Duration.ZERO);
+
+    @DisplayName("스냅샷 이전 이벤트는 버리고, 버퍼의 나머지 이벤트를 적용해 호가창을 동기화한다.")
+    @Test
+    void syncFromSnapshot() {
+        // given
+        snapshots.add(snapshot(104, "[[\"100.0\",\"1\"],[\"99.0\",\"2\"]]", "[[\"101.0\",\"1\"]]"));
+        List<Long> bestBids = new ArrayList<>();
+        handler.addListener(new BinanceStreamListener() {
+            @Override
+            public void onDepth(BinanceDepthBook depthBook) {
+                bestBids.add(depthBook.getBestBidPrice());
+            }
+        });
+        handle(depth(90, 100, "[[\"50.0\",\"1\"]]", "[]"));
+        handle(depth(101, 105, "[[\"100.5\",\"3\"]]", "[]"));
+        handle(depth(106, 110, "[[\"100.0\",\"0\"]]", "[[\"101.0\",\"0\"],[\"102.0\",\"4\"]]"));
+
+        // when
+        runSnapshotTasks();
+
+        // then
+        BinanceDepthBook book = handler.getDepthBook(SYMBOL);
+        assertThat(book.isSynced()).isTrue();
+        assertThat(book.getLastUpdateId()).isEqualTo(110L);
+        assertThat(book.getBestBidPrice()).isEqualTo(10050000000L);
+        assertThat(book.getBidQuantity(10000000000L)).isZero();
+        assertThat(book.getBidQuantity(5000000000L)).isZero();
+        assertThat(book.getBidLevels()).isEqualTo(2);
+        assertThat(book.getBestAskPrice()).isEqualTo(10200000000L);
+        assertThat(bestBids).containsExactly(10050000000L);
+        assertThat(snapshotRequests).hasValue(1);
+        assertThat(handler.getSnapshotCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("동기화된 뒤에는 이어지는 이벤트만 적용하고, 이미 반영된 이벤트는 무시한다.")
+    @Test
+    void applyInSequence() {
+        // given
+        syncAt(104);
+
+        // when
+        handle(depth(100, 104, "[[\"1.0\",\"1\"]]", "[]"));
+        handle(depth(105, 107, "[[\"100.5\",\"3\"]]", "[]"));
+        handle(depth(108, 108, "[]", "[[\"100.8\",\"1\"]]"));
+
+        // then
+        BinanceDepthBook book = handler.getDepthBook(SYMBOL);
+        assertThat(book.getLastUpdateId()).isEqualTo(108L);
+        assertThat(book.getBestBidPrice()).isEqualTo(10050000000L);
+        assertThat(book.getBestAskPrice()).isEqualTo(10080000000L);
+        assertThat(book.getBidQuantity(100000000L)).isZero();
+        assertThat(handler.getGapCount()).isZero();
+    }
+
+    @DisplayName("update id가 끊기면 동기화를 해제하고 새 스냅샷으로 다시 동기화한다.")
+    @Test
+    void resyncOnGap() {
+        // given
+        syncAt(104);
+        snapshots.add(snapshot(120, "[[\"90.0\",\"1\"]]", "[[\"91.0\",\"1\"]]"));
+
+        // when
+        handle(depth(110, 115, "[[\"100.5\",\"3\"]]", "[]"));
+        BinanceDepthBook book = handler.getDepthBook(SYMBOL);
+        boolean syncedAfterGap = book.isSynced();
+        handle(depth(116, 121, "[[\"90.5\",\"2\"]]", "[]"));
+        runSnapshotTasks();
+
+        // then
+        assertThat(syncedAfterGap).isFalse();
+        assertThat(handler.getGapCount()).isEqualTo(1L);
+        assertThat(book.isSynced()).isTrue();
+        assertThat(book.getLastUpdateId()).isEqualTo(121L);
+        assertThat(book.getBestBidPrice()).isEqualTo(9050000000L);
+        assertThat(book.getBidQuantity(10050000000L)).isZero();
+    }
+
+    @DisplayName("스냅샷이 버퍼의 첫 이벤트보다 오래되었으면 스냅샷을 다시 요청한다.")
+    @Test
+    void retryStaleSnapshot() {
+        // given
+        snapshots.add(snapshot(100, "[[\"100.0\",\"1\"]]", "[]"));
+        snapshots.add(snapshot(205, "[[\"100.0\",\"2\"]]", "[]"));
+        handle(depth(200, 210, "[[\"100.5\",\"1\"]]", "[]"));
+
+        // when
+        runSnapshotTasks();
+
+        // then
+        BinanceDepthBook book = handler.getDepthBook(SYMBOL);
+        assertThat(snapshotRequests).hasValue(2);
+        assertThat(book.isSynced()).isTrue();
+        assertThat(book.getLastUpdateId()).isEqualTo(210L);
+        assertThat(book.getBidQuantity(10000000000L)).isEqualTo(200000000L);
+    }
+
+    @DisplayName("연결이 끊기면 동기화를 해제하고, 끊기기 전에 요청한 스냅샷은 적용하지 않는다.")
+    @Test
+    void disconnected() {
+        // given
+        snapshots.add(snapshot(104, "[[\"100.0\",\"1\"]]", "[]"));
+        handle(depth(101, 105, "[[\"100.5\",\"3\"]]", "[]"));
+
+        // when
+        handler.disconnected();
+        runSnapshotTasks();
+
+        // then
+        BinanceDepthBook book = handler.getDepthBook(SYMBOL);
+        assertThat(book.isSynced()).isFalse();
+        assertThat(book.getBidLevels()).isZero();
+    }
+
+    @DisplayName("스냅샷 요청이 실패하면 재시도 대기 후 다음 이벤트에서 다시 요청한다.")
+    @Test
+    void snapshotFailure() {
+        // given
+        handle(depth(101, 105, "[]", "[]"));
+
+        // when
+        runSnapshotTasks();
+        snapshots.add(snapshot(104, "[[\"100.0\",\"1\"]]", "[]"));
+        handle(depth(106, 106, "[]", "[]"));
+        runSnapshotTasks();
+
+        // then
+        assertThat(handler.getSnapshotFailureCount()).isEqualTo(1L);
+        assertThat(handler.getDepthBook(SYMBOL).isSynced()).isTrue();
+        assertThat(handler.getDepthBook(SYMBOL).getLastUpdateId()).isEqualTo(106L);
+    }
+
+    @DisplayName("bookTicker와 trade 스트림을 고정소수점 값으로 전달하고, 오류 응답을 집계한다.")
+    @Test
+    void bookTickerAndTrade() {
+        // given
+        List<BinanceBookTicker> tickers = new ArrayList<>();
+        List<BinanceTrade> trades = new ArrayList<>();
+        handler.addListener(new BinanceStreamListener() {
+            @Override
+            public void onBookTicker(BinanceBookTicker ticker) {
+                tickers.add(ticker);
+            }
+
+            @Override
+            public void onTrade(BinanceTrade trade) {
+                trades.add(trade);
+            }
+        });
+
+        // when
+        handle("""
+            {"stream":"btcusdt@bookTicker","data":{"u":400900217,"s":"BTCUSDT","b":"43250.01000000",
+             "B":"1.50000000","a":"43250.02000000","A":"0.00100000"}}
+            """);
+        handle("""
+            {"stream":"btcusdt@trade","data":{"e":"trade","E":1701423425001,"s":"BTCUSDT","t":12345,
+             "p":"43250.01000000","q":"0.02000000","T":1701423425000,"m":true,"M":true}}
+            """);
+        handle("{\"result\":null,\"id\":1}");
+        handle("{\"error\":{\"code\":2,\"msg\":\"Invalid request\"},\"id\":2}");
+
+        // then
+        assertThat(tickers).containsExactly(new BinanceBookTicker(SYMBOL, 400900217L,
+            4325001000000L, 150000000L, 4325002000000L, 100000L));
+        assertThat(trades).containsExactly(new BinanceTrade(SYMBOL, 12345L, 1701423425000L,
+            4325001000000L, 2000000L, true));
+        assertThat(handler.getErrorCount()).isEqualTo(1L);
+    }
+
+    private void syncAt(long lastUpdateId) {
+        snapshots.add(snapshot(lastUpdateId, "[[\"100.0\",\"1\"]]", "[[\"101.0\",\"1\"]]"));
+        handle(depth(lastUpdateId, lastUpdateId, "[]", "[]"));
+        runSnapshotTasks();
+        assertThat(handler.getDepthBook(SYMBOL).isSynced()).isTrue();
+    }
+
+    private void runSnapshotTasks() {
+        for (Runnable task = snapshotTasks.poll(); task != null; task = snapshotTasks.poll()) {
+            task.run();
+        }
+    }
+
+    private void handle(String message) {
+        handler.handle(message.toCharArray(), message.length());
+    }
+
+    static String depth(long firstUpdateId, long finalUpdateId, String bids, String asks) {
+        return """
+            {"stream":"btcusdt@depth@100ms","data":{"e":"depthUpdate","E":1701423425000,"s":"BTCUSDT",
+             "U":%d,"u":%d,"b":%s,"a":%s}}
+            """.formatted(firstUpdateId, finalUpdateId, bids, asks);
+    }
+
+    static String snapshot(long lastUpdateId, String bids, String asks) {
+        return "{\"lastUpdateId\":%d,\"bids\":%s,\"asks\":%s}".formatted(lastUpdateId, bids, asks);
+    }
+}
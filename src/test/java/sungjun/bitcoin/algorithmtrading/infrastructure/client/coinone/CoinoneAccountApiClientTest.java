@@ -10,7 +10,6 @@ import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.C
 import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties;
 
 import java.util.List;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -26,12 +25,10 @@ class CoinoneAccountApiClientTest extends IntegrationClientTestSupport {
     @Test
     void getAccounts() {
         // given
-        String nonce = UUID.randomUUID().toString();
         String accessToken = coinoneProperties.getAccessToken();
 
         CoinoneAccountRequest payload = CoinoneAccountRequest.builder()
             .accessToken(accessToken)
-            .nonce(nonce)
             .build();
 
         // when
@@ -45,13 +42,11 @@ class CoinoneAccountApiClientTest extends IntegrationClientTestSupport {
     @Test
     void getAccount() {
         // given
-        String nonce = UUID.randomUUID().toString();
         String accessToken = coinoneProperties.getAccessToken();
         List<String> currencies = List.of("BTC");
 
         CoinoneAccountRequest payload = CoinoneAccountRequest.builder()
             .accessToken(accessToken)
-            .nonce(nonce)
             .currencies(currencies)
             .build();
 
@@ -13,7 +13,6 @@ import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request.Co
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneOrderApiResponse;
 
 import java.math.BigDecimal;
-import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,7 +35,6 @@ class CoinoneOrderApiClientTest extends IntegrationClientTestSupport {
     void marketSellOrder() {
         // given
         String accessToken = coinoneProperties.getAccessToken();
-        String nonce = UUID.randomUUID().toString();
         OrderSide side = OrderSide.SELL;
         String quoteCurrency = "KRW";
         String targetCurrency = "BTC";
@@ -44,7 +42,6 @@ class CoinoneOrderApiClientTest extends IntegrationClientTestSupport {
 
 
         CoinoneOrderRequest limitOrderRequest = CoinoneOrderRequest.createMarketSellOrder(accessToken,
-            nonce,
             side,
             quoteCurrency,
             targetCurrency,
@@ -65,14 +62,12 @@ class CoinoneOrderApiClientTest extends IntegrationClientTestSupport {
     void limitSellOrder() {
         // given
         String accessToken = coinoneProperties.getAccessToken();
-        String nonce = UUID.randomUUID().toString();
         OrderSide side = OrderSide.SELL;
         String quoteCurrency = "KRW";
         String targetCurrency = "BTC";
         String price = String.valueOf(146530000);
         String qty = new BigDecimal("0.01055689").toString();
         CoinoneOrderRequest limitOrderRequest = CoinoneOrderRequest.createLimitOrder(accessToken,
-            nonce,
             side,
             quoteCurrency,
             targetCurrency,
@@ -93,14 +88,12 @@ class CoinoneOrderApiClientTest extends IntegrationClientTestSupport {
     void marketBuyOrder() {
         // given
         String accessToken = coinoneProperties.getAccessToken();
-        String nonce = UUID.randomUUID().toString();
         OrderSide side = OrderSide.BUY;
         String quoteCurrency = "KRW";
         String targetCurrency = "TRX";
         String amount = "1996002";
 
         CoinoneOrderRequest limitOrderRequest = CoinoneOrderRequest.createMarketBuyOrder(accessToken,
-            nonce,
             side,
             quoteCurrency,
             targetCurrency,
@@ -120,7 +113,6 @@ class CoinoneOrderApiClientTest extends IntegrationClientTestSupport {
     void limitBuyOrder() {
         // given
         String accessToken = coinoneProperties.getAccessToken();
-        String nonce = UUID.randomUUID().toString();
         OrderSide side = OrderSide.BUY;
         String quoteCurrency = "KRW";
         String targetCurrency = "TRX";
@@ -128,7 +120,6 @@ class CoinoneOrderApiClientTest extends IntegrationClientTestSupport {
         String qty = "2864.98194143";
 
         CoinoneOrderRequest limitOrderRequest = CoinoneOrderRequest.createLimitOrder(accessToken,
-            nonce,
             side,
             quoteCurrency,
             targetCurrency,
@@ -146,7 +137,6 @@ class CoinoneOrderApiClientTest extends IntegrationClientTestSupport {
     private CoinoneOrderCancelRequest createOrderCancelRequest() {
         return CoinoneOrderCancelRequest.builder()
             .accessToken(coinoneProperties.getAccessToken())
-            .nonce(UUID.randomUUID().toString())
             .quoteCurrency("KRW")
             .targetCurrency("BTC")
             .build();
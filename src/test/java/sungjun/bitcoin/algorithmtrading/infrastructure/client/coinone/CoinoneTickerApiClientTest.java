@@ -28,4 +28,18 @@ class CoinoneTickerApiClientTest extends IntegrationClientTestSupport {
         assertThat(ticker.getResult()).isEqualTo("success");
     }
 
+    @DisplayName("기준 통화의 전체 ticker 정보를 한 번에 조회한다.")
+    @Test
+    void getTickers() {
+        // given
+        String quoteCurrency = "KRW";
+
+        // when
+        CoinoneTickerApiResponse tickers = coinoneTickerApiClient.getTickers(quoteCurrency);
+
+        // then
+        assertThat(tickers.getResult()).isEqualTo("success");
+        assertThat(tickers.getTickers()).hasSizeGreaterThan(1);
+    }
+
 }
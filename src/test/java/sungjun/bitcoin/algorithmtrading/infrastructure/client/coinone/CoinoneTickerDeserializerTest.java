@@ -0,0 +1,102 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneTickerApiResponse;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoinoneTickerDeserializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @DisplayName("시세 응답의 가격과 수량을 고정소수점 값으로 역직렬화한다.")
+    @Test
+    void deserializeTickerResponse() throws Exception {
+        // given
+        String json = """
+            {"result":"success","error_code":"0","server_time":1701423425123,"tickers":[{
+              "quote_currency":"KRW","target_currency":"BTC","timestamp":1701423425000,
+              "high":"53000000.0","low":"52000000.0","first":"52500000.0","last":"52800000.0",
+              "quote_volume":"12345678901.1234","target_volume":"234.5678",
+              "best_asks":[{"price":"52810000.0","qty":"0.1234"},{"price":"52820000.0","qty":"1.5"}],
+              "best_bids":[{"price":"52800000.0","qty":"0.5"}],
+              "id":"1701423425000001"}]}
+            """;
+
+        // when
+        CoinoneTickerApiResponse response = mapper.readValue(json, CoinoneTickerApiResponse.class);
+
+        // then
+        CoinoneTicker ticker = response.getTickers().getFirst();
+        assertThat(ticker.getQuoteCurrency()).isEqualTo("KRW");
+        assertThat(ticker.getTargetCurrency()).isEqualTo("BTC");
+        assertThat(ticker.getTimestamp()).isEqualTo(1701423425000L);
+        assertThat(ticker.getLast()).isEqualTo(5280000000000000L);
+        assertThat(ticker.getHigh()).isEqualTo(5300000000000000L);
+        assertThat(ticker.getQuoteVolume()).isEqualTo(123456789011234L);
+        assertThat(ticker.getTargetVolume()).isEqualTo(2345678L);
+        assertThat(ticker.getAskLevels()).isEqualTo(2);
+        assertThat(ticker.getBestAskPrice(1)).isEqualTo(5282000000000000L);
+        assertThat(ticker.getBestAskQuantity(0)).isEqualTo(12340000L);
+        assertThat(ticker.getBidLevels()).isEqualTo(1);
+        assertThat(ticker.getBestBidQuantity(0)).isEqualTo(50000000L);
+        assertThat(ticker.getId()).isEqualTo("1701423425000001");
+    }
+
+    @DisplayName("BigDecimal 변환 메서드는 원래 10진수 값을 돌려준다.")
+    @Test
+    void convertToDecimal() throws Exception {
+        // given
+        String json = """
+            {"last":"52800000.5","quote_volume":"12345678901.1234","best_bids":[{"price":"0.00001234","qty":"10"}]}
+            """;
+
+        // when
+        CoinoneTicker ticker = mapper.readValue(json, CoinoneTicker.class);
+
+        // then
+        assertThat(ticker.getLastDecimal()).isEqualByComparingTo("52800000.5");
+        assertThat(ticker.getQuoteVolumeDecimal()).isEqualByComparingTo("12345678901.1234");
+        assertThat(CoinoneTicker.toPriceDecimal(ticker.getBestBidPrice(0))).isEqualTo(new BigDecimal("0.00001234"));
+    }
+
+    @DisplayName("숫자 토큰과 알 수 없는 필드를 처리하고, null과 빈 문자열은 값 없음으로 읽는다.")
+    @Test
+    void deserializeLenientValues() throws Exception {
+        // given
+        String json = """
+            {"high":53000000,"low":52000000.25,"first":null,"last":"","best_asks":null,
+             "unknown":{"nested":[1,2,3]},"best_bids":[]}
+            """;
+
+        // when
+        CoinoneTicker ticker = mapper.readValue(json, CoinoneTicker.class);
+
+        // then
+        assertThat(ticker.getHigh()).isEqualTo(5300000000000000L);
+        assertThat(ticker.getLow()).isEqualTo(5200000025000000L);
+        assertThat(ticker.getFirst()).isEqualTo(FixedPoint.MISSING);
+        assertThat(ticker.getLast()).isEqualTo(FixedPoint.MISSING);
+        assertThat(ticker.getLastDecimal()).isNull();
+        assertThat(ticker.getAskLevels()).isZero();
+        assertThat(ticker.getBidLevels()).isZero();
+    }
+
+    @DisplayName("숫자가 아닌 가격은 역직렬화에 실패한다.")
+    @Test
+    void rejectInvalidPrice() {
+        assertThatThrownBy(() -> mapper.readValue("{\"last\":\"N/A\"}", CoinoneTicker.class))
+            .isInstanceOf(JsonParseException.class);
+    }
+}
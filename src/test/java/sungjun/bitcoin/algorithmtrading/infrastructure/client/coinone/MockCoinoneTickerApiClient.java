@@ -2,6 +2,7 @@ package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone;
 
 import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.response.CoinoneTickerApiResponse;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,6 +16,17 @@ public class MockCoinoneTickerApiClient implements CoinoneTickerApiClient {
             .build();
     }
 
+    @Override
+    public CoinoneTickerApiResponse getTickers(String quoteCurrency) {
+        return getTicker(quoteCurrency, "btc");
+    }
+
+    @Override
+    public byte[] getTickersBody(String quoteCurrency) {
+        return ("{\"result\":\"success\",\"tickers\":[{\"quote_currency\":\"" + quoteCurrency
+            + "\",\"target_currency\":\"btc\"}]}").getBytes(StandardCharsets.UTF_8);
+    }
+
     private List<CoinoneTicker> createTicker() {
         CoinoneTicker ticker = CoinoneTicker.builder()
             .quoteCurrency("krw")
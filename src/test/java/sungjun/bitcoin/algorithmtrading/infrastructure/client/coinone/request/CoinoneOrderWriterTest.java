@@ -0,0 +1,116 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.request;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoinoneOrderWriterTest {
+
+    private static final String NONCE = "6f8b3c2e-1d4a-4b7e-9c0f-2a5d8e1b3c4f";
+
+    private final CoinoneOrderTemplate template = CoinoneOrderTemplate.limitOrder("access-token", "KRW", "BTC");
+
+    @DisplayName("템플릿으로 만든 본문은 CoinoneOrderRequest를 Jackson으로 직렬화하고 nonce를 채운 JSON과 같은 필드와 값을 가진다.")
+    @Test
+    void renderSameAsJackson() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        CoinoneOrderRequest request = CoinoneOrderRequest.createLimitOrder(
+            "access-token", OrderSide.SELL, "KRW", "BTC", "52800000.5", "0.0015", true);
+
+        // when
+        byte[] body = new CoinoneOrderWriter()
+            .render(template, NONCE, OrderSide.SELL, 5280000050000000L, 150000L, 8, true)
+            .toByteArray();
+
+        // then
+        assertThat(objectMapper.readTree(body)).isEqualTo(withNonce(objectMapper.valueToTree(request)));
+    }
+
+    @DisplayName("사용자 지정 주문 ID를 붙인 본문도 Jackson으로 직렬화하고 nonce를 채운 JSON과 같은 필드와 값을 가진다.")
+    @Test
+    void renderUserOrderIdSameAsJackson() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        CoinoneOrderRequest request = CoinoneOrderRequest.createLimitOrder(
+            "access-token", OrderSide.BUY, "KRW", "BTC", "52800000", "0.001", false, "lxk3a9f2-42");
+
+        // when
+        byte[] body = new CoinoneOrderWriter()
+            .render(template, NONCE, "lxk3a9f2-42", OrderSide.BUY, 5280000000000000L, 100000L, 8, false)
+            .toByteArray();
+
+        // then
+        assertThat(objectMapper.readTree(body)).isEqualTo(withNonce(objectMapper.valueToTree(request)));
+    }
+
+    @DisplayName("전체 주문 취소 본문은 주문 ID 없는 CoinoneOrderCancelRequest를 Jackson으로 직렬화하고 nonce를 채운 JSON과 같다.")
+    @Test
+    void renderCancelAllSameAsJackson() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        CoinoneOrderCancelRequest request = CoinoneOrderCancelRequest.builder()
+            .accessToken("access-token")
+            .quoteCurrency("KRW")
+            .targetCurrency("BTC")
+            .build();
+
+        // when
+        byte[] body = new CoinoneOrderWriter()
+            .render(template, NONCE, OrderSide.SELL, 5280000050000000L, 150000L, 8, true)
+            .renderCancelAll(template, NONCE)
+            .toByteArray();
+
+        // then
+        assertThat(objectMapper.readTree(body)).isEqualTo(withNonce(objectMapper.valueToTree(request)));
+    }
+
+    @DisplayName("payload와 서명 헤더는 인증 인터셉터와 같은 방식으로 본문을 Base64 인코딩하고 서명한 값이다.")
+    @Test
+    void signLikeAuthenticationInterceptor() {
+        // given
+        HmacSigner signer = new HmacSigner("secret-key", "HmacSHA512");
+        CoinoneOrderWriter writer = new CoinoneOrderWriter();
+
+        // when
+        writer.render(template, NONCE, OrderSide.BUY, 5280000000000000L, 100000L, 8, false).sign(signer);
+
+        // then
+        String payload = Base64.getEncoder().encodeToString(writer.toByteArray());
+        assertThat(writer.payloadHeader()).isEqualTo(payload);
+        assertThat(writer.signatureHeader()).isEqualTo(signer.sign(payload));
+    }
+
+    @DisplayName("버퍼를 재사용해도 이전 주문의 내용이 남지 않는다.")
+    @Test
+    void reuseWithoutLeftovers() {
+        // given
+        HmacSigner signer = new HmacSigner("secret-key", "HmacSHA512");
+        CoinoneOrderWriter writer = new CoinoneOrderWriter();
+        writer.render(template, NONCE, OrderSide.SELL, 123456789012345678L, 123456789012345678L, 8, true).sign(signer);
+
+        // when
+        writer.render(template, NONCE, OrderSide.BUY, 100000000L, 1L, 8, false).sign(signer);
+
+        // then
+        String body = new String(writer.toByteArray(), StandardCharsets.US_ASCII);
+        assertThat(body).endsWith("\"side\":\"BUY\",\"quote_currency\":\"KRW\",\"target_currency\":\"BTC\","
+            + "\"type\":\"LIMIT\",\"price\":\"1\",\"qty\":\"0.00000001\",\"post_only\":false}");
+        assertThat(writer.payloadHeader()).isEqualTo(Base64.getEncoder().encodeToString(writer.toByteArray()));
+    }
+
+    /**
+     * 인증 인터셉터가 전송 직전에 채우는 nonce를 요청 DTO의 직렬화 결과에 더합니다.
+     */
+    private static ObjectNode withNonce(ObjectNode request) {
+        return request.put("nonce", NONCE);
+    }
+}
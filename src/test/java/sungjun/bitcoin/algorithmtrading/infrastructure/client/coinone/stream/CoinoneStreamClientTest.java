@@ -0,0 +1,142 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.WebSocketStubServer;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneStreamProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoinoneStreamClientTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final CurrencyPair KRW_BTC = CurrencyPair.of("KRW", "BTC");
+    private static final String PING = "{\"request_type\":\"PING\"}";
+
+    private WebSocketStubServer server;
+    private CoinoneStreamClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new WebSocketStubServer();
+        client = new CoinoneStreamClient(new CoinoneStreamProperties(true, server.uri().toString(),
+            List.of("KRW/BTC"), List.of(CoinoneStreamChannel.ORDERBOOK),
+            Duration.ofMillis(100), Duration.ofSeconds(30), Duration.ofMillis(50), Duration.ofMillis(200),
+            Duration.ofSeconds(3)), new JsonFactory());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.stop();
+        server.close();
+    }
+
+    @DisplayName("연결되면 설정된 구독을 요청하고, 이후 추가한 구독은 즉시 요청한다.")
+    @Test
+    void subscribe() throws Exception {
+        // given
+        client.start();
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+
+        // when
+        String configured = takeRequest();
+        client.subscribe(CoinoneStreamChannel.TRADE, CurrencyPair.of("krw", "eth"));
+
+        // then
+        assertThat(configured).isEqualTo("{\"request_type\":\"SUBSCRIBE\",\"channel\":\"ORDERBOOK\","
+            + "\"topic\":{\"quote_currency\":\"KRW\",\"target_currency\":\"BTC\"}}");
+        assertThat(takeRequest()).isEqualTo("{\"request_type\":\"SUBSCRIBE\",\"channel\":\"TRADE\","
+            + "\"topic\":{\"quote_currency\":\"KRW\",\"target_currency\":\"ETH\"}}");
+    }
+
+    @DisplayName("수신한 호가 메시지로 로컬 호가창을 갱신한다.")
+    @Test
+    void replay() throws Exception {
+        // given
+        BlockingQueue<Long> bestBids = new LinkedBlockingQueue<>();
+        client.addListener(new CoinoneStreamListener() {
+            @Override
+            public void onOrderBook(CoinoneOrderBook orderBook) {
+                bestBids.add(orderBook.getBestBidPrice());
+            }
+        });
+        client.start();
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+        takeRequest();
+
+        // when
+        server.send(CoinoneStreamMessageHandlerTest.orderBook(1, "52800000", "52810000"));
+        server.send(CoinoneStreamMessageHandlerTest.orderBook(2, "52790000", "52800000"));
+
+        // then
+        assertThat(bestBids.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isEqualTo(5280000000000000L);
+        assertThat(bestBids.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isEqualTo(5279000000000000L);
+        assertThat(client.getOrderBook(KRW_BTC).getBestAskPrice()).isEqualTo(5280000000000000L);
+    }
+
+    @DisplayName("연결이 끊기면 호가창을 stale로 표시하고, 재연결 후 구독을 다시 요청한다.")
+    @Test
+    void reconnect() throws Exception {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        client.bindTo(registry);
+        BlockingQueue<Boolean> disconnects = new LinkedBlockingQueue<>();
+        client.addListener(new CoinoneStreamListener() {
+            @Override
+            public void onDisconnected() {
+                disconnects.add(Boolean.TRUE);
+            }
+        });
+        client.start();
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+        takeRequest();
+        server.send(CoinoneStreamMessageHandlerTest.orderBook(1, "52800000", "52810000"));
+        awaitUpdates(1);
+
+        // when
+        server.dropConnection();
+
+        // then
+        assertThat(disconnects.poll(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+        assertThat(client.getOrderBook(KRW_BTC).isStale()).isTrue();
+        assertThat(server.awaitConnection(TIMEOUT)).isTrue();
+        assertThat(takeRequest()).contains("\"channel\":\"ORDERBOOK\"");
+        assertThat(registry.get("coinone.stream.reconnects").functionCounter().count()).isGreaterThanOrEqualTo(1.0);
+
+        server.send(CoinoneStreamMessageHandlerTest.orderBook(1, "52700000", "52710000"));
+        awaitUpdates(2);
+        assertThat(client.getOrderBook(KRW_BTC).isStale()).isFalse();
+        assertThat(registry.get("coinone.stream.connected").gauge().value()).isEqualTo(1.0);
+    }
+
+    private String takeRequest() throws InterruptedException {
+        String message = server.takeMessage(TIMEOUT);
+        while (PING.equals(message)) {
+            message = server.takeMessage(TIMEOUT);
+        }
+        return message;
+    }
+
+    private void awaitUpdates(long updates) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            CoinoneOrderBook orderBook = client.getOrderBook(KRW_BTC);
+            if (orderBook != null && orderBook.getUpdates() >= updates) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("order book was not updated " + updates + " times");
+    }
+}
@@ -0,0 +1,168 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoinoneStreamMessageHandlerTest {
+
+    private static final CurrencyPair KRW_BTC = CurrencyPair.of("KRW", "BTC");
+
+    private final CoinoneStreamMessageHandler handler = new CoinoneStreamMessageHandler(new JsonFactory());
+
+    @DisplayName("ORDERBOOK 메시지로 호가창을 만들고 이후 메시지로 제자리에서 갱신한다.")
+    @Test
+    void orderBook() {
+        // given
+        List<Long> bestBids = new ArrayList<>();
+        handler.addListener(new CoinoneStreamListener() {
+            @Override
+            public void onOrderBook(CoinoneOrderBook orderBook) {
+                bestBids.add(orderBook.getBestBidPrice());
+            }
+        });
+
+        // when
+        handle(orderBook(1, "52800000", "52810000"));
+        handle(orderBook(2, "52790000", "52805000"));
+
+        // then
+        CoinoneOrderBook orderBook = handler.getOrderBook(KRW_BTC);
+        assertThat(bestBids).containsExactly(5280000000000000L, 5279000000000000L);
+        assertThat(orderBook.getBestAskPrice()).isEqualTo(5280500000000000L);
+        assertThat(orderBook.getBidLevels()).isEqualTo(2);
+        assertThat(orderBook.getBidQuantity(1)).isEqualTo(150000000L);
+        assertThat(orderBook.getLastId()).isEqualTo(2L);
+        assertThat(orderBook.getUpdates()).isEqualTo(2L);
+        assertThat(orderBook.isStale()).isFalse();
+    }
+
+    @DisplayName("id가 이전보다 크지 않은 ORDERBOOK 메시지는 적용하지 않는다.")
+    @Test
+    void outOfOrder() {
+        // given
+        handle(orderBook(5, "52800000", "52810000"));
+
+        // when
+        handle(orderBook(4, "1", "2"));
+        handle(orderBook(5, "1", "2"));
+
+        // then
+        CoinoneOrderBook orderBook = handler.getOrderBook(KRW_BTC);
+        assertThat(orderBook.getBestBidPrice()).isEqualTo(5280000000000000L);
+        assertThat(orderBook.getUpdates()).isEqualTo(1L);
+        assertThat(handler.getOutOfOrderCount()).isEqualTo(2L);
+    }
+
+    @DisplayName("연결이 끊기면 호가창이 stale이 되고, 재연결 후 첫 스냅샷은 id와 관계없이 적용한다.")
+    @Test
+    void disconnected() {
+        // given
+        handle(orderBook(100, "52800000", "52810000"));
+        int[] disconnects = new int[1];
+        handler.addListener(new CoinoneStreamListener() {
+            @Override
+            public void onDisconnected() {
+                disconnects[0]++;
+            }
+        });
+
+        // when
+        handler.disconnected();
+        CoinoneOrderBook orderBook = handler.getOrderBook(KRW_BTC);
+        boolean staleAfterDisconnect = orderBook.isStale();
+        handle(orderBook(1, "52700000", "52710000"));
+
+        // then
+        assertThat(staleAfterDisconnect).isTrue();
+        assertThat(disconnects[0]).isEqualTo(1);
+        assertThat(orderBook.isStale()).isFalse();
+        assertThat(orderBook.getBestBidPrice()).isEqualTo(5270000000000000L);
+    }
+
+    @DisplayName("TICKER와 TRADE 메시지를 고정소수점 값으로 전달한다.")
+    @Test
+    void tickerAndTrade() {
+        // given
+        List<CoinoneStreamTicker> tickers = new ArrayList<>();
+        List<CoinoneStreamTrade> trades = new ArrayList<>();
+        handler.addListener(new CoinoneStreamListener() {
+            @Override
+            public void onTicker(CoinoneStreamTicker ticker) {
+                tickers.add(ticker);
+            }
+
+            @Override
+            public void onTrade(CoinoneStreamTrade trade) {
+                trades.add(trade);
+            }
+        });
+
+        // when
+        handle("""
+            {"response_type":"DATA","channel":"TICKER","data":{"quote_currency":"KRW","target_currency":"BTC",
+             "timestamp":1701423425000,"last":"52800000","ask_best_price":"52810000","ask_best_qty":"0.12",
+             "bid_best_price":"52800000","bid_best_qty":"0.5","high":"53000000"}}
+            """);
+        handle("""
+            {"response_type":"DATA","channel":"TRADE","data":{"quote_currency":"KRW","target_currency":"BTC",
+             "id":"1701423425000001","timestamp":1701423425001,"price":"52805000","qty":"0.0001",
+             "is_seller_maker":true}}
+            """);
+
+        // then
+        assertThat(tickers).containsExactly(new CoinoneStreamTicker(KRW_BTC, 1701423425000L,
+            5280000000000000L, 5280000000000000L, 50000000L, 5281000000000000L, 12000000L));
+        assertThat(trades).containsExactly(new CoinoneStreamTrade(KRW_BTC, "1701423425000001", 1701423425001L,
+            5280500000000000L, 10000L, true));
+    }
+
+    @DisplayName("ERROR 응답과 해석할 수 없는 메시지는 오류로 집계하고, 리스너 예외는 다른 리스너에 영향을 주지 않는다.")
+    @Test
+    void errors() {
+        // given
+        int[] received = new int[1];
+        handler.addListener(new CoinoneStreamListener() {
+            @Override
+            public void onOrderBook(CoinoneOrderBook orderBook) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        handler.addListener(new CoinoneStreamListener() {
+            @Override
+            public void onOrderBook(CoinoneOrderBook orderBook) {
+                received[0]++;
+            }
+        });
+
+        // when
+        handle("{\"response_type\":\"ERROR\",\"error_code\":160012,\"message\":\"Invalid Topic\"}");
+        handle("{\"response_type\":\"DATA\",");
+        handle("{\"response_type\":\"PONG\"}");
+        handle(orderBook(1, "52800000", "52810000"));
+
+        // then
+        assertThat(handler.getErrorCount()).isEqualTo(2L);
+        assertThat(handler.getMessageCount()).isEqualTo(4L);
+        assertThat(received[0]).isEqualTo(1);
+    }
+
+    private void handle(String message) {
+        handler.handle(message.toCharArray(), message.length());
+    }
+
+    static String orderBook(long id, String bestBid, String bestAsk) {
+        return """
+            {"response_type":"DATA","channel":"ORDERBOOK","data":{"quote_currency":"KRW","target_currency":"BTC",
+             "timestamp":1701423425000,"id":"%d",
+             "asks":[{"price":"%s","qty":"0.12"},{"price":"99999999","qty":"1"}],
+             "bids":[{"price":"%s","qty":"0.5"},{"price":"1000","qty":"1.5"}]}}
+            """.formatted(id, bestAsk, bestBid);
+    }
+}
@@ -7,10 +7,12 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.mock.http.client.MockClientHttpResponse;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.BufferedClientHttpResponse;
 import sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -141,4 +143,20 @@ class BinanceResponseErrorHandlerTest {
         assertEquals(400, exception.getErrorCode());
         assertTrue(exception.getErrorMessage().contains("Failed to parse error response"));
     }
+
+    @Test
+    @DisplayName("버퍼링된 응답은 에러 판단 이후에도 같은 본문을 다시 읽을 수 있어야 함")
+    void hasError_shouldKeepBody_whenResponseIsBuffered() throws IOException {
+        // given
+        String okResponse = "{\"makerCommission\":15,\"balances\":[{\"asset\":\"BTC\"}]}";
+        ClientHttpResponse response = BufferedClientHttpResponse.of(new MockClientHttpResponse(
+                okResponse.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+
+        // when
+        boolean hasError = errorHandler.hasError(response);
+
+        // then
+        assertFalse(hasError);
+        assertEquals(okResponse, new String(response.getBody().readAllBytes(), StandardCharsets.UTF_8));
+    }
 }
@@ -0,0 +1,83 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+import sungjun.bitcoin.algorithmtrading.util.SignatureUtils;
+
+import java.io.IOException;
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinanceSignedClientHttpRequestFactoryTest {
+
+    private static final String SECRET_KEY = "secret-key";
+
+    private final ExchangeClock clock = new ExchangeClock("binance");
+    private final BinanceSignedClientHttpRequestFactory factory = new BinanceSignedClientHttpRequestFactory(
+        new HmacSigner(SECRET_KEY, "HmacSHA256"), clock, 5000L, MockClientHttpRequest::new);
+
+    @DisplayName("GET 요청에 recvWindow, timestamp를 추가하고 인코딩된 쿼리 그대로 서명한다.")
+    @Test
+    void signGetRequest() throws IOException {
+        // given
+        URI uri = URI.create("https://api.binance.com/api/v3/allOrders?symbol=BTCUSDT&note=a%20b");
+
+        // when
+        URI signed = factory.createRequest(uri, HttpMethod.GET).getURI();
+
+        // then
+        String query = signed.getRawQuery();
+        String payload = query.substring(0, query.indexOf("&signature="));
+        assertThat(payload).startsWith("symbol=BTCUSDT&note=a%20b&recvWindow=5000&timestamp=");
+        assertThat(query).endsWith("&signature=" + SignatureUtils.makeSignature(SECRET_KEY, payload, "HmacSHA256"));
+    }
+
+    @DisplayName("서명된 URI는 원본의 포트와 경로를 유지한다.")
+    @Test
+    void keepPort() throws IOException {
+        // given
+        URI uri = URI.create("http://localhost:8080/api/v3/account");
+
+        // when
+        URI signed = factory.createRequest(uri, HttpMethod.GET).getURI();
+
+        // then
+        assertThat(signed.getPort()).isEqualTo(8080);
+        assertThat(signed.getPath()).isEqualTo("/api/v3/account");
+        assertThat(signed.getRawQuery()).startsWith("recvWindow=5000&timestamp=");
+    }
+
+    @DisplayName("timestamp는 서버 시각으로 보정된 시계에서 가져온다.")
+    @Test
+    void useServerCorrectedTimestamp() throws IOException {
+        // given
+        clock.updateOffset(-60_000L);
+        long before = clock.currentTimeMillis();
+
+        // when
+        URI signed = factory.createRequest(URI.create("https://api.binance.com/api/v3/account"), HttpMethod.GET).getURI();
+
+        // then
+        String query = signed.getRawQuery();
+        long timestamp = Long.parseLong(query.substring(query.indexOf("timestamp=") + 10, query.indexOf("&signature=")));
+        assertThat(timestamp).isBetween(before, clock.currentTimeMillis());
+    }
+
+    @DisplayName("POST 요청의 URI는 변경하지 않는다.")
+    @Test
+    void passThroughPost() throws IOException {
+        // given
+        URI uri = URI.create("https://api.binance.com/api/v3/order");
+
+        // when
+        URI result = factory.createRequest(uri, HttpMethod.POST).getURI();
+
+        // then
+        assertThat(result).isEqualTo(uri);
+    }
+}
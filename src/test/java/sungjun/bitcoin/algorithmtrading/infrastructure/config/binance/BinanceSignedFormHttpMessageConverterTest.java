@@ -0,0 +1,88 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.binance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.request.BinanceAccountRequest;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+import sungjun.bitcoin.algorithmtrading.util.SignatureUtils;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinanceSignedFormHttpMessageConverterTest {
+
+    private static final String SECRET_KEY = "secret-key";
+
+    private final ExchangeClock clock = new ExchangeClock("binance");
+    private final BinanceSignedFormHttpMessageConverter converter =
+        new BinanceSignedFormHttpMessageConverter(new HmacSigner(SECRET_KEY, "HmacSHA256"), clock, 5000L);
+
+    @DisplayName("요청 DTO 뒤에 recvWindow, timestamp를 붙여 form 본문으로 기록하고, 기록한 바이트 그대로의 서명을 덧붙인다.")
+    @Test
+    void writeSignedFormBody() throws IOException {
+        // given
+        BinanceAccountRequest request = BinanceAccountRequest.builder()
+            .omitZeroBalances(true)
+            .build();
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // when
+        converter.write(request, null, outputMessage);
+
+        // then
+        String body = outputMessage.getBodyAsString();
+        String payload = body.substring(0, body.indexOf("&signature="));
+        assertThat(payload).startsWith("omitZeroBalances=true&recvWindow=5000&timestamp=");
+        assertThat(body).endsWith("&signature=" + SignatureUtils.makeSignature(SECRET_KEY, payload, "HmacSHA256"));
+        assertThat(outputMessage.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_FORM_URLENCODED);
+        assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(body.length());
+    }
+
+    @DisplayName("timestamp는 서버 시각으로 보정된 시계에서 가져온다.")
+    @Test
+    void useServerCorrectedTimestamp() throws IOException {
+        // given
+        clock.updateOffset(-60_000L);
+        long before = clock.currentTimeMillis();
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // when
+        converter.write(BinanceAccountRequest.builder().build(), null, outputMessage);
+        long after = clock.currentTimeMillis();
+
+        // then
+        String body = outputMessage.getBodyAsString();
+        int start = body.indexOf("timestamp=") + "timestamp=".length();
+        long timestamp = Long.parseLong(body.substring(start, body.indexOf('&', start)));
+        assertThat(timestamp).isBetween(before, after);
+    }
+
+    @DisplayName("같은 스레드에서 버퍼를 재사용해도 이전 요청의 바이트가 남지 않는다.")
+    @Test
+    void reuseBufferAcrossRequests() throws IOException {
+        // given
+        BinanceAccountRequest first = BinanceAccountRequest.builder().omitZeroBalances(true).build();
+        BinanceAccountRequest second = BinanceAccountRequest.builder().build();
+        converter.write(first, null, new MockHttpOutputMessage());
+        MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+
+        // when
+        converter.write(second, null, outputMessage);
+
+        // then
+        assertThat(outputMessage.getBodyAsString()).startsWith("omitZeroBalances=false&recvWindow=5000&timestamp=");
+    }
+
+    @DisplayName("서명 요청 DTO만 쓸 수 있고 읽을 수는 없다.")
+    @Test
+    void supportsWriteOnly() {
+        assertThat(converter.canWrite(BinanceAccountRequest.class, MediaType.APPLICATION_FORM_URLENCODED)).isTrue();
+        assertThat(converter.canWrite(BinanceAccountRequest.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(String.class, null)).isFalse();
+        assertThat(converter.canRead(BinanceAccountRequest.class, null)).isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BufferedClientHttpResponseTest {
+
+    @DisplayName("응답 본문은 원본 스트림에서 한 번만 읽고 이후에는 같은 버퍼를 공유한다.")
+    @Test
+    void readsBodyOnce() throws IOException {
+        // given
+        byte[] body = "{\"result\":\"success\"}".getBytes(StandardCharsets.UTF_8);
+        AtomicInteger getBodyCalls = new AtomicInteger();
+        MockClientHttpResponse original = new MockClientHttpResponse(body, HttpStatus.OK) {
+            @Override
+            public InputStream getBody() {
+                getBodyCalls.incrementAndGet();
+                return new ByteArrayInputStream(body);
+            }
+        };
+        original.getHeaders().setContentLength(body.length);
+
+        // when
+        BufferedClientHttpResponse response = BufferedClientHttpResponse.of(original);
+        byte[] first = response.getBody().readAllBytes();
+        byte[] second = response.getBody().readAllBytes();
+
+        // then
+        assertThat(getBodyCalls).hasValue(1);
+        assertThat(first).isEqualTo(body);
+        assertThat(second).isEqualTo(body);
+        assertThat(response.getBodyBytes()).hasSize(body.length);
+    }
+
+    @DisplayName("이미 버퍼링된 응답은 다시 감싸지 않는다.")
+    @Test
+    void returnsSameInstanceWhenAlreadyBuffered() throws IOException {
+        // given
+        BufferedClientHttpResponse response = BufferedClientHttpResponse.of(
+            new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+        // when
+        BufferedClientHttpResponse rewrapped = BufferedClientHttpResponse.of(response);
+
+        // then
+        assertThat(rewrapped).isSameAs(response);
+        assertThat(rewrapped.isEmpty()).isTrue();
+    }
+}
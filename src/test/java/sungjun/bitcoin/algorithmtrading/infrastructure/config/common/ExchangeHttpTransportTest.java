@@ -0,0 +1,80 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExchangeHttpTransportTest {
+
+    @DisplayName("기본 설정에서는 풀링 커넥션 매니저를 사용하고 풀 메트릭을 노출한다.")
+    @Test
+    void pooledTransportExposesPoolMetrics() throws Exception {
+        // given
+        HttpClientPoolProperties pool = createPool(false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        try (ExchangeHttpTransport transport = createTransport(pool)) {
+            transport.bindTo(registry);
+
+            // then
+            assertThat(transport.getRequestFactory()).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+            assertThat(registry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "coinone")
+                .gauge()
+                .value()).isEqualTo(30);
+            assertThat(registry.get("httpcomponents.httpclient.pool.route.max.default")
+                .tag("httpclient", "coinone")
+                .gauge()
+                .value()).isEqualTo(10);
+        }
+    }
+
+    @DisplayName("http2 설정이 켜지면 JDK HttpClient 기반 팩토리를 사용한다.")
+    @Test
+    void http2TransportUsesJdkClient() throws Exception {
+        // given
+        HttpClientPoolProperties pool = createPool(true);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        try (ExchangeHttpTransport transport = createTransport(pool)) {
+            transport.bindTo(registry);
+
+            // then
+            assertThat(transport.getRequestFactory()).isInstanceOf(JdkClientHttpRequestFactory.class);
+            assertThat(registry.getMeters()).isEmpty();
+        }
+    }
+
+    private ExchangeHttpTransport createTransport(HttpClientPoolProperties pool) {
+        return ExchangeHttpTransport.create(
+            "coinone",
+            pool,
+            Duration.ofMillis(3000),
+            Duration.ofMillis(5000),
+            List.of("https://api.coinone.co.kr/public/v2", "https://api.coinone.co.kr/v2.1")
+        );
+    }
+
+    private HttpClientPoolProperties createPool(boolean http2) {
+        return new HttpClientPoolProperties(
+            30,
+            10,
+            Duration.ofSeconds(30),
+            Duration.ofSeconds(30),
+            Duration.ofSeconds(2),
+            Duration.ofMinutes(5),
+            Duration.ofSeconds(1),
+            http2,
+            0
+        );
+    }
+}
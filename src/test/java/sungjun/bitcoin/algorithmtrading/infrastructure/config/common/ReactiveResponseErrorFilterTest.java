@@ -0,0 +1,61 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.config.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneResponseErrorHandler;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveResponseErrorFilterTest {
+
+    private final ReactiveResponseErrorFilter filter =
+        new ReactiveResponseErrorFilter(new CoinoneResponseErrorHandler(new ObjectMapper()));
+    private final ClientRequest request =
+        ClientRequest.create(HttpMethod.POST, URI.create("https://api.coinone.co.kr/v2.1/account/balance/all")).build();
+
+    @Test
+    @DisplayName("정상 응답은 에러 판단에 사용한 본문을 그대로 다시 읽을 수 있어야 한다")
+    void passesSuccessfulResponseBody() {
+        // given
+        String body = "{\"result\":\"success\",\"balances\":[]}";
+        ExchangeFunction next = respond(HttpStatus.OK, body);
+
+        // when
+        String read = filter.filter(request, next)
+            .flatMap(response -> response.bodyToMono(String.class))
+            .block();
+
+        // then
+        assertThat(read).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("HTTP 200이라도 본문의 result가 error이면 CoinoneApiException으로 종료되어야 한다")
+    void failsWithExchangeExceptionOnErrorBody() {
+        // given
+        ExchangeFunction next = respond(HttpStatus.OK,
+            "{\"result\":\"error\",\"error_code\":\"100\",\"error_msg\":\"잘못된 API 키\"}");
+
+        // when // then
+        assertThatThrownBy(() -> filter.filter(request, next).block())
+            .isInstanceOf(CoinoneApiException.class);
+    }
+
+    private static ExchangeFunction respond(HttpStatus status, String body) {
+        return request -> Mono.just(ClientResponse.create(status)
+            .header("Content-Type", "application/json")
+            .body(body)
+            .build());
+    }
+}
@@ -0,0 +1,100 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.coinone;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import reactor.core.publisher.Mono;
+import sungjun.bitcoin.algorithmtrading.infrastructure.time.ExchangeClock;
+import sungjun.bitcoin.algorithmtrading.util.HmacSigner;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties.X_COINONE_PAYLOAD;
+import static sungjun.bitcoin.algorithmtrading.infrastructure.config.coinone.CoinoneProperties.X_COINONE_SIGNATURE;
+
+class CoinoneAuthenticationFilterTest {
+
+    private final HmacSigner signer = new HmacSigner("test-secret", "HmacSHA512");
+    private final CoinoneAuthenticationFilter filter = new CoinoneAuthenticationFilter(signer, new ExchangeClock("coinone"));
+
+    @Test
+    @DisplayName("본문에 nonce를 채워 전송하고, 전송되는 본문을 Base64로 인코딩한 payload와 그 서명을 헤더에 설정해야 한다")
+    void signsWrittenBody() {
+        // given
+        String body = "{\"access_token\":\"token\"}";
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("https://api.coinone.co.kr/v2.1/order"))
+            .body(BodyInserters.fromValue(body))
+            .build();
+        MockClientHttpRequest sent = new MockClientHttpRequest(HttpMethod.POST, request.url());
+
+        // when
+        filter.filter(request, writeTo(sent)).block();
+
+        // then
+        String sentBody = sent.getBodyAsString().block();
+        assertThat(sentBody).startsWith("{\"nonce\":\"").endsWith("\",\"access_token\":\"token\"}");
+        assertThat(UUID.fromString(sentBody.substring(10, 46)).version()).isEqualTo(4);
+        String payload = Base64.getEncoder().encodeToString(sentBody.getBytes(StandardCharsets.UTF_8));
+        assertThat(sent.getHeaders().getFirst(X_COINONE_PAYLOAD)).isEqualTo(payload);
+        assertThat(sent.getHeaders().getFirst(X_COINONE_SIGNATURE)).isEqualTo(signer.sign(payload));
+        assertThat(sent.getHeaders().getContentLength()).isEqualTo(sentBody.length());
+    }
+
+    @Test
+    @DisplayName("본문이 없는 요청도 빈 payload로 서명해야 한다")
+    void signsEmptyBody() {
+        // given
+        ClientRequest request = ClientRequest.create(HttpMethod.POST, URI.create("https://api.coinone.co.kr/v2.1/order"))
+            .build();
+        MockClientHttpRequest sent = new MockClientHttpRequest(HttpMethod.POST, request.url());
+
+        // when
+        filter.filter(request, writeTo(sent)).block();
+
+        // then
+        assertThat(sent.getHeaders().getFirst(X_COINONE_PAYLOAD)).isEmpty();
+        assertThat(sent.getHeaders().getFirst(X_COINONE_SIGNATURE)).isEqualTo(signer.sign(""));
+    }
+
+    /**
+     * 실제 커넥터 대신 요청 본문을 {@link MockClientHttpRequest}에 기록하는 교환 함수입니다.
+     */
+    private static ExchangeFunction writeTo(MockClientHttpRequest sent) {
+        ExchangeStrategies strategies = ExchangeStrategies.withDefaults();
+        BodyInserter.Context context = new BodyInserter.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return strategies.messageWriters();
+            }
+
+            @Override
+            public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, Object> hints() {
+                return Map.of();
+            }
+        };
+        return request -> request.body().insert(sent, context)
+            .then(Mono.fromSupplier(() -> ClientResponse.create(HttpStatus.OK).build()));
+    }
+}
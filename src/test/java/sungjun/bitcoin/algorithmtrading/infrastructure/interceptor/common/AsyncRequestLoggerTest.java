@@ -0,0 +1,76 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RequestLogProperties;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncRequestLoggerTest {
+
+    @DisplayName("가장 긴 경로 접두사의 샘플링 비율을 적용한다.")
+    @Test
+    void sampleByLongestPrefix() {
+        // given
+        AsyncRequestLogger logger = new AsyncRequestLogger(new RequestLogProperties(true, 16, 64, 1.0,
+            Map.of("/public/v2", 0.0, "/public/v2/ticker_new/KRW/BTC", 1.0)));
+
+        // when & then
+        assertThat(logger.isSampled(URI.create("https://api.coinone.co.kr/public/v2/ticker_new/KRW/ETH"))).isFalse();
+        assertThat(logger.isSampled(URI.create("https://api.coinone.co.kr/public/v2/ticker_new/KRW/BTC"))).isTrue();
+        assertThat(logger.isSampled(URI.create("https://api.coinone.co.kr/v2.1/order"))).isTrue();
+    }
+
+    @DisplayName("비활성화된 경우 어떤 요청도 샘플링하지 않는다.")
+    @Test
+    void disabled() {
+        // given
+        AsyncRequestLogger logger = new AsyncRequestLogger(new RequestLogProperties(false, 16, 64, 1.0, Map.of()));
+
+        // when & then
+        assertThat(logger.isSampled(URI.create("https://api.binance.com/api/v3/account"))).isFalse();
+    }
+
+    @DisplayName("본문은 설정된 크기까지만 기록하고 잘린 바이트 수를 표시한다.")
+    @Test
+    void truncateBody() {
+        // given
+        AsyncRequestLogger logger = new AsyncRequestLogger(new RequestLogProperties(true, 16, 8, 1.0, Map.of()));
+        byte[] responseBody = "{\"result\":\"success\"}".getBytes(StandardCharsets.UTF_8);
+        List<String> lines = new ArrayList<>();
+
+        // when
+        logger.record(HttpMethod.GET, URI.create("https://api.binance.com/api/v3/account"), new byte[0],
+            200, responseBody, 1_500_000L);
+        logger.drainTo(lines::add);
+
+        // then
+        assertThat(lines).containsExactly(
+            "GET https://api.binance.com/api/v3/account -> 200 (1500us) response={\"result...(+12 bytes)");
+    }
+
+    @DisplayName("응답을 받지 못한 요청은 예외 정보를 기록한다.")
+    @Test
+    void recordFailure() {
+        // given
+        AsyncRequestLogger logger = new AsyncRequestLogger(new RequestLogProperties(true, 16, 64, 1.0, Map.of()));
+        List<String> lines = new ArrayList<>();
+
+        // when
+        logger.recordFailure(HttpMethod.POST, URI.create("https://api.coinone.co.kr/v2.1/order"),
+            "{}".getBytes(StandardCharsets.UTF_8), new IOException("Read timed out"), 3_000L);
+        logger.drainTo(lines::add);
+
+        // then
+        assertThat(lines).containsExactly(
+            "POST https://api.coinone.co.kr/v2.1/order -> java.io.IOException: Read timed out (3us) request={}");
+    }
+}
@@ -0,0 +1,100 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.interceptor.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLogRingBufferTest {
+
+    @DisplayName("용량은 2의 거듭제곱으로 올림한다.")
+    @Test
+    void roundUpCapacity() {
+        assertThat(new RequestLogRingBuffer(1000, 16).capacity()).isEqualTo(1024);
+        assertThat(new RequestLogRingBuffer(1024, 16).capacity()).isEqualTo(1024);
+        assertThat(new RequestLogRingBuffer(2, 16).capacity()).isEqualTo(2);
+    }
+
+    @DisplayName("공개된 레코드를 기록한 순서대로 소비한다.")
+    @Test
+    void drainInOrder() {
+        // given
+        RequestLogRingBuffer ringBuffer = new RequestLogRingBuffer(4, 16);
+        for (int status = 200; status < 203; status++) {
+            RequestLogRecord record = ringBuffer.tryClaim();
+            record.status = status;
+            ringBuffer.publish(record);
+        }
+        List<Integer> statuses = new ArrayList<>();
+
+        // when
+        int drained = ringBuffer.drain(record -> statuses.add(record.status));
+
+        // then
+        assertThat(drained).isEqualTo(3);
+        assertThat(statuses).containsExactly(200, 201, 202);
+    }
+
+    @DisplayName("버퍼가 가득 차면 대기하지 않고 레코드를 버린다.")
+    @Test
+    void dropWhenFull() {
+        // given
+        RequestLogRingBuffer ringBuffer = new RequestLogRingBuffer(2, 16);
+        ringBuffer.publish(ringBuffer.tryClaim());
+        ringBuffer.publish(ringBuffer.tryClaim());
+
+        // when
+        RequestLogRecord overflow = ringBuffer.tryClaim();
+
+        // then
+        assertThat(overflow).isNull();
+        assertThat(ringBuffer.dropped()).isEqualTo(1);
+        assertThat(ringBuffer.drain(record -> { })).isEqualTo(2);
+        assertThat(ringBuffer.tryClaim()).isNotNull();
+    }
+
+    @DisplayName("여러 생산자가 동시에 기록해도 레코드가 유실되거나 중복되지 않는다.")
+    @Test
+    @Timeout(30)
+    void concurrentProducers() throws InterruptedException {
+        // given
+        RequestLogRingBuffer ringBuffer = new RequestLogRingBuffer(64, 16);
+        int producers = 4;
+        int perProducer = 10_000;
+        Set<Long> received = new HashSet<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(producers)) {
+            for (int p = 0; p < producers; p++) {
+                int producer = p;
+                executor.submit(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        RequestLogRecord record;
+                        while ((record = ringBuffer.tryClaim()) == null) {
+                            if (Thread.currentThread().isInterrupted()) {
+                                return;
+                            }
+                            Thread.yield();
+                        }
+                        record.durationNanos = (long) producer * perProducer + i;
+                        ringBuffer.publish(record);
+                    }
+                });
+            }
+            while (received.size() < producers * perProducer) {
+                ringBuffer.drain(record -> received.add(record.durationNanos));
+            }
+        }
+
+        // then
+        assertThat(received).hasSize(producers * perProducer);
+    }
+}
@@ -0,0 +1,154 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.market;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoinoneMarketTableTest {
+
+    private static final String TICKERS = """
+        {"result":"success","error_code":"0","server_time":1701423425123,"tickers":[
+          {"quote_currency":"KRW","target_currency":"BTC","timestamp":1701423425000,"high":"53000000.0",
+           "last":"52800000.0","quote_volume":"12345678901.1234",
+           "best_asks":[{"price":"52810000.0","qty":"0.1234"},{"price":"52820000.0","qty":"1"}],
+           "best_bids":[{"price":"52800000.0","qty":"0.5"}],"id":"1701423425000001"},
+          {"quote_currency":"KRW","target_currency":"ETH","timestamp":1701423425001,
+           "last":"2900000","best_asks":[{"price":"2900500","qty":"3"}],"best_bids":[{"price":"2899500","qty":"2.5"}]},
+          {"quote_currency":"KRW","target_currency":"XRP","timestamp":1701423425002,
+           "last":"850.5","best_asks":[],"best_bids":[]}
+        ]}
+        """;
+
+    @DisplayName("전체 마켓 응답을 거래 쌍별 슬롯에 기록한다.")
+    @Test
+    void update() throws Exception {
+        // given
+        CoinoneMarketTable table = createTable(16);
+
+        // when
+        int updated = table.update(bytes(TICKERS));
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        assertThat(table.size()).isEqualTo(3);
+        int btc = table.slotOf("BTC");
+        assertThat(table.getLast(btc)).isEqualTo(5280000000000000L);
+        assertThat(table.getBestAskPrice(btc)).isEqualTo(5281000000000000L);
+        assertThat(table.getBestBidPrice(btc)).isEqualTo(5280000000000000L);
+        assertThat(table.getTimestamp(btc)).isEqualTo(1701423425000L);
+        assertThat(table.getLast(table.slotOf("XRP"))).isEqualTo(85050000000L);
+        assertThat(table.getBestAskPrice(table.slotOf("XRP"))).isEqualTo(FixedPoint.MISSING);
+        assertThat(table.getBestBidPrice(table.slotOf("XRP"))).isEqualTo(FixedPoint.MISSING);
+        assertThat(table.getRefreshedAt()).isPositive();
+    }
+
+    @DisplayName("대소문자 구분 없이 슬롯을 조회하고, 없는 마켓은 -1을 반환한다.")
+    @Test
+    void slotOf() throws Exception {
+        // given
+        CoinoneMarketTable table = createTable(16);
+        table.update(bytes(TICKERS));
+
+        // when & then
+        assertThat(table.slotOf("eth")).isEqualTo(table.slotOf("ETH")).isNotNegative();
+        assertThat(table.getTargetCurrency(table.slotOf("eth"))).isEqualTo("ETH");
+        assertThat(table.slotOf("DOGE")).isEqualTo(-1);
+    }
+
+    @DisplayName("재갱신 시 같은 슬롯의 값을 덮어쓰고 최우선 호가를 일관되게 읽는다.")
+    @Test
+    void refreshKeepsSlots() throws Exception {
+        // given
+        CoinoneMarketTable table = createTable(16);
+        table.update(bytes(TICKERS));
+        int eth = table.slotOf("ETH");
+
+        // when
+        table.update(bytes("""
+            {"tickers":[{"target_currency":"ETH","timestamp":1701423426000,"last":"2901000",
+              "best_asks":[{"price":"2901500","qty":"1"}],"best_bids":[{"price":"2900500","qty":"4"}]}]}
+            """));
+
+        // then
+        MarketQuote quote = new MarketQuote();
+        assertThat(table.slotOf("ETH")).isEqualTo(eth);
+        assertThat(table.read(eth, quote)).isTrue();
+        assertThat(quote.getLast()).isEqualTo(290100000000000L);
+        assertThat(quote.getBestAskPrice()).isEqualTo(290150000000000L);
+        assertThat(quote.getBestAskQuantity()).isEqualTo(100000000L);
+        assertThat(quote.getBestBidPrice()).isEqualTo(290050000000000L);
+        assertThat(quote.getBestBidQuantity()).isEqualTo(400000000L);
+        assertThat(quote.getTimestamp()).isEqualTo(1701423426000L);
+        assertThat(table.size()).isEqualTo(3);
+    }
+
+    @DisplayName("용량을 넘는 신규 마켓은 무시한다.")
+    @Test
+    void ignoreMarketsBeyondCapacity() throws Exception {
+        // given
+        CoinoneMarketTable table = createTable(2);
+
+        // when
+        int updated = table.update(bytes(TICKERS));
+
+        // then
+        assertThat(updated).isEqualTo(2);
+        assertThat(table.slotOf("XRP")).isEqualTo(-1);
+        assertThat(table.read(-1, new MarketQuote())).isFalse();
+    }
+
+    @DisplayName("refresh는 원본 응답을 한 번 조회하여 테이블을 갱신한다.")
+    @Test
+    void refresh() throws Exception {
+        // given
+        int[] calls = new int[1];
+        CoinoneMarketTable table = CoinoneMarketTable.builder()
+            .quoteCurrency("krw")
+            .capacity(16)
+            .jsonFactory(new JsonFactory())
+            .source(() -> {
+                calls[0]++;
+                return bytes(TICKERS);
+            })
+            .build();
+
+        // when
+        int updated = table.refresh();
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        assertThat(calls[0]).isEqualTo(1);
+        assertThat(table.getQuoteCurrency()).isEqualTo("KRW");
+    }
+
+    @DisplayName("숫자가 아닌 가격이 포함된 응답은 파싱에 실패한다.")
+    @Test
+    void rejectInvalidPrice() {
+        // given
+        CoinoneMarketTable table = createTable(16);
+
+        // when & then
+        assertThatThrownBy(() -> table.update(bytes("{\"tickers\":[{\"target_currency\":\"BTC\",\"last\":\"N/A\"}]}")))
+            .isInstanceOf(JsonParseException.class);
+    }
+
+    private static CoinoneMarketTable createTable(int capacity) {
+        return CoinoneMarketTable.builder()
+            .quoteCurrency("KRW")
+            .capacity(capacity)
+            .jsonFactory(new JsonFactory())
+            .source(() -> new byte[0])
+            .build();
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,147 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.market;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderBookTest {
+
+    @DisplayName("매수는 높은 가격, 매도는 낮은 가격이 최우선 호가가 되고, 잔량 0은 해당 가격을 제거한다.")
+    @Test
+    void setLevels() {
+        // given
+        OrderBook book = new OrderBook(2);
+
+        // when
+        book.setBid(100, 1);
+        book.setBid(102, 2);
+        book.setBid(101, 3);
+        book.setAsk(105, 4);
+        book.setAsk(103, 5);
+        book.setAsk(104, 6);
+        book.setBid(102, 0);
+        book.setAsk(104, 7);
+        book.setAsk(999, 0);
+
+        // then
+        assertThat(book.getBestBidPrice()).isEqualTo(101L);
+        assertThat(book.getBestAskPrice()).isEqualTo(103L);
+        assertThat(book.getSpread()).isEqualTo(2L);
+        assertThat(book.getMidPrice()).isEqualTo(102L);
+        assertThat(book.getBids().size()).isEqualTo(2);
+        assertThat(book.getBids().price(1)).isEqualTo(100L);
+        assertThat(book.getAsks().price(1)).isEqualTo(104L);
+        assertThat(book.getAsks().quantity(1)).isEqualTo(7L);
+        assertThat(book.getAsks().quantityAt(105)).isEqualTo(4L);
+        assertThat(book.getAsks().quantityAt(999)).isZero();
+    }
+
+    @DisplayName("최우선 호가부터 정렬된 스냅샷을 적재하고, 정렬되지 않은 입력도 올바르게 적재한다.")
+    @Test
+    void load() {
+        // given
+        OrderBook book = new OrderBook(1);
+        book.setBid(1, 1);
+
+        // when
+        book.getBids().load(new long[]{103, 102, 101}, new long[]{1, 0, 3}, 3);
+        book.getAsks().load(new long[]{106, 104, 105}, new long[]{1, 2, 3}, 3);
+
+        // then
+        assertThat(levels(book.getBids())).containsExactly(103L, 1L, 101L, 3L);
+        assertThat(levels(book.getAsks())).containsExactly(104L, 2L, 105L, 3L, 106L, 1L);
+    }
+
+    @DisplayName("최우선 호가부터 누적 잔량, 지정 가격까지의 잔량, 체결 가격과 VWAP을 계산한다.")
+    @Test
+    void depthQueries() {
+        // given
+        OrderBookSide asks = new OrderBook(8).getAsks();
+        asks.load(new long[]{100, 101, 102, 103}, new long[]{10, 20, 30, 40}, 4);
+
+        // when & then
+        assertThat(asks.cumulativeQuantity(2)).isEqualTo(30L);
+        assertThat(asks.cumulativeQuantity(10)).isEqualTo(100L);
+        assertThat(asks.quantityWithin(102)).isEqualTo(60L);
+        assertThat(asks.quantityWithin(99)).isZero();
+        assertThat(asks.priceToFill(30)).isEqualTo(101L);
+        assertThat(asks.priceToFill(31)).isEqualTo(102L);
+        assertThat(asks.priceToFill(101)).isZero();
+        // (100 * 10 + 101 * 20 + 102 * 10) / 40 = 101
+        assertThat(asks.vwap(40)).isEqualTo(101L);
+        assertThat(asks.vwap(10)).isEqualTo(100L);
+        assertThat(asks.vwap(101)).isZero();
+    }
+
+    @DisplayName("체결할 수량이 0 이하이면 체결 가격과 VWAP은 0이다.")
+    @Test
+    void depthQueriesWithoutQuantity() {
+        // given
+        OrderBookSide bids = new OrderBook(8).getBids();
+        bids.load(new long[]{100, 99}, new long[]{10, 20}, 2);
+
+        // when & then
+        assertThat(bids.priceToFill(0)).isZero();
+        assertThat(bids.priceToFill(-1)).isZero();
+        assertThat(bids.vwap(0)).isZero();
+        assertThat(bids.vwap(-1)).isZero();
+    }
+
+    @DisplayName("임의의 갱신을 정렬 맵과 동일하게 반영한다.")
+    @Test
+    void matchesSortedMap() {
+        // given
+        OrderBookSide bids = new OrderBook(4).getBids();
+        TreeMap<Long, Long> expected = new TreeMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            long price = 1 + random.nextInt(500);
+            long quantity = random.nextInt(4) == 0 ? 0 : 1 + random.nextInt(1000);
+            bids.set(price, quantity);
+            if (quantity == 0) {
+                expected.remove(price);
+            } else {
+                expected.put(price, quantity);
+            }
+        }
+
+        // then
+        List<Long> flattened = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : expected.descendingMap().entrySet()) {
+            flattened.add(entry.getKey());
+            flattened.add(entry.getValue());
+        }
+        assertThat(levels(bids)).isEqualTo(flattened);
+    }
+
+    @DisplayName("가격이 0 이하이거나 잔량이 음수이면 예외가 발생한다.")
+    @Test
+    void invalidLevel() {
+        // given
+        OrderBook book = new OrderBook(4);
+
+        // when & then
+        assertThatThrownBy(() -> book.setBid(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> book.setAsk(100, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> book.getBids().price(0)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private static List<Long> levels(OrderBookSide side) {
+        List<Long> levels = new ArrayList<>();
+        side.forEach(Integer.MAX_VALUE, (price, quantity) -> {
+            levels.add(price);
+            levels.add(quantity);
+        });
+        return levels;
+    }
+}
@@ -0,0 +1,195 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.binance.BinanceApiException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExchangeClientMetricsTest {
+
+    private MeterRegistry registry;
+    private ExchangeClientMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new ExchangeClientMetrics(registry, "coinone");
+    }
+
+    @DisplayName("성공한 호출은 엔드포인트별 success 타이머에 기록된다.")
+    @Test
+    void recordSuccess() {
+        // given
+        FakeClient client = metrics.instrument(FakeClient.class, new FakeClientImpl(null));
+
+        // when
+        client.ticker("BTC");
+        client.ticker("ETH");
+
+        // then
+        Timer timer = registry.get("exchange.client.requests")
+            .tags("exchange", "coinone", "endpoint", "FakeClient.ticker", "outcome", "success")
+            .timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(registry.get("exchange.client.requests.active")
+            .tag("endpoint", "FakeClient.ticker").gauge().value()).isZero();
+    }
+
+    @DisplayName("Coinone 예외는 거래소 에러 코드로 태깅된다.")
+    @Test
+    void recordCoinoneErrorCode() {
+        // given
+        FakeClient client = metrics.instrument(FakeClient.class,
+            new FakeClientImpl(new CoinoneApiException("107", "Parameter error")));
+
+        // when
+        assertThatThrownBy(() -> client.ticker("BTC")).isInstanceOf(CoinoneApiException.class);
+
+        // then
+        assertThat(registry.get("exchange.client.errors")
+            .tags("endpoint", "FakeClient.ticker", "code", "107").counter().count()).isEqualTo(1);
+        assertThat(registry.get("exchange.client.requests")
+            .tags("endpoint", "FakeClient.ticker", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("Binance 예외와 그 외 예외도 에러 코드 또는 클래스명으로 태깅된다.")
+    @Test
+    void recordOtherErrorCodes() {
+        // given
+        FakeClient binanceFailing = metrics.instrument(FakeClient.class,
+            new FakeClientImpl(new BinanceApiException(-1021, "Timestamp outside of recvWindow")));
+        FakeClient ioFailing = metrics.instrument(FakeClient.class,
+            new FakeClientImpl(new IllegalStateException("connection reset")));
+
+        // when
+        assertThatThrownBy(() -> binanceFailing.ticker("BTC")).isInstanceOf(BinanceApiException.class);
+        assertThatThrownBy(() -> ioFailing.ticker("BTC")).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(registry.get("exchange.client.errors").tag("code", "-1021").counter().count()).isEqualTo(1);
+        assertThat(registry.get("exchange.client.errors").tag("code", "IllegalStateException").counter().count())
+            .isEqualTo(1);
+    }
+
+    @DisplayName("default 메서드 호출은 위임한 엔드포인트에서 한 번만 기록된다.")
+    @Test
+    void defaultMethodCountedOnce() {
+        // given
+        FakeClient client = metrics.instrument(FakeClient.class, new FakeClientImpl(null));
+
+        // when
+        String result = client.bitcoinTicker();
+
+        // then
+        assertThat(result).isEqualTo("ticker:BTC");
+        assertThat(registry.get("exchange.client.requests")
+            .tags("endpoint", "FakeClient.ticker", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.find("exchange.client.requests").tag("endpoint", "FakeClient.bitcoinTicker").timer())
+            .isNull();
+    }
+
+    @DisplayName("본문 크기는 같은 스레드에서 호출 중인 엔드포인트에 기록된다.")
+    @Test
+    void recordBytesUnderCurrentEndpoint() {
+        // given
+        FakeClient client = metrics.instrument(FakeClient.class, new FakeClientImpl(null) {
+            @Override
+            public String ticker(String currency) {
+                metrics.recordBytes(0, 321);
+                return super.ticker(currency);
+            }
+        });
+
+        // when
+        client.ticker("BTC");
+        metrics.recordBytes(10, 20);
+
+        // then
+        assertThat(registry.get("exchange.client.response.size")
+            .tag("endpoint", "FakeClient.ticker").summary().totalAmount()).isEqualTo(321);
+        assertThat(registry.get("exchange.client.request.size")
+            .tag("endpoint", "unknown").summary().totalAmount()).isEqualTo(10);
+    }
+
+    @DisplayName("HTTP Interface를 거치지 않는 엔드포인트도 같은 타이머, 에러 카운터, 본문 크기에 기록된다.")
+    @Test
+    void recordStandaloneEndpoint() {
+        // given
+        ExchangeClientMetrics.Endpoint endpoint = metrics.endpoint("FakeGateway.order");
+
+        // when
+        long startedAt = endpoint.start();
+        metrics.recordBytes(100, 200);
+        endpoint.success(startedAt);
+        endpoint.failure(endpoint.start(), new CoinoneApiException("103", "Lack of Balance"));
+        metrics.recordBytes(10, 20);
+
+        // then
+        assertThat(registry.get("exchange.client.requests")
+            .tags("endpoint", "FakeGateway.order", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(registry.get("exchange.client.errors")
+            .tags("endpoint", "FakeGateway.order", "code", "103").counter().count()).isEqualTo(1);
+        assertThat(registry.get("exchange.client.request.size")
+            .tag("endpoint", "FakeGateway.order").summary().totalAmount()).isEqualTo(100);
+        assertThat(registry.get("exchange.client.request.size")
+            .tag("endpoint", "unknown").summary().totalAmount()).isEqualTo(10);
+        assertThat(registry.get("exchange.client.requests.active")
+            .tag("endpoint", "FakeGateway.order").gauge().value()).isZero();
+    }
+
+    @DisplayName("같은 이름의 엔드포인트는 하나를 공유하므로 진행 중인 호출 수 게이지가 모든 등록의 호출을 센다.")
+    @Test
+    void shareEndpointByName() {
+        // given
+        ExchangeClientMetrics.Endpoint first = metrics.endpoint("FakeGateway.order");
+        FakeClient client = metrics.instrument(FakeClient.class, new FakeClientImpl(null));
+
+        // when
+        ExchangeClientMetrics.Endpoint second = metrics.endpoint("FakeGateway.order");
+        long startedAt = second.start();
+        double active = registry.get("exchange.client.requests.active")
+            .tag("endpoint", "FakeGateway.order").gauge().value();
+        second.success(startedAt);
+        client.ticker("BTC");
+        metrics.instrument(FakeClient.class, new FakeClientImpl(null)).ticker("ETH");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(active).isEqualTo(1.0);
+        assertThat(registry.get("exchange.client.requests")
+            .tags("endpoint", "FakeClient.ticker", "outcome", "success").timer().count()).isEqualTo(2);
+    }
+
+    interface FakeClient {
+
+        String ticker(String currency);
+
+        default String bitcoinTicker() {
+            return ticker("BTC");
+        }
+    }
+
+    static class FakeClientImpl implements FakeClient {
+
+        private final RuntimeException failure;
+
+        FakeClientImpl(RuntimeException failure) {
+            this.failure = failure;
+        }
+
+        @Override
+        public String ticker(String currency) {
+            if (failure != null) {
+                throw failure;
+            }
+            return "ticker:" + currency;
+        }
+    }
+}
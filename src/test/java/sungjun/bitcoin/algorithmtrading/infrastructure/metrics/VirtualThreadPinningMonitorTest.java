@@ -0,0 +1,69 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.PinningMonitorProperties;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    @DisplayName("synchronized 블록 안에서 블로킹된 가상 스레드를 고정 지점과 함께 기록한다.")
+    @Test
+    void detectPinning() throws InterruptedException {
+        // given
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+            new PinningMonitorProperties(true, Duration.ofMillis(10), 8));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        monitor.bindTo(registry);
+        monitor.start();
+
+        try {
+            // when
+            Object lock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    sleep(50);
+                }
+            }).join();
+            Thread.ofVirtual().start(() -> sleep(50)).join();
+
+            // then
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (monitor.getPinnedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertThat(monitor.getPinnedCount()).isEqualTo(1L);
+            assertThat(monitor.getSites()).anyMatch(site -> site.startsWith(VirtualThreadPinningMonitorTest.class.getName()));
+            assertThat(registry.get("jvm.threads.virtual.pinned").timer().count()).isEqualTo(1L);
+        } finally {
+            monitor.stop();
+        }
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    @DisplayName("비활성화하면 시작하지 않는다.")
+    @Test
+    void disabled() {
+        // given
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+            new PinningMonitorProperties(false, Duration.ofMillis(20), 8));
+
+        // when
+        monitor.start();
+
+        // then
+        assertThat(monitor.isRunning()).isFalse();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
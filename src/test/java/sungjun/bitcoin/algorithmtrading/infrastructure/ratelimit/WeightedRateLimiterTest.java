@@ -0,0 +1,107 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.common.RateLimitProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.RateLimitExceededException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeightedRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    @DisplayName("용량 안의 요청은 대기 없이 통과하고, 시간이 지나면 사용한 가중치가 다시 채워진다")
+    void refillsOverTime() {
+        // given
+        WeightedRateLimiter limiter = limiter(100, Duration.ofSeconds(1), 0.0, Duration.ZERO);
+
+        // when
+        long firstWait = limiter.reserve(60, RequestPriority.NORMAL);
+        long secondWait = limiter.reserve(40, RequestPriority.NORMAL);
+
+        // then
+        assertThat(firstWait).isZero();
+        assertThat(secondWait).isZero();
+        assertThat(limiter.getAvailableWeight()).isZero();
+
+        now.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(limiter.getAvailableWeight()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("용량이 부족하면 최대 대기 시간 이내에서는 대기 시간을 돌려주고, 넘으면 예약하지 않고 즉시 거절한다")
+    void queuesOrRejectsWhenExhausted() {
+        // given
+        WeightedRateLimiter limiter = limiter(100, Duration.ofSeconds(1), 0.0, Duration.ofMillis(100));
+        limiter.reserve(100, RequestPriority.NORMAL);
+
+        // when
+        long wait = limiter.reserve(5, RequestPriority.NORMAL);
+
+        // then
+        assertThat(wait).isEqualTo(Duration.ofMillis(50).toNanos());
+        assertThatThrownBy(() -> limiter.reserve(10, RequestPriority.NORMAL))
+            .isInstanceOf(RateLimitExceededException.class);
+        // 거절된 요청은 용량을 소비하지 않음
+        now.addAndGet(Duration.ofMillis(50).toNanos());
+        assertThat(limiter.reserve(5, RequestPriority.NORMAL)).isEqualTo(Duration.ofMillis(50).toNanos());
+    }
+
+    @Test
+    @DisplayName("일반 요청은 우선 처리용으로 예약된 용량을 사용할 수 없지만 우선 요청은 사용할 수 있다")
+    void reservesCapacityForPriorityLane() {
+        // given
+        WeightedRateLimiter limiter = limiter(100, Duration.ofSeconds(1), 0.2, Duration.ZERO);
+        limiter.reserve(80, RequestPriority.NORMAL);
+
+        // when // then
+        assertThatThrownBy(() -> limiter.reserve(1, RequestPriority.NORMAL))
+            .isInstanceOf(RateLimitExceededException.class);
+        assertThat(limiter.reserve(20, RequestPriority.HIGH)).isZero();
+    }
+
+    @Test
+    @DisplayName("서버가 알려 준 사용 가중치가 더 크면 로컬 추정을 올리고, 작으면 무시한다")
+    void correctsWithReportedUsedWeight() {
+        // given
+        WeightedRateLimiter limiter = limiter(100, Duration.ofSeconds(1), 0.0, Duration.ZERO);
+        limiter.reserve(10, RequestPriority.NORMAL);
+
+        // when
+        limiter.observeUsedWeight(70);
+        limiter.observeUsedWeight(5);
+
+        // then
+        assertThat(limiter.getAvailableWeight()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("429/418 응답 이후 Retry-After 동안에는 우선 요청도 거절한다")
+    void blocksUntilRetryAfterElapses() {
+        // given
+        WeightedRateLimiter limiter = limiter(100, Duration.ofSeconds(1), 0.0, Duration.ofMillis(100));
+
+        // when
+        limiter.penalize(Duration.ofSeconds(2));
+
+        // then
+        assertThatThrownBy(() -> limiter.reserve(1, RequestPriority.HIGH))
+            .isInstanceOf(RateLimitExceededException.class);
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(limiter.reserve(1, RequestPriority.HIGH)).isEqualTo(Duration.ofMillis(10).toNanos());
+    }
+
+    private WeightedRateLimiter limiter(int capacity, Duration period, double priorityReserve, Duration maxWait) {
+        RateLimitProperties properties = new RateLimitProperties(true, capacity, period, 1, Map.of(), List.of(),
+            priorityReserve, maxWait, "");
+        return new WeightedRateLimiter("test", properties, now::get);
+    }
+}
@@ -0,0 +1,72 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExchangeClockTest {
+
+    @DisplayName("서버 시각과의 차이를 반영한 시각을 반환한다.")
+    @Test
+    void applyOffset() {
+        // given
+        ExchangeClock clock = new ExchangeClock("binance");
+
+        // when
+        clock.updateOffset(10_000L);
+
+        // then
+        assertThat(clock.currentTimeMillis() - clock.localTimeMillis()).isBetween(9_000L, 10_000L);
+        assertThat(clock.getOffsetMillis()).isEqualTo(10_000L);
+    }
+
+    @DisplayName("offset이 뒤로 조정되면 이전에 발급한 값에 묶이지 않고 보정된 시각을 바로 반환한다.")
+    @Test
+    void followBackwardsCorrection() {
+        // given
+        ExchangeClock clock = new ExchangeClock("binance");
+        clock.updateOffset(10_000L);
+        long issued = clock.currentTimeMillis();
+
+        // when
+        clock.updateOffset(0L);
+
+        // then
+        assertThat(clock.currentTimeMillis()).isLessThan(issued);
+        assertThat(clock.currentTimeMillis() - clock.localTimeMillis()).isBetween(-1_000L, 0L);
+    }
+
+    @DisplayName("nonce는 UUID v4 형식이며 매번 다른 값을 반환한다.")
+    @Test
+    void nextNonce() {
+        // given
+        ExchangeClock clock = new ExchangeClock("coinone");
+
+        // when
+        UUID first = UUID.fromString(clock.nextNonce());
+        UUID second = UUID.fromString(clock.nextNonce());
+
+        // then
+        assertThat(first.version()).isEqualTo(4);
+        assertThat(first.variant()).isEqualTo(2);
+        assertThat(first).isNotEqualTo(second);
+    }
+
+    @DisplayName("정수 nonce는 항상 증가한다.")
+    @Test
+    void nextCounterNonce() {
+        // given
+        ExchangeClock clock = new ExchangeClock("binance");
+        long previous = clock.nextCounterNonce();
+
+        // when
+        clock.updateOffset(-10_000L);
+        long next = clock.nextCounterNonce();
+
+        // then
+        assertThat(next).isGreaterThan(previous);
+    }
+}
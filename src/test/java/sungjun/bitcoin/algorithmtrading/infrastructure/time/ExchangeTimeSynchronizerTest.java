@@ -0,0 +1,73 @@
+package sungjun.bitcoin.algorithmtrading.infrastructure.time;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExchangeTimeSynchronizerTest {
+
+    @DisplayName("서버 시각을 조회하여 로컬 시계와의 차이를 offset으로 반영한다.")
+    @Test
+    void synchronizeOffset() {
+        // given
+        ExchangeClock clock = new ExchangeClock("binance");
+        ExchangeTimeSynchronizer synchronizer = new ExchangeTimeSynchronizer(clock,
+            () -> clock.localTimeMillis() + 5_000L);
+
+        // when
+        boolean result = synchronizer.synchronize(3);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(clock.getOffsetMillis()).isBetween(4_900L, 5_100L);
+    }
+
+    @DisplayName("일부 샘플이 실패해도 성공한 샘플로 offset을 갱신한다.")
+    @Test
+    void ignoreFailedSamples() {
+        // given
+        ExchangeClock clock = new ExchangeClock("binance");
+        AtomicInteger calls = new AtomicInteger();
+        ExchangeTimeSynchronizer synchronizer = new ExchangeTimeSynchronizer(clock, () -> {
+            if (calls.incrementAndGet() % 2 == 1) {
+                throw new IllegalStateException("timeout");
+            }
+            return clock.localTimeMillis() - 2_000L;
+        });
+
+        // when
+        boolean result = synchronizer.synchronize(3);
+
+        // then
+        assertThat(result).isTrue();
+        assertThat(clock.getOffsetMillis()).isBetween(-2_100L, -1_900L);
+    }
+
+    @DisplayName("모든 샘플이 실패하면 기존 offset을 유지하고 실패 횟수를 기록한다.")
+    @Test
+    void keepOffsetWhenAllSamplesFail() {
+        // given
+        ExchangeClock clock = new ExchangeClock("coinone");
+        clock.updateOffset(1_234L);
+        ExchangeTimeSynchronizer synchronizer = new ExchangeTimeSynchronizer(clock, () -> {
+            throw new IllegalStateException("unavailable");
+        });
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        synchronizer.bindTo(registry);
+
+        // when
+        boolean result = synchronizer.synchronize(2);
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(clock.getOffsetMillis()).isEqualTo(1_234L);
+        assertThat(registry.get("exchange.time.sync.failures").tag("exchange", "coinone").functionCounter().count())
+            .isEqualTo(1.0);
+        assertThat(registry.get("exchange.time.offset").tag("exchange", "coinone").gauge().value())
+            .isEqualTo(1_234.0);
+    }
+}
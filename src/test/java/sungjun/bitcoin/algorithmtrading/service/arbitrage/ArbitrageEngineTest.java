@@ -0,0 +1,169 @@
+package sungjun.bitcoin.algorithmtrading.service.arbitrage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.binance.response.BinanceCommissionRates;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.arbitrage.ArbitrageProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.market.OrderBook;
+import sungjun.bitcoin.algorithmtrading.util.FixedPoint;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ArbitrageEngineTest {
+
+    private static final CurrencyPair KRW_BTC = CurrencyPair.of("KRW", "BTC");
+    private static final CurrencyPair KRW_USDT = CurrencyPair.of("KRW", "USDT");
+
+    @DisplayName("Binance 매도 호가가 환율과 수수료를 반영해도 Coinone 매수 호가보다 0.3% 이상 낮으면, 한계 차익이 기준 이상인 수량까지 기회로 전달한다.")
+    @Test
+    void buyBinanceSellCoinone() {
+        // given
+        List<ArbitrageOpportunity> detected = new ArrayList<>();
+        ArbitrageEngine engine = new ArbitrageEngine(properties(Duration.ofSeconds(5), 1_000_000_000L), () -> null);
+        engine.addListener(detected::add);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        engine.bindTo(registry);
+
+        OrderBook binance = book("99000", "1", "100000", "0.5");
+        binance.setAsk(fixed("100200"), fixed("1"));
+        OrderBook coinone = book("141500000", "0.3", "142000000", "1");
+        coinone.setBid(fixed("141000000"), fixed("1"));
+
+        // when
+        engine.updateCoinone(KRW_USDT, book("1390", "10000", "1400", "10000"));
+        engine.updateCoinone(KRW_BTC, coinone);
+        engine.updateBinance("BTCUSDT", binance);
+        engine.evaluate();
+
+        // then
+        // 매수: 100000 x 1400 x 1.001 = 140,140,000원
+        // 매도: 141,500,000 x 0.998 = 141,217,000원 (0.3개), 141,000,000 x 0.998 = 140,718,000원 (0.2개)
+        // 100200 USDT 호가는 140,420,280원으로 한계 차익이 0.3% 미만이라 제외
+        assertThat(detected).hasSize(1);
+        ArbitrageOpportunity opportunity = detected.get(0);
+        assertThat(opportunity.asset()).isEqualTo("BTC");
+        assertThat(opportunity.direction()).isEqualTo(ArbitrageDirection.BUY_BINANCE_SELL_COINONE);
+        assertThat(opportunity.quantity()).isEqualTo(fixed("0.5"));
+        assertThat(opportunity.buyPrice()).isCloseTo(fixed("140140000"), within(10L));
+        assertThat(opportunity.sellPrice()).isCloseTo(fixed("141017400"), within(10L));
+        assertThat(opportunity.expectedProfit()).isCloseTo(fixed("438700"), within(10L));
+        assertThat(opportunity.netSpread()).isCloseTo(438_700.0 / 70_070_000.0, within(1e-9));
+        assertThat(registry.get("arbitrage.evaluations").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("arbitrage.opportunities").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("arbitrage.evaluation").timer().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("Coinone 매도 호가가 더 낮으면 반대 방향 기회를 찾고, 최대 매수 금액만큼만 수량을 잡는다.")
+    @Test
+    void buyCoinoneSellBinanceWithinNotional() {
+        // given
+        List<ArbitrageOpportunity> detected = new ArrayList<>();
+        ArbitrageEngine engine = new ArbitrageEngine(properties(Duration.ofSeconds(5), 7_000_000L), () -> null);
+        engine.addListener(detected::add);
+
+        // when
+        engine.updateCoinone(KRW_USDT, book("1400", "10000", "1410", "10000"));
+        engine.updateCoinone(KRW_BTC, book("139000000", "1", "140000000", "1"));
+        engine.updateBinance("BTCUSDT", book("101000", "1", "101100", "1"));
+        engine.evaluate();
+
+        // then
+        // 매수: 140,000,000 x 1.002 = 140,280,000원, 매도: 101000 x 1400 x 0.999 = 141,258,600원
+        assertThat(detected).hasSize(1);
+        ArbitrageOpportunity opportunity = detected.get(0);
+        assertThat(opportunity.direction()).isEqualTo(ArbitrageDirection.BUY_COINONE_SELL_BINANCE);
+        assertThat(opportunity.quantity()).isCloseTo(fixed("0.04990019"), within(1L));
+        assertThat(opportunity.quantity() * (double) opportunity.buyPrice() / 1e16).isLessThanOrEqualTo(7_000_000.0);
+    }
+
+    @DisplayName("수수료를 빼면 차익이 최소 기준에 못 미치면 기회를 전달하지 않는다.")
+    @Test
+    void belowThreshold() {
+        // given
+        List<ArbitrageOpportunity> detected = new ArrayList<>();
+        ArbitrageEngine engine = new ArbitrageEngine(properties(Duration.ofSeconds(5), 1_000_000_000L), () -> null);
+        engine.addListener(detected::add);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        engine.bindTo(registry);
+
+        // when
+        // 매수: 100000 x 1400 x 1.001 = 140,140,000원, 매도: 140,800,000 x 0.998 = 140,518,400원 (0.27%)
+        engine.updateCoinone(KRW_USDT, book("1390", "10000", "1400", "10000"));
+        engine.updateCoinone(KRW_BTC, book("140800000", "1", "141000000", "1"));
+        engine.updateBinance("BTCUSDT", book("99900", "1", "100000", "1"));
+        engine.evaluate();
+
+        // then
+        assertThat(detected).isEmpty();
+        assertThat(registry.get("arbitrage.evaluations").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @DisplayName("오래된 호가나 연결이 끊긴 거래소의 호가로는 평가하지 않는다.")
+    @Test
+    void staleOrDisconnected() throws InterruptedException {
+        // given
+        List<ArbitrageOpportunity> detected = new ArrayList<>();
+        ArbitrageEngine engine = new ArbitrageEngine(properties(Duration.ofMillis(50), 1_000_000_000L), () -> null);
+        engine.addListener(detected::add);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        engine.bindTo(registry);
+        engine.updateCoinone(KRW_USDT, book("1390", "10000", "1400", "10000"));
+        engine.updateCoinone(KRW_BTC, book("141500000", "1", "142000000", "1"));
+        engine.updateBinance("BTCUSDT", book("99000", "1", "100000", "1"));
+
+        // when
+        Thread.sleep(100);
+        engine.evaluate();
+        engine.updateBinance("BTCUSDT", book("99000", "1", "100000", "1"));
+        engine.coinoneDisconnected();
+        engine.evaluate();
+
+        // then
+        assertThat(detected).isEmpty();
+        assertThat(registry.get("arbitrage.stale.quotes").functionCounter().count()).isEqualTo(1.0);
+        assertThat(registry.get("arbitrage.evaluations").functionCounter().count()).isZero();
+    }
+
+    @DisplayName("시작 시 Binance 계정 수수료율을 불러오고, 실패하면 설정된 수수료율을 사용한다.")
+    @Test
+    void binanceFees() {
+        // given
+        ArbitrageEngine loaded = new ArbitrageEngine(properties(Duration.ofSeconds(5), 1_000_000L),
+            () -> BinanceCommissionRates.builder().maker("0.00075").taker("0.00075").build());
+        ArbitrageEngine failed = new ArbitrageEngine(properties(Duration.ofSeconds(5), 1_000_000L), () -> {
+            throw new IllegalStateException("no api key");
+        });
+
+        // when
+        loaded.loadBinanceFees();
+        failed.loadBinanceFees();
+
+        // then
+        assertThat(loaded.getBinanceTakerFee()).isEqualTo(0.00075);
+        assertThat(failed.getBinanceTakerFee()).isEqualTo(0.001);
+        assertThat(loaded.getCoinonePairs()).containsExactlyInAnyOrder(KRW_USDT, KRW_BTC);
+        assertThat(loaded.getBinanceSymbols()).containsExactly("BTCUSDT");
+    }
+
+    private static ArbitrageProperties properties(Duration maxQuoteAge, long maxNotional) {
+        return new ArbitrageProperties(false, List.of("BTC"), 0.003, 0.002, 0.001, maxQuoteAge, 20, maxNotional);
+    }
+
+    private static OrderBook book(String bidPrice, String bidQuantity, String askPrice, String askQuantity) {
+        OrderBook book = new OrderBook(4);
+        book.setBid(fixed(bidPrice), fixed(bidQuantity));
+        book.setAsk(fixed(askPrice), fixed(askQuantity));
+        return book;
+    }
+
+    private static long fixed(String value) {
+        return FixedPoint.parse(value, 8);
+    }
+}
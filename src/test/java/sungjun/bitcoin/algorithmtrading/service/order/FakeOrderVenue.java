@@ -0,0 +1,247 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 {@link OrderVenue}입니다.
+ * <p>
+ * 주문 요청마다 {@code order-1}부터 차례로 거래소 주문 ID를 붙이고, 주문과 취소 호출을 기록합니다.
+ * 미체결 목록, 상세 조회, 사용자 지정 주문 ID 조회 결과는 테스트가 직접 넣으며, 전체 취소하면 해당 거래 쌍에 접수한 주문의
+ * 상세 조회 결과가 취소 상태가 됩니다. 여러 스레드에서 동시에 호출해도 되며, {@link #delay(long)}로 거래소 지연을 흉내 냅니다.
+ * </p>
+ * <p>
+ * {@link UncheckedIOException}은 다시 보낼 수 있는 실패로, {@link CoinoneApiException}은 거래소의 거부로 판단합니다.
+ * </p>
+ */
+public class FakeOrderVenue implements OrderVenue {
+
+    private final AtomicInteger ids = new AtomicInteger();
+    private final Map<String, Placed> placed = new ConcurrentHashMap<>();
+    private final Queue<ExchangeOrderStatus> active = new ConcurrentLinkedQueue<>();
+    private final Map<String, ExchangeOrderStatus> orders = new ConcurrentHashMap<>();
+    private final Map<String, ExchangeOrderStatus> found = new ConcurrentHashMap<>();
+    private final Queue<String> sent = new ConcurrentLinkedQueue<>();
+    private final Queue<String> cancelled = new ConcurrentLinkedQueue<>();
+    // 주문은 전송을 시작할 때, 취소는 끝났을 때 기록합니다.
+    private final Queue<String> calls = new ConcurrentLinkedQueue<>();
+    private final Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+    private volatile RuntimeException failure;
+    private volatile boolean acceptBeforeFailure;
+    private volatile long delayMillis;
+    private volatile long rejectedPrice = -1L;
+    private volatile long cancelFilledQty;
+    private volatile CurrencyPair failingPair;
+
+    @Override
+    public String exchange() {
+        return "stub";
+    }
+
+    @Override
+    public String placeLimitOrder(CurrencyPair pair, String userOrderId, OrderSide side, long price, long qty,
+                                  boolean postOnly, long tickNanos) {
+        String id = "order-" + ids.incrementAndGet();
+        sent.add(userOrderId);
+        calls.add("place:" + id);
+        sleep();
+        RuntimeException queued = failures.poll();
+        if (queued != null) {
+            if (acceptBeforeFailure) {
+                found.put(userOrderId, new ExchangeOrderStatus(id, userOrderId, side, price, qty, 0L, OrderState.OPEN));
+            }
+            throw queued;
+        }
+        RuntimeException current = failure;
+        if (current != null) {
+            throw current;
+        }
+        if (price == rejectedPrice) {
+            throw new CoinoneApiException("307", "Invalid price");
+        }
+        placed.put(id, new Placed(pair, userOrderId, side, price, qty));
+        return id;
+    }
+
+    @Override
+    public long cancelOrder(CurrencyPair pair, String exchangeOrderId) {
+        sleep();
+        cancelled.add(exchangeOrderId);
+        calls.add("cancel:" + exchangeOrderId);
+        return cancelFilledQty;
+    }
+
+    @Override
+    public void cancelAll(CurrencyPair pair) {
+        sleep();
+        if (pair.equals(failingPair)) {
+            throw new CoinoneApiException("307", "Cancel all failed");
+        }
+        placed.forEach((id, order) -> {
+            if (order.pair().equals(pair)) {
+                orders.put(id, new ExchangeOrderStatus(id, order.userOrderId(), order.side(), order.price(), order.qty(), 0L,
+                    OrderState.CANCELLED));
+            }
+        });
+        calls.add("cancelAll:" + pair);
+    }
+
+    @Override
+    public List<ExchangeOrderStatus> getActiveOrders(CurrencyPair pair) {
+        return List.copyOf(active);
+    }
+
+    @Override
+    public ExchangeOrderStatus getOrder(CurrencyPair pair, String exchangeOrderId) {
+        return orders.get(exchangeOrderId);
+    }
+
+    @Override
+    public ExchangeOrderStatus findOrder(CurrencyPair pair, String userOrderId) {
+        return found.get(userOrderId);
+    }
+
+    @Override
+    public boolean isRetriable(RuntimeException failure) {
+        return failure instanceof UncheckedIOException;
+    }
+
+    @Override
+    public boolean isRejection(RuntimeException failure) {
+        return failure instanceof CoinoneApiException;
+    }
+
+    /**
+     * 미체결 주문 목록에 주문을 추가합니다.
+     */
+    public void addActive(ExchangeOrderStatus status) {
+        active.add(status);
+    }
+
+    /**
+     * 거래소 주문 ID로 조회했을 때 돌려줄 상태를 지정합니다.
+     */
+    public void putOrder(ExchangeOrderStatus status) {
+        orders.put(status.exchangeOrderId(), status);
+    }
+
+    /**
+     * 사용자 지정 주문 ID로 조회했을 때 돌려줄 상태를 지정합니다.
+     */
+    public void putFound(String userOrderId, ExchangeOrderStatus status) {
+        found.put(userOrderId, status);
+    }
+
+    /**
+     * 다음 주문 한 번을 주어진 예외로 실패시킵니다. 여러 번 호출하면 차례로 사용합니다.
+     */
+    public void failNext(RuntimeException failure) {
+        failures.add(failure);
+    }
+
+    /**
+     * {@link #failNext(RuntimeException)}로 실패시키는 주문도 거래소에는 접수된 것처럼 사용자 지정 주문 ID 조회에 나타나게 합니다.
+     */
+    public void acceptBeforeFailure() {
+        acceptBeforeFailure = true;
+    }
+
+    /**
+     * 이후의 모든 주문을 주어진 예외로 실패시킵니다. {@code null}이면 다시 접수합니다.
+     */
+    public void failWith(RuntimeException failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * 주어진 가격의 주문을 거부합니다.
+     */
+    public void rejectPrice(long price) {
+        rejectedPrice = price;
+    }
+
+    /**
+     * 주어진 거래 쌍의 전체 취소를 실패시킵니다.
+     */
+    public void failCancelAll(CurrencyPair pair) {
+        failingPair = pair;
+    }
+
+    /**
+     * 취소 전에 체결된 것으로 돌려줄 수량을 지정합니다.
+     */
+    public void cancelFilledQty(long qty) {
+        cancelFilledQty = qty;
+    }
+
+    /**
+     * 주문, 취소, 전체 취소 요청마다 주어진 시간만큼 지연합니다.
+     */
+    public void delay(long millis) {
+        delayMillis = millis;
+    }
+
+    /**
+     * 지금까지 받은 주문의 사용자 지정 주문 ID를 받은 순서대로 돌려줍니다.
+     */
+    public List<String> sent() {
+        return List.copyOf(sent);
+    }
+
+    /**
+     * 지금까지 취소한 거래소 주문 ID를 취소가 끝난 순서대로 돌려줍니다.
+     */
+    public List<String> cancelled() {
+        return List.copyOf(cancelled);
+    }
+
+    /**
+     * 주문({@code place:}), 취소({@code cancel:}), 전체 취소({@code cancelAll:}) 호출 기록을 돌려줍니다.
+     */
+    public List<String> calls() {
+        return List.copyOf(calls);
+    }
+
+    /**
+     * 호출 기록을 비웁니다.
+     */
+    public void clearCalls() {
+        sent.clear();
+        cancelled.clear();
+        calls.clear();
+    }
+
+    /**
+     * 동시에 처리 중이던 요청 수의 최댓값을 돌려줍니다.
+     */
+    public int peakInFlight() {
+        return peakInFlight.get();
+    }
+
+    private void sleep() {
+        peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (delayMillis > 0L) {
+                Thread.sleep(delayMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private record Placed(CurrencyPair pair, String userOrderId, OrderSide side, long price, long qty) {
+    }
+}
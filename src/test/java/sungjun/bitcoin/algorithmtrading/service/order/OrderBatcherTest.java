@@ -0,0 +1,212 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.order.OrderBatchProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderBatcherTest {
+
+    private static final CurrencyPair KRW_BTC = CurrencyPair.of("KRW", "BTC");
+    private static final CurrencyPair KRW_ETH = CurrencyPair.of("KRW", "ETH");
+    private static final long PRICE = 50_000_000L * 100_000_000L;
+    private static final long QTY = 1_000_000L;
+
+    private final FakeOrderVenue venue = new FakeOrderVenue();
+    private final OrderManager manager = new OrderManager(venue, OrderManagementFixtures.properties());
+    private OrderBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.stop();
+        }
+    }
+
+    @DisplayName("한 묶음의 주문은 maxConcurrency개까지 동시에 전송된다.")
+    @Test
+    void dispatchConcurrently() throws Exception {
+        // given
+        batcher = start(4);
+        venue.delay(50L);
+        List<OrderIntent> intents = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            intents.add(OrderIntent.limitOrder(i % 2 == 0 ? KRW_BTC : KRW_ETH, OrderSide.BUY, PRICE - i, QTY, true, 0L));
+        }
+
+        // when
+        List<CompletableFuture<TrackedOrder>> futures = batcher.submitAll(intents);
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(venue.peakInFlight()).isEqualTo(4);
+        for (CompletableFuture<TrackedOrder> future : futures) {
+            assertThat(future.get().state()).isEqualTo(OrderState.OPEN);
+        }
+        assertThat(manager.getActiveCount()).isEqualTo(16);
+    }
+
+    @DisplayName("묶음 안의 한 주문이 거부되어도 해당 주문의 결과만 실패하고 나머지는 접수된다.")
+    @Test
+    void failureIsolated() throws Exception {
+        // given
+        batcher = start(16);
+        venue.rejectPrice(PRICE - 1);
+
+        // when
+        List<CompletableFuture<TrackedOrder>> futures = batcher.submitAll(List.of(
+            OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L),
+            OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE - 1, QTY, false, 0L),
+            OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE - 2, QTY, false, 0L)));
+
+        // then
+        assertThat(futures.get(0).get(5, TimeUnit.SECONDS).state()).isEqualTo(OrderState.OPEN);
+        assertThatThrownBy(() -> futures.get(1).get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(CoinoneApiException.class);
+        assertThat(futures.get(2).get(5, TimeUnit.SECONDS).state()).isEqualTo(OrderState.OPEN);
+    }
+
+    @DisplayName("묶음 안에서는 취소를 주문보다 먼저 보내고, 같은 주문의 중복 취소는 한 번만 보낸다.")
+    @Test
+    void cancelsFirstAndOnce() throws Exception {
+        // given
+        batcher = start(1);
+        TrackedOrder stale = batcher.submit(OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L))
+            .get(5, TimeUnit.SECONDS);
+        venue.clearCalls();
+
+        // when
+        List<CompletableFuture<TrackedOrder>> futures = batcher.submitAll(List.of(
+            OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE - 1, QTY, true, 0L),
+            OrderIntent.cancel(stale.clientOrderId()),
+            OrderIntent.cancel(stale.clientOrderId())));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(venue.calls()).containsExactly("cancel:order-1", "place:order-2");
+        assertThat(futures.get(1).get().state()).isEqualTo(OrderState.CANCELLED);
+        assertThat(futures.get(2).get()).isEqualTo(futures.get(1).get());
+        assertThat(futures.get(0).get().state()).isEqualTo(OrderState.OPEN);
+    }
+
+    @DisplayName("여러 요청을 동시에 보낼 수 있어도 주문은 같은 묶음의 취소가 끝난 뒤에 보낸다.")
+    @Test
+    void placesAfterCancelsComplete() throws Exception {
+        // given
+        batcher = start(16);
+        TrackedOrder stale = batcher.submit(OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L))
+            .get(5, TimeUnit.SECONDS);
+        venue.clearCalls();
+        venue.delay(50L);
+
+        // when
+        List<CompletableFuture<TrackedOrder>> futures = batcher.submitAll(List.of(
+            OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE - 1, QTY, true, 0L),
+            OrderIntent.cancel(stale.clientOrderId())));
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(venue.calls()).containsExactly("cancel:order-1", "place:order-2");
+    }
+
+    @DisplayName("취소가 끝나기를 기다리는 주문이 있어도 다음 묶음의 요청은 바로 전송한다.")
+    @Test
+    void laterBatchNotBlockedByCancels() throws Exception {
+        // given
+        batcher = start(16);
+        TrackedOrder stale = batcher.submit(OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L))
+            .get(5, TimeUnit.SECONDS);
+        venue.clearCalls();
+        venue.delay(200L);
+
+        // when
+        List<CompletableFuture<TrackedOrder>> requote = batcher.submitAll(List.of(
+            OrderIntent.cancel(stale.clientOrderId()),
+            OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE - 1, QTY, true, 0L)));
+        Thread.sleep(50L);
+        CompletableFuture<TrackedOrder> next = batcher.submit(OrderIntent.limitOrder(KRW_ETH, OrderSide.SELL, PRICE, QTY, true, 0L));
+        CompletableFuture.allOf(requote.get(0), requote.get(1), next).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(next.get().exchangeOrderId()).isEqualTo("order-2");
+        assertThat(venue.calls()).containsExactly("place:order-2", "cancel:order-1", "place:order-3");
+    }
+
+    @DisplayName("사용자 지정 주문 ID를 붙인 주문은 주문 관리자의 중복 차단을 거쳐 한 번만 전송된다.")
+    @Test
+    void placeWithUserOrderId() throws Exception {
+        // given
+        batcher = start(16);
+        OrderIntent intent = OrderIntent.limitOrder("strategy-1", KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L);
+        TrackedOrder first = batcher.submit(intent).get(5, TimeUnit.SECONDS);
+
+        // when
+        TrackedOrder again = batcher.submit(intent).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(first.userOrderId()).isEqualTo("strategy-1");
+        assertThat(again.clientOrderId()).isEqualTo(first.clientOrderId());
+        assertThat(venue.sent()).containsExactly("strategy-1");
+    }
+
+    @DisplayName("중지된 뒤 들어온 요청은 즉시 실패한다.")
+    @Test
+    void rejectAfterStop() {
+        // given
+        batcher = start(16);
+        batcher.stop();
+
+        // when
+        CompletableFuture<TrackedOrder> future = batcher.submit(OrderIntent.cancel(1L));
+
+        // then
+        assertThat(future.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(future::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("중지하면 취소를 기다리던 주문은 실패하고 전송 중인 취소는 끝까지 처리하며, 다시 시작하면 요청을 받는다.")
+    @Test
+    void stopAndRestart() throws Exception {
+        // given
+        batcher = start(16);
+        TrackedOrder stale = batcher.submit(OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L))
+            .get(5, TimeUnit.SECONDS);
+        venue.delay(200L);
+        List<CompletableFuture<TrackedOrder>> requote = batcher.submitAll(List.of(
+            OrderIntent.cancel(stale.clientOrderId()),
+            OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE - 1, QTY, true, 0L)));
+        Thread.sleep(50L);
+
+        // when
+        batcher.stop();
+
+        // then
+        assertThat(requote.get(0).get(5, TimeUnit.SECONDS).state()).isEqualTo(OrderState.CANCELLED);
+        assertThatThrownBy(() -> requote.get(1).get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+
+        venue.delay(0L);
+        batcher.start();
+        assertThat(batcher.submit(OrderIntent.limitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L))
+            .get(5, TimeUnit.SECONDS).state()).isEqualTo(OrderState.OPEN);
+    }
+
+    private OrderBatcher start(int maxConcurrency) {
+        OrderBatcher started = new OrderBatcher(manager, new OrderBatchProperties(Duration.ofMillis(2), 50, maxConcurrency));
+        started.start();
+        return started;
+    }
+}
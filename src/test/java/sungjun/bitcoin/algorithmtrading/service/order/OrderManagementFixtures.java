@@ -0,0 +1,35 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.order.OrderBatchProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.order.OrderManagementProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.order.OrderRetryProperties;
+
+import java.time.Duration;
+
+/**
+ * 주문 관리 테스트가 공통으로 사용하는 설정입니다.
+ * <p>
+ * 주기적인 정합성 확인은 끄고, 접수 확인 기한 30초, 종료 주문 보관 10분, 다시 보내기 전 대기 없음, 중복 차단 1분을 사용합니다.
+ * </p>
+ */
+public final class OrderManagementFixtures {
+
+    private OrderManagementFixtures() {
+    }
+
+    /**
+     * 주문을 다시 보내지 않는 설정을 돌려줍니다.
+     */
+    public static OrderManagementProperties properties() {
+        return properties(1);
+    }
+
+    /**
+     * 타임아웃된 주문을 최대 {@code maxAttempts}번까지 보내는 설정을 돌려줍니다.
+     */
+    public static OrderManagementProperties properties(int maxAttempts) {
+        return new OrderManagementProperties(false, Duration.ofSeconds(5), Duration.ofSeconds(30), Duration.ofMinutes(10), 16,
+            new OrderBatchProperties(Duration.ofMillis(2), 50, 16),
+            new OrderRetryProperties(maxAttempts, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1)));
+    }
+}
@@ -0,0 +1,293 @@
+package sungjun.bitcoin.algorithmtrading.service.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.TradingHaltedException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.coinone.CoinoneApiException;
+import sungjun.bitcoin.algorithmtrading.infrastructure.halt.TradingHalt;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderManagerTest {
+
+    private static final CurrencyPair KRW_BTC = CurrencyPair.of("KRW", "BTC");
+    private static final long PRICE = 50_000_000L * 100_000_000L;
+    private static final long QTY = 1_000_000L;
+
+    private final FakeOrderVenue venue = new FakeOrderVenue();
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final TradingHalt halt = new TradingHalt("stub");
+    private final OrderManager manager = new OrderManager(venue, halt, OrderManagementFixtures.properties(), now::get);
+
+    @DisplayName("거래소가 접수한 주문은 주문 번호와 거래소 주문 ID로 조회할 수 있는 미체결 주문이 된다.")
+    @Test
+    void placeAndQuery() {
+        // given
+
+        // when
+        TrackedOrder order = manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, System.nanoTime());
+
+        // then
+        assertThat(order.state()).isEqualTo(OrderState.OPEN);
+        assertThat(order.exchangeOrderId()).isEqualTo("order-1");
+        assertThat(manager.get(order.clientOrderId())).isEqualTo(order);
+        assertThat(manager.getByExchangeOrderId("order-1")).isEqualTo(order);
+        assertThat(manager.getActiveOrders(KRW_BTC)).containsExactly(order);
+        assertThat(manager.getActiveCount()).isEqualTo(1);
+    }
+
+    @DisplayName("거래소가 거부한 주문은 거부 상태가 되고 예외를 그대로 전달한다.")
+    @Test
+    void rejected() {
+        // given
+        CoinoneApiException rejection = new CoinoneApiException("303", "Insufficient balance");
+        venue.failWith(rejection);
+
+        // when / then
+        assertThatThrownBy(() -> manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isSameAs(rejection);
+        TrackedOrder order = manager.get(1L);
+        assertThat(order.state()).isEqualTo(OrderState.REJECTED);
+        assertThat(order.remainingQty()).isZero();
+        assertThat(manager.getActiveCount()).isZero();
+    }
+
+    @DisplayName("정합성 확인은 미체결 주문의 체결 수량을 반영하고, 목록에서 사라진 주문은 상세 조회로 최종 상태를 확정한다.")
+    @Test
+    void reconcileFills() {
+        // given
+        TrackedOrder first = manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+        TrackedOrder second = manager.placeLimitOrder(KRW_BTC, OrderSide.SELL, PRICE, QTY, false, 0L);
+        venue.addActive(new ExchangeOrderStatus("order-1", null, OrderSide.BUY, PRICE, QTY, QTY / 4, OrderState.OPEN));
+        venue.putOrder(new ExchangeOrderStatus("order-2", null, OrderSide.SELL, PRICE, QTY, QTY, OrderState.FILLED));
+
+        // when
+        int changed = manager.reconcile();
+
+        // then
+        assertThat(changed).isEqualTo(2);
+        TrackedOrder partial = manager.get(first.clientOrderId());
+        assertThat(partial.state()).isEqualTo(OrderState.PARTIALLY_FILLED);
+        assertThat(partial.remainingQty()).isEqualTo(QTY - QTY / 4);
+        assertThat(manager.get(second.clientOrderId()).state()).isEqualTo(OrderState.FILLED);
+        assertThat(manager.getActiveOrders()).containsExactly(partial);
+    }
+
+    @DisplayName("종료된 주문은 이후 다른 상태 보고를 받아도 바뀌지 않는다.")
+    @Test
+    void terminalIsFinal() {
+        // given
+        manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+        manager.apply(new ExchangeOrderStatus("order-1", null, OrderSide.BUY, PRICE, QTY, QTY, OrderState.FILLED));
+
+        // when
+        boolean changed = manager.apply(new ExchangeOrderStatus("order-1", null, OrderSide.BUY, PRICE, QTY, 0L, OrderState.OPEN));
+
+        // then
+        assertThat(changed).isFalse();
+        assertThat(manager.getByExchangeOrderId("order-1").state()).isEqualTo(OrderState.FILLED);
+    }
+
+    @DisplayName("접수 여부를 알 수 없는 주문은 사용자 지정 주문 ID가 같은 미체결 주문으로 확정하고, 기한 안에 찾지 못하면 거부로 처리한다.")
+    @Test
+    void unconfirmedOrders() {
+        // given
+        venue.failWith(new UncheckedIOException(new IOException("Read timed out")));
+        assertThatThrownBy(() -> manager.placeLimitOrder("strategy-1", KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isInstanceOf(UncheckedIOException.class);
+        assertThatThrownBy(() -> manager.placeLimitOrder("strategy-2", KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isInstanceOf(UncheckedIOException.class);
+        assertThat(manager.get(1L).state()).isEqualTo(OrderState.PENDING_NEW);
+        venue.addActive(new ExchangeOrderStatus("order-9", "strategy-2", OrderSide.BUY, PRICE, QTY, 0L, OrderState.OPEN));
+
+        // when
+        manager.reconcile();
+        now.addAndGet(Duration.ofSeconds(31).toMillis());
+        manager.reconcile();
+
+        // then
+        assertThat(manager.get(2L).state()).isEqualTo(OrderState.OPEN);
+        assertThat(manager.getByExchangeOrderId("order-9").clientOrderId()).isEqualTo(2L);
+        assertThat(manager.get(1L).state()).isEqualTo(OrderState.REJECTED);
+    }
+
+    @DisplayName("주문을 취소하면 취소 전에 체결된 수량과 함께 취소 상태가 되고, 이미 종료된 주문은 다시 취소하지 않는다.")
+    @Test
+    void cancel() {
+        // given
+        TrackedOrder order = manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+        venue.cancelFilledQty(QTY / 2);
+
+        // when
+        TrackedOrder cancelled = manager.cancel(order.clientOrderId());
+        TrackedOrder again = manager.cancel(order.clientOrderId());
+
+        // then
+        assertThat(cancelled.state()).isEqualTo(OrderState.CANCELLED);
+        assertThat(cancelled.filledQty()).isEqualTo(QTY / 2);
+        assertThat(again).isEqualTo(cancelled);
+        assertThat(venue.cancelled()).containsExactly("order-1");
+        assertThat(manager.getActiveCount()).isZero();
+    }
+
+    @DisplayName("거래 중단 중인 주문은 등록하거나 전송하지 않고 거절하며, 재개하면 다시 접수한다.")
+    @Test
+    void haltAndResume() {
+        // given
+        manager.halt("FEED_STALE: coinone feed disconnected");
+
+        // when / then
+        assertThatThrownBy(() -> manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isInstanceOf(TradingHaltedException.class)
+            .hasMessageContaining("coinone feed disconnected");
+        assertThat(manager.getTrackedCount()).isZero();
+        assertThat(manager.getPlacingCount()).isZero();
+
+        manager.resume();
+        TrackedOrder order = manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+        assertThat(order.state()).isEqualTo(OrderState.OPEN);
+        assertThat(manager.getActivePairs()).containsExactly(KRW_BTC);
+    }
+
+    @DisplayName("같은 거래 중단 상태를 공유하는 다른 경로에서 중단하면 주문 관리자도 새 주문을 거절한다.")
+    @Test
+    void sharedHalt() {
+        // given
+        halt.halt("KILL_SWITCH: manual");
+
+        // when / then
+        assertThat(manager.isHalted()).isTrue();
+        assertThatThrownBy(() -> manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isInstanceOf(TradingHaltedException.class);
+        assertThat(venue.sent()).isEmpty();
+
+        manager.resume();
+        assertThat(halt.isHalted()).isFalse();
+    }
+
+    @DisplayName("타임아웃 뒤에는 다시 보내기 전에 같은 사용자 지정 주문 ID로 조회하여, 이미 접수된 주문은 다시 보내지 않는다.")
+    @Test
+    void retryFindsAcceptedOrder() {
+        // given
+        OrderManager manager = retryingManager();
+        venue.acceptBeforeFailure();
+        venue.failNext(new UncheckedIOException(new IOException("Read timed out")));
+
+        // when
+        TrackedOrder order = manager.placeLimitOrder("strategy-1", KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+
+        // then
+        assertThat(order.state()).isEqualTo(OrderState.OPEN);
+        assertThat(order.exchangeOrderId()).isEqualTo("order-1");
+        assertThat(venue.sent()).containsExactly("strategy-1");
+    }
+
+    @DisplayName("접수되지 않은 것으로 확인된 주문은 같은 사용자 지정 주문 ID로 다시 보낸다.")
+    @Test
+    void retryResendsSameId() {
+        // given
+        OrderManager manager = retryingManager();
+        venue.failNext(new UncheckedIOException(new IOException("Read timed out")));
+
+        // when
+        TrackedOrder order = manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+
+        // then
+        assertThat(order.state()).isEqualTo(OrderState.OPEN);
+        assertThat(venue.sent()).hasSize(2).containsOnly(order.userOrderId());
+    }
+
+    @DisplayName("거부는 다시 보내지 않으며, 앞선 시도가 타임아웃이었다면 이후 거부로 주문을 확정하지 않고 정합성 확인에 맡긴다.")
+    @Test
+    void rejectionAfterTimeoutStaysPending() {
+        // given
+        OrderManager manager = retryingManager();
+        UncheckedIOException timeout = new UncheckedIOException(new IOException("Read timed out"));
+        venue.failNext(timeout);
+        venue.failNext(new CoinoneApiException("307", "Duplicate user order id"));
+
+        // when / then
+        assertThatThrownBy(() -> manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isSameAs(timeout);
+        assertThat(venue.sent()).hasSize(2);
+        assertThat(manager.get(1L).state()).isEqualTo(OrderState.PENDING_NEW);
+
+        venue.clearCalls();
+        CoinoneApiException rejection = new CoinoneApiException("303", "Insufficient balance");
+        venue.failWith(rejection);
+        assertThatThrownBy(() -> manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isSameAs(rejection);
+        assertThat(venue.sent()).hasSize(1);
+        assertThat(manager.get(2L).state()).isEqualTo(OrderState.REJECTED);
+    }
+
+    @DisplayName("같은 사용자 지정 주문 ID로 중복 차단 기간 안에 다시 들어온 주문은 보내지 않고 처음 주문을 돌려준다.")
+    @Test
+    void suppressDuplicates() {
+        // given
+        TrackedOrder first = manager.placeLimitOrder("strategy-1", KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+
+        // when
+        TrackedOrder again = manager.placeLimitOrder("strategy-1", KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+        TrackedOrder expired = manager.placeLimitOrder("strategy-1", KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+
+        // then
+        assertThat(again).isEqualTo(first);
+        assertThat(expired.clientOrderId()).isNotEqualTo(first.clientOrderId());
+        assertThat(venue.sent()).containsExactly("strategy-1", "strategy-1");
+        assertThat(manager.getTrackedCount()).isEqualTo(2);
+    }
+
+    @DisplayName("기한이 지난 접수 미확인 주문은 사용자 지정 주문 ID로 조회하여, 미체결 목록에 없는 체결 완료 주문도 확정한다.")
+    @Test
+    void resolveExpiredByLookup() {
+        // given
+        venue.failWith(new UncheckedIOException(new IOException("Read timed out")));
+        assertThatThrownBy(() -> manager.placeLimitOrder("strategy-1", KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L))
+            .isInstanceOf(UncheckedIOException.class);
+        venue.putFound("strategy-1", new ExchangeOrderStatus("order-7", "strategy-1", OrderSide.BUY, PRICE, QTY, QTY, OrderState.FILLED));
+
+        // when
+        now.addAndGet(Duration.ofSeconds(31).toMillis());
+        manager.reconcile();
+
+        // then
+        TrackedOrder order = manager.get(1L);
+        assertThat(order.exchangeOrderId()).isEqualTo("order-7");
+        assertThat(order.state()).isEqualTo(OrderState.FILLED);
+        assertThat(order.filledQty()).isEqualTo(QTY);
+    }
+
+    @DisplayName("종료된 지 보관 시간이 지난 주문은 메모리에서 제거한다.")
+    @Test
+    void evictTerminal() {
+        // given
+        TrackedOrder order = manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, false, 0L);
+        manager.apply(new ExchangeOrderStatus("order-1", null, OrderSide.BUY, PRICE, QTY, 0L, OrderState.CANCELLED));
+
+        // when
+        manager.reconcile();
+        int trackedBefore = manager.getTrackedCount();
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        manager.reconcile();
+
+        // then
+        assertThat(trackedBefore).isEqualTo(1);
+        assertThat(manager.get(order.clientOrderId())).isNull();
+        assertThat(manager.getByExchangeOrderId("order-1")).isNull();
+        assertThat(manager.getTrackedCount()).isZero();
+    }
+
+    private OrderManager retryingManager() {
+        return new OrderManager(venue, new TradingHalt("stub"), OrderManagementFixtures.properties(3), now::get);
+    }
+}
@@ -0,0 +1,166 @@
+package sungjun.bitcoin.algorithmtrading.service.portfolio;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PortfolioServiceTest {
+
+    private static final Map<String, BigDecimal> PRICES = Map.of(
+        "BTC", new BigDecimal("100000000"),
+        "USDT", new BigDecimal("1400")
+    );
+
+    @DisplayName("거래소별 잔고를 통화별로 합치고 원화 가격으로 평가하여 평가 금액 순으로 정렬한다.")
+    @Test
+    void mergeAndValue() {
+        // given
+        ExchangeBalanceSource coinone = source("coinone", Duration.ofSeconds(1), () -> List.of(
+            ExchangeBalance.of("KRW", "1000000", "0"),
+            ExchangeBalance.of("BTC", "0.1", "0.05"),
+            ExchangeBalance.of("ETH", "0", "0")));
+        ExchangeBalanceSource binance = source("binance", Duration.ofSeconds(1), () -> List.of(
+            ExchangeBalance.of("btc", "0.2", "0.00000000"),
+            ExchangeBalance.of("USDT", "100", null),
+            ExchangeBalance.of("XYZ", "5", "0")));
+
+        try (PortfolioService service = new PortfolioService(List.of(coinone, binance), PRICES::get)) {
+            // when
+            Portfolio portfolio = service.getPortfolio();
+
+            // then
+            assertThat(portfolio.partial()).isFalse();
+            assertThat(portfolio.exchanges().stream().map(ExchangeStatus::state).toList())
+                .containsExactly(ExchangeStatus.State.FRESH, ExchangeStatus.State.FRESH);
+            assertThat(portfolio.assets().stream().map(PortfolioAsset::currency).toList())
+                .containsExactly("BTC", "KRW", "USDT", "XYZ");
+            PortfolioAsset btc = portfolio.assets().get(0);
+            assertThat(btc.total()).isEqualByComparingTo(new BigDecimal("0.35"));
+            assertThat(btc.amounts().get("coinone")).isEqualByComparingTo(new BigDecimal("0.15"));
+            assertThat(btc.amounts().get("binance")).isEqualByComparingTo(new BigDecimal("0.2"));
+            assertThat(btc.value()).isEqualByComparingTo(new BigDecimal("35000000"));
+            assertThat(portfolio.assets().get(3).value()).isNull();
+            assertThat(portfolio.totalValue()).isEqualByComparingTo(new BigDecimal("36140000"));
+        }
+    }
+
+    @DisplayName("거래소 잔고를 동시에 조회하므로 전체 조회 시간은 가장 느린 거래소 응답 시간에 가깝다.")
+    @Test
+    void concurrentFetch() {
+        // given
+        ExchangeBalanceSource coinone = source("coinone", Duration.ofSeconds(2), delayed(300, "KRW"));
+        ExchangeBalanceSource binance = source("binance", Duration.ofSeconds(2), delayed(300, "USDT"));
+
+        try (PortfolioService service = new PortfolioService(List.of(coinone, binance), PRICES::get)) {
+            // when
+            long started = System.nanoTime();
+            Portfolio portfolio = service.getPortfolio();
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            // then
+            assertThat(portfolio.assets()).hasSize(2);
+            assertThat(elapsedMillis).isLessThan(550L);
+        }
+    }
+
+    @DisplayName("기한을 넘긴 거래소는 마지막 잔고를 오래된 값으로 표시하고, 진행 중인 조회가 끝나면 다음 요청에 반영한다.")
+    @Test
+    void staleOnTimeout() throws InterruptedException {
+        // given
+        AtomicInteger binanceCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExchangeBalanceSource coinone = source("coinone", Duration.ofSeconds(1),
+            () -> List.of(ExchangeBalance.of("KRW", "1000", "0")));
+        ExchangeBalanceSource binance = source("binance", Duration.ofMillis(200), () -> {
+            if (binanceCalls.incrementAndGet() > 1) {
+                await(release);
+                return List.of(ExchangeBalance.of("USDT", "20", "0"));
+            }
+            return List.of(ExchangeBalance.of("USDT", "10", "0"));
+        });
+
+        try (PortfolioService service = new PortfolioService(List.of(coinone, binance), PRICES::get)) {
+            service.getPortfolio();
+
+            // when
+            long started = System.nanoTime();
+            Portfolio slow = service.getPortfolio();
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            Portfolio stillSlow = service.getPortfolio();
+            release.countDown();
+            Thread.sleep(100);
+            Portfolio recovered = service.getPortfolio();
+
+            // then
+            assertThat(elapsedMillis).isLessThan(800L);
+            assertThat(slow.partial()).isTrue();
+            assertThat(slow.exchanges().get(1).state()).isEqualTo(ExchangeStatus.State.STALE);
+            assertThat(slow.exchanges().get(1).error()).contains("Timed out");
+            PortfolioAsset usdt = slow.assets().stream().filter(asset -> asset.currency().equals("USDT")).findFirst().orElseThrow();
+            assertThat(usdt.total()).isEqualByComparingTo(new BigDecimal("10"));
+            assertThat(usdt.stale()).isTrue();
+            assertThat(stillSlow.exchanges().get(1).state()).isEqualTo(ExchangeStatus.State.STALE);
+            // 진행 중인 조회가 있으면 새로 요청하지 않는다 (첫 조회, 느린 조회, 복구 후 조회)
+            assertThat(binanceCalls.get()).isEqualTo(3);
+            assertThat(recovered.partial()).isFalse();
+            assertThat(recovered.assets().get(0).total()).isEqualByComparingTo(new BigDecimal("20"));
+        }
+    }
+
+    @DisplayName("조회에 성공한 적이 없는 거래소는 사용할 수 없음으로 표시하고 나머지 거래소로 포트폴리오를 만든다.")
+    @Test
+    void unavailable() {
+        // given
+        ExchangeBalanceSource coinone = source("coinone", Duration.ofSeconds(1),
+            () -> List.of(ExchangeBalance.of("KRW", "5000", "0")));
+        ExchangeBalanceSource binance = source("binance", Duration.ofSeconds(1), () -> {
+            throw new IllegalStateException("invalid api key");
+        });
+
+        try (PortfolioService service = new PortfolioService(List.of(coinone, binance), PRICES::get)) {
+            // when
+            Portfolio portfolio = service.getPortfolio();
+
+            // then
+            assertThat(portfolio.partial()).isTrue();
+            ExchangeStatus status = portfolio.exchanges().get(1);
+            assertThat(status.state()).isEqualTo(ExchangeStatus.State.UNAVAILABLE);
+            assertThat(status.error()).contains("invalid api key");
+            assertThat(portfolio.assets()).hasSize(1);
+            assertThat(portfolio.totalValue()).isEqualByComparingTo(new BigDecimal("5000"));
+        }
+    }
+
+    private static ExchangeBalanceSource source(String exchange, Duration timeout,
+                                                Supplier<List<ExchangeBalance>> fetcher) {
+        return new ExchangeBalanceSource(exchange, timeout, fetcher);
+    }
+
+    private static Supplier<List<ExchangeBalance>> delayed(long millis, String currency) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(ExchangeBalance.of(currency, "1", "0"));
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
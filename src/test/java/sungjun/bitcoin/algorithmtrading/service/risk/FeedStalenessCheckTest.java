@@ -0,0 +1,58 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamTicker;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedStalenessCheckTest {
+
+    private static final CoinoneStreamTicker TICKER =
+        new CoinoneStreamTicker(CurrencyPair.of("KRW", "BTC"), 0L, 100L, 99L, 1L, 101L, 1L);
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @DisplayName("마지막 메시지 이후 최대 지연 시간이 지나면 보고하고, 메시지를 받기 전에는 보고하지 않는다.")
+    @Test
+    void staleAfterSilence() {
+        // given
+        FeedStalenessCheck check = new FeedStalenessCheck("coinone", Duration.ofSeconds(3), false, now::get);
+        long start = now.get();
+        RiskBreach beforeFirstMessage = check.check(start + TimeUnit.SECONDS.toNanos(10));
+
+        // when
+        check.onTicker(TICKER);
+        RiskBreach fresh = check.check(start + TimeUnit.SECONDS.toNanos(2));
+        RiskBreach stale = check.check(start + TimeUnit.SECONDS.toNanos(4));
+
+        // then
+        assertThat(beforeFirstMessage).isNull();
+        assertThat(fresh).isNull();
+        assertThat(stale.trigger()).isEqualTo(RiskTrigger.FEED_STALE);
+        assertThat(stale.detail()).contains("coinone feed silent for 4000ms");
+    }
+
+    @DisplayName("연결이 끊기면 바로 보고하고, 다시 메시지를 받으면 정상으로 돌아온다.")
+    @Test
+    void cancelOnDisconnect() {
+        // given
+        FeedStalenessCheck check = new FeedStalenessCheck("coinone", Duration.ofSeconds(3), true, now::get);
+        check.onTicker(TICKER);
+
+        // when
+        check.onDisconnected();
+        RiskBreach disconnected = check.check(now.get());
+        check.onTicker(TICKER);
+        RiskBreach reconnected = check.check(now.get());
+
+        // then
+        assertThat(disconnected.detail()).isEqualTo("coinone feed disconnected");
+        assertThat(reconnected).isNull();
+    }
+}
@@ -0,0 +1,127 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.OrderSide;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamTicker;
+import sungjun.bitcoin.algorithmtrading.infrastructure.config.risk.KillSwitchProperties;
+import sungjun.bitcoin.algorithmtrading.infrastructure.exception.TradingHaltedException;
+import sungjun.bitcoin.algorithmtrading.service.order.FakeOrderVenue;
+import sungjun.bitcoin.algorithmtrading.service.order.OrderManagementFixtures;
+import sungjun.bitcoin.algorithmtrading.service.order.OrderManager;
+import sungjun.bitcoin.algorithmtrading.service.order.OrderState;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KillSwitchTest {
+
+    private static final CurrencyPair KRW_BTC = CurrencyPair.of("KRW", "BTC");
+    private static final CurrencyPair KRW_ETH = CurrencyPair.of("KRW", "ETH");
+    private static final long PRICE = 50_000_000L * 100_000_000L;
+    private static final long QTY = 1_000_000L;
+
+    private final FakeOrderVenue venue = new FakeOrderVenue();
+    private final OrderManager manager = new OrderManager(venue, OrderManagementFixtures.properties());
+
+    @DisplayName("거래를 중단하면 새 주문을 거절하고, 활성 주문이 있는 거래 쌍과 설정된 거래 쌍을 동시에 전체 취소한다.")
+    @Test
+    void engage() {
+        // given
+        manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L);
+        manager.placeLimitOrder(KRW_ETH, OrderSide.SELL, PRICE, QTY, true, 0L);
+        venue.delay(100L);
+        KillSwitch killSwitch = killSwitch(List.of());
+
+        // when
+        KillSwitchReport report = killSwitch.engage(RiskTrigger.MANUAL, "test");
+
+        // then
+        assertThat(report.cancelled()).containsExactlyInAnyOrder("stub:KRW/BTC", "stub:KRW/ETH", "stub:KRW/XRP");
+        assertThat(report.isComplete()).isTrue();
+        assertThat(report.elapsed().toMillis()).isLessThan(250L);
+        assertThat(killSwitch.isEngaged()).isTrue();
+        assertThat(killSwitch.getLastReport()).isEqualTo(report);
+        assertThatThrownBy(() -> manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L))
+            .isInstanceOf(TradingHaltedException.class);
+    }
+
+    @DisplayName("일부 거래 쌍의 전체 취소가 실패해도 나머지는 취소하고 실패한 대상을 결과에 남긴다.")
+    @Test
+    void partialFailure() {
+        // given
+        manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L);
+        venue.failCancelAll(KRW_BTC);
+        KillSwitch killSwitch = killSwitch(List.of());
+
+        // when
+        KillSwitchReport report = killSwitch.engage(RiskTrigger.ERROR_RATE, "coinone API errors 20/20 (100%)");
+
+        // then
+        assertThat(report.isComplete()).isFalse();
+        assertThat(report.failed()).containsKey("stub:KRW/BTC");
+        assertThat(report.cancelled()).containsExactly("stub:KRW/XRP");
+    }
+
+    @DisplayName("위험 조건이 발견되면 한 번만 거래를 중단하고, 해제하면 다시 주문할 수 있다.")
+    @Test
+    void checkAndDisengage() {
+        // given
+        AtomicInteger evaluations = new AtomicInteger();
+        RiskCheck shock = now -> {
+            evaluations.incrementAndGet();
+            return new RiskBreach(RiskTrigger.PRICE_SHOCK, "coinone KRW/BTC moved -7.00%");
+        };
+        KillSwitch killSwitch = killSwitch(List.of(shock));
+
+        // when
+        killSwitch.check();
+        killSwitch.check();
+
+        // then
+        assertThat(evaluations.get()).isEqualTo(1);
+        assertThat(killSwitch.getCause().trigger()).isEqualTo(RiskTrigger.PRICE_SHOCK);
+        assertThat(manager.isHalted()).isTrue();
+
+        killSwitch.disengage();
+        assertThat(killSwitch.isEngaged()).isFalse();
+        assertThat(manager.placeLimitOrder(KRW_BTC, OrderSide.BUY, PRICE, QTY, true, 0L).state()).isEqualTo(OrderState.OPEN);
+    }
+
+    @DisplayName("해제하면 중단 중에 발생한 가격 급변으로 곧바로 다시 중단하지 않는다.")
+    @Test
+    void resetChecksOnDisengage() {
+        // given
+        PriceShockCheck shock = new PriceShockCheck("coinone", Duration.ofMinutes(1), 0.05);
+        KillSwitch killSwitch = killSwitch(List.of(shock));
+        shock.onTicker(ticker(100_000_000L));
+        shock.onTicker(ticker(90_000_000L));
+        killSwitch.check();
+        shock.onTicker(ticker(80_000_000L));
+
+        // when
+        killSwitch.disengage();
+        killSwitch.check();
+
+        // then
+        assertThat(killSwitch.isEngaged()).isFalse();
+        shock.onTicker(ticker(70_000_000L));
+        killSwitch.check();
+        assertThat(killSwitch.getCause().trigger()).isEqualTo(RiskTrigger.PRICE_SHOCK);
+    }
+
+    private static CoinoneStreamTicker ticker(long last) {
+        return new CoinoneStreamTicker(KRW_BTC, 0L, last, last - 1L, 1L, last + 1L, 1L);
+    }
+
+    private KillSwitch killSwitch(List<RiskCheck> checks) {
+        return new KillSwitch(List.of(manager), checks,
+            new KillSwitchProperties(false, Duration.ofMillis(100), Duration.ofSeconds(2), List.of("KRW/XRP"),
+                Duration.ofSeconds(3), true, Duration.ofSeconds(10), 0.5, 20, Duration.ofMinutes(1), 0.05));
+    }
+}
@@ -0,0 +1,60 @@
+package sungjun.bitcoin.algorithmtrading.service.risk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.CurrencyPair;
+import sungjun.bitcoin.algorithmtrading.infrastructure.client.coinone.stream.CoinoneStreamTicker;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceShockCheckTest {
+
+    private static final CurrencyPair KRW_BTC = CurrencyPair.of("KRW", "BTC");
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private final PriceShockCheck check = new PriceShockCheck("coinone", Duration.ofMinutes(1), 0.05, now::get);
+
+    @DisplayName("구간 안에서 가격이 기준 비율 이상 움직이면 한 번 보고한다.")
+    @Test
+    void reportShockOnce() {
+        // given
+        check.onTicker(ticker(100_000_000L));
+        check.onTicker(ticker(97_000_000L));
+        RiskBreach small = check.check(now.get());
+
+        // when
+        check.onTicker(ticker(94_000_000L));
+        RiskBreach shock = check.check(now.get());
+        RiskBreach repeated = check.check(now.get());
+
+        // then
+        assertThat(small).isNull();
+        assertThat(shock.trigger()).isEqualTo(RiskTrigger.PRICE_SHOCK);
+        assertThat(shock.detail()).contains("KRW/BTC moved -6.00%");
+        assertThat(repeated).isNull();
+    }
+
+    @DisplayName("구간이 지나면 기준 가격이 바뀌어 완만한 추세는 보고하지 않는다.")
+    @Test
+    void referenceRolls() {
+        // given
+        check.onTicker(ticker(100_000_000L));
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        check.onTicker(ticker(104_000_000L));
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        check.onTicker(ticker(108_000_000L));
+
+        // then
+        assertThat(check.check(now.get())).isNull();
+    }
+
+    private static CoinoneStreamTicker ticker(long last) {
+        return new CoinoneStreamTicker(KRW_BTC, 0L, last, last - 1L, 1L, last + 1L, 1L);
+    }
+}
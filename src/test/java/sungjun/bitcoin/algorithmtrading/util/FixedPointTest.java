@@ -0,0 +1,137 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FixedPointTest {
+
+    @DisplayName("10진수 문자열을 지정한 scale의 고정소수점 값으로 파싱한다.")
+    @ParameterizedTest
+    @CsvSource({
+        "52800000.0, 8, 5280000000000000",
+        "0.1234, 8, 12340000",
+        "-1.5, 2, -150",
+        "+7, 0, 7",
+        "42., 1, 420",
+        ".5, 1, 5",
+        "0.123456789, 8, 12345678",
+        "-0.000000019, 8, -1"
+    })
+    void parse(String text, int scale, long expected) {
+        assertThat(FixedPoint.parse(text, scale)).isEqualTo(expected);
+    }
+
+    @DisplayName("문자 배열의 일부 구간을 파싱한다.")
+    @Test
+    void parseRegion() {
+        // given
+        char[] chars = "{\"last\":\"52800000.5\"}".toCharArray();
+
+        // when
+        long value = FixedPoint.parse(chars, 9, 10, 8);
+
+        // then
+        assertThat(value).isEqualTo(5280000050000000L);
+    }
+
+    @DisplayName("숫자가 아닌 문자열은 파싱하지 않는다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", ".", "1.2.3", "1e5", "12a"})
+    void rejectInvalid(String text) {
+        assertThatThrownBy(() -> FixedPoint.parse(text, 8))
+            .isInstanceOf(NumberFormatException.class);
+    }
+
+    @DisplayName("long 범위를 넘는 값은 ArithmeticException이 발생한다.")
+    @Test
+    void rejectOverflow() {
+        assertThatThrownBy(() -> FixedPoint.parse("100000000000", 8))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @DisplayName("BigDecimal과 상호 변환한다.")
+    @Test
+    void convertBigDecimal() {
+        // given
+        BigDecimal price = new BigDecimal("52810000.12345678");
+
+        // when
+        long value = FixedPoint.fromBigDecimal(price, 8);
+
+        // then
+        assertThat(value).isEqualTo(5281000012345678L);
+        assertThat(FixedPoint.toBigDecimal(value, 8)).isEqualByComparingTo(price);
+        assertThat(FixedPoint.toPlainString(5280000000000000L, 8)).isEqualTo("52800000");
+    }
+
+    @DisplayName("고정소수점 값을 toPlainString과 같은 형식의 ASCII 바이트로 기록한다.")
+    @ParameterizedTest
+    @CsvSource({
+        "5280000050000000, 8",
+        "5280000000000000, 8",
+        "12345678, 8",
+        "1, 8",
+        "0, 8",
+        "-150000000, 8",
+        "42, 0",
+        "-9223372036854775808, 8",
+        "9223372036854775807, 18"
+    })
+    void writeAscii(long value, int scale) {
+        // given
+        byte[] target = new byte[4 + FixedPoint.MAX_ASCII_LENGTH];
+
+        // when
+        int written = FixedPoint.writeAscii(value, scale, target, 4);
+
+        // then
+        assertThat(new String(target, 4, written, StandardCharsets.US_ASCII))
+            .isEqualTo(FixedPoint.toPlainString(value, scale));
+    }
+
+    @DisplayName("JSON 파서의 문자열과 숫자 토큰을 읽고, null과 빈 문자열은 값 없음으로 읽는다.")
+    @Test
+    void read() throws IOException {
+        // given
+        JsonParser parser = new JsonFactory().createParser("[\"52800000.5\", 3, 0.25, null, \"\"]");
+        parser.nextToken();
+
+        // when & then
+        parser.nextToken();
+        assertThat(FixedPoint.read(parser, 8)).isEqualTo(5280000050000000L);
+        parser.nextToken();
+        assertThat(FixedPoint.read(parser, 8)).isEqualTo(300000000L);
+        parser.nextToken();
+        assertThat(FixedPoint.read(parser, 8)).isEqualTo(25000000L);
+        parser.nextToken();
+        assertThat(FixedPoint.read(parser, 8)).isEqualTo(FixedPoint.MISSING);
+        parser.nextToken();
+        assertThat(FixedPoint.read(parser, 8)).isEqualTo(FixedPoint.MISSING);
+    }
+
+    @DisplayName("JSON 파서의 10진수가 아닌 값은 JsonParseException이 발생한다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"[\"1e5\"]", "[true]", "[{}]"})
+    void readInvalid(String json) throws IOException {
+        // given
+        JsonParser parser = new JsonFactory().createParser(json);
+        parser.nextToken();
+        parser.nextToken();
+
+        // when & then
+        assertThatThrownBy(() -> FixedPoint.read(parser, 8)).isInstanceOf(JsonParseException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HmacSignerTest {
+
+    private static final String SECRET_KEY = "secret-key";
+
+    @DisplayName("HmacSigner의 서명은 SignatureUtils의 서명과 동일하다.")
+    @ParameterizedTest
+    @ValueSource(strings = {"HmacSHA256", "HmacSHA512"})
+    void signMatchesSignatureUtils(String algorithm) {
+        // given
+        HmacSigner signer = new HmacSigner(SECRET_KEY, algorithm);
+        String payload = "eyJhY2Nlc3NfdG9rZW4iOiJ0b2tlbiIsIm5vbmNlIjoiMSJ9";
+
+        // when
+        String signature = signer.sign(payload);
+
+        // then
+        assertThat(signature).isEqualTo(SignatureUtils.makeSignature(SECRET_KEY, payload, algorithm));
+        assertThat(signature).hasSize(signer.getHexLength());
+    }
+
+    @DisplayName("ASCII가 아닌 문자열도 UTF-8로 인코딩하여 서명한다.")
+    @Test
+    void signNonAscii() {
+        // given
+        HmacSigner signer = new HmacSigner(SECRET_KEY, "HmacSHA256");
+        String payload = "잔고조회";
+
+        // when
+        String signature = signer.sign(payload);
+
+        // then
+        assertThat(signature).isEqualTo(SignatureUtils.makeSignature(SECRET_KEY, payload, "HmacSHA256"));
+    }
+
+    @DisplayName("호출자 버퍼에 16진수 서명을 기록한다.")
+    @Test
+    void signTo() {
+        // given
+        HmacSigner signer = new HmacSigner(SECRET_KEY, "HmacSHA512");
+        byte[] data = "timestamp=1700000000000&recvWindow=5000".getBytes(StandardCharsets.US_ASCII);
+        byte[] target = new byte[4 + signer.getHexLength()];
+
+        // when
+        int written = signer.signTo(data, 0, data.length, target, 4);
+
+        // then
+        assertThat(written).isEqualTo(128);
+        assertThat(new String(target, 4, written, StandardCharsets.US_ASCII))
+            .isEqualTo(SignatureUtils.makeSignature(SECRET_KEY, data, "HmacSHA512"));
+    }
+
+    @DisplayName("여러 스레드에서 동시에 서명해도 결과가 섞이지 않는다.")
+    @Test
+    void signConcurrently() throws Exception {
+        // given
+        HmacSigner signer = new HmacSigner(SECRET_KEY, "HmacSHA256");
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++) {
+                String payload = "nonce=" + i;
+                results.add(executor.submit(() ->
+                    signer.sign(payload).equals(SignatureUtils.makeSignature(SECRET_KEY, payload, "HmacSHA256"))));
+            }
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+
+    @DisplayName("가상 스레드마다 서명해도 결과가 섞이지 않는다.")
+    @Test
+    void signOnVirtualThreads() throws Exception {
+        // given
+        HmacSigner signer = new HmacSigner(SECRET_KEY, "HmacSHA512");
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 2000; i++) {
+                String payload = "nonce=" + i;
+                results.add(executor.submit(() ->
+                    signer.sign(payload).equals(SignatureUtils.makeSignature(SECRET_KEY, payload, "HmacSHA512"))));
+            }
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+
+    @DisplayName("지원하지 않는 알고리즘은 생성 시점에 실패한다.")
+    @Test
+    void failFastOnUnknownAlgorithm() {
+        assertThatThrownBy(() -> new HmacSigner(SECRET_KEY, "HmacUnknown"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,85 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongObjectHashMapTest {
+
+    @DisplayName("키로 값을 저장하고 조회하며, 같은 키에 저장하면 이전 값을 돌려준다.")
+    @Test
+    void putAndGet() {
+        // given
+        LongObjectHashMap<String> map = new LongObjectHashMap<>(4);
+
+        // when
+        String first = map.put(1L, "a");
+        String replaced = map.put(1L, "b");
+        map.put(-7L, "c");
+
+        // then
+        assertThat(first).isNull();
+        assertThat(replaced).isEqualTo("a");
+        assertThat(map.get(1L)).isEqualTo("b");
+        assertThat(map.get(-7L)).isEqualTo("c");
+        assertThat(map.get(2L)).isNull();
+        assertThat(map.size()).isEqualTo(2);
+    }
+
+    @DisplayName("삭제 후에도 같은 탐사 경로에 있던 다른 키를 계속 찾을 수 있다.")
+    @Test
+    void removeKeepsProbeChain() {
+        // given
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(8);
+        for (long key = 0; key < 12; key++) {
+            map.put(key, key);
+        }
+
+        // when
+        for (long key = 0; key < 12; key += 2) {
+            assertThat(map.remove(key)).isEqualTo(key);
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(6);
+        for (long key = 0; key < 12; key++) {
+            assertThat(map.get(key)).isEqualTo(key % 2 == 0 ? null : key);
+        }
+        assertThat(map.remove(0L)).isNull();
+    }
+
+    @DisplayName("무작위 삽입과 삭제를 반복해도 HashMap과 같은 내용을 유지한다.")
+    @Test
+    void matchesHashMap() {
+        // given
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(2);
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, (long) i)).isEqualTo(expected.put(key, (long) i));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+        }
+
+        // then
+        assertThat(map.size()).isEqualTo(expected.size());
+        List<Long> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertThat(values).containsExactlyInAnyOrderElementsOf(expected.values());
+        for (long key = 0; key < 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+}
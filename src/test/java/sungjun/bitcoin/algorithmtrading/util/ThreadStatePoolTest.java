@@ -0,0 +1,106 @@
+package sungjun.bitcoin.algorithmtrading.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreadStatePoolTest {
+
+    @DisplayName("플랫폼 스레드는 같은 스레드에서 항상 같은 객체를 사용하고, 버리면 새로 만든다.")
+    @Test
+    void platformThreadLocal() {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        ThreadStatePool<StringBuilder> pool = new ThreadStatePool<>(() -> {
+            created.incrementAndGet();
+            return new StringBuilder();
+        });
+
+        // when
+        StringBuilder first = pool.acquire();
+        pool.release(first);
+        StringBuilder second = pool.acquire();
+        pool.discard(second);
+        StringBuilder third = pool.acquire();
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(created.get()).isEqualTo(2);
+    }
+
+    @DisplayName("플랫폼 스레드에서 자신의 객체가 아닌 객체를 버리면 사용 중인 객체는 그대로 유지한다.")
+    @Test
+    void platformDiscardOtherState() {
+        // given
+        ThreadStatePool<StringBuilder> pool = new ThreadStatePool<>(StringBuilder::new);
+        StringBuilder owned = pool.acquire();
+
+        // when
+        pool.discard(new StringBuilder());
+        StringBuilder next = pool.acquire();
+
+        // then
+        assertThat(next).isSameAs(owned);
+    }
+
+    @DisplayName("가상 스레드는 돌려받은 객체를 재사용하므로 가상 스레드 수가 아니라 동시 사용 수만큼만 객체를 만든다.")
+    @Test
+    void virtualThreadsReuse() throws Exception {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        ThreadStatePool<StringBuilder> pool = new ThreadStatePool<>(() -> {
+            created.incrementAndGet();
+            return new StringBuilder();
+        }, 4);
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> pool.release(pool.acquire())).get();
+            }
+        }
+
+        // then
+        assertThat(created.get()).isEqualTo(1);
+    }
+
+    @DisplayName("가상 스레드가 동시에 빌린 객체는 서로 다르다.")
+    @Test
+    void virtualThreadsExclusive() throws Exception {
+        // given
+        ThreadStatePool<StringBuilder> pool = new ThreadStatePool<>(StringBuilder::new, 8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1000; i++) {
+                String value = "value-" + i;
+                results.add(executor.submit(() -> {
+                    StringBuilder builder = pool.acquire();
+                    try {
+                        builder.setLength(0);
+                        builder.append(value);
+                        Thread.yield();
+                        return builder.toString().equals(value);
+                    } finally {
+                        pool.release(builder);
+                    }
+                }));
+            }
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+}